@@ -56,10 +56,14 @@ import static xss.it.jux.core.Elements.*;
  * are present in the element tree but will only become active once client-side
  * hydration is enabled.</p>
  *
+ * <p>The widget is declared {@code resumable}: it has no {@code onMount()} work and no
+ * live bindings, so the client attaches stand-in handlers from the SSR handler manifest
+ * and renders it only on its first click.</p>
+ *
  * @see xss.it.jux.annotation.State
  * @see xss.it.jux.core.Element#on(String, xss.it.jux.core.EventHandler)
  */
-@JuxComponent(clientSide = true)
+@JuxComponent(clientSide = true, resumable = true)
 public class CounterWidget extends Component {
 
     /**
@@ -17,6 +17,7 @@ import xss.it.jux.annotation.JuxComponent;
 import xss.it.jux.annotation.State;
 import xss.it.jux.client.ClientMain;
 import xss.it.jux.core.Component;
+import xss.it.jux.core.ComponentState;
 import xss.it.jux.core.Element;
 import xss.it.jux.reactive.collections.JuxCollections;
 import xss.it.jux.reactive.collections.ObservableList;
@@ -26,6 +27,7 @@ import xss.it.jux.reactive.property.SimpleStringProperty;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import static xss.it.jux.core.Elements.*;
 
@@ -90,9 +92,13 @@ import static xss.it.jux.core.Elements.*;
  * </ul>
  *
  * <h2>SSR Behaviour</h2>
- * <p>The component renders with 8 pre-populated sample users in its initial state,
- * providing a realistic preview during server-side rendering. All interactive features
- * (search, selection, refresh) become functional after client-side hydration.</p>
+ * <p>Created with {@link #UserBrowserWidget(List)}, the component renders the users the
+ * page loaded on the server and hands them to the client with its {@code @State} fields
+ * (see {@link #saveState}). Hydration then starts from that data and skips the initial
+ * {@code GET /api/users}; only "Refresh" fetches. Created with the no-arg constructor,
+ * as the client runtime does, it renders 8 pre-populated sample users and replaces them
+ * from the API on mount. All interactive features (search, selection, refresh) become
+ * functional after client-side hydration.</p>
  *
  * @see xss.it.jux.reactive.collections.ObservableList
  * @see xss.it.jux.reactive.property.SimpleStringProperty
@@ -162,6 +168,8 @@ public class UserBrowserWidget extends Component {
     // These fields drive the JUX re-render cycle. When any of these change on
     // the client side, the framework calls render() again, diffs the resulting
     // element tree against the previous one, and patches only changed DOM nodes.
+    // They are package-private so that the generated UserBrowserWidgetState can
+    // transfer them from the server render to the client.
 
     /**
      * The current search query entered by the user in the filter input.
@@ -171,7 +179,7 @@ public class UserBrowserWidget extends Component {
      * role fields. An empty string matches all users.</p>
      */
     @State
-    private String searchQuery = "";
+    String searchQuery = "";
 
     /**
      * The ID of the currently selected user, or {@code -1} if no user is selected.
@@ -181,7 +189,7 @@ public class UserBrowserWidget extends Component {
      * user's full information.</p>
      */
     @State
-    private int selectedUserId = -1;
+    int selectedUserId = -1;
 
     /**
      * Whether the widget is currently in a loading state (simulating an API fetch).
@@ -192,7 +200,75 @@ public class UserBrowserWidget extends Component {
      * the simulated API response arrives.</p>
      */
     @State
-    private boolean loading = false;
+    boolean loading = false;
+
+    /**
+     * Whether {@link #users} holds data from the API, loaded on the server or fetched.
+     *
+     * <p>Set by {@link #UserBrowserWidget(List)} and by a successful fetch. When the
+     * server's render restores it as {@code true}, {@link #onMount()} does not fetch
+     * the list again.</p>
+     */
+    @State
+    boolean loaded = false;
+
+    /**
+     * Creates the widget with its built-in sample users, replaced from
+     * {@code GET /api/users} on mount. Used by the client runtime to instantiate
+     * the component before its state is restored.
+     */
+    public UserBrowserWidget() {
+    }
+
+    /**
+     * Creates the widget with users loaded on the server.
+     *
+     * <p>The users are rendered and transferred to the client with the page, so the
+     * hydrated widget does not fetch them again.</p>
+     *
+     * @param initialUsers the users to display
+     */
+    public UserBrowserWidget(List<User> initialUsers) {
+        users.setAll(initialUsers);
+        loaded = true;
+    }
+
+    /**
+     * Records the {@code @State} fields and, once loaded, the users, for transfer
+     * to the client.
+     *
+     * @param state the snapshot to fill
+     */
+    @Override
+    public void saveState(ComponentState state) {
+        UserBrowserWidgetState.save(this, state);
+        if (loaded) {
+            List<Map<String, Object>> list = new ArrayList<>(users.size());
+            for (User user : users) {
+                list.add(user.toState());
+            }
+            state.put("users", list);
+        }
+    }
+
+    /**
+     * Restores the {@code @State} fields and the users rendered on the server.
+     *
+     * @param state the state stored on the server
+     */
+    @Override
+    public void restoreState(ComponentState state) {
+        UserBrowserWidgetState.restore(this, state);
+        if (state.has("users")) {
+            List<User> restored = new ArrayList<>();
+            for (Object item : state.getList("users")) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> fields = (Map<String, Object>) item;
+                restored.add(User.fromState(fields));
+            }
+            users.setAll(restored);
+        }
+    }
 
     /**
      * Initializes the widget after client-side hydration.
@@ -206,13 +282,14 @@ public class UserBrowserWidget extends Component {
      * and their corresponding jux-reactive property counterparts, ensuring that
      * both systems stay in sync.</p>
      *
-     * <p><b>Note:</b> Since TeaVM compilation is not yet wired up, the actual HTTP
-     * call is described in comments. The component renders with sample data for the
-     * SSR preview.</p>
+     * <p>The fetch is skipped when the users were rendered on the server and
+     * restored with the component's state ({@link #loaded}).</p>
      */
     @Override
     public void onMount() {
-        fetchUsers();
+        if (!loaded) {
+            fetchUsers();
+        }
     }
 
     /**
@@ -283,6 +360,7 @@ public class UserBrowserWidget extends Component {
                 }
 
                 users.setAll(fetched);
+                loaded = true;
             }
 
             loading = false;
@@ -708,5 +786,28 @@ public class UserBrowserWidget extends Component {
      */
     public record User(int id, String name, String email, String role,
                         String department, String initials, boolean active) {
+
+        /**
+         * Returns this user as a {@link ComponentState} value.
+         *
+         * @return the fields by component name
+         */
+        Map<String, Object> toState() {
+            return Map.of("id", id, "name", name, "email", email, "role", role,
+                    "department", department, "initials", initials, "active", active);
+        }
+
+        /**
+         * Rebuilds a user from {@link #toState()}'s fields after the JSON round trip.
+         *
+         * @param fields the fields by component name
+         * @return the user
+         */
+        static User fromState(Map<String, Object> fields) {
+            return new User(((Number) fields.get("id")).intValue(),
+                    (String) fields.get("name"), (String) fields.get("email"),
+                    (String) fields.get("role"), (String) fields.get("department"),
+                    (String) fields.get("initials"), (Boolean) fields.get("active"));
+        }
     }
 }
@@ -10,6 +10,9 @@ package xss.it.jux.clientdemo.pages;
 import xss.it.jux.annotation.*;
 import xss.it.jux.core.*;
 import xss.it.jux.clientdemo.components.*;
+import xss.it.jux.clientdemo.data.SampleData;
+
+import java.util.List;
 
 import static xss.it.jux.core.Elements.*;
 
@@ -152,7 +155,7 @@ public class ApiDemoPage extends Page {
                         /* category */ messages().getString("api.category.fetch"),
                         /* title */ messages().getString("api.users.title"),
                         /* description */ messages().getString("api.users.desc"),
-                        /* widget */ new UserBrowserWidget()
+                        /* widget */ new UserBrowserWidget(directoryUsers())
                 ),
 
                 /* ── Demo 2: Quote Machine — random data fetching ── */
@@ -211,6 +214,20 @@ public class ApiDemoPage extends Page {
     //  Page Header
     // ══════════════════════════════════════════════════════════════════
 
+    /**
+     * Load the user directory on the server, the same data {@code GET /api/users}
+     * serves, so that the {@link UserBrowserWidget} renders it and hands it to the
+     * client with its state instead of fetching it after hydration.
+     *
+     * @return the users in directory order
+     */
+    private static List<UserBrowserWidget.User> directoryUsers() {
+        return SampleData.allUsers().stream()
+                .map(u -> new UserBrowserWidget.User(u.id(), u.name(), u.email(), u.role(),
+                        u.department(), u.avatar(), u.active()))
+                .toList();
+    }
+
     /**
      * Build the page header section with a centred title and subtitle.
      *
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.a11y;
+
+import xss.it.jux.core.Element;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Structural fingerprint of an element tree, covering only what the built-in
+ * accessibility rules inspect.
+ *
+ * <p>Two trees with the same fingerprint produce the same audit result, so a
+ * server that renders the same page shape on every request can audit it once
+ * and reuse the violations. The fingerprint is a 64-bit hash over:</p>
+ * <ul>
+ *   <li>the tree shape and every tag (which also covers heading levels and
+ *       the child indices used in element paths)</li>
+ *   <li>the values of {@code id}, {@code for}, {@code name}, {@code type},
+ *       {@code role}, {@code alt}, {@code title}, {@code tabindex},
+ *       {@code lang} and every {@code aria-*} attribute</li>
+ *   <li>the inline {@code font-size} style</li>
+ *   <li>the names of registered event handlers</li>
+ *   <li>whether each element has non-blank text</li>
+ * </ul>
+ *
+ * <p>Text content, classes, links and all other attributes are left out, so
+ * pages that only differ in their data fingerprint the same. A custom
+ * {@link A11yRule} that reads anything outside this list must not rely on
+ * fingerprint-keyed result caching.</p>
+ *
+ * <p>The fingerprint can be accumulated while something else already walks
+ * the tree (such as the HTML serializer), by calling {@link #enter} and
+ * {@link #exit} in document order, or computed directly with {@link #of(Element)}.
+ * Instances are not thread-safe; use one per tree.</p>
+ *
+ * @see JuxAccessibilityEngine
+ */
+public final class A11yFingerprint {
+
+    /** Attributes, besides {@code aria-*}, whose values the built-in rules read. */
+    private static final Set<String> RELEVANT_ATTRIBUTES = Set.of(
+            "id", "for", "name", "type", "role", "alt", "title", "tabindex", "lang");
+
+    /** Multiplier of the 64-bit mixing step (the golden-ratio constant). */
+    private static final long MIX = 0x9E3779B97F4A7C15L;
+
+    /** FNV-1a 64-bit offset basis. */
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+
+    /** FNV-1a 64-bit prime. */
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    /** Marker mixed in when an element ends, so the hash encodes the tree shape. */
+    private static final long EXIT = 0x5BD1E9955BD1E995L;
+
+    /** Marker mixed in for elements with non-blank text. */
+    private static final long HAS_TEXT = 0x27D4EB2F165667C5L;
+
+    /** The running hash. */
+    private long hash = FNV_OFFSET;
+
+    /**
+     * Creates an empty fingerprint, ready to be fed with {@link #enter} and {@link #exit}.
+     */
+    public A11yFingerprint() {
+    }
+
+    /**
+     * Computes the fingerprint of a whole tree.
+     *
+     * @param root the root element
+     * @return the tree's fingerprint
+     */
+    public static long of(Element root) {
+        A11yFingerprint fingerprint = new A11yFingerprint();
+        fingerprint.subtree(root);
+        return fingerprint.value();
+    }
+
+    /**
+     * Adds an element to the fingerprint, before its children.
+     *
+     * @param element the element being entered
+     */
+    public void enter(Element element) {
+        enter(element, element.getAttributes());
+    }
+
+    /**
+     * Adds an element to the fingerprint, before its children, using an
+     * attribute map the caller has already built.
+     *
+     * @param element    the element being entered
+     * @param attributes the element's {@link Element#getAttributes() attributes}
+     */
+    public void enter(Element element, Map<String, String> attributes) {
+        mix(hashString(element.getTag()));
+
+        // Attributes are summed, so their order does not matter.
+        long attrs = 0;
+        for (Map.Entry<String, String> entry : attributes.entrySet()) {
+            String name = entry.getKey();
+            if (RELEVANT_ATTRIBUTES.contains(name) || name.startsWith("aria-")) {
+                attrs += pair(name, entry.getValue());
+            }
+        }
+        String fontSize = element.getStyles().get("font-size");
+        if (fontSize != null) {
+            attrs += pair("font-size", fontSize);
+        }
+        for (String event : element.getEventHandlers().keySet()) {
+            attrs += pair("on", event);
+        }
+        mix(attrs);
+
+        String text = element.getTextContent();
+        if (text != null && !text.isBlank()) {
+            mix(HAS_TEXT);
+        }
+    }
+
+    /**
+     * Closes the most recently entered element, after its children.
+     */
+    public void exit() {
+        mix(EXIT);
+    }
+
+    /**
+     * Adds an element and its whole subtree, as if each element had been
+     * entered and exited in document order.
+     *
+     * @param element the root of the subtree
+     */
+    public void subtree(Element element) {
+        Deque<Object> stack = new ArrayDeque<>();
+        stack.push(element);
+        while (!stack.isEmpty()) {
+            Object next = stack.pop();
+            if (!(next instanceof Element current)) {
+                exit();
+                continue;
+            }
+            enter(current);
+            stack.push(EXIT);
+            List<Element> children = current.getChildren();
+            for (int i = children.size() - 1; i >= 0; i--) {
+                stack.push(children.get(i));
+            }
+        }
+    }
+
+    /**
+     * Returns the fingerprint of everything added so far.
+     *
+     * @return the 64-bit fingerprint
+     */
+    public long value() {
+        return hash;
+    }
+
+    // ── Internal helpers ─────────────────────────────────────────
+
+    /**
+     * Mixes a value into the running hash.
+     *
+     * @param value the value to mix in
+     */
+    private void mix(long value) {
+        long h = (hash ^ value) * MIX;
+        hash = h ^ (h >>> 29);
+    }
+
+    /**
+     * Hashes a name/value pair independently of any other pair.
+     *
+     * @param name  the attribute (or marker) name
+     * @param value the value
+     * @return the pair's hash
+     */
+    private static long pair(String name, String value) {
+        long h = (hashString(name) ^ Long.rotateLeft(hashString(value), 31)) * MIX;
+        return h ^ (h >>> 32);
+    }
+
+    /**
+     * 64-bit FNV-1a hash of a string's characters.
+     *
+     * @param s the string, may be null
+     * @return the hash
+     */
+    private static long hashString(String s) {
+        if (s == null) {
+            return 0;
+        }
+        long h = FNV_OFFSET;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= FNV_PRIME;
+        }
+        return h;
+    }
+}
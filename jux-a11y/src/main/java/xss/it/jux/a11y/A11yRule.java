@@ -16,6 +16,7 @@ package xss.it.jux.a11y;
 import xss.it.jux.core.Element;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Interface for individual WCAG 2.2 AA audit rules.
@@ -25,10 +26,23 @@ import java.util.List;
  * collected by {@link A11yRules#allRules()} and executed by
  * {@link JuxAccessibilityEngine#audit(Element)}.</p>
  *
+ * <p>The engine audits a tree in a single depth-first pass. For each element
+ * it calls {@link #enter(Element, AuditContext)} on every rule whose
+ * {@link #tags()} include the element's tag, then visits the children, then
+ * calls {@link #exit(Element, AuditContext)}. Once the whole tree has been
+ * visited, {@link #finish(AuditContext)} is called on every rule. Rules that
+ * need the whole document (e.g. duplicate ID detection, heading hierarchy)
+ * accumulate what they see in {@link AuditContext#state(Object, java.util.function.Supplier)}
+ * instead of walking the tree themselves.</p>
+ *
+ * <p>A rule that only implements {@link #check(Element, String)} still works:
+ * the default {@code enter} calls it for every element with the element's
+ * path. Implementing {@code enter} directly lets the engine skip building
+ * that path unless a violation is actually reported.</p>
+ *
  * <p>Implementations should be stateless -- the engine may reuse rule
- * instances across multiple audits. Any tree-walking state (e.g. collecting
- * all IDs for duplicate detection) should be local to the
- * {@link #check(Element, String)} call.</p>
+ * instances across multiple audits, and concurrently. Any per-audit state
+ * belongs in the {@link AuditContext}.</p>
  *
  * @see A11yRules
  * @see A11yViolation
@@ -44,12 +58,59 @@ public interface A11yRule {
      * diagnostic purposes (e.g. "main > section:0 > img:1").</p>
      *
      * <p>Most rules check only the current element. Tree-walking rules
-     * (e.g. duplicate ID detection, heading hierarchy) should recursively
-     * walk children from within this method when invoked on the root.</p>
+     * (e.g. duplicate ID detection, heading hierarchy) report for the whole
+     * subtree when invoked on the root, and nothing for nested elements.</p>
+     *
+     * <p>This is the standalone entry point, used to check a rule in isolation.
+     * The engine calls {@link #enter(Element, AuditContext)} instead.</p>
      *
      * @param element the element to check, never null
      * @param path    the element's path in the tree for violation reporting
      * @return a list of violations found, empty if the element passes this rule
      */
     List<A11yViolation> check(Element element, String path);
+
+    /**
+     * The element tags this rule applies to.
+     *
+     * <p>The engine builds a tag-to-rules dispatch table from these sets and
+     * never calls {@code enter} or {@code exit} for elements with other tags.
+     * The default, {@code null}, means the rule applies to every element.</p>
+     *
+     * @return the lowercase tag names this rule inspects, or {@code null} for all
+     */
+    default Set<String> tags() {
+        return null;
+    }
+
+    /**
+     * Called when the single-pass audit reaches an element, before its children.
+     *
+     * <p>The default implementation delegates to {@link #check(Element, String)}
+     * with the element's path and reports whatever it returns.</p>
+     *
+     * @param element the element being entered, never null
+     * @param context the state of the current audit
+     */
+    default void enter(Element element, AuditContext context) {
+        context.reportAll(check(element, context.path()));
+    }
+
+    /**
+     * Called when the single-pass audit leaves an element, after its children.
+     *
+     * @param element the element being left, never null
+     * @param context the state of the current audit
+     */
+    default void exit(Element element, AuditContext context) {
+    }
+
+    /**
+     * Called once after the whole tree has been visited, to report violations
+     * that can only be decided with the complete document in view.
+     *
+     * @param context the state of the current audit
+     */
+    default void finish(AuditContext context) {
+    }
 }
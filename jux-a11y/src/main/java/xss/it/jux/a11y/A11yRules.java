@@ -18,9 +18,11 @@ import xss.it.jux.core.EventHandler;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * Contains all built-in WCAG 2.2 AA audit rules as static inner classes.
@@ -93,6 +95,9 @@ public final class A11yRules {
      */
     public static class ImgAltRule implements A11yRule {
 
+        /** The only tag this rule inspects. */
+        private static final Set<String> TAGS = Set.of("img");
+
         /**
          * {@inheritDoc}
          *
@@ -108,24 +113,35 @@ public final class A11yRules {
          */
         @Override
         public List<A11yViolation> check(Element element, String path) {
-            List<A11yViolation> violations = new ArrayList<>();
-
-            if ("img".equals(element.getTag())) {
-                Map<String, String> attrs = element.getAttributes();
-                if (!attrs.containsKey("alt")) {
-                    violations.add(new A11yViolation(
-                        A11ySeverity.ERROR,
-                        "1.1.1",
-                        "img-alt",
-                        "Image element is missing alt attribute. All images must have "
-                            + "alt text for screen readers, or alt=\"\" for decorative images.",
-                        path,
-                        "Add an alt attribute with descriptive text, or alt=\"\" if the image is purely decorative."
-                    ));
-                }
-            }
+            return AuditContext.checkElement(this, element, path);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Set<String> tags() {
+            return TAGS;
+        }
 
-            return violations;
+        /**
+         * {@inheritDoc}
+         *
+         * <p>Applies the check described in {@link #check(Element, String)},
+         * building the element's path only when a violation is reported.</p>
+         */
+        @Override
+        public void enter(Element element, AuditContext context) {
+            Map<String, String> attrs = element.getAttributes();
+            if (!attrs.containsKey("alt")) {
+                context.report(new A11yViolation(
+                    A11ySeverity.ERROR,
+                    "1.1.1",
+                    "img-alt",
+                    "Image element is missing alt attribute. All images must have "
+                        + "alt text for screen readers, or alt=\"\" for decorative images.",
+                    context.path(),
+                    "Add an alt attribute with descriptive text, or alt=\"\" if the image is purely decorative."
+                ));
+            }
         }
     }
 
@@ -142,6 +158,9 @@ public final class A11yRules {
      */
     public static class TableCaptionRule implements A11yRule {
 
+        /** The only tag this rule inspects. */
+        private static final Set<String> TAGS = Set.of("table");
+
         /**
          * {@inheritDoc}
          *
@@ -159,26 +178,37 @@ public final class A11yRules {
          */
         @Override
         public List<A11yViolation> check(Element element, String path) {
-            List<A11yViolation> violations = new ArrayList<>();
+            return AuditContext.checkElement(this, element, path);
+        }
 
-            if ("table".equals(element.getTag())) {
-                boolean hasCaption = element.getChildren().stream()
-                    .anyMatch(child -> "caption".equals(child.getTag()));
+        /** {@inheritDoc} */
+        @Override
+        public Set<String> tags() {
+            return TAGS;
+        }
 
-                if (!hasCaption) {
-                    violations.add(new A11yViolation(
-                        A11ySeverity.WARNING,
-                        "1.3.1",
-                        "table-caption",
-                        "Table element is missing a <caption>. Tables should have a caption "
-                            + "describing their purpose for screen reader users.",
-                        path,
-                        "Add a <caption> element as the first child of the table."
-                    ));
-                }
-            }
+        /**
+         * {@inheritDoc}
+         *
+         * <p>Applies the check described in {@link #check(Element, String)},
+         * building the element's path only when a violation is reported.</p>
+         */
+        @Override
+        public void enter(Element element, AuditContext context) {
+            boolean hasCaption = element.getChildren().stream()
+                .anyMatch(child -> "caption".equals(child.getTag()));
 
-            return violations;
+            if (!hasCaption) {
+                context.report(new A11yViolation(
+                    A11ySeverity.WARNING,
+                    "1.3.1",
+                    "table-caption",
+                    "Table element is missing a <caption>. Tables should have a caption "
+                        + "describing their purpose for screen reader users.",
+                    context.path(),
+                    "Add a <caption> element as the first child of the table."
+                ));
+            }
         }
     }
 
@@ -190,9 +220,9 @@ public final class A11yRules {
      * Checks that form input elements have an accessible label.
      *
      * <p>WCAG 3.3.2 requires that form inputs have labels or instructions.
-     * This is a tree-walking rule that performs a full scan from the root
-     * element to collect all {@code <label for="...">} associations, then
-     * checks each form input for a valid label. An input is considered
+     * This is a whole-document rule: it collects all {@code <label for="...">}
+     * associations during the audit, then checks each form input for a
+     * valid label once the whole tree has been seen. An input is considered
      * labelled if any of the following are true:</p>
      * <ul>
      *   <li>A {@code <label>} element with a matching {@code for} attribute
@@ -219,11 +249,14 @@ public final class A11yRules {
          */
         private static final Set<String> EXEMPT_INPUT_TYPES = Set.of("hidden", "submit", "button", "reset", "image");
 
+        /** The tags this rule inspects: the form elements and {@code <label>}. */
+        private static final Set<String> TAGS = Set.of("input", "textarea", "select", "label");
+
         /**
          * {@inheritDoc}
          *
          * <p>When invoked on the root element (detected by the absence of
-         * " > " in the path), performs a full tree scan to collect all
+         * " > " in the path), scans the whole tree to collect all
          * {@code <label for="...">} associations and implicitly wrapped inputs,
          * then checks each form input for a valid label.</p>
          *
@@ -232,113 +265,145 @@ public final class A11yRules {
          */
         @Override
         public List<A11yViolation> check(Element element, String path) {
-            // Only run the full tree scan from the root invocation.
-            if (path.contains(" > ")) {
-                return List.of();
-            }
-
-            // Phase 1: collect all label[for] targets and implicitly wrapped input IDs.
-            Set<String> labelledIds = new java.util.HashSet<>();
-            collectLabelTargets(element, labelledIds, false);
+            return AuditContext.checkTree(this, element, path);
+        }
 
-            // Phase 2: find all form inputs and check for labels.
-            List<A11yViolation> violations = new ArrayList<>();
-            checkInputs(element, path, labelledIds, violations);
-            return violations;
+        /** {@inheritDoc} */
+        @Override
+        public Set<String> tags() {
+            return TAGS;
         }
 
         /**
-         * Recursively collects IDs targeted by {@code <label for="...">} elements
-         * and IDs of inputs implicitly wrapped inside {@code <label>} elements.
+         * {@inheritDoc}
+         *
+         * <p>Records {@code <label for="...">} targets and inputs wrapped inside
+         * a {@code <label>}. Form inputs without an aria-label, aria-labelledby
+         * or title are remembered with their location; whether a label points
+         * at them is only known once the whole tree has been seen, in
+         * {@link #finish(AuditContext)}.</p>
          */
-        private void collectLabelTargets(Element element, Set<String> labelledIds, boolean insideLabel) {
+        @Override
+        public void enter(Element element, AuditContext context) {
+            Labels labels = context.state(this, Labels::new);
             String tag = element.getTag();
             Map<String, String> attrs = element.getAttributes();
 
-            // If this is a <label> with a for attribute, record the target ID.
+            // A <label for="..."> labels its target; inputs inside it are implicitly labelled.
             if ("label".equals(tag)) {
                 String forAttr = attrs.get("for");
                 if (forAttr != null && !forAttr.isBlank()) {
-                    labelledIds.add(forAttr);
-                }
-                // Recurse into label children — inputs inside are implicitly labelled.
-                for (Element child : element.getChildren()) {
-                    collectLabelTargets(child, labelledIds, true);
+                    labels.labelledIds.add(forAttr);
                 }
+                labels.openLabels++;
                 return;
             }
 
             // If this is a form input inside a <label>, it's implicitly labelled.
-            if (insideLabel && FORM_ELEMENTS.contains(tag)) {
+            if (labels.openLabels > 0) {
                 String id = attrs.get("id");
                 if (id != null && !id.isBlank()) {
-                    labelledIds.add(id);
+                    labels.labelledIds.add(id);
                 } else {
                     // Mark with a synthetic key so we know it's wrapped.
                     // We'll use the element identity via name attribute as fallback.
                     String name = attrs.get("name");
                     if (name != null) {
-                        labelledIds.add("__implicit__" + name);
+                        labels.labelledIds.add("__implicit__" + name);
                     }
                 }
             }
 
-            for (Element child : element.getChildren()) {
-                collectLabelTargets(child, labelledIds, insideLabel);
+            // Hidden inputs and submit/button types are exempt.
+            String inputType = attrs.get("type");
+            if (inputType != null && EXEMPT_INPUT_TYPES.contains(inputType.toLowerCase())) {
+                return;
+            }
+
+            boolean hasAriaLabel = attrs.containsKey("aria-label")
+                && !attrs.get("aria-label").isBlank();
+            boolean hasAriaLabelledBy = attrs.containsKey("aria-labelledby")
+                && !attrs.get("aria-labelledby").isBlank();
+            boolean hasTitle = attrs.containsKey("title")
+                && !attrs.get("title").isBlank();
+
+            if (!hasAriaLabel && !hasAriaLabelledBy && !hasTitle) {
+                labels.unlabelled.add(new PendingInput(
+                    tag, attrs.get("id"), attrs.get("name"), context.location()));
             }
         }
 
         /**
-         * Recursively checks all form inputs for accessible labels.
+         * {@inheritDoc}
+         *
+         * <p>Leaving a {@code <label>} ends the implicit labelling of the
+         * inputs it wraps.</p>
          */
-        private void checkInputs(Element element, String path, Set<String> labelledIds,
-                                  List<A11yViolation> violations) {
-            String tag = element.getTag();
-
-            if (FORM_ELEMENTS.contains(tag)) {
-                Map<String, String> attrs = element.getAttributes();
-
-                // Hidden inputs and submit/button types are exempt.
-                String inputType = attrs.get("type");
-                if (inputType != null && EXEMPT_INPUT_TYPES.contains(inputType.toLowerCase())) {
-                    // Still recurse into children (unlikely but safe).
-                } else {
-                    boolean hasAriaLabel = attrs.containsKey("aria-label")
-                        && !attrs.get("aria-label").isBlank();
-                    boolean hasAriaLabelledBy = attrs.containsKey("aria-labelledby")
-                        && !attrs.get("aria-labelledby").isBlank();
-                    boolean hasTitle = attrs.containsKey("title")
-                        && !attrs.get("title").isBlank();
-
-                    // Check if a <label for="id"> matches this input's id.
-                    String id = attrs.get("id");
-                    boolean hasLabelFor = id != null && !id.isBlank() && labelledIds.contains(id);
-
-                    // Check implicit label wrapping via name.
-                    String name = attrs.get("name");
-                    boolean hasImplicitLabel = name != null && labelledIds.contains("__implicit__" + name);
+        @Override
+        public void exit(Element element, AuditContext context) {
+            if ("label".equals(element.getTag())) {
+                context.state(this, Labels::new).openLabels--;
+            }
+        }
 
-                    if (!hasAriaLabel && !hasAriaLabelledBy && !hasTitle && !hasLabelFor && !hasImplicitLabel) {
-                        violations.add(new A11yViolation(
-                            A11ySeverity.WARNING,
-                            "3.3.2",
-                            "input-label",
-                            "Form " + tag + " element has no accessible label. "
-                                + "Every form control must have a <label>, aria-label, or aria-labelledby.",
-                            path,
-                            "Add a <label for=\"inputId\"> element, or set aria-label or aria-labelledby on the input."
-                        ));
-                    }
+        /**
+         * {@inheritDoc}
+         *
+         * <p>Reports every remembered input that no {@code <label>} in the tree
+         * refers to, in document order.</p>
+         */
+        @Override
+        public void finish(AuditContext context) {
+            Labels labels = context.state(this, Labels::new);
+            for (PendingInput input : labels.unlabelled) {
+                // Check if a <label for="id"> matches this input's id.
+                boolean hasLabelFor = input.id != null && !input.id.isBlank()
+                    && labels.labelledIds.contains(input.id);
+
+                // Check implicit label wrapping via name.
+                boolean hasImplicitLabel = input.name != null
+                    && labels.labelledIds.contains("__implicit__" + input.name);
+
+                if (!hasLabelFor && !hasImplicitLabel) {
+                    context.report(new A11yViolation(
+                        A11ySeverity.WARNING,
+                        "3.3.2",
+                        "input-label",
+                        "Form " + input.tag + " element has no accessible label. "
+                            + "Every form control must have a <label>, aria-label, or aria-labelledby.",
+                        input.location.get(),
+                        "Add a <label for=\"inputId\"> element, or set aria-label or aria-labelledby on the input."
+                    ));
                 }
             }
+        }
 
-            List<Element> children = element.getChildren();
-            for (int i = 0; i < children.size(); i++) {
-                Element child = children.get(i);
-                String childPath = path + " > " + child.getTag() + ":" + i;
-                checkInputs(child, childPath, labelledIds, violations);
-            }
+        /**
+         * Per-audit state: the label targets seen so far, the inputs still
+         * waiting for one, and how many {@code <label>} elements enclose the
+         * current element.
+         */
+        private static final class Labels {
+
+            /** IDs targeted by {@code <label for>} or wrapped in a label, plus {@code __implicit__} names. */
+            private final Set<String> labelledIds = new HashSet<>();
+
+            /** Inputs with no aria-label, aria-labelledby or title, in document order. */
+            private final List<PendingInput> unlabelled = new ArrayList<>();
+
+            /** Number of {@code <label>} elements enclosing the current element. */
+            private int openLabels;
         }
+
+        /**
+         * A form input whose label can only be decided at the end of the audit.
+         *
+         * @param tag      the input's tag name
+         * @param id       the input's {@code id}, or null
+         * @param name     the input's {@code name}, or null
+         * @param location the input's path, built when reported
+         */
+        private record PendingInput(String tag, String id, String name, Supplier<String> location) {}
     }
 
     // ═══════════════════════════════════════════════════════════════
@@ -373,24 +438,31 @@ public final class A11yRules {
          */
         @Override
         public List<A11yViolation> check(Element element, String path) {
-            List<A11yViolation> violations = new ArrayList<>();
+            return AuditContext.checkElement(this, element, path);
+        }
 
+        /**
+         * {@inheritDoc}
+         *
+         * <p>Applies the check described in {@link #check(Element, String)},
+         * building the element's path only when a violation is reported.</p>
+         */
+        @Override
+        public void enter(Element element, AuditContext context) {
             Map<String, String> styles = element.getStyles();
             String fontSize = styles.get("font-size");
 
             if (fontSize != null && fontSize.contains("px")) {
-                violations.add(new A11yViolation(
+                context.report(new A11yViolation(
                     A11ySeverity.WARNING,
                     "1.4.4",
                     "font-size-px",
                     "Font size uses px units (\"" + fontSize + "\"). Pixel-based font sizes "
                         + "prevent browser text zoom from working correctly.",
-                    path,
+                    context.path(),
                     "Use rem or em units instead of px for font-size (e.g. \"1rem\" instead of \"16px\")."
                 ));
             }
-
-            return violations;
         }
     }
 
@@ -405,26 +477,22 @@ public final class A11yRules {
      * Duplicate IDs break ARIA references ({@code aria-labelledby},
      * {@code aria-controls}, etc.) and cause unpredictable behavior.</p>
      *
-     * <p>This is a tree-walking rule. It collects all IDs from the entire
-     * subtree when invoked, so it should only be run on the root element.
-     * The engine calls it on every element, but violations are only generated
-     * for the second (and subsequent) occurrences of a duplicate ID.</p>
+     * <p>This is a whole-document rule: the IDs seen so far are kept in the
+     * audit's {@link AuditContext}, and violations are only generated for the
+     * second (and subsequent) occurrences of a duplicate ID.</p>
      */
     public static class DuplicateIdRule implements A11yRule {
 
         /**
          * {@inheritDoc}
          *
-         * <p>When invoked on the root element (detected by the absence of
-         * " > " in the path), performs a full depth-first traversal of the
-         * entire subtree, collecting all {@code id} attributes. The first
+         * <p>When invoked on the root element, scans the whole tree. The first
          * occurrence of each ID is recorded; subsequent occurrences produce
          * {@link A11ySeverity#ERROR} violations referencing the first occurrence's
          * path.</p>
          *
-         * <p>When invoked on a non-root element (the engine calls this rule
-         * for every node), returns an empty list immediately to avoid redundant
-         * traversals. The single root-level traversal covers the full tree.</p>
+         * <p>When invoked on a non-root element (a path containing " > "),
+         * returns an empty list immediately to avoid redundant traversals.</p>
          *
          * @param element the element to check (full tree scan only runs at root)
          * @param path    the tree path used for violation reporting and root detection
@@ -432,57 +500,37 @@ public final class A11yRules {
          */
         @Override
         public List<A11yViolation> check(Element element, String path) {
-            // Only run the full tree scan from the root invocation.
-            // We detect "root" by checking if the path has no " > " separator,
-            // meaning it's the top-level element passed to the engine.
-            if (path.contains(" > ")) {
-                return List.of();
-            }
+            return AuditContext.checkTree(this, element, path);
+        }
 
-            List<A11yViolation> violations = new ArrayList<>();
-            Map<String, String> idToFirstPath = new HashMap<>();
-            collectDuplicateIds(element, path, idToFirstPath, violations);
-            return violations;
-        }
-
-        /**
-         * Recursively walks the element tree collecting IDs and detecting duplicates.
-         *
-         * <p>For each element that has a non-blank {@code id} attribute, checks
-         * whether that ID has already been seen. If so, a violation is added to
-         * the violations list. Otherwise, the ID is recorded in the map for
-         * future comparison.</p>
-         *
-         * @param element       the current element being inspected
-         * @param path          the tree path of the current element for violation reporting
-         * @param idToFirstPath a map from each seen ID to the path of its first occurrence
-         * @param violations    the accumulator list for discovered duplicate-ID violations
-         */
-        private void collectDuplicateIds(Element element, String path,
-                                         Map<String, String> idToFirstPath,
-                                         List<A11yViolation> violations) {
-            String id = element.getAttributes().get("id");
-            if (id != null && !id.isBlank()) {
-                if (idToFirstPath.containsKey(id)) {
-                    violations.add(new A11yViolation(
-                        A11ySeverity.ERROR,
-                        "4.1.1",
-                        "duplicate-id",
-                        "Duplicate id=\"" + id + "\" found. IDs must be unique within a page. "
-                            + "First occurrence at: " + idToFirstPath.get(id),
-                        path,
-                        "Change the id to a unique value. Duplicate IDs break ARIA references and label associations."
-                    ));
-                } else {
-                    idToFirstPath.put(id, path);
-                }
+        /**
+         * {@inheritDoc}
+         *
+         * <p>For an element with a non-blank {@code id}, checks whether that
+         * ID has already been seen in this audit. If so, a violation is
+         * reported. Otherwise the element's location is recorded, so the path
+         * of the first occurrence is only built if a duplicate turns up.</p>
+         */
+        @Override
+        public void enter(Element element, AuditContext context) {
+            String id = element.getAttribute("id");
+            if (id == null || id.isBlank()) {
+                return;
             }
-
-            List<Element> children = element.getChildren();
-            for (int i = 0; i < children.size(); i++) {
-                Element child = children.get(i);
-                String childPath = path + " > " + child.getTag() + ":" + i;
-                collectDuplicateIds(child, childPath, idToFirstPath, violations);
+            Map<String, Supplier<String>> firstOccurrences = context.state(this, HashMap::new);
+            Supplier<String> first = firstOccurrences.get(id);
+            if (first != null) {
+                context.report(new A11yViolation(
+                    A11ySeverity.ERROR,
+                    "4.1.1",
+                    "duplicate-id",
+                    "Duplicate id=\"" + id + "\" found. IDs must be unique within a page. "
+                        + "First occurrence at: " + first.get(),
+                    context.path(),
+                    "Change the id to a unique value. Duplicate IDs break ARIA references and label associations."
+                ));
+            } else {
+                firstOccurrences.put(id, context.location());
             }
         }
     }
@@ -548,34 +596,45 @@ public final class A11yRules {
          */
         @Override
         public List<A11yViolation> check(Element element, String path) {
-            List<A11yViolation> violations = new ArrayList<>();
+            return AuditContext.checkElement(this, element, path);
+        }
 
-            if (NON_INTERACTIVE_TAGS.contains(element.getTag())) {
-                Map<String, EventHandler> handlers = element.getEventHandlers();
+        /** {@inheritDoc} */
+        @Override
+        public Set<String> tags() {
+            return NON_INTERACTIVE_TAGS;
+        }
 
-                if (handlers.containsKey("click")) {
-                    boolean hasKeyboardHandler = handlers.keySet().stream()
-                        .anyMatch(KEYBOARD_EVENTS::contains);
-                    boolean hasTabIndex = element.getAttributes().containsKey("tabindex");
-                    boolean hasRole = element.getAttributes().containsKey("role");
+        /**
+         * {@inheritDoc}
+         *
+         * <p>Applies the check described in {@link #check(Element, String)},
+         * building the element's path only when a violation is reported.</p>
+         */
+        @Override
+        public void enter(Element element, AuditContext context) {
+            Map<String, EventHandler> handlers = element.getEventHandlers();
 
-                    if (!hasKeyboardHandler && !hasTabIndex && !hasRole) {
-                        violations.add(new A11yViolation(
-                            A11ySeverity.WARNING,
-                            "2.1.1",
-                            "clickable-div",
-                            "Non-interactive <" + element.getTag() + "> element has a click handler "
-                                + "but is not keyboard accessible. It has no keyboard event handler, "
-                                + "no tabindex, and no ARIA role.",
-                            path,
-                            "Use a <button> element instead, or add tabindex=\"0\", role=\"button\", "
-                                + "and a keydown handler for Enter/Space."
-                        ));
-                    }
+            if (handlers.containsKey("click")) {
+                boolean hasKeyboardHandler = handlers.keySet().stream()
+                    .anyMatch(KEYBOARD_EVENTS::contains);
+                boolean hasTabIndex = element.getAttributes().containsKey("tabindex");
+                boolean hasRole = element.getAttributes().containsKey("role");
+
+                if (!hasKeyboardHandler && !hasTabIndex && !hasRole) {
+                    context.report(new A11yViolation(
+                        A11ySeverity.WARNING,
+                        "2.1.1",
+                        "clickable-div",
+                        "Non-interactive <" + element.getTag() + "> element has a click handler "
+                            + "but is not keyboard accessible. It has no keyboard event handler, "
+                            + "no tabindex, and no ARIA role.",
+                        context.path(),
+                        "Use a <button> element instead, or add tabindex=\"0\", role=\"button\", "
+                            + "and a keydown handler for Enter/Space."
+                    ));
                 }
             }
-
-            return violations;
         }
     }
 
@@ -594,6 +653,9 @@ public final class A11yRules {
      */
     public static class EmptyLinkRule implements A11yRule {
 
+        /** The only tag this rule inspects. */
+        private static final Set<String> TAGS = Set.of("a");
+
         /**
          * {@inheritDoc}
          *
@@ -621,34 +683,45 @@ public final class A11yRules {
          */
         @Override
         public List<A11yViolation> check(Element element, String path) {
-            List<A11yViolation> violations = new ArrayList<>();
-
-            if ("a".equals(element.getTag())) {
-                String text = element.getTextContent();
-                boolean hasText = text != null && !text.isBlank();
-                boolean hasChildren = !element.getChildren().isEmpty();
-                Map<String, String> attrs = element.getAttributes();
-                boolean hasAriaLabel = attrs.containsKey("aria-label")
-                    && !attrs.get("aria-label").isBlank();
-                boolean hasAriaLabelledBy = attrs.containsKey("aria-labelledby")
-                    && !attrs.get("aria-labelledby").isBlank();
-                boolean hasTitle = attrs.containsKey("title")
-                    && !attrs.get("title").isBlank();
-
-                if (!hasText && !hasChildren && !hasAriaLabel && !hasAriaLabelledBy && !hasTitle) {
-                    violations.add(new A11yViolation(
-                        A11ySeverity.WARNING,
-                        "2.4.4",
-                        "empty-link",
-                        "Anchor element has no discernible link text. Links must have text content, "
-                            + "child elements with text, or an aria-label for screen readers.",
-                        path,
-                        "Add descriptive text content to the link, or set aria-label with a descriptive value."
-                    ));
-                }
-            }
+            return AuditContext.checkElement(this, element, path);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Set<String> tags() {
+            return TAGS;
+        }
 
-            return violations;
+        /**
+         * {@inheritDoc}
+         *
+         * <p>Applies the check described in {@link #check(Element, String)},
+         * building the element's path only when a violation is reported.</p>
+         */
+        @Override
+        public void enter(Element element, AuditContext context) {
+            String text = element.getTextContent();
+            boolean hasText = text != null && !text.isBlank();
+            boolean hasChildren = !element.getChildren().isEmpty();
+            Map<String, String> attrs = element.getAttributes();
+            boolean hasAriaLabel = attrs.containsKey("aria-label")
+                && !attrs.get("aria-label").isBlank();
+            boolean hasAriaLabelledBy = attrs.containsKey("aria-labelledby")
+                && !attrs.get("aria-labelledby").isBlank();
+            boolean hasTitle = attrs.containsKey("title")
+                && !attrs.get("title").isBlank();
+
+            if (!hasText && !hasChildren && !hasAriaLabel && !hasAriaLabelledBy && !hasTitle) {
+                context.report(new A11yViolation(
+                    A11ySeverity.WARNING,
+                    "2.4.4",
+                    "empty-link",
+                    "Anchor element has no discernible link text. Links must have text content, "
+                        + "child elements with text, or an aria-label for screen readers.",
+                    context.path(),
+                    "Add descriptive text content to the link, or set aria-label with a descriptive value."
+                ));
+            }
         }
     }
 
@@ -692,20 +765,29 @@ public final class A11yRules {
          */
         @Override
         public List<A11yViolation> check(Element element, String path) {
-            List<A11yViolation> violations = new ArrayList<>();
+            return AuditContext.checkElement(this, element, path);
+        }
 
+        /**
+         * {@inheritDoc}
+         *
+         * <p>Applies the check described in {@link #check(Element, String)},
+         * building the element's path only when a violation is reported.</p>
+         */
+        @Override
+        public void enter(Element element, AuditContext context) {
             String tabindex = element.getAttributes().get("tabindex");
             if (tabindex != null) {
                 try {
                     int value = Integer.parseInt(tabindex.trim());
                     if (value > 0) {
-                        violations.add(new A11yViolation(
+                        context.report(new A11yViolation(
                             A11ySeverity.WARNING,
                             "2.4.3",
                             "positive-tabindex",
                             "Element has tabindex=\"" + value + "\". Positive tabindex values create "
                                 + "a custom tab order that can confuse keyboard users.",
-                            path,
+                            context.path(),
                             "Use tabindex=\"0\" to add to natural tab order, or tabindex=\"-1\" for "
                                 + "programmatic focus only. Avoid positive values."
                         ));
@@ -714,8 +796,6 @@ public final class A11yRules {
                     // Non-numeric tabindex -- not this rule's concern.
                 }
             }
-
-            return violations;
         }
     }
 
@@ -730,15 +810,15 @@ public final class A11yRules {
      * Users rely on headings to understand page structure and jump between
      * sections. Skipping levels creates confusion about content hierarchy.</p>
      *
-     * <p>This is a tree-walking rule. It collects all headings from the
-     * entire subtree in document order when invoked on the root element,
-     * then checks for level skips.</p>
+     * <p>This is a whole-document rule. It visits the headings in document
+     * order, comparing each with the one before it, and is only dispatched
+     * for {@code <h1>}-{@code <h6>} elements.</p>
      */
     public static class HeadingHierarchyRule implements A11yRule {
 
         /**
          * HTML tag names for heading elements ({@code <h1>} through {@code <h6>}).
-         * Used to identify headings during the depth-first tree traversal.
+         * These are the only elements the rule is dispatched for.
          */
         private static final Set<String> HEADING_TAGS = Set.of("h1", "h2", "h3", "h4", "h5", "h6");
 
@@ -746,11 +826,10 @@ public final class A11yRules {
          * {@inheritDoc}
          *
          * <p>When invoked on the root element (detected by the absence of
-         * " > " in the path), performs a full depth-first traversal to collect
-         * all heading elements in document order. Then iterates through consecutive
-         * heading pairs and flags any case where the heading level increases by
-         * more than one (e.g. {@code <h1>} followed by {@code <h3>} with no
-         * intervening {@code <h2>}).</p>
+         * " > " in the path), visits all heading elements in document order
+         * and flags any case where the heading level increases by more than
+         * one (e.g. {@code <h1>} followed by {@code <h3>} with no intervening
+         * {@code <h2>}).</p>
          *
          * <p>Going to a shallower or equal heading level is always valid (e.g.
          * {@code <h3>} followed by {@code <h2>} is fine). Only increases of more
@@ -766,76 +845,58 @@ public final class A11yRules {
          */
         @Override
         public List<A11yViolation> check(Element element, String path) {
-            // Only run the full tree scan from the root invocation.
-            if (path.contains(" > ")) {
-                return List.of();
-            }
-
-            List<A11yViolation> violations = new ArrayList<>();
-            List<HeadingInfo> headings = new ArrayList<>();
-            collectHeadings(element, path, headings);
-
-            // Check for level skips between consecutive headings.
-            for (int i = 1; i < headings.size(); i++) {
-                HeadingInfo prev = headings.get(i - 1);
-                HeadingInfo curr = headings.get(i);
-
-                // A heading can go deeper by at most 1 level.
-                // Going to a shallower level (or same level) is always fine.
-                if (curr.level > prev.level + 1) {
-                    violations.add(new A11yViolation(
-                        A11ySeverity.WARNING,
-                        "1.3.1",
-                        "heading-hierarchy",
-                        "Heading level skipped: <" + curr.tag + "> follows <" + prev.tag + "> "
-                            + "without an intervening <h" + (prev.level + 1) + ">. "
-                            + "Heading levels should not skip (e.g. h1 -> h3 without h2).",
-                        curr.path,
-                        "Add an <h" + (prev.level + 1) + "> heading before this <" + curr.tag + ">, "
-                            + "or change this heading to <h" + (prev.level + 1) + ">."
-                    ));
-                }
-            }
+            return AuditContext.checkTree(this, element, path);
+        }
 
-            return violations;
+        /** {@inheritDoc} */
+        @Override
+        public Set<String> tags() {
+            return HEADING_TAGS;
         }
 
         /**
-         * Recursively walks the element tree collecting heading elements in document order.
-         *
-         * <p>For each element whose tag is a heading ({@code h1}-{@code h6}), creates
-         * a {@link HeadingInfo} record capturing the tag name, numeric level, and tree
-         * path, and appends it to the headings list. Then recurses into all children
-         * to continue the depth-first traversal.</p>
+         * {@inheritDoc}
          *
-         * @param element  the current element being inspected
-         * @param path     the tree path of the current element
-         * @param headings the accumulator list of heading information records, in document order
+         * <p>Compares the heading with the previous one in document order,
+         * which is the only state the rule keeps for an audit.</p>
          */
-        private void collectHeadings(Element element, String path, List<HeadingInfo> headings) {
+        @Override
+        public void enter(Element element, AuditContext context) {
+            PreviousHeading prev = context.state(this, PreviousHeading::new);
             String tag = element.getTag();
-            if (HEADING_TAGS.contains(tag)) {
-                int level = tag.charAt(1) - '0';
-                headings.add(new HeadingInfo(tag, level, path));
-            }
+            int level = tag.charAt(1) - '0';
 
-            List<Element> children = element.getChildren();
-            for (int i = 0; i < children.size(); i++) {
-                Element child = children.get(i);
-                String childPath = path + " > " + child.getTag() + ":" + i;
-                collectHeadings(child, childPath, headings);
+            // A heading can go deeper by at most 1 level.
+            // Going to a shallower level (or same level) is always fine.
+            if (prev.tag != null && level > prev.level + 1) {
+                context.report(new A11yViolation(
+                    A11ySeverity.WARNING,
+                    "1.3.1",
+                    "heading-hierarchy",
+                    "Heading level skipped: <" + tag + "> follows <" + prev.tag + "> "
+                        + "without an intervening <h" + (prev.level + 1) + ">. "
+                        + "Heading levels should not skip (e.g. h1 -> h3 without h2).",
+                    context.path(),
+                    "Add an <h" + (prev.level + 1) + "> heading before this <" + tag + ">, "
+                        + "or change this heading to <h" + (prev.level + 1) + ">."
+                ));
             }
+
+            prev.tag = tag;
+            prev.level = level;
         }
 
         /**
-         * Internal record capturing information about a heading element found
-         * during tree traversal.
-         *
-         * @param tag   the HTML tag name (e.g. "h1", "h2", "h3")
-         * @param level the numeric heading level extracted from the tag (1-6)
-         * @param path  the tree path where this heading was found, used in violation reports
+         * Per-audit state: the most recent heading seen in document order.
          */
-        private record HeadingInfo(String tag, int level, String path) {}
+        private static final class PreviousHeading {
+
+            /** The heading's tag name (e.g. "h2"), or null before the first heading. */
+            private String tag;
+
+            /** The numeric heading level extracted from the tag (1-6). */
+            private int level;
+        }
     }
 
     // ═══════════════════════════════════════════════════════════════
@@ -853,6 +914,9 @@ public final class A11yRules {
      */
     public static class VideoTrackRule implements A11yRule {
 
+        /** The only tag this rule inspects. */
+        private static final Set<String> TAGS = Set.of("video");
+
         /**
          * {@inheritDoc}
          *
@@ -873,27 +937,38 @@ public final class A11yRules {
          */
         @Override
         public List<A11yViolation> check(Element element, String path) {
-            List<A11yViolation> violations = new ArrayList<>();
+            return AuditContext.checkElement(this, element, path);
+        }
 
-            if ("video".equals(element.getTag())) {
-                boolean hasTrack = element.getChildren().stream()
-                    .anyMatch(child -> "track".equals(child.getTag()));
+        /** {@inheritDoc} */
+        @Override
+        public Set<String> tags() {
+            return TAGS;
+        }
 
-                if (!hasTrack) {
-                    violations.add(new A11yViolation(
-                        A11ySeverity.WARNING,
-                        "1.2.2",
-                        "video-track",
-                        "Video element is missing a <track> element for captions. "
-                            + "Videos must have captions for deaf and hard-of-hearing users.",
-                        path,
-                        "Add a <track kind=\"captions\" src=\"captions.vtt\" srclang=\"en\" label=\"English\"> "
-                            + "child element to the video."
-                    ));
-                }
-            }
+        /**
+         * {@inheritDoc}
+         *
+         * <p>Applies the check described in {@link #check(Element, String)},
+         * building the element's path only when a violation is reported.</p>
+         */
+        @Override
+        public void enter(Element element, AuditContext context) {
+            boolean hasTrack = element.getChildren().stream()
+                .anyMatch(child -> "track".equals(child.getTag()));
 
-            return violations;
+            if (!hasTrack) {
+                context.report(new A11yViolation(
+                    A11ySeverity.WARNING,
+                    "1.2.2",
+                    "video-track",
+                    "Video element is missing a <track> element for captions. "
+                        + "Videos must have captions for deaf and hard-of-hearing users.",
+                    context.path(),
+                    "Add a <track kind=\"captions\" src=\"captions.vtt\" srclang=\"en\" label=\"English\"> "
+                        + "child element to the video."
+                ));
+            }
         }
     }
 
@@ -912,6 +987,9 @@ public final class A11yRules {
      */
     public static class HtmlLangRule implements A11yRule {
 
+        /** The only tag this rule inspects. */
+        private static final Set<String> TAGS = Set.of("html");
+
         /**
          * {@inheritDoc}
          *
@@ -932,27 +1010,38 @@ public final class A11yRules {
          */
         @Override
         public List<A11yViolation> check(Element element, String path) {
-            List<A11yViolation> violations = new ArrayList<>();
-
-            if ("html".equals(element.getTag())) {
-                Map<String, String> attrs = element.getAttributes();
-                String lang = attrs.get("lang");
-
-                if (lang == null || lang.isBlank()) {
-                    violations.add(new A11yViolation(
-                        A11ySeverity.ERROR,
-                        "3.1.1",
-                        "html-lang",
-                        "The <html> element is missing a lang attribute. The page language must "
-                            + "be programmatically determinable for screen readers to use correct "
-                            + "pronunciation rules.",
-                        path,
-                        "Add a lang attribute to the <html> element (e.g. lang=\"en\", lang=\"es\", lang=\"ar\")."
-                    ));
-                }
-            }
+            return AuditContext.checkElement(this, element, path);
+        }
 
-            return violations;
+        /** {@inheritDoc} */
+        @Override
+        public Set<String> tags() {
+            return TAGS;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>Applies the check described in {@link #check(Element, String)},
+         * building the element's path only when a violation is reported.</p>
+         */
+        @Override
+        public void enter(Element element, AuditContext context) {
+            Map<String, String> attrs = element.getAttributes();
+            String lang = attrs.get("lang");
+
+            if (lang == null || lang.isBlank()) {
+                context.report(new A11yViolation(
+                    A11ySeverity.ERROR,
+                    "3.1.1",
+                    "html-lang",
+                    "The <html> element is missing a lang attribute. The page language must "
+                        + "be programmatically determinable for screen readers to use correct "
+                        + "pronunciation rules.",
+                    context.path(),
+                    "Add a lang attribute to the <html> element (e.g. lang=\"en\", lang=\"es\", lang=\"ar\")."
+                ));
+            }
         }
     }
 }
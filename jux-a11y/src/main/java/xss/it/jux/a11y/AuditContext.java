@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.a11y;
+
+import xss.it.jux.core.Element;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Per-audit state shared by all rules during a single pass over an element tree.
+ *
+ * <p>The {@link JuxAccessibilityEngine} walks the tree once and calls
+ * {@link A11yRule#enter(Element, AuditContext)} and
+ * {@link A11yRule#exit(Element, AuditContext)} on the rules that apply to each
+ * element. The context tracks the current position in the tree (the ancestor
+ * stack and each element's index among its siblings), collects the reported
+ * violations, and holds whatever state a rule needs to carry across elements
+ * (e.g. the IDs seen so far, the last heading level).</p>
+ *
+ * <p><b>Paths are built on demand.</b> The diagnostic path of an element
+ * (e.g. {@code "html > body:1 > img:0"}) is only materialized when
+ * {@link #path()} is called, which rules do when they report a violation. A
+ * rule that needs to refer to an element later (e.g. the first occurrence of a
+ * duplicate ID) captures a {@link #location()}, which copies the index stack
+ * and builds the string only if it is ever read.</p>
+ *
+ * <p>A context is confined to one audit on one thread and is discarded when
+ * the audit completes; rule instances themselves remain stateless.</p>
+ *
+ * @see A11yRule
+ * @see JuxAccessibilityEngine
+ */
+public final class AuditContext {
+
+    /** Separator between path segments, as in {@code "main > section:0"}. */
+    private static final String SEPARATOR = " > ";
+
+    /** Initial capacity of the ancestor stack; it grows with deeper trees. */
+    private static final int INITIAL_DEPTH = 32;
+
+    /** Path of the root element, as supplied by the caller (usually its tag). */
+    private final String rootPath;
+
+    /** Violations reported so far, in the order they were reported. */
+    private final List<A11yViolation> violations = new ArrayList<>();
+
+    /** Rule-owned state, keyed by whatever object the rule chooses (usually itself). */
+    private final Map<Object, Object> state = new HashMap<>();
+
+    /** Ancestor stack: {@code elements[0]} is the root, {@code elements[depth]} the current element. */
+    private Element[] elements = new Element[INITIAL_DEPTH];
+
+    /** Index of each stacked element among its parent's children ({@code indices[0]} is unused). */
+    private int[] indices = new int[INITIAL_DEPTH];
+
+    /** Next child to visit for each stacked element (used by {@link #walk}). */
+    private int[] cursors = new int[INITIAL_DEPTH];
+
+    /** Depth of the current element; the root is at depth 0. */
+    private int depth;
+
+    /** Path of the current element once built, or null until {@link #path()} is first called. */
+    private String currentPath;
+
+    /**
+     * Creates a context positioned on the root of the tree being audited.
+     *
+     * @param root     the root element
+     * @param rootPath the path reported for the root element
+     */
+    AuditContext(Element root, String rootPath) {
+        this.rootPath = rootPath;
+        this.elements[0] = root;
+    }
+
+    // ── Position ─────────────────────────────────────────────────
+
+    /**
+     * Returns the path of the element currently being visited.
+     *
+     * <p>The string is built on the first call for each element and reused
+     * for subsequent calls on the same element.</p>
+     *
+     * @return the element's path, e.g. {@code "main > section:0 > img:1"}
+     */
+    public String path() {
+        if (currentPath == null) {
+            currentPath = buildPath(rootPath, elements, indices, depth);
+        }
+        return currentPath;
+    }
+
+    /**
+     * Captures the position of the current element for reporting later.
+     *
+     * <p>Only the index stack is copied; the path string is built the first
+     * time the returned supplier is read, and then remembered.</p>
+     *
+     * @return a supplier of the current element's path
+     */
+    public Supplier<String> location() {
+        if (currentPath != null) {
+            String path = currentPath;
+            return () -> path;
+        }
+        Element[] trail = Arrays.copyOf(elements, depth + 1);
+        int[] trailIndices = Arrays.copyOf(indices, depth + 1);
+        int trailDepth = depth;
+        return new Supplier<>() {
+            private String path;
+
+            @Override
+            public String get() {
+                if (path == null) {
+                    path = buildPath(rootPath, trail, trailIndices, trailDepth);
+                }
+                return path;
+            }
+        };
+    }
+
+    /**
+     * Returns the depth of the element currently being visited.
+     *
+     * @return 0 for the root, 1 for its children, and so on
+     */
+    public int depth() {
+        return depth;
+    }
+
+    // ── Reporting ────────────────────────────────────────────────
+
+    /**
+     * Records a violation found by a rule.
+     *
+     * @param violation the violation to report
+     */
+    public void report(A11yViolation violation) {
+        violations.add(violation);
+    }
+
+    /**
+     * Records every violation in the given list.
+     *
+     * @param found the violations to report, possibly empty
+     */
+    public void reportAll(List<A11yViolation> found) {
+        violations.addAll(found);
+    }
+
+    // ── Rule state ───────────────────────────────────────────────
+
+    /**
+     * Returns the state a rule keeps for this audit, creating it on first use.
+     *
+     * <p>Rules conventionally key their state by their own instance, so two
+     * instances of the same rule class in one engine do not share state.</p>
+     *
+     * @param key     the state key, usually the rule itself
+     * @param initial creates the state the first time it is requested
+     * @param <T>     the state type
+     * @return the rule's state for this audit
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T state(Object key, Supplier<T> initial) {
+        Object value = state.get(key);
+        if (value == null) {
+            value = initial.get();
+            state.put(key, value);
+        }
+        return (T) value;
+    }
+
+    // ── Traversal (engine side) ──────────────────────────────────
+
+    /**
+     * Visits the tree depth-first in document order, calling {@code enter}
+     * before an element's children and {@code exit} after them on each rule
+     * returned by {@code rulesFor} for the element's tag.
+     *
+     * <p>The walk is iterative, so deeply nested trees cannot overflow the
+     * call stack.</p>
+     *
+     * @param rulesFor the rules to run for a given tag
+     */
+    void walk(Function<String, A11yRule[]> rulesFor) {
+        enter(rulesFor);
+        while (depth >= 0) {
+            List<Element> children = elements[depth].getChildren();
+            int next = cursors[depth];
+            if (next < children.size()) {
+                cursors[depth] = next + 1;
+                push(children.get(next), next);
+                enter(rulesFor);
+            } else {
+                for (A11yRule rule : rulesFor.apply(elements[depth].getTag())) {
+                    rule.exit(elements[depth], this);
+                }
+                pop();
+            }
+        }
+        depth = 0;
+    }
+
+    /**
+     * Returns the violations reported during this audit, in report order.
+     *
+     * @return the live list of reported violations
+     */
+    List<A11yViolation> violations() {
+        return violations;
+    }
+
+    /**
+     * Runs a single rule against a single element, without descending into
+     * its children.
+     *
+     * <p>Backs {@link A11yRule#check(Element, String)} for per-element rules,
+     * so a rule's standalone check and its behaviour inside the engine stay
+     * the same. Elements whose tag is not in {@link A11yRule#tags()} produce
+     * no violations.</p>
+     *
+     * @param rule    the rule to run
+     * @param element the element to check
+     * @param path    the path reported for the element
+     * @return the violations found
+     */
+    static List<A11yViolation> checkElement(A11yRule rule, Element element, String path) {
+        Set<String> tags = rule.tags();
+        if (tags != null && !tags.contains(element.getTag())) {
+            return List.of();
+        }
+        AuditContext context = new AuditContext(element, path);
+        context.currentPath = path;
+        rule.enter(element, context);
+        rule.exit(element, context);
+        rule.finish(context);
+        return context.violations;
+    }
+
+    /**
+     * Runs a single rule over an element and its whole subtree.
+     *
+     * <p>Backs {@link A11yRule#check(Element, String)} for tree-walking rules.
+     * As before, only a root invocation (a path without {@code " > "}) walks
+     * the tree; a call for a nested element returns no violations, because
+     * the root invocation has already covered it.</p>
+     *
+     * @param rule    the rule to run
+     * @param element the root of the subtree
+     * @param path    the path reported for the root
+     * @return the violations found
+     */
+    static List<A11yViolation> checkTree(A11yRule rule, Element element, String path) {
+        if (path.contains(SEPARATOR)) {
+            return List.of();
+        }
+        return new JuxAccessibilityEngine(List.of(rule)).collect(element, path);
+    }
+
+    // ── Internal helpers ─────────────────────────────────────────
+
+    /**
+     * Calls {@code enter} on the rules for the current element.
+     *
+     * @param rulesFor the rules to run for a given tag
+     */
+    private void enter(Function<String, A11yRule[]> rulesFor) {
+        Element element = elements[depth];
+        for (A11yRule rule : rulesFor.apply(element.getTag())) {
+            rule.enter(element, this);
+        }
+    }
+
+    /**
+     * Descends into a child of the current element.
+     *
+     * @param child the child element
+     * @param index the child's index among its siblings
+     */
+    private void push(Element child, int index) {
+        depth++;
+        if (depth == elements.length) {
+            int capacity = elements.length * 2;
+            elements = Arrays.copyOf(elements, capacity);
+            indices = Arrays.copyOf(indices, capacity);
+            cursors = Arrays.copyOf(cursors, capacity);
+        }
+        elements[depth] = child;
+        indices[depth] = index;
+        cursors[depth] = 0;
+        currentPath = null;
+    }
+
+    /**
+     * Returns to the parent of the current element.
+     */
+    private void pop() {
+        elements[depth] = null;
+        depth--;
+        currentPath = null;
+    }
+
+    /**
+     * Builds the path string for a stacked element.
+     *
+     * @param rootPath the path of the root element
+     * @param trail    the ancestor stack
+     * @param indices  the sibling index of each stacked element
+     * @param depth    the depth of the element
+     * @return the path, e.g. {@code "main > section:0 > img:1"}
+     */
+    private static String buildPath(String rootPath, Element[] trail, int[] indices, int depth) {
+        if (depth == 0) {
+            return rootPath;
+        }
+        StringBuilder sb = new StringBuilder(rootPath.length() + depth * 12).append(rootPath);
+        for (int i = 1; i <= depth; i++) {
+            sb.append(SEPARATOR).append(trail[i].getTag()).append(':').append(indices[i]);
+        }
+        return sb.toString();
+    }
+}
@@ -15,9 +15,13 @@ package xss.it.jux.a11y;
 
 import xss.it.jux.core.Element;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * WCAG 2.2 Level AA compliance audit engine.
@@ -63,9 +67,23 @@ public class JuxAccessibilityEngine {
      * The list of WCAG audit rules that this engine checks during {@link #audit(Element)}.
      * Each rule implements {@link A11yRule} and targets a specific WCAG 2.2 success criterion.
      * Initialized either from the built-in rule set ({@link A11yRules#allRules()}) or from
-     * a custom list provided to the constructor.
+     * a custom list provided to the constructor, and copied so later changes to that list
+     * do not desynchronize it from the dispatch table.
      */
-    private final List<A11yRule> rules;
+    private final A11yRule[] rules;
+
+    /**
+     * Tag-to-rules dispatch table: for every tag named by some rule's {@link A11yRule#tags()},
+     * the rules to run on elements with that tag, in configuration order. Built once at
+     * construction time.
+     */
+    private final Map<String, A11yRule[]> rulesByTag;
+
+    /**
+     * The rules that apply to every element ({@link A11yRule#tags()} is null); used for
+     * tags that no rule names specifically.
+     */
+    private final A11yRule[] rulesForAnyTag;
 
     /**
      * The auto-fixer instance used by {@link #autoFix(Element)} to apply safe,
@@ -78,62 +96,102 @@ public class JuxAccessibilityEngine {
      * Creates an engine with all built-in WCAG 2.2 AA rules.
      */
     public JuxAccessibilityEngine() {
-        this.rules = A11yRules.allRules();
-        this.autoFixer = new A11yAutoFixer();
+        this(A11yRules.allRules());
     }
 
     /**
      * Creates an engine with a custom set of rules.
      *
      * <p>Use this to add project-specific rules or to run a subset
-     * of the built-in rules.</p>
+     * of the built-in rules. The list is read once; rules added to it
+     * afterwards are not picked up.</p>
      *
      * @param rules the list of rules to run during audit
      */
     public JuxAccessibilityEngine(List<A11yRule> rules) {
-        this.rules = rules;
+        this.rules = rules.toArray(new A11yRule[0]);
+        this.rulesForAnyTag = Arrays.stream(this.rules)
+            .filter(rule -> rule.tags() == null)
+            .toArray(A11yRule[]::new);
+        this.rulesByTag = buildDispatchTable(this.rules);
         this.autoFixer = new A11yAutoFixer();
     }
 
     /**
      * Audit an element tree for WCAG 2.2 AA violations.
      *
-     * <p>Walks the entire tree recursively, checking each element against
-     * all configured WCAG rules. Returns a list of violations sorted by
-     * severity (ERROR first, then WARNING, then INFO).</p>
+     * <p>Walks the tree once, depth-first, running on each element only the
+     * rules that apply to its tag (see {@link A11yRule#tags()}). Element paths
+     * are built only for elements that are reported. Returns a list of
+     * violations sorted by severity (ERROR first, then WARNING, then INFO);
+     * within a severity, violations keep the order in which they were found.</p>
      *
      * @param root the root element of the page to audit
      * @return list of violations found, empty if fully compliant
      */
     public List<A11yViolation> audit(Element root) {
-        List<A11yViolation> violations = new ArrayList<>();
-        auditElement(root, root.getTag(), violations);
+        List<A11yViolation> violations = collect(root, root.getTag());
         violations.sort(Comparator.comparingInt(v -> v.severity().ordinal()));
         return violations;
     }
 
     /**
-     * Recursively audit a single element and all its children.
+     * Run the single-pass audit and return the violations in report order.
      *
-     * <p>Each element is checked against every rule. The path string
-     * accumulates the tree location for diagnostic reporting
-     * (e.g. "main > section:0 > img:1").</p>
+     * <p>Each element is entered and exited by the rules for its tag. The
+     * path string accumulates the tree location for diagnostic reporting
+     * (e.g. "main > section:0 > img:1") and is built lazily by the
+     * {@link AuditContext}. After the walk, every rule gets to report
+     * violations that needed the whole tree.</p>
      *
-     * @param element    the element to check
-     * @param path       the current path in the tree
-     * @param violations the accumulator for found violations
+     * @param root     the root of the tree
+     * @param rootPath the path reported for the root
+     * @return the violations, unsorted
      */
-    private void auditElement(Element element, String path, List<A11yViolation> violations) {
+    List<A11yViolation> collect(Element root, String rootPath) {
+        AuditContext context = new AuditContext(root, rootPath);
+        context.walk(this::rulesFor);
         for (A11yRule rule : rules) {
-            violations.addAll(rule.check(element, path));
+            rule.finish(context);
         }
+        return context.violations();
+    }
 
-        List<Element> children = element.getChildren();
-        for (int i = 0; i < children.size(); i++) {
-            Element child = children.get(i);
-            String childPath = path + " > " + child.getTag() + ":" + i;
-            auditElement(child, childPath, violations);
+    /**
+     * Look up the rules to run on elements with the given tag.
+     *
+     * @param tag the element's tag
+     * @return the matching rules, in configuration order
+     */
+    private A11yRule[] rulesFor(String tag) {
+        A11yRule[] matched = rulesByTag.get(tag);
+        return matched != null ? matched : rulesForAnyTag;
+    }
+
+    /**
+     * Build the tag-to-rules dispatch table.
+     *
+     * <p>Each tag named by a rule maps to that rule plus every rule that
+     * applies to all tags, preserving the configured order so violations on
+     * one element are reported in rule order.</p>
+     *
+     * @param rules the configured rules
+     * @return the dispatch table
+     */
+    private static Map<String, A11yRule[]> buildDispatchTable(A11yRule[] rules) {
+        Set<String> tags = new HashSet<>();
+        for (A11yRule rule : rules) {
+            if (rule.tags() != null) {
+                tags.addAll(rule.tags());
+            }
+        }
+        Map<String, A11yRule[]> table = new HashMap<>();
+        for (String tag : tags) {
+            table.put(tag, Arrays.stream(rules)
+                .filter(rule -> rule.tags() == null || rule.tags().contains(tag))
+                .toArray(A11yRule[]::new));
         }
+        return table;
     }
 
     /**
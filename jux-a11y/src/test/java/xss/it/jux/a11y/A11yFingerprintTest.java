@@ -0,0 +1,98 @@
+package xss.it.jux.a11y;
+
+import org.junit.jupiter.api.Test;
+import xss.it.jux.core.Element;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static xss.it.jux.core.Elements.*;
+
+/**
+ * Tests for {@link A11yFingerprint} -- the structural hash used to cache audit results.
+ *
+ * <p>Verifies that the fingerprint ignores data the rules never read (text,
+ * classes, links) and changes with everything they do read (shape, tags,
+ * ids, labels, aria attributes, handlers).</p>
+ */
+class A11yFingerprintTest {
+
+    private static Element page(String id, String title, String href) {
+        return Element.of("html").lang("en").children(
+            main_().children(
+                h1().text(title),
+                a().attr("href", href).cls("link").text("Read more"),
+                div().id(id)
+            )
+        );
+    }
+
+    // ── Stable across data changes ───────────────────────────────
+
+    @Test
+    void sameShapeDifferentData_sameFingerprint() {
+        long first = A11yFingerprint.of(page("content", "Hello", "/a"));
+        long second = A11yFingerprint.of(page("content", "Goodbye", "/b"));
+
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void attributeOrder_doesNotMatter() {
+        Element a = input().attr("type", "text").attr("aria-label", "Name");
+        Element b = input().attr("aria-label", "Name").attr("type", "text");
+
+        assertThat(A11yFingerprint.of(a)).isEqualTo(A11yFingerprint.of(b));
+    }
+
+    // ── Sensitive to rule-relevant changes ───────────────────────
+
+    @Test
+    void differentId_differentFingerprint() {
+        long first = A11yFingerprint.of(page("content", "Hello", "/a"));
+        long second = A11yFingerprint.of(page("other", "Hello", "/a"));
+
+        assertThat(second).isNotEqualTo(first);
+    }
+
+    @Test
+    void differentNesting_differentFingerprint() {
+        Element siblings = div().children(div(), div());
+        Element nested = div().children(div().children(div()));
+
+        assertThat(A11yFingerprint.of(siblings)).isNotEqualTo(A11yFingerprint.of(nested));
+    }
+
+    @Test
+    void headingLevel_ariaAndBlankText_changeFingerprint() {
+        long base = A11yFingerprint.of(div().children(h2().text("Title")));
+
+        assertThat(A11yFingerprint.of(div().children(h3().text("Title")))).isNotEqualTo(base);
+        assertThat(A11yFingerprint.of(div().children(h2().text("Title").attr("aria-hidden", "true"))))
+            .isNotEqualTo(base);
+        assertThat(A11yFingerprint.of(div().children(h2().text(" ")))).isNotEqualTo(base);
+    }
+
+    @Test
+    void eventHandler_changesFingerprint() {
+        long plain = A11yFingerprint.of(div());
+        long clickable = A11yFingerprint.of(div().on("click", e -> { }));
+
+        assertThat(clickable).isNotEqualTo(plain);
+    }
+
+    // ── Incremental accumulation ─────────────────────────────────
+
+    @Test
+    void enterExitInDocumentOrder_matchesOf() {
+        Element child = span().id("x");
+        Element root = div().children(child, p());
+        A11yFingerprint fingerprint = new A11yFingerprint();
+
+        fingerprint.enter(root);
+        fingerprint.enter(child);
+        fingerprint.exit();
+        fingerprint.subtree(root.getChildren().get(1));
+        fingerprint.exit();
+
+        assertThat(fingerprint.value()).isEqualTo(A11yFingerprint.of(root));
+    }
+}
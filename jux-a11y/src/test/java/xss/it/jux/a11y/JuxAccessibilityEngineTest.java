@@ -3,7 +3,9 @@ package xss.it.jux.a11y;
 import org.junit.jupiter.api.Test;
 import xss.it.jux.core.Element;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static xss.it.jux.core.Elements.*;
@@ -159,6 +161,124 @@ class JuxAccessibilityEngineTest {
         assertThat(violations).isEmpty();
     }
 
+    // ── Single pass: tag dispatch and enter/exit order ───────────
+
+    @Test
+    void audit_ruleWithTags_enteredAndExitedOnlyForThoseTags() {
+        List<String> calls = new ArrayList<>();
+        A11yRule rule = new A11yRule() {
+            @Override
+            public List<A11yViolation> check(Element element, String path) {
+                throw new AssertionError("check() must not be called by the engine");
+            }
+
+            @Override
+            public Set<String> tags() {
+                return Set.of("section");
+            }
+
+            @Override
+            public void enter(Element element, AuditContext context) {
+                calls.add("enter " + context.path());
+            }
+
+            @Override
+            public void exit(Element element, AuditContext context) {
+                calls.add("exit " + context.path());
+            }
+
+            @Override
+            public void finish(AuditContext context) {
+                calls.add("finish");
+            }
+        };
+        var engine = new JuxAccessibilityEngine(List.of(rule));
+
+        Element tree = main_().children(
+            section().children(
+                div(),
+                section()
+            ),
+            div()
+        );
+
+        engine.audit(tree);
+
+        assertThat(calls).containsExactly(
+            "enter main > section:0",
+            "enter main > section:0 > section:1",
+            "exit main > section:0 > section:1",
+            "exit main > section:0",
+            "finish");
+    }
+
+    // ── Rules implementing only check() ──────────────────────────
+
+    @Test
+    void audit_checkOnlyRule_calledForEveryElementWithItsPath() {
+        List<String> paths = new ArrayList<>();
+        List<A11yRule> rules = List.of((element, path) -> {
+            paths.add(path);
+            return List.of();
+        });
+        var engine = new JuxAccessibilityEngine(rules);
+
+        Element tree = main_().children(
+            div().children(
+                span()
+            ),
+            p()
+        );
+
+        engine.audit(tree);
+
+        assertThat(paths).containsExactly("main", "main > div:0", "main > div:0 > span:0", "main > p:1");
+    }
+
+    // ── Whole-document rules in the single pass ──────────────────
+
+    @Test
+    void audit_wholeDocumentRules_reportWithElementPaths() {
+        var engine = new JuxAccessibilityEngine();
+
+        Element tree = Element.of("html").lang("en").children(
+            main_().children(
+                h1().text("Title"),
+                h3().text("Skipped"),
+                div().id("dup"),
+                div().id("dup")
+            )
+        );
+
+        List<A11yViolation> violations = engine.audit(tree);
+
+        assertThat(violations)
+            .anyMatch(v -> "heading-hierarchy".equals(v.rule())
+                && "html > main:0 > h3:1".equals(v.elementPath()))
+            .anyMatch(v -> "duplicate-id".equals(v.rule())
+                && "html > main:0 > div:3".equals(v.elementPath())
+                && v.message().endsWith("html > main:0 > div:2"));
+    }
+
+    @Test
+    void audit_deeplyNestedTree_doesNotOverflowTheStack() {
+        var engine = new JuxAccessibilityEngine();
+
+        Element tree = Element.of("html").lang("en");
+        Element current = tree;
+        for (int i = 0; i < 50_000; i++) {
+            Element child = div();
+            current.children(child);
+            current = child;
+        }
+        current.children(Element.of("img").attr("src", "/deep.jpg"));
+
+        List<A11yViolation> violations = engine.audit(tree);
+
+        assertThat(violations).singleElement()
+            .satisfies(v -> assertThat(v.rule()).isEqualTo("img-alt"));
+    }
+
     // ── autoFix() on decorative image ────────────────────────────
 
     @Test
@@ -61,4 +61,20 @@ class DuplicateIdRuleTest {
 
         assertThat(violations).isEmpty();
     }
+
+    @Test
+    void duplicateId_reportsBothOccurrencePaths() {
+        Element tree = div().children(
+            section().children(
+                div().id("dup")
+            ),
+            div().id("dup")
+        );
+
+        List<A11yViolation> violations = rule.check(tree, "div");
+
+        assertThat(violations).hasSize(1);
+        assertThat(violations.get(0).elementPath()).isEqualTo("div > div:1");
+        assertThat(violations.get(0).message()).endsWith("First occurrence at: div > section:0 > div:0");
+    }
 }
@@ -119,4 +119,28 @@ class InputLabelRuleTest {
 
         assertThat(violations).isEmpty();
     }
+
+    @Test
+    void labelForAppearingAfterInput_noViolations() {
+        // The label is only seen after the input, so the decision waits for the whole tree.
+        Element tree = form().children(
+            input().id("phone").attr("type", "tel"),
+            label().attr("for", "phone").text("Phone")
+        );
+
+        List<A11yViolation> violations = rule.check(tree, "form");
+
+        assertThat(violations).isEmpty();
+    }
+
+    @Test
+    void nestedElementPath_noTreeScan_noViolations() {
+        Element tree = form().children(
+            input().attr("type", "text")
+        );
+
+        List<A11yViolation> violations = rule.check(tree, "main > form:0");
+
+        assertThat(violations).isEmpty();
+    }
 }
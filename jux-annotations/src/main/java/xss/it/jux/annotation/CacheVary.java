@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+package xss.it.jux.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Declares the request dimensions a cached route's output varies on, so the
+ * SSR cache stores one entry per variant instead of serving one variant to everyone.
+ *
+ * <p>By default the SSR cache key of a {@code @Route(cacheTtl > 0)} page is made of
+ * the request path, the normalized query string, the resolved locale, and the
+ * resolved theme mode (every page carries a {@code data-theme} attribute on
+ * {@code <html>}). Pages whose output also depends on other request data --
+ * a device-class header, a feature-flag cookie, or the user's role -- declare
+ * those dimensions here. Their values become part of the cache key.</p>
+ *
+ * <p>Only declare dimensions with a small number of distinct values. Varying on
+ * high-cardinality data (a session cookie, {@code User-Agent}) effectively
+ * disables caching and fills the cache with single-use entries.</p>
+ *
+ * <p><b>Example -- vary by device class header and admin role:</b></p>
+ * <pre>{@code
+ * @Route(value = "/pricing", cacheTtl = 600)
+ * @CacheVary(headers = "X-Device-Class", roles = "ROLE_ADMIN")
+ * public class PricingPage extends Page { ... }
+ * }</pre>
+ *
+ * <p><b>Example -- vary by an A/B test cookie:</b></p>
+ * <pre>{@code
+ * @Route(value = "/", cacheTtl = 300)
+ * @CacheVary(cookies = "ab-bucket")
+ * public class HomePage extends Page { ... }
+ * }</pre>
+ *
+ * @see Route#cacheTtl()
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CacheVary {
+
+    /**
+     * HTTP request header names whose values are part of the cache key.
+     *
+     * <p>Header names are matched case-insensitively. An absent header is a
+     * distinct variant from any present value.</p>
+     *
+     * @return the header names; empty by default
+     */
+    String[] headers() default {};
+
+    /**
+     * Cookie names whose values are part of the cache key.
+     *
+     * <p>Cookie names are matched case-sensitively. An absent cookie is a
+     * distinct variant from any present value.</p>
+     *
+     * @return the cookie names; empty by default
+     */
+    String[] cookies() default {};
+
+    /**
+     * Security roles whose membership is part of the cache key.
+     *
+     * <p>For each listed role the key records whether the current user has it,
+     * so at most {@code 2^n} variants exist per URL. Membership is checked via
+     * the Servlet API's {@code isUserInRole()}, which integrates with Spring Security.</p>
+     *
+     * @return the role names; empty by default
+     */
+    String[] roles() default {};
+}
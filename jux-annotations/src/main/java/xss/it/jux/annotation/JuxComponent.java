@@ -117,4 +117,26 @@ public @interface JuxComponent {
      * @return {@code true} for client-side hydration; defaults to {@code false}
      */
     boolean clientSide() default false;
+
+    /**
+     * Whether the client may resume this component lazily instead of rendering
+     * it on page load. Only meaningful with {@code clientSide = true}.
+     *
+     * <p>When {@code true}, the component's server-rendered root is marked with
+     * {@code data-jux-resumable}. If its handler manifest is complete, the client
+     * does not call {@code render()} during hydration: it attaches stand-in
+     * handlers from the manifest, and the first event or state change renders
+     * the component and wires its real handlers. {@code onMount()} still runs on
+     * page load, <b>before</b> that first render, so a resumable component must
+     * not rely on fields assigned in {@code render()} there.</p>
+     *
+     * <p>When {@code false} (the default), the component is rendered and
+     * hydrated on page load, and SSR writes no handler manifest for it, unless
+     * resumable hydration is enabled for every component
+     * ({@code jux.client.resumable-hydration} on the server and
+     * {@code ClientMain.setResumableHydration(true)} on the client).</p>
+     *
+     * @return {@code true} to allow lazy resumption; defaults to {@code false}
+     */
+    boolean resumable() default false;
 }
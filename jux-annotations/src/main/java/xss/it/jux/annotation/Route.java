@@ -170,8 +170,9 @@ public @interface Route {
      *
      * <p>When greater than zero, the rendered HTML output is cached in an in-memory
      * Caffeine cache for the specified duration. The cache key includes the full path,
-     * query parameters, and resolved locale, ensuring different variants are cached
-     * independently.</p>
+     * query parameters, resolved locale, and theme, ensuring different variants are cached
+     * independently. Additional dimensions (headers, cookies, roles) can be declared
+     * with {@link CacheVary}.</p>
      *
      * <p>Use for pages with content that rarely changes (e.g., about pages, pricing
      * pages). Set to {@code 0} (the default) to disable caching for dynamic pages.</p>
@@ -33,6 +33,13 @@ import java.lang.annotation.*;
  * ({@code @JuxComponent(clientSide = true)}). On the server, state fields
  * are treated as regular instance fields initialized to their default values.</p>
  *
+ * <p>The values a component was server-rendered with can be handed to the
+ * client: for each client-side component, the JUX annotation processor
+ * generates a {@code <ClassName>State} class that saves and restores its
+ * non-private state fields of type {@code String}, a primitive or its box,
+ * an enum, or {@code List<String>}, for the component's
+ * {@code saveState} and {@code restoreState} overrides to call.</p>
+ *
  * <p><b>Example -- reactive counter:</b></p>
  * <pre>{@code
  * @JuxComponent(clientSide = true)
@@ -61,7 +61,8 @@ class AnnotationRetentionTest {
                     MessageBundle.class,
                     MessageLocale.class,
                     Message.class,
-                    Localized.class
+                    Localized.class,
+                    CacheVary.class
             );
         }
 
@@ -24,7 +24,9 @@ import org.teavm.jso.dom.html.HTMLElement;
 import org.teavm.jso.dom.xml.NodeList;
 
 import xss.it.jux.core.Component;
+import xss.it.jux.core.ComponentState;
 import xss.it.jux.core.Element;
+import xss.it.jux.core.RenderMemo;
 
 /**
  * TeaVM entry point for the JUX client-side runtime.
@@ -44,7 +46,11 @@ import xss.it.jux.core.Element;
  *   <li><b>Hydration:</b> Instantiates the component, invokes
  *       {@link Component#render()} to produce the virtual {@link Element}
  *       tree, then hydrates the existing DOM node (attaching event handlers
- *       and wiring up reactive state) via {@link JuxDomBridge#hydrate}.</li>
+ *       and wiring up reactive state) via {@link JuxDomBridge#hydrate}.
+ *       Components that opt in with {@code @JuxComponent(resumable = true)}
+ *       and have a complete SSR handler manifest are instead
+ *       <em>resumed</em>: their first render is deferred to their first
+ *       event or state change (see {@link #setResumableHydration}).</li>
  *   <li><b>Lifecycle:</b> After hydration, invokes any {@link OnMount}
  *       methods on the component. Registers {@link OnUnmount} methods
  *       for cleanup when the component is removed.</li>
@@ -58,6 +64,17 @@ import xss.it.jux.core.Element;
  *       instance within the page (e.g. {@code "counter-1"}).</li>
  *   <li>{@code data-jux-class} &mdash; the fully-qualified Java class name
  *       of the component (e.g. {@code "com.example.widgets.Counter"}).</li>
+ *   <li>{@code data-jux-events} and {@code data-jux-hid} &mdash; on every
+ *       element with handlers: its event types and its number in the
+ *       component's handler manifest.</li>
+ *   <li>{@code data-jux-bind} &mdash; on elements with live bindings.</li>
+ *   <li>{@code data-jux-state} (optional) &mdash; the JSON
+ *       {@link ComponentState} recorded by {@link Component#saveState} on the
+ *       server, passed to {@link Component#restoreState} before the first
+ *       client render.</li>
+ *   <li>{@code data-jux-resumable} (optional) &mdash; present when the
+ *       component is declared with {@code @JuxComponent(resumable = true)}
+ *       and may be resumed lazily.</li>
  * </ul>
  *
  * <h2>TeaVM Considerations</h2>
@@ -98,6 +115,14 @@ public final class ClientMain {
      */
     private static final Map<String, Object> ACTIVE_COMPONENTS = new HashMap<>();
 
+    /**
+     * Root DOM element of each active component, keyed by its {@code data-jux-id}.
+     *
+     * <p>Kept so that teardown can release the component's DOM subscriptions
+     * even after its element has been detached from the document.</p>
+     */
+    private static final Map<String, HTMLElement> ACTIVE_ROOTS = new HashMap<>();
+
     /** The shared DOM bridge used for all element creation and patching. */
     private static final JuxDomBridge DOM_BRIDGE = new JuxDomBridge();
 
@@ -107,6 +132,13 @@ public final class ClientMain {
     /** The shared event binder for wiring DOM events. */
     private static final EventBinder EVENT_BINDER = new EventBinder();
 
+    /**
+     * Whether every component, not only those declared with
+     * {@code @JuxComponent(resumable = true)}, may be resumed lazily instead
+     * of rendered on page load. See {@link #setResumableHydration(boolean)}.
+     */
+    private static boolean resumableHydration = false;
+
     /**
      * Private constructor &mdash; this class is not meant to be instantiated.
      * It serves purely as the TeaVM entry point with static methods.
@@ -203,6 +235,34 @@ public final class ClientMain {
         COMPONENT_REGISTRY.put(className, factory);
     }
 
+    /**
+     * Enable or disable resumable hydration for every component. Disabled by
+     * default; call before {@link #main()} to change it.
+     *
+     * <p>A resumable component whose server-rendered DOM carries a complete
+     * handler manifest (see {@link JuxDomBridge#canResume}) is not rendered
+     * on page load. Its handlers are attached from the manifest and its
+     * first {@link Component#render()} runs on its first event or state
+     * change, so a content-heavy page becomes interactive without rendering
+     * and walking every component tree. {@link Component#onMount()} still
+     * runs on page load, before that first render.</p>
+     *
+     * <p>By default only components declared with
+     * {@code @JuxComponent(resumable = true)} (marked
+     * {@code data-jux-resumable} during SSR) are resumed; all others are
+     * rendered and hydrated on page load. Enable this only when no component
+     * relies on {@code render()} having run before {@code onMount()}, e.g.
+     * to assign fields used there. The server only writes the manifest of
+     * components that do not opt in when {@code jux.client.resumable-hydration}
+     * is set; without it they are still hydrated eagerly.</p>
+     *
+     * @param enabled true to resume every component lazily, false to resume
+     *                only components that opt in
+     */
+    public static void setResumableHydration(boolean enabled) {
+        resumableHydration = enabled;
+    }
+
     /**
      * Discover all server-rendered client-side components in the DOM and
      * hydrate each one.
@@ -215,13 +275,18 @@ public final class ClientMain {
      *   <li>Skips the element if it has already been hydrated (present in
      *       {@link #ACTIVE_COMPONENTS}).</li>
      *   <li>Instantiates the component via its no-arg constructor.</li>
+     *   <li>Restores the server's state from {@code data-jux-state}, if present,
+     *       via {@link Component#restoreState}.</li>
      *   <li>Calls {@link Component#render()} to obtain the virtual tree.</li>
      *   <li>Uses {@link JuxDomBridge#hydrate(Element, HTMLElement)} to wire
      *       event handlers onto the existing server-rendered DOM.</li>
-     *   <li>Uses {@link EventBinder#bindAnnotatedHandlers(Object, HTMLElement)}
-     *       to bind {@code @On}-annotated methods.</li>
      *   <li>Registers the component with {@link StateManager} for reactive
      *       {@code @State} field tracking.</li>
+     *   <li>(Resumable components replace the three steps above with
+     *       {@link JuxDomBridge#deferHandlers} and
+     *       {@link StateManager#registerDeferred}.)</li>
+     *   <li>Uses {@link EventBinder#bindAnnotatedHandlers(Object, HTMLElement)}
+     *       to bind {@code @On}-annotated methods.</li>
      *   <li>Invokes any {@link OnMount}-annotated methods on the component.</li>
      *   <li>Stores the component in {@link #ACTIVE_COMPONENTS} for lifecycle
      *       management.</li>
@@ -305,25 +370,56 @@ public final class ClientMain {
             Component component = factory.get();
 
             /*
-             * Produce the virtual Element tree by calling render().
-             * This tree describes the expected DOM structure and carries
-             * the event handlers that need to be bound.
+             * Restore the state the server rendered with, so that render()
+             * below reproduces the server's DOM instead of the defaults.
              */
-            Element virtualTree = component.render();
+            restoreState(juxId, component, domElement);
 
-            /*
-             * Hydrate: walk the virtual tree alongside the real DOM tree,
-             * attaching event handlers from the virtual tree to matching
-             * real DOM elements. The DOM structure is NOT modified here;
-             * it was already rendered correctly by the server.
-             *
-             * Set the active component on the bridge so that event handlers
-             * attached during hydration will automatically notify the
-             * StateManager after execution, enabling the reactive loop.
-             */
-            DOM_BRIDGE.setActiveComponent(component);
-            DOM_BRIDGE.hydrate(virtualTree, domElement);
-            DOM_BRIDGE.setActiveComponent(null);
+            if (isResumable(domElement) && DOM_BRIDGE.canResume(domElement)) {
+                /*
+                 * Resumable: do not render now. The marked elements get
+                 * stand-in handlers; the first event renders the component
+                 * and attaches its real handlers from the SSR manifest.
+                 * A state change before that diffs against a render of
+                 * the server's state (see StateManager#registerDeferred).
+                 */
+                DOM_BRIDGE.setActiveComponent(component);
+                DOM_BRIDGE.deferHandlers(domElement, () -> resumeComponent(juxId));
+                DOM_BRIDGE.setActiveComponent(null);
+
+                STATE_MANAGER.registerDeferred(component, domElement,
+                        () -> renderServerTree(juxId, factory, domElement));
+            } else {
+                /*
+                 * Produce the virtual Element tree by calling render().
+                 * This tree describes the expected DOM structure and carries
+                 * the event handlers that need to be bound.
+                 */
+                RenderMemo memo = new RenderMemo();
+                Element virtualTree = memo.render(component);
+
+                /*
+                 * Hydrate: walk the virtual tree alongside the real DOM tree,
+                 * attaching event handlers from the virtual tree to matching
+                 * real DOM elements. The DOM structure is NOT modified here;
+                 * it was already rendered correctly by the server.
+                 *
+                 * Set the active component on the bridge so that event handlers
+                 * attached during hydration will automatically notify the
+                 * StateManager after execution, enabling the reactive loop.
+                 */
+                DOM_BRIDGE.setActiveComponent(component);
+                DOM_BRIDGE.hydrate(virtualTree, domElement);
+                DOM_BRIDGE.setActiveComponent(null);
+
+                /*
+                 * Register the component with the StateManager so that changes
+                 * to @State fields trigger automatic re-rendering and DOM patching.
+                 * The StateManager keeps the initial tree and diffs against it
+                 * on subsequent notifyStateChange() calls.
+                 */
+                STATE_MANAGER.registerComponent(component, domElement, virtualTree, memo);
+            }
 
             /*
              * Bind @On-annotated methods on the component class to their
@@ -332,14 +428,6 @@ public final class ClientMain {
              */
             EVENT_BINDER.bindAnnotatedHandlers(component, domElement);
 
-            /*
-             * Register the component with the StateManager so that changes
-             * to @State fields trigger automatic re-rendering and DOM patching.
-             * The StateManager snapshots the initial @State values and will
-             * diff against them on subsequent notifyStateChange() calls.
-             */
-            STATE_MANAGER.registerComponent(component, domElement, virtualTree);
-
             /*
              * Invoke the onMount() lifecycle method. This is where
              * developers initialize third-party libraries, set up WebSocket
@@ -356,6 +444,7 @@ public final class ClientMain {
              * removed from the DOM.
              */
             ACTIVE_COMPONENTS.put(juxId, component);
+            ACTIVE_ROOTS.put(juxId, domElement);
 
         } catch (Exception e) {
             /*
@@ -369,11 +458,113 @@ public final class ClientMain {
         }
     }
 
+    /**
+     * Whether a component may be resumed lazily: it opted in with
+     * {@code @JuxComponent(resumable = true)}, or resumable hydration is
+     * enabled for every component.
+     *
+     * @param domElement the component's server-rendered root element
+     * @return true if the component may skip rendering on page load
+     */
+    private static boolean isResumable(HTMLElement domElement) {
+        return resumableHydration || domElement.getAttribute("data-jux-resumable") != null;
+    }
+
+    /**
+     * Render a deferred component for the first time and attach its
+     * handlers, called by the stand-in handler of its first event.
+     *
+     * <p>The handlers are attached from the SSR handler manifest; if it does
+     * not match the rendered tree, the tree is hydrated the regular way. A
+     * component whose state has already changed is resumed by flushing its
+     * pending re-render instead, which diffs against the server's state.</p>
+     *
+     * @param juxId the component instance ID
+     */
+    private static void resumeComponent(String juxId) {
+        Object component = ACTIVE_COMPONENTS.get(juxId);
+        HTMLElement root = ACTIVE_ROOTS.get(juxId);
+        if (component == null || root == null || !STATE_MANAGER.isDeferred(component)) {
+            return;
+        }
+
+        /* A queued state change renders the component through its diff. */
+        STATE_MANAGER.flush();
+        if (!STATE_MANAGER.isDeferred(component)) {
+            return;
+        }
+
+        try {
+            RenderMemo memo = new RenderMemo();
+            Element virtualTree = memo.render((Component) component);
+
+            DOM_BRIDGE.setActiveComponent(component);
+            if (!DOM_BRIDGE.resume(virtualTree, root)) {
+                DOM_BRIDGE.hydrate(virtualTree, root);
+            }
+            DOM_BRIDGE.setActiveComponent(null);
+
+            STATE_MANAGER.resume(component, virtualTree, memo);
+
+        } catch (Exception e) {
+            DOM_BRIDGE.setActiveComponent(null);
+            logError("Failed to resume component '" + juxId + "': "
+                    + e.getClass().getName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Render the tree a deferred component's server-rendered DOM shows: a
+     * fresh instance, given the state the server rendered with.
+     *
+     * @param juxId      the component instance ID (for error messages)
+     * @param factory    the component's factory
+     * @param domElement the component's server-rendered root element
+     * @return the virtual tree of the server's render
+     */
+    private static Element renderServerTree(String juxId, Supplier<Component> factory,
+                                            HTMLElement domElement) {
+        Component snapshot = factory.get();
+        restoreState(juxId, snapshot, domElement);
+        return new RenderMemo().render(snapshot);
+    }
+
+    /**
+     * Hand the state serialized by the server in {@code data-jux-state} to a
+     * new component instance.
+     *
+     * <p>A malformed payload is logged and ignored: the component is then
+     * hydrated from its initial state, as it would be without transfer.</p>
+     *
+     * @param juxId      the component instance ID (for error messages)
+     * @param component  the freshly created component
+     * @param domElement the component's server-rendered root element
+     */
+    private static void restoreState(String juxId, Component component, HTMLElement domElement) {
+        String json = domElement.getAttribute("data-jux-state");
+        if (json == null || json.isEmpty()) {
+            return;
+        }
+
+        ComponentState state;
+        try {
+            state = ComponentState.fromJson(json);
+        } catch (IllegalArgumentException e) {
+            logWarning("Ignoring invalid data-jux-state of '" + juxId + "': " + e.getMessage());
+            return;
+        }
+        if (!state.isEmpty()) {
+            component.restoreState(state);
+        }
+    }
+
     /**
      * Tear down a previously hydrated component by its instance ID.
      *
      * <p>Invokes any {@link OnUnmount} lifecycle methods on the component,
-     * then removes it from the active components map. Called when a
+     * releases the event handlers and live DOM bindings it registered, and
+     * stops tracking its state, after removing it from the active
+     * components map. Called when a
      * component's DOM element is removed from the page (e.g. during
      * navigation or parent re-render).</p>
      *
@@ -386,6 +577,13 @@ public final class ClientMain {
             /* Invoke the onUnmount() lifecycle method for cleanup. */
             comp.onUnmount();
         }
+
+        HTMLElement root = ACTIVE_ROOTS.remove(juxId);
+        if (root != null) {
+            DOM_BRIDGE.release(root);
+        }
+        DOM_BRIDGE.releaseComponent(component);
+        STATE_MANAGER.unregisterComponent(component);
     }
 
     /**
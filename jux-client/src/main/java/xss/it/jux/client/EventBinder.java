@@ -14,14 +14,10 @@
 package xss.it.jux.client;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
 import org.teavm.jso.dom.events.Event;
-import org.teavm.jso.dom.events.EventListener;
 import org.teavm.jso.dom.html.HTMLElement;
-import org.teavm.jso.dom.xml.Node;
-import org.teavm.jso.dom.xml.NodeList;
 
 import xss.it.jux.core.DomEvent;
 import xss.it.jux.core.Element;
@@ -45,8 +41,9 @@ import xss.it.jux.core.EventHandler;
  * }</pre>
  * <p>The {@link #bindEventHandlers(Element, HTMLElement)} method walks the
  * virtual tree and the real DOM in parallel (similar to hydration) and
- * attaches each handler's {@link EventHandler} to the corresponding real
- * DOM node.</p>
+ * registers each handler for the corresponding real DOM node with the
+ * delegated event system of {@link JuxDomBridge}: no listener is added to
+ * the node itself.</p>
  *
  * <h2>Annotated Handlers ({@code @On})</h2>
  * <p>These are method-level event bindings declared with annotations:</p>
@@ -74,17 +71,11 @@ import xss.it.jux.core.EventHandler;
  *       {@code ".my-class"}, {@code "button[type=submit]"}.</li>
  * </ul>
  *
- * <h2>DomEvent Bridging</h2>
- * <p>Both binding methods convert native browser {@link Event} objects into
- * JUX {@link DomEvent} wrappers before dispatching to handlers. This provides
- * a consistent, platform-agnostic event API to component code.</p>
- *
- * <h2>State Change Notification</h2>
- * <p>After an event handler executes, this binder automatically calls
- * {@link StateManager#notifyStateChange(Object)} on the owning component.
- * This ensures that any {@code @State} field modifications made within the
- * handler trigger an automatic re-render without requiring the developer
- * to manually notify the state manager.</p>
+ * <h2>DomEvent Bridging and State Change Notification</h2>
+ * <p>Handlers registered here are dispatched by the bridge's delegated
+ * document listeners, which convert native browser {@link Event} objects
+ * into JUX {@link DomEvent} wrappers and, after the handler returns, call
+ * {@link StateManager#notifyStateChange(Object)} on the owning component.</p>
  *
  * @see On
  * @see EventHandler
@@ -126,9 +117,9 @@ public class EventBinder {
      *
      * <h3>Algorithm:</h3>
      * <ol>
-     *   <li>For the given virtual Element, iterate over its
-     *       {@link Element#getEventHandlers()} and attach each to the
-     *       real DOM element via {@code addEventListener}.</li>
+     *   <li>For the given virtual Element, register its
+     *       {@link Element#getEventHandlers()} for the real DOM element
+     *       with the delegated event system.</li>
      *   <li>Recursively process each virtual child, mapping it to the
      *       corresponding real DOM child (by index, skipping non-element
      *       nodes in the real DOM).</li>
@@ -147,39 +138,23 @@ public class EventBinder {
         Objects.requireNonNull(realElement, "Real element must not be null");
 
         /*
-         * Step 1: Bind event handlers on this node.
-         *
-         * Each handler in the virtual tree is wrapped in a TeaVM
-         * EventListener that bridges native Event -> DomEvent.
+         * Step 1: Register this node's handlers with the delegated event
+         * system (tags the node with data-jux-eid if needed).
          */
-        Map<String, EventHandler> handlers = virtualTree.getEventHandlers();
-
-        for (Map.Entry<String, EventHandler> entry : handlers.entrySet()) {
-            String eventName = entry.getKey();
-            EventHandler handler = entry.getValue();
-
-            realElement.addEventListener(eventName, createListener(handler, null));
-        }
+        ClientMain.getDomBridge().bindHandlers(realElement, virtualTree.getEventHandlers());
 
         /*
          * Step 2: Recursively bind handlers on children.
          *
-         * Walk virtual children and real DOM element children in parallel.
-         * Non-element real nodes (text nodes, comments) are skipped.
+         * Walk virtual children and real DOM element children in parallel,
+         * from a single snapshot of the real element children. Non-element
+         * real nodes (text nodes, comments) are skipped.
          */
         List<Element> virtualChildren = virtualTree.getChildren();
-        int realChildIndex = 0;
+        HTMLElement[] realChildren = JuxDomBridge.elementChildren(realElement);
 
         for (int i = 0; i < virtualChildren.size(); i++) {
-            Element virtualChild = virtualChildren.get(i);
-
-            /*
-             * Find the next element child in the real DOM, skipping
-             * text nodes and comment nodes.
-             */
-            HTMLElement realChild = findNthElementChild(realElement, i);
-
-            if (realChild == null) {
+            if (i >= realChildren.length) {
                 /*
                  * Mismatch: fewer real children than virtual children.
                  * This can happen if the DOM was modified externally or
@@ -194,7 +169,7 @@ public class EventBinder {
             }
 
             /* Recursively bind handlers on the child subtree. */
-            bindEventHandlers(virtualChild, realChild);
+            bindEventHandlers(virtualChildren.get(i), realChildren[i]);
         }
     }
 
@@ -226,226 +201,4 @@ public class EventBinder {
          * under TeaVM. Use .on("event", handler) in render() instead.
          */
     }
-
-    // ====================================================================
-    //  Private: listener creation for virtual tree handlers
-    // ====================================================================
-
-    /**
-     * Create a TeaVM {@link EventListener} that wraps a JUX
-     * {@link EventHandler} and optionally notifies the state manager
-     * after execution.
-     *
-     * <p>The listener extracts event data from the native browser
-     * {@link Event}, constructs a {@link DomEvent} wrapper, and
-     * dispatches to the handler. If a component instance is provided,
-     * state change notification is triggered after the handler returns.</p>
-     *
-     * @param handler   the JUX event handler to wrap
-     * @param component the owning component instance for state notification,
-     *                   or null to skip state notification
-     * @return a TeaVM EventListener that delegates to the handler
-     */
-    private EventListener<Event> createListener(EventHandler handler,
-                                                  Object component) {
-        return (Event nativeEvent) -> {
-            /* Build a DomEvent from the native event properties. */
-            DomEvent domEvent = buildDomEvent(nativeEvent);
-
-            /* Dispatch to the JUX handler. */
-            handler.handle(domEvent);
-
-            /* Honor preventDefault / stopPropagation from the handler. */
-            if (domEvent.isDefaultPrevented()) {
-                nativeEvent.preventDefault();
-            }
-            if (domEvent.isPropagationStopped()) {
-                nativeEvent.stopPropagation();
-            }
-
-            /*
-             * If we have a component reference, notify the state manager
-             * that state may have changed. This triggers a re-render
-             * cycle if any @State fields were modified.
-             */
-            if (component != null) {
-                ClientMain.getStateManager().notifyStateChange(component);
-            }
-        };
-    }
-
-    // ====================================================================
-    //  Private: DomEvent construction from native Event
-    // ====================================================================
-
-    /**
-     * Build a JUX {@link DomEvent} wrapper from a native browser {@link Event}.
-     *
-     * <p>Extracts commonly-needed properties from the native event and
-     * packages them into JUX's platform-agnostic event wrapper. Properties
-     * that are not available on the specific event type (e.g. "key" on a
-     * MouseEvent) default to safe values (empty string, 0, false).</p>
-     *
-     * <p><b>Extracted properties:</b></p>
-     * <ul>
-     *   <li>{@code type} &mdash; the event type string (e.g. "click")</li>
-     *   <li>{@code targetId} &mdash; the {@code id} attribute of the target element</li>
-     *   <li>{@code value} &mdash; the input value for form elements, or text content</li>
-     *   <li>{@code key} &mdash; the key identifier for keyboard events</li>
-     *   <li>{@code shiftKey, ctrlKey, altKey, metaKey} &mdash; modifier key states</li>
-     *   <li>{@code clientX, clientY} &mdash; mouse position for pointer events</li>
-     * </ul>
-     *
-     * <p><b>Structural simplification:</b> In this implementation, keyboard
-     * and mouse properties default to zero/empty/false since extracting them
-     * requires casting to the specific TeaVM event subtypes (KeyboardEvent,
-     * MouseEvent). A production implementation would perform these casts and
-     * extract the full property set.</p>
-     *
-     * @param nativeEvent the native browser event from TeaVM JSO
-     * @return a JUX DomEvent wrapper containing the extracted properties
-     */
-    private DomEvent buildDomEvent(Event nativeEvent) {
-        String type = nativeEvent.getType();
-
-        /*
-         * Extract target element properties.
-         *
-         * We attempt to cast the event target to HTMLElement to read
-         * its id and value. If the target is not an element (e.g.
-         * it's the document or a text node), we use safe defaults.
-         */
-        String targetId = "";
-        String value = "";
-
-        try {
-            HTMLElement target = (HTMLElement) nativeEvent.getTarget();
-            if (target != null) {
-                /* Read the element's id attribute. */
-                String id = target.getAttribute("id");
-                targetId = (id != null) ? id : "";
-
-                /*
-                 * Read the element's value. For input/textarea/select,
-                 * this is the current input value. For other elements,
-                 * we read textContent as a fallback.
-                 */
-                value = extractElementValue(target);
-            }
-        } catch (ClassCastException e) {
-            /*
-             * Target is not an HTMLElement (could be Document, Window, etc.).
-             * Use empty defaults.
-             */
-        }
-
-        /*
-         * Keyboard and mouse properties.
-         *
-         * Structural simplification: these default to zero/empty/false.
-         * A production implementation would cast to KeyboardEvent or
-         * MouseEvent using TeaVM's JSO type system to extract real values.
-         */
-        String key = "";
-        boolean shiftKey = false;
-        boolean ctrlKey = false;
-        boolean altKey = false;
-        boolean metaKey = false;
-        double clientX = 0;
-        double clientY = 0;
-
-        return new DomEvent(
-                type, targetId, value, key,
-                shiftKey, ctrlKey, altKey, metaKey,
-                clientX, clientY
-        );
-    }
-
-    /**
-     * Extract the "value" from a DOM element, handling different element
-     * types appropriately.
-     *
-     * <p>For form elements ({@code <input>}, {@code <textarea>},
-     * {@code <select>}), returns the input value. For other elements,
-     * returns the text content. Returns an empty string if no value
-     * can be determined.</p>
-     *
-     * @param element the DOM element to extract a value from
-     * @return the element's value or text content, never null
-     */
-    private String extractElementValue(HTMLElement element) {
-        if (element == null) {
-            return "";
-        }
-
-        /*
-         * Check the element's tag name to determine value extraction
-         * strategy. Form elements have a "value" property; other
-         * elements use textContent.
-         */
-        String tag = element.getTagName();
-        if (tag != null) {
-            tag = tag.toLowerCase();
-        }
-
-        if ("input".equals(tag) || "textarea".equals(tag) || "select".equals(tag)) {
-            /*
-             * For form elements, read the "value" attribute.
-             *
-             * Note: getAttribute("value") reads the HTML attribute, not the
-             * live DOM property. For the structural implementation this is
-             * acceptable. A production implementation would cast to
-             * HTMLInputElement and call getValue() for the live property.
-             */
-            String val = element.getAttribute("value");
-            return (val != null) ? val : "";
-        }
-
-        /* For non-form elements, return text content. */
-        String text = element.getTextContent();
-        return (text != null) ? text : "";
-    }
-
-    // ====================================================================
-    //  Private: DOM child traversal
-    // ====================================================================
-
-    /**
-     * Find the n-th element child of a parent element, skipping non-element
-     * nodes (text nodes, comment nodes, etc.).
-     *
-     * <p>The virtual tree models only element nodes, but the real DOM may
-     * contain interspersed text nodes (whitespace between tags), comment
-     * nodes, and processing instructions. This method skips all non-element
-     * nodes to find the element at the given logical index.</p>
-     *
-     * @param parent the parent DOM element
-     * @param n      the zero-based index of the desired element child
-     * @return the n-th element child, or null if fewer than {@code n+1}
-     *         element children exist
-     */
-    private HTMLElement findNthElementChild(HTMLElement parent, int n) {
-        NodeList<Node> childNodes = parent.getChildNodes();
-        int length = childNodes.getLength();
-        int elementCount = 0;
-
-        for (int i = 0; i < length; i++) {
-            Node node = childNodes.item(i);
-
-            /*
-             * Node.ELEMENT_NODE (value 1) identifies element nodes.
-             * Text nodes are type 3, comment nodes are type 8,
-             * document nodes are type 9, etc.
-             */
-            if (node.getNodeType() == Node.ELEMENT_NODE) {
-                if (elementCount == n) {
-                    return (HTMLElement) node;
-                }
-                elementCount++;
-            }
-        }
-
-        /* Fewer element children than requested index. */
-        return null;
-    }
 }
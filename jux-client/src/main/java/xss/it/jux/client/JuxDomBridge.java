@@ -13,10 +13,14 @@
 
 package xss.it.jux.client;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.teavm.jso.JSBody;
 import org.teavm.jso.browser.Window;
@@ -29,6 +33,7 @@ import org.teavm.jso.dom.xml.NodeList;
 
 import xss.it.jux.core.DomEvent;
 import xss.it.jux.core.Element;
+import xss.it.jux.core.ElementBinding;
 import xss.it.jux.core.EventHandler;
 
 /**
@@ -59,6 +64,43 @@ import xss.it.jux.core.EventHandler;
  * {@link EventListener} that extracts event data from the native
  * {@link Event} object and constructs a {@link DomEvent} wrapper.</p>
  *
+ * <h2>Event Delegation</h2>
+ * <p>Elements with handlers are not given listeners of their own. They are
+ * tagged with a {@code data-jux-eid} attribute and their handlers recorded
+ * in a registry under that ID. The document gets <em>one</em> listener per
+ * event type, installed the first time any element needs that type; when
+ * an event fires, the listener walks from {@code event.target} up through
+ * its ancestors and runs the registered handler of every tagged element on
+ * the way, as the event would have bubbled. Hydrating a list of a thousand
+ * rows with a click handler each therefore adds no listeners at all after
+ * the first.</p>
+ * <ul>
+ *   <li>Events that do not bubble ({@code focus}, {@code blur},
+ *       {@code mouseenter}, {@code scroll}, media and load events, ...) are
+ *       caught in the capture phase and dispatched to their target only.</li>
+ *   <li>{@code scroll}, {@code wheel}, {@code touchstart} and
+ *       {@code touchmove} are listened to passively, so the browser never
+ *       waits for JUX before scrolling, and {@link DomEvent#preventDefault()}
+ *       has no effect on them. Binding a handler marked with
+ *       {@link EventHandler#cancelable} replaces the listener for its event
+ *       type with a non-passive one for the rest of the page's life.</li>
+ *   <li>{@link DomEvent#stopPropagation()} stops the walk at the element
+ *       whose handler called it.</li>
+ * </ul>
+ * <p>Registry entries belong to the component that rendered them. They are
+ * released when {@link #patch} removes or replaces their node and when the
+ * component unmounts; {@link #liveHandlerCount()} reports how many handlers
+ * are currently held.</p>
+ *
+ * <h2>Resumable Hydration</h2>
+ * <p>Inside client-side components the server numbers every element with
+ * handlers ({@code data-jux-hid}), forming a handler manifest. A component
+ * without live bindings need not render on page load at all: the client
+ * registers {@link #deferHandlers stand-in handlers} for the marked
+ * elements, and the first event renders the component and
+ * {@link #resume attaches} its handlers by number, without walking the
+ * tree. The event is then handled as usual.</p>
+ *
  * <h2>Thread Safety</h2>
  * <p>All methods execute on the browser's main (UI) thread. JavaScript
  * is single-threaded, so no synchronization is needed.</p>
@@ -94,30 +136,77 @@ public class JuxDomBridge {
     private static int nextElementId = 0;
 
     /**
-     * Registry mapping element IDs to their current event handler set.
+     * Registry mapping element IDs to their current event handler set and
+     * live {@link ElementBinding binding} subscriptions.
      * This enables handler-reference swapping on re-render without
-     * stacking duplicate {@code addEventListener} calls.
+     * touching any listener.
      *
      * <p>Each entry tracks the owning component (for state notification)
-     * and a mutable map of event name to current handler. Permanent
-     * listeners registered via {@code addEventListener} look up the
-     * current handler from this registry on each invocation.</p>
+     * and a mutable map of event name to current handler. The delegated
+     * document listeners look up the current handler from this registry
+     * on each event.</p>
+     *
+     * <p>Entries are dropped by {@link #release(HTMLElement)} when their
+     * node is removed or replaced, by {@link #releaseComponent(Object)}
+     * when the owning component unmounts, and as soon as a re-render
+     * leaves a node with neither handlers nor bindings.</p>
      */
     private static final Map<String, ElementHandlerEntry> HANDLER_REGISTRY = new HashMap<>();
 
     /**
-     * Tracks the current event handlers and owning component for a single
-     * DOM element in the handler registry.
+     * Element IDs owned by each component, keyed by the component's
+     * {@link System#identityHashCode identity hash}. Lets a component's
+     * entries be released on unmount even if some of its nodes were
+     * detached without going through {@link #patch}.
+     */
+    private static final Map<Integer, Set<String>> OWNED_ELEMENTS = new HashMap<>();
+
+    /** Number of event handlers currently held by the registry (debug counter). */
+    private static int liveHandlers = 0;
+
+    /** Event types for which a delegated listener is installed on the document. */
+    private static final Set<String> DELEGATED_EVENTS = new HashSet<>();
+
+    /**
+     * Event types that do not bubble. They are delegated in the capture
+     * phase and dispatched to the event target only.
+     */
+    private static final Set<String> NON_BUBBLING_EVENTS = Set.of(
+            "focus", "blur", "mouseenter", "mouseleave", "pointerenter", "pointerleave",
+            "scroll", "load", "error", "abort", "toggle", "invalid",
+            "play", "pause", "ended", "playing", "timeupdate", "volumechange",
+            "loadeddata", "loadedmetadata", "canplay", "seeking", "seeked");
+
+    /** Event types delegated with a passive listener, so they never block scrolling. */
+    private static final Set<String> PASSIVE_EVENTS = Set.of(
+            "scroll", "wheel", "touchstart", "touchmove");
+
+    /**
+     * The delegated listeners currently installed as passive, by event type,
+     * kept so they can be replaced once a cancelable handler is bound.
+     */
+    private static final Map<String, EventListener<Event>> PASSIVE_LISTENERS = new HashMap<>();
+
+    /**
+     * Tracks the current event handlers, live binding subscriptions and
+     * owning component for a single DOM element in the handler registry.
      */
     private static class ElementHandlerEntry {
         /** The component instance that owns this element (for state notification). */
         final Object component;
         /** Current handlers keyed by event name. Updated on each re-render. */
         final Map<String, EventHandler> handlers = new HashMap<>();
+        /** Unsubscribe handles of the element's live bindings. Replaced on each re-render. */
+        List<Runnable> subscriptions = List.of();
 
         ElementHandlerEntry(Object component) {
             this.component = component;
         }
+
+        /** Whether the entry no longer holds anything worth keeping. */
+        boolean isUnused() {
+            return handlers.isEmpty() && subscriptions.isEmpty();
+        }
     }
 
     /**
@@ -169,9 +258,10 @@ public class JuxDomBridge {
      *       Text is already HTML-safe because the virtual tree only carries
      *       plain text; XSS is not a concern here.</li>
      *   <li>Register all event handlers from {@link Element#getEventHandlers()}
-     *       on the DOM node using {@link HTMLElement#addEventListener(String,
-     *       EventListener)}. Each {@link EventHandler} is wrapped in a
-     *       {@link #wrapHandler(EventHandler)} adapter.</li>
+     *       for the DOM node in the handler registry; the delegated document
+     *       listeners dispatch to them.</li>
+     *   <li>Subscribe the node to the element's live
+     *       {@link Element#getBindings() bindings}.</li>
      *   <li>Recursively call {@code createElement} for each child in
      *       {@link Element#getChildren()} and append the resulting DOM
      *       nodes via {@link Node#appendChild(Node)}.</li>
@@ -203,14 +293,20 @@ public class JuxDomBridge {
         /*
          * Step 4: Bind event handlers via the handler registry.
          *
-         * Each EventHandler is registered in the global handler registry
-         * and a permanent EventListener is attached that delegates through
-         * the registry. This prevents handler accumulation on re-renders.
+         * Each EventHandler is registered in the global handler registry,
+         * where the delegated document listener for its event type finds
+         * it. The node itself gets no listener.
          */
         bindHandlers(node, el.getEventHandlers());
 
         /*
-         * Step 5: Recursively create and append child elements.
+         * Step 5: Subscribe live bindings. The attributes and text set
+         * above already hold their current values.
+         */
+        bindValues(node, el.getBindings());
+
+        /*
+         * Step 6: Recursively create and append child elements.
          *
          * Children are processed in order, preserving the render order
          * defined by the virtual tree. Each child becomes a real DOM
@@ -272,35 +368,24 @@ public class JuxDomBridge {
          */
         bindHandlers(existing, el.getEventHandlers());
 
+        /* Subscribe the server-rendered node to its live bindings. */
+        bindValues(existing, el.getBindings());
+
         /*
          * Recursively hydrate children.
          *
-         * We walk both trees in parallel: virtual child[i] maps to
-         * real childNodes[i]. This relies on the server and client
-         * producing identical DOM structure.
+         * We walk both trees in parallel: virtual child[i] maps to the
+         * i-th real element child. This relies on the server and client
+         * producing identical DOM structure. The real DOM may contain
+         * text nodes, comment nodes, or other non-element nodes that the
+         * virtual tree does not model; the snapshot skips them, so the
+         * child list is scanned once rather than once per child.
          */
         List<Element> virtualChildren = el.getChildren();
-        NodeList<Node> realChildren = existing.getChildNodes();
-
-        /*
-         * Track the index into the real DOM's child nodes separately
-         * because the real DOM may contain text nodes, comment nodes,
-         * or other non-element nodes that the virtual tree does not
-         * model. We skip non-element nodes when matching.
-         */
-        int realIndex = 0;
+        HTMLElement[] realChildren = elementChildren(existing);
 
         for (int i = 0; i < virtualChildren.size(); i++) {
-            Element virtualChild = virtualChildren.get(i);
-
-            /*
-             * Advance past text nodes and comment nodes in the real DOM
-             * to find the next element node that corresponds to this
-             * virtual child.
-             */
-            HTMLElement realChild = findNextElementChild(realChildren, realIndex);
-
-            if (realChild == null) {
+            if (i >= realChildren.length) {
                 /*
                  * Server/client structure mismatch: the real DOM has fewer
                  * element children than the virtual tree expects. This
@@ -313,14 +398,8 @@ public class JuxDomBridge {
                 break;
             }
 
-            /*
-             * Advance the real index past the element we just found,
-             * plus any text/comment nodes that preceded it.
-             */
-            realIndex = indexOfNode(realChildren, realChild) + 1;
-
             /* Recursively hydrate the child pair. */
-            hydrate(virtualChild, realChild);
+            hydrate(virtualChildren.get(i), realChildren[i]);
         }
     }
 
@@ -337,14 +416,10 @@ public class JuxDomBridge {
      * {@code @State} field changes and {@link xss.it.jux.core.Component#render()}
      * produces a new virtual tree.</p>
      *
-     * <h3>Diff strategy (structural implementation):</h3>
-     * <p>The current implementation uses a simplified diffing algorithm
-     * optimized for correctness over minimal mutations. A production-grade
-     * implementation would use a keyed reconciliation algorithm (similar to
-     * React's or Snabbdom's) for optimal performance with list reordering.
-     * The structural approach is:</p>
-     *
+     * <h3>Diff strategy:</h3>
      * <ol>
+     *   <li><b>Same subtree:</b> If the new tree is the very instance of the
+     *       old one (a memoized child component), nothing is done.</li>
      *   <li><b>Tag mismatch:</b> If the old and new elements have different
      *       tags, replace the entire real DOM node with a freshly created
      *       node from the new tree. This is the "nuclear option" and handles
@@ -354,20 +429,23 @@ public class JuxDomBridge {
      *       present in old but absent in new.</li>
      *   <li><b>Text content diff:</b> If text content differs, update it
      *       directly via {@link HTMLElement#setTextContent(String)}.</li>
-     *   <li><b>Children diff:</b> Walk children by index. For each position:
-     *       <ul>
-     *         <li>If both old and new have a child at this index, recursively
-     *             patch.</li>
-     *         <li>If new has an extra child, create and append it.</li>
-     *         <li>If old has an extra child (new is shorter), remove it
-     *             from the DOM.</li>
-     *       </ul>
-     *   </li>
+     *   <li><b>Children diff:</b> If no child carries a
+     *       {@link Element#key(String) key}, walk children by index: patch the
+     *       pairs both trees have, append extra new children, remove extra
+     *       old ones. Otherwise reconcile by key: matching children are
+     *       patched and their DOM nodes moved (using as few moves as
+     *       possible), unmatched new children are created and unmatched old
+     *       ones removed. See {@link #patchChildren}.</li>
      *   <li><b>Event handler rebind:</b> Remove all old event listeners and
      *       attach new ones. (Simplified approach; a production implementation
      *       would diff handlers by event name.)</li>
+     *   <li><b>Live bindings:</b> Unsubscribe the node from the old tree's
+     *       bindings and subscribe it to the new tree's.</li>
      * </ol>
      *
+     * <p>DOM nodes removed or replaced along the way are
+     * {@link #release(HTMLElement) released}.</p>
+     *
      * @param existing the real DOM element currently in the page
      * @param oldTree  the virtual tree from the previous render
      * @param newTree  the virtual tree from the current (post-state-change) render
@@ -378,6 +456,17 @@ public class JuxDomBridge {
         Objects.requireNonNull(oldTree, "Old virtual tree must not be null");
         Objects.requireNonNull(newTree, "New virtual tree must not be null");
 
+        /*
+         * Case 0: Same subtree.
+         *
+         * A memoized child component (see RenderMemo) contributes the very
+         * Element instance it rendered last time. Nothing below it can
+         * have changed, so neither the node nor its descendants are diffed.
+         */
+        if (oldTree == newTree) {
+            return;
+        }
+
         /*
          * Case 1: Tag mismatch.
          *
@@ -389,6 +478,7 @@ public class JuxDomBridge {
             Node parent = existing.getParentNode();
 
             if (parent != null) {
+                release(existing);
                 parent.replaceChild(replacement, existing);
             }
             return;
@@ -407,10 +497,337 @@ public class JuxDomBridge {
         /* --- Event handlers --- */
         patchEventHandlers(existing, oldTree, newTree);
 
+        /* --- Live bindings --- */
+        bindValues(existing, newTree.getBindings());
+
         /* --- Children --- */
         patchChildren(existing, oldTree.getChildren(), newTree.getChildren());
     }
 
+    // ====================================================================
+    //  RELEASE: Drop registry entries of nodes leaving the page
+    // ====================================================================
+
+    /**
+     * Release the registry entries of a DOM element and all of its
+     * descendants: their event handlers and live {@link ElementBinding
+     * bindings}.
+     *
+     * <p>Called for every node that {@link #patch} removes or replaces, and
+     * by {@link ClientMain#destroyComponent(String)} for a component's root
+     * when it unmounts. Handlers and bound values typically capture the
+     * component, so without this each removed node would keep its handlers,
+     * the component and (through a binding's listener) the detached node
+     * itself alive for the lifetime of the page.</p>
+     *
+     * @param root the element leaving the page
+     */
+    public void release(HTMLElement root) {
+        if (HANDLER_REGISTRY.isEmpty()) {
+            return;
+        }
+
+        releaseElement(root.getAttribute("data-jux-eid"));
+
+        @SuppressWarnings("unchecked")
+        NodeList<HTMLElement> registered =
+                (NodeList<HTMLElement>) (NodeList<?>) root.querySelectorAll("[data-jux-eid]");
+        int count = registered.getLength();
+        for (int i = 0; i < count; i++) {
+            releaseElement(registered.item(i).getAttribute("data-jux-eid"));
+        }
+    }
+
+    /**
+     * Release every registry entry owned by a component.
+     *
+     * <p>Called by {@link ClientMain#destroyComponent(String)} after the
+     * component's root has been {@link #release released}, to also catch
+     * entries whose nodes left the page without going through the bridge
+     * (e.g. removed by third-party DOM code).</p>
+     *
+     * @param component the component that unmounted
+     */
+    public void releaseComponent(Object component) {
+        if (component == null) {
+            return;
+        }
+        Set<String> owned = OWNED_ELEMENTS.remove(System.identityHashCode(component));
+        if (owned == null) {
+            return;
+        }
+        for (String eid : owned) {
+            ElementHandlerEntry entry = HANDLER_REGISTRY.remove(eid);
+            if (entry != null) {
+                discard(entry);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of event handlers currently registered.
+     *
+     * <p>A debugging aid: on a page whose structure is stable, this should
+     * stay flat across re-renders and drop when components unmount. A
+     * steadily growing count means handlers are leaking.</p>
+     *
+     * @return the number of live event handlers
+     */
+    public int liveHandlerCount() {
+        return liveHandlers;
+    }
+
+    /**
+     * Returns the number of DOM elements that currently have a registry
+     * entry (event handlers, live bindings, or both).
+     *
+     * @return the number of registered elements
+     */
+    public int registeredElementCount() {
+        return HANDLER_REGISTRY.size();
+    }
+
+    // ====================================================================
+    //  RESUME: Attach handlers from the SSR handler manifest
+    // ====================================================================
+
+    /**
+     * Whether a server-rendered component can be resumed lazily: its first
+     * {@code render()} deferred until it is first needed, and its handlers
+     * attached from the SSR markers.
+     *
+     * <p>This requires every element with handlers under {@code root} to
+     * carry a {@code data-jux-hid}, and no element to carry live bindings
+     * ({@code data-jux-bind}), which have to be subscribed right away to
+     * keep the DOM current.</p>
+     *
+     * @param root the component's server-rendered root element
+     * @return true if {@link #deferHandlers} and {@link #resume} apply
+     */
+    public boolean canResume(HTMLElement root) {
+        if (root.getAttribute("data-jux-bind") != null
+                || (root.getAttribute("data-jux-events") != null
+                    && root.getAttribute("data-jux-hid") == null)) {
+            return false;
+        }
+        return root.querySelector("[data-jux-bind],[data-jux-events]:not([data-jux-hid])") == null;
+    }
+
+    /**
+     * Register stand-in handlers for a component that has not rendered yet.
+     *
+     * <p>Every element of the component marked with {@code data-jux-hid} is
+     * registered, for each event in its {@code data-jux-events}, with a
+     * handler that runs {@code resume} and then passes the event on to the
+     * element's real handler. {@code resume} is expected to render the
+     * component and {@link #resume attach} its handlers, which replace the
+     * stand-ins. Until an event fires, nothing is rendered and no virtual
+     * tree exists.</p>
+     *
+     * @param root   the component's server-rendered root element
+     * @param resume renders the component and attaches its handlers
+     */
+    public void deferHandlers(HTMLElement root, Runnable resume) {
+        for (HTMLElement node : manifestElements(root)) {
+            String events = node.getAttribute("data-jux-events");
+            if (events == null || events.isEmpty()) {
+                continue;
+            }
+            String eid = elementId(node);
+            ElementHandlerEntry entry = HANDLER_REGISTRY.get(eid);
+            if (entry == null) {
+                entry = register(node);
+            }
+            liveHandlers -= entry.handlers.size();
+            entry.handlers.clear();
+            for (String event : events.split(",")) {
+                delegate(event, false);
+                entry.handlers.put(event, new ResumeHandler(eid, resume));
+            }
+            liveHandlers += entry.handlers.size();
+        }
+    }
+
+    /**
+     * Attach the handlers of a component's first render to its
+     * server-rendered DOM, using the handler manifest emitted during SSR
+     * instead of walking the whole tree.
+     *
+     * <p>The elements of {@code tree} that have handlers are numbered in
+     * document order, as the server numbered them in {@code data-jux-hid}:
+     * children hidden by an element's text and the subtrees of nested
+     * client-side components (which resume on their own) are not counted.
+     * Each marked DOM element then receives the handlers of the virtual
+     * element with its number.</p>
+     *
+     * <p>Nothing is bound if the markers do not match the tree (a different
+     * number of elements or different event types) or the tree has live
+     * bindings; the caller should then {@link #hydrate} instead.</p>
+     *
+     * @param tree the component's freshly rendered virtual tree
+     * @param root the component's server-rendered root element
+     * @return true if the handlers were attached, false if the caller must hydrate
+     */
+    public boolean resume(Element tree, HTMLElement root) {
+        List<Element> manifest = new ArrayList<>();
+        if (!collectManifest(tree, true, manifest)) {
+            return false;
+        }
+
+        List<HTMLElement> marked = manifestElements(root);
+        if (marked.size() != manifest.size()) {
+            return false;
+        }
+
+        HTMLElement[] nodes = new HTMLElement[manifest.size()];
+        for (HTMLElement node : marked) {
+            int hid = parseHandlerId(node.getAttribute("data-jux-hid"));
+            if (hid < 0 || hid >= nodes.length || nodes[hid] != null
+                    || !sameEvents(node.getAttribute("data-jux-events"),
+                                   manifest.get(hid).getEventHandlers().keySet())) {
+                return false;
+            }
+            nodes[hid] = node;
+        }
+
+        for (int i = 0; i < nodes.length; i++) {
+            bindHandlers(nodes[i], manifest.get(i).getEventHandlers());
+        }
+        return true;
+    }
+
+    /**
+     * Stand-in handler of a component that has not rendered yet. The first
+     * event resumes the component, which replaces the stand-ins with its
+     * real handlers, and is then handed to the element's real handler.
+     */
+    private static final class ResumeHandler implements EventHandler {
+        /** The element's registry key. */
+        private final String eid;
+        /** Renders the component and attaches its handlers. */
+        private final Runnable resume;
+
+        ResumeHandler(String eid, Runnable resume) {
+            this.eid = eid;
+            this.resume = resume;
+        }
+
+        @Override
+        public void handle(DomEvent event) {
+            resume.run();
+            ElementHandlerEntry entry = HANDLER_REGISTRY.get(eid);
+            EventHandler handler = (entry != null) ? entry.handlers.get(event.getType()) : null;
+            if (handler != null && !(handler instanceof ResumeHandler)) {
+                handler.handle(event);
+            }
+        }
+    }
+
+    /**
+     * Collect the elements of a component's virtual tree that the server
+     * numbered in its handler manifest, in document order.
+     *
+     * @param el     the element to visit
+     * @param isRoot whether {@code el} is the component's root
+     * @param out    receives the elements with handlers
+     * @return false if the tree has live bindings and cannot be resumed
+     */
+    private static boolean collectManifest(Element el, boolean isRoot, List<Element> out) {
+        if (!isRoot && el.getAttribute("data-jux-id") != null) {
+            /* A nested client-side component resumes from its own manifest. */
+            return true;
+        }
+        if (!el.getBindings().isEmpty()) {
+            return false;
+        }
+        if (!el.getEventHandlers().isEmpty()) {
+            out.add(el);
+        }
+        if (el.getTextContent() != null) {
+            /* Text takes precedence over children; the server did not serialize them. */
+            return true;
+        }
+        for (Element child : el.getChildren()) {
+            if (!collectManifest(child, false, out)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return the DOM elements of a component marked with
+     * {@code data-jux-hid}, excluding those of nested client-side components.
+     *
+     * @param root the component's root element
+     * @return the marked elements, in document order
+     */
+    private static List<HTMLElement> manifestElements(HTMLElement root) {
+        List<HTMLElement> marked = new ArrayList<>();
+        if (root.getAttribute("data-jux-hid") != null) {
+            marked.add(root);
+        }
+
+        @SuppressWarnings("unchecked")
+        NodeList<HTMLElement> candidates =
+                (NodeList<HTMLElement>) (NodeList<?>) root.querySelectorAll("[data-jux-hid]");
+        int count = candidates.getLength();
+        for (int i = 0; i < count; i++) {
+            HTMLElement node = candidates.item(i);
+            if (closestComponent(node) == root) {
+                marked.add(node);
+            }
+        }
+        return marked;
+    }
+
+    /**
+     * Parse a {@code data-jux-hid} value.
+     *
+     * @param value the attribute value
+     * @return the handler ID, or -1 if it is not a number
+     */
+    private static int parseHandlerId(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Whether a {@code data-jux-events} value names exactly the given events.
+     *
+     * @param marker the comma-separated event names from the DOM
+     * @param events the event names of the virtual element
+     * @return true if both name the same events
+     */
+    private static boolean sameEvents(String marker, Set<String> events) {
+        if (marker == null) {
+            return false;
+        }
+        String[] names = marker.split(",");
+        if (names.length != events.size()) {
+            return false;
+        }
+        for (String name : names) {
+            if (!events.contains(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Native {@code Element.closest}, which TeaVM's {@link HTMLElement}
+     * does not expose, for the nearest client-side component root.
+     *
+     * @param node the element
+     * @return the nearest ancestor-or-self with {@code data-jux-id}, or null
+     */
+    @JSBody(params = {"node"}, script = "return node.closest('[data-jux-id]');")
+    private static native HTMLElement closestComponent(HTMLElement node);
+
     // ====================================================================
     //  Private helpers: attribute patching
     // ====================================================================
@@ -508,11 +925,10 @@ public class JuxDomBridge {
     /**
      * Update event handler references after a re-render.
      *
-     * <p>Uses the handler registry to swap handler references without
-     * adding duplicate {@code addEventListener} calls. The permanent
-     * listeners (registered during initial hydration or element creation)
-     * look up the current handler from the registry on each invocation,
-     * so updating the registry entry is sufficient.</p>
+     * <p>Uses the handler registry to swap handler references. The
+     * delegated document listeners look up the current handler from the
+     * registry on each event, so updating the registry entry is
+     * sufficient.</p>
      *
      * @param node    the real DOM element
      * @param oldTree the previous virtual tree (unused, kept for API symmetry)
@@ -531,7 +947,13 @@ public class JuxDomBridge {
     /**
      * Diff and patch the children of a DOM element.
      *
-     * <p>Walks children by index, handling three cases:</p>
+     * <p>The parent's element children are snapshotted once, in a single pass
+     * over its child nodes, and the snapshot maps old virtual children to
+     * their DOM nodes by position. Text and comment nodes in the live DOM
+     * are not part of the snapshot and are left alone.</p>
+     *
+     * <p><b>Unkeyed children</b> (no child of either tree has a
+     * {@link Element#key(String) key}) are diffed by index:</p>
      * <ul>
      *   <li><b>Both exist:</b> recursively patch the i-th old child against
      *       the i-th new child.</li>
@@ -541,11 +963,25 @@ public class JuxDomBridge {
      *       the new tree &rarr; remove the extra DOM nodes.</li>
      * </ul>
      *
-     * <p><b>Limitation:</b> This index-based diffing does not handle
-     * reordering efficiently. If a list item moves from position 0 to
-     * position 5, this algorithm will patch all six positions rather than
-     * moving the node. A production implementation would use keys
-     * ({@code data-jux-key} attributes) for O(n) reconciliation.</p>
+     * <p><b>Keyed children</b> are reconciled so that a moved item keeps its
+     * DOM node (and with it focus, selection, scroll position and any
+     * third-party state) instead of every position in between being
+     * re-patched:</p>
+     * <ol>
+     *   <li>Each new child is matched to the old child with the same key and
+     *       tag. Unkeyed new children are matched, in order, with the unkeyed
+     *       old children of the same tag.</li>
+     *   <li>Old children without a match are removed from the DOM.</li>
+     *   <li>Matched pairs are patched recursively.</li>
+     *   <li>The longest increasing subsequence of the matched old positions
+     *       is the largest set of nodes already in the right relative order;
+     *       those stay put. Walking the new children from last to first,
+     *       every other node is moved (or, if new, created and inserted)
+     *       before the node that follows it.</li>
+     * </ol>
+     *
+     * <p>Both paths are O(n) in the number of children, plus O(n log n) for
+     * the subsequence when keyed children have moved.</p>
      *
      * @param parentNode  the real DOM parent element
      * @param oldChildren the children from the previous virtual tree
@@ -554,70 +990,284 @@ public class JuxDomBridge {
     private void patchChildren(HTMLElement parentNode,
                                 List<Element> oldChildren,
                                 List<Element> newChildren) {
-        int oldSize = oldChildren.size();
+        /*
+         * Snapshot the real DOM child elements once. Position i of the
+         * snapshot is the DOM node rendered for oldChildren[i].
+         */
+        HTMLElement[] realChildren = elementChildren(parentNode);
+
+        if (hasKeys(oldChildren) || hasKeys(newChildren)) {
+            patchKeyedChildren(parentNode, realChildren, oldChildren, newChildren);
+            return;
+        }
+
+        int oldSize = Math.min(oldChildren.size(), realChildren.length);
         int newSize = newChildren.size();
 
         /*
-         * Determine how many children to patch in place (the minimum
-         * of old and new counts).
+         * Patch common children (positions that exist in both old and new).
          */
         int commonLength = Math.min(oldSize, newSize);
+        for (int i = 0; i < commonLength; i++) {
+            patch(realChildren[i], oldChildren.get(i), newChildren.get(i));
+        }
 
         /*
-         * Collect the real DOM child element nodes (skipping text nodes
-         * and comment nodes that may exist in the live DOM).
+         * If the new tree has MORE children than the old tree, create and
+         * append the extra children to the DOM.
          */
-        NodeList<Node> realChildNodes = parentNode.getChildNodes();
+        for (int i = oldSize; i < newSize; i++) {
+            parentNode.appendChild(createElement(newChildren.get(i)));
+        }
 
         /*
-         * Patch common children (positions that exist in both old and new).
-         * We need to find the i-th element child in the real DOM for each
-         * virtual child index.
+         * If the new tree has FEWER children than the old tree, remove
+         * the extra children from the DOM. The snapshot still holds them,
+         * so removal order does not matter.
          */
-        int elementIndex = 0;
-        int nodeIndex = 0;
+        for (int i = newSize; i < oldSize; i++) {
+            release(realChildren[i]);
+            parentNode.removeChild(realChildren[i]);
+        }
+    }
 
-        for (int i = 0; i < commonLength; i++) {
-            /*
-             * Find the next real element child node, skipping non-element
-             * nodes (text, comment, etc.).
-             */
-            HTMLElement realChild = findNthElementChild(parentNode, i);
+    /**
+     * Reconcile children of which at least one carries a key.
+     *
+     * @param parentNode   the real DOM parent element
+     * @param realChildren the snapshot of the parent's element children
+     * @param oldChildren  the children from the previous virtual tree
+     * @param newChildren  the children from the new virtual tree
+     * @see #patchChildren
+     */
+    private void patchKeyedChildren(HTMLElement parentNode,
+                                     HTMLElement[] realChildren,
+                                     List<Element> oldChildren,
+                                     List<Element> newChildren) {
+        int oldSize = Math.min(oldChildren.size(), realChildren.length);
+        int newSize = newChildren.size();
 
-            if (realChild != null) {
-                /* Recursively patch this child subtree. */
-                patch(realChild, oldChildren.get(i), newChildren.get(i));
+        /* Index the old children: keyed ones by key, unkeyed ones in order. */
+        Map<String, Integer> oldKeyed = new HashMap<>();
+        int[] oldUnkeyed = new int[oldSize];
+        int unkeyedCount = 0;
+        for (int i = 0; i < oldSize; i++) {
+            String key = oldChildren.get(i).getKey();
+            if (key == null) {
+                oldUnkeyed[unkeyedCount++] = i;
+            } else {
+                oldKeyed.putIfAbsent(key, i);
             }
         }
 
         /*
-         * If the new tree has MORE children than the old tree, create and
-         * append the extra children to the DOM.
+         * Step 1: match. sources[j] is the old position reused for new
+         * child j, or -1 if the child has to be created. A node only
+         * matches one of the same tag, so patching never replaces it.
          */
-        if (newSize > oldSize) {
-            for (int i = oldSize; i < newSize; i++) {
-                HTMLElement newChild = createElement(newChildren.get(i));
-                parentNode.appendChild(newChild);
+        int[] sources = new int[newSize];
+        boolean[] reused = new boolean[oldSize];
+        int unkeyedCursor = 0;
+        boolean moved = false;
+        int lastSource = -1;
+
+        for (int j = 0; j < newSize; j++) {
+            Element newChild = newChildren.get(j);
+            String key = newChild.getKey();
+            int source = -1;
+
+            if (key != null) {
+                Integer i = oldKeyed.get(key);
+                if (i != null && !reused[i]
+                        && oldChildren.get(i).getTag().equals(newChild.getTag())) {
+                    source = i;
+                }
+            } else if (unkeyedCursor < unkeyedCount) {
+                int i = oldUnkeyed[unkeyedCursor++];
+                if (oldChildren.get(i).getTag().equals(newChild.getTag())) {
+                    source = i;
+                }
+            }
+
+            sources[j] = source;
+            if (source >= 0) {
+                reused[source] = true;
+                if (source < lastSource) {
+                    moved = true;
+                }
+                lastSource = source;
+            }
+        }
+
+        /* Step 2: remove the old nodes nothing matched. */
+        for (int i = 0; i < oldSize; i++) {
+            if (!reused[i]) {
+                release(realChildren[i]);
+                parentNode.removeChild(realChildren[i]);
+            }
+        }
+
+        /* Step 3: patch the matched pairs in place. */
+        for (int j = 0; j < newSize; j++) {
+            if (sources[j] >= 0) {
+                patch(realChildren[sources[j]], oldChildren.get(sources[j]), newChildren.get(j));
             }
         }
 
         /*
-         * If the new tree has FEWER children than the old tree, remove
-         * the extra children from the DOM (from the end, to avoid index
-         * shifting issues).
+         * Step 4: place the nodes. Nodes on the longest increasing
+         * subsequence of old positions keep their place; every other
+         * node is inserted before its successor, walking backwards so
+         * the successor is always already in its final position. When
+         * nothing moved, the matched nodes are already in order and only
+         * new nodes are inserted.
          */
-        if (oldSize > newSize) {
-            /*
-             * We need to remove (oldSize - newSize) element children
-             * from the end of the parent's child list. We iterate
-             * backwards to avoid index invalidation.
-             */
-            for (int i = oldSize - 1; i >= newSize; i--) {
-                HTMLElement excessChild = findNthElementChild(parentNode, i);
-                if (excessChild != null) {
-                    parentNode.removeChild(excessChild);
+        boolean[] stays = moved ? longestIncreasingSubsequence(sources) : null;
+        Node anchor = null;
+
+        for (int j = newSize - 1; j >= 0; j--) {
+            int source = sources[j];
+            HTMLElement node;
+
+            if (source < 0) {
+                node = createElement(newChildren.get(j));
+                parentNode.insertBefore(node, anchor);
+            } else {
+                node = realChildren[source];
+                if (stays != null && !stays[j]) {
+                    parentNode.insertBefore(node, anchor);
+                }
+            }
+            anchor = node;
+        }
+    }
+
+    /**
+     * Mark the positions of a longest strictly increasing subsequence of
+     * {@code sources}, ignoring negative entries.
+     *
+     * <p>Patience sorting with predecessor links: {@code tails[k]} holds the
+     * position of the smallest value ending an increasing run of length
+     * {@code k + 1}, found by binary search for each entry.</p>
+     *
+     * @param sources the old position of each new child, or -1 for none
+     * @return for each position, whether it is on the subsequence
+     */
+    private static boolean[] longestIncreasingSubsequence(int[] sources) {
+        int n = sources.length;
+        int[] tails = new int[n];
+        int[] previous = new int[n];
+        int length = 0;
+
+        for (int j = 0; j < n; j++) {
+            int value = sources[j];
+            if (value < 0) {
+                continue;
+            }
+
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sources[tails[mid]] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            previous[j] = (low > 0) ? tails[low - 1] : -1;
+            tails[low] = j;
+            if (low == length) {
+                length++;
+            }
+        }
+
+        boolean[] result = new boolean[n];
+        for (int j = (length > 0) ? tails[length - 1] : -1; j >= 0; j = previous[j]) {
+            result[j] = true;
+        }
+        return result;
+    }
+
+    /**
+     * Whether any of the given virtual children has a key.
+     *
+     * @param children the virtual children
+     * @return true if at least one child was given a {@link Element#key(String) key}
+     */
+    private static boolean hasKeys(List<Element> children) {
+        for (Element child : children) {
+            if (child.getKey() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ====================================================================
+    //  Private helpers: live bindings
+    // ====================================================================
+
+    /**
+     * Subscribe a DOM element to the live bindings of its virtual element,
+     * replacing any subscriptions from a previous render.
+     *
+     * <p>Each binding gets one listener on its {@link xss.it.jux.core.Bindable}
+     * value that writes the new value straight to this node: its text, one
+     * attribute, one class or one style property. The node's current state
+     * already reflects the value (the virtual tree was built from it), so
+     * nothing is written until the value changes.</p>
+     *
+     * @param node     the real DOM element
+     * @param bindings the bindings from the virtual Element tree
+     */
+    private void bindValues(HTMLElement node, List<ElementBinding> bindings) {
+        String eid = node.getAttribute("data-jux-eid");
+        ElementHandlerEntry entry = (eid != null) ? HANDLER_REGISTRY.get(eid) : null;
+        if (entry != null) {
+            unsubscribe(entry);
+        }
+        if (bindings.isEmpty()) {
+            if (entry != null && entry.isUnused()) {
+                releaseElement(eid);
+            }
+            return;
+        }
+
+        if (entry == null) {
+            entry = register(node);
+        }
+
+        List<Runnable> subscriptions = new ArrayList<>(bindings.size());
+        for (ElementBinding binding : bindings) {
+            subscriptions.add(binding.value().observe(() -> applyBinding(node, binding)));
+        }
+        entry.subscriptions = subscriptions;
+    }
+
+    /**
+     * Write the current value of a binding to its DOM node.
+     *
+     * @param node    the bound DOM element
+     * @param binding the binding whose value changed
+     */
+    private static void applyBinding(HTMLElement node, ElementBinding binding) {
+        switch (binding.target()) {
+            case TEXT -> {
+                String text = binding.currentText();
+                node.setTextContent(text != null ? text : "");
+            }
+            case ATTRIBUTE -> {
+                String value = binding.currentText();
+                if (value != null) {
+                    node.setAttribute(binding.name(), value);
+                } else {
+                    node.removeAttribute(binding.name());
                 }
             }
+            case CLASS -> toggleClass(node, binding.name(), binding.currentFlag());
+            case STYLE -> setStyleProperty(node, binding.name(), binding.currentText());
         }
     }
 
@@ -627,124 +1277,219 @@ public class JuxDomBridge {
 
     /**
      * Bind (or update) event handlers for a DOM element using the handler
-     * registry, preventing duplicate {@code addEventListener} calls.
-     *
-     * <p><b>First call</b> (element has no {@code data-jux-eid}):</p>
-     * <ol>
-     *   <li>Assigns a unique {@code data-jux-eid} attribute to the element.</li>
-     *   <li>Creates an {@link ElementHandlerEntry} in the registry.</li>
-     *   <li>For each event type, registers ONE permanent {@code addEventListener}
-     *       that delegates through the registry.</li>
-     * </ol>
+     * registry and the delegated document listeners.
      *
-     * <p><b>Subsequent calls</b> (element already has {@code data-jux-eid}):</p>
-     * <ol>
-     *   <li>Looks up the existing registry entry.</li>
-     *   <li>Updates handler references for known event types (no new listeners).</li>
-     *   <li>Registers new permanent listeners only for event types that were
-     *       not previously bound.</li>
-     * </ol>
+     * <p>The element is tagged with a {@code data-jux-eid} (once) and its
+     * registry entry is set to exactly the given handlers, replacing those
+     * of a previous render. For each event type that has no delegated
+     * listener yet, one is installed on the document. No listener is ever
+     * added to the element itself.</p>
      *
      * @param node     the real DOM element to bind handlers on
      * @param handlers the event handlers from the virtual Element tree
      */
-    private void bindHandlers(HTMLElement node, Map<String, EventHandler> handlers) {
+    void bindHandlers(HTMLElement node, Map<String, EventHandler> handlers) {
+        String eid = node.getAttribute("data-jux-eid");
+        ElementHandlerEntry entry = (eid != null) ? HANDLER_REGISTRY.get(eid) : null;
+
         if (handlers.isEmpty()) {
+            /* Handlers removed by a re-render must stop firing. */
+            if (entry != null) {
+                liveHandlers -= entry.handlers.size();
+                entry.handlers.clear();
+                if (entry.isUnused()) {
+                    releaseElement(eid);
+                }
+            }
             return;
         }
 
-        String eid = node.getAttribute("data-jux-eid");
+        if (entry == null) {
+            entry = register(node);
+        }
 
-        if (eid == null || eid.isEmpty()) {
-            /*
-             * First time binding this element. Assign a unique ID,
-             * create a registry entry, and register permanent listeners.
-             */
-            eid = "jux-" + (nextElementId++);
-            node.setAttribute("data-jux-eid", eid);
+        /*
+         * Swap in the handlers of the current render. The delegated
+         * listeners pick up the new references on the next event.
+         */
+        liveHandlers -= entry.handlers.size();
+        entry.handlers.clear();
+        for (Map.Entry<String, EventHandler> he : handlers.entrySet()) {
+            delegate(he.getKey(), he.getValue() instanceof EventHandler.Cancelable);
+            entry.handlers.put(he.getKey(), he.getValue());
+        }
+        liveHandlers += entry.handlers.size();
+    }
 
-            Object component = this.activeComponent;
-            ElementHandlerEntry entry = new ElementHandlerEntry(component);
-            HANDLER_REGISTRY.put(eid, entry);
+    // ====================================================================
+    //  Private helpers: registry ownership
+    // ====================================================================
 
-            for (Map.Entry<String, EventHandler> he : handlers.entrySet()) {
-                String eventName = he.getKey();
-                entry.handlers.put(eventName, he.getValue());
-                registerPermanentListener(node, eid, eventName, component);
-            }
-        } else {
-            /*
-             * Element already has handlers registered. Just update the
-             * handler references in the registry. The permanent listeners
-             * will pick up the new handlers on next invocation.
-             */
-            ElementHandlerEntry entry = HANDLER_REGISTRY.get(eid);
+    /**
+     * Create the registry entry for a DOM element, owned by the component
+     * currently being rendered.
+     *
+     * @param node the DOM element
+     * @return the new, empty entry
+     */
+    private ElementHandlerEntry register(HTMLElement node) {
+        String eid = elementId(node);
+        ElementHandlerEntry entry = new ElementHandlerEntry(this.activeComponent);
+        HANDLER_REGISTRY.put(eid, entry);
+        if (activeComponent != null) {
+            OWNED_ELEMENTS.computeIfAbsent(System.identityHashCode(activeComponent),
+                    k -> new HashSet<>()).add(eid);
+        }
+        return entry;
+    }
 
-            if (entry == null) {
-                /* Defensive: registry entry missing (shouldn't happen). */
-                Object component = this.activeComponent;
-                entry = new ElementHandlerEntry(component);
-                HANDLER_REGISTRY.put(eid, entry);
+    /**
+     * Drop the registry entry for an element ID and remove it from its
+     * owner's set.
+     *
+     * @param eid the element's {@code data-jux-eid}, may be null
+     */
+    private static void releaseElement(String eid) {
+        if (eid == null) {
+            return;
+        }
+        ElementHandlerEntry entry = HANDLER_REGISTRY.remove(eid);
+        if (entry == null) {
+            return;
+        }
+        if (entry.component != null) {
+            int owner = System.identityHashCode(entry.component);
+            Set<String> owned = OWNED_ELEMENTS.get(owner);
+            if (owned != null) {
+                owned.remove(eid);
+                if (owned.isEmpty()) {
+                    OWNED_ELEMENTS.remove(owner);
+                }
             }
+        }
+        discard(entry);
+    }
 
-            for (Map.Entry<String, EventHandler> he : handlers.entrySet()) {
-                String eventName = he.getKey();
+    /**
+     * Unsubscribe an entry's bindings and drop its handlers.
+     *
+     * @param entry an entry that has just been removed from the registry
+     */
+    private static void discard(ElementHandlerEntry entry) {
+        unsubscribe(entry);
+        liveHandlers -= entry.handlers.size();
+        entry.handlers.clear();
+    }
 
-                if (!entry.handlers.containsKey(eventName)) {
-                    /* New event type not seen before — register a new permanent listener. */
-                    registerPermanentListener(node, eid, eventName, entry.component);
-                }
+    /**
+     * Unsubscribe the live bindings of an entry.
+     *
+     * @param entry the registry entry
+     */
+    private static void unsubscribe(ElementHandlerEntry entry) {
+        for (Runnable unsubscribe : entry.subscriptions) {
+            unsubscribe.run();
+        }
+        entry.subscriptions = List.of();
+    }
 
-                /* Update (or add) the handler reference. */
-                entry.handlers.put(eventName, he.getValue());
-            }
+    /**
+     * Return an element's {@code data-jux-eid}, assigning a new one if it
+     * has none yet.
+     *
+     * @param node the DOM element
+     * @return the element's registry key
+     */
+    private static String elementId(HTMLElement node) {
+        String eid = node.getAttribute("data-jux-eid");
+        if (eid == null || eid.isEmpty()) {
+            eid = "jux-" + (nextElementId++);
+            node.setAttribute("data-jux-eid", eid);
         }
+        return eid;
     }
 
     /**
-     * Register a single permanent {@code addEventListener} on a DOM element
-     * that delegates to the handler registry on each invocation.
+     * Install the delegated document listener for an event type, unless
+     * it is already installed.
      *
-     * <p>This listener is registered ONCE and never removed. On each event,
-     * it looks up the <em>current</em> handler from the registry (which may
-     * have been updated by a re-render) and dispatches to it.</p>
+     * <p>Passive event types get a passive listener unless the handler being
+     * bound is {@link EventHandler#cancelable cancelable}. A passive listener
+     * already installed for the type is then swapped for a non-passive one,
+     * which stays for the rest of the page's life.</p>
      *
-     * @param node      the DOM element to listen on
-     * @param eid       the element's unique registry key ({@code data-jux-eid})
-     * @param eventName the DOM event name (e.g. "click", "input")
-     * @param component the owning component for state change notification
+     * @param eventName  the DOM event name (e.g. "click", "input")
+     * @param cancelable whether the handler being bound may call
+     *                   {@link DomEvent#preventDefault()} on a passive event type
      */
-    private void registerPermanentListener(HTMLElement node, String eid,
-                                            String eventName, Object component) {
-        node.addEventListener(eventName, (Event nativeEvent) -> {
-            ElementHandlerEntry entry = HANDLER_REGISTRY.get(eid);
-            if (entry == null) {
+    private void delegate(String eventName, boolean cancelable) {
+        boolean passive = PASSIVE_EVENTS.contains(eventName) && !cancelable;
+        boolean bubbles = !NON_BUBBLING_EVENTS.contains(eventName);
+        if (!DELEGATED_EVENTS.add(eventName)) {
+            EventListener<Event> installed = passive ? null : PASSIVE_LISTENERS.remove(eventName);
+            if (installed == null) {
                 return;
             }
-            EventHandler handler = entry.handlers.get(eventName);
-            if (handler == null) {
-                return;
-            }
-
-            /* Build the JUX DomEvent from the native browser event. */
-            DomEvent domEvent = buildDomEvent(nativeEvent);
+            removeDelegatedListener(document, eventName, installed, !bubbles);
+        }
+        EventListener<Event> listener = nativeEvent -> dispatch(nativeEvent, bubbles);
+        addDelegatedListener(document, eventName, listener, !bubbles, passive);
+        if (passive) {
+            PASSIVE_LISTENERS.put(eventName, listener);
+        }
+    }
 
-            /* Dispatch to the current handler. */
-            handler.handle(domEvent);
+    /**
+     * Run the registered handlers for a native event, starting at its
+     * target and, for bubbling events, continuing through its ancestors.
+     *
+     * <p>Every handler that runs notifies the {@link StateManager} for its
+     * owning component. The walk ends at the document, or at the element
+     * whose handler called {@link DomEvent#stopPropagation()}.</p>
+     *
+     * @param nativeEvent the native browser event
+     * @param bubbles     false to dispatch to the target element only
+     */
+    private void dispatch(Event nativeEvent, boolean bubbles) {
+        String eventName = nativeEvent.getType();
+        DomEvent domEvent = null;
+        Node node = (Node) nativeEvent.getTarget();
 
-            /* Honor preventDefault / stopPropagation from the handler. */
-            if (domEvent.isDefaultPrevented()) {
-                nativeEvent.preventDefault();
+        while (node != null && node.getNodeType() != Node.DOCUMENT_NODE) {
+            if (node.getNodeType() == Node.ELEMENT_NODE) {
+                String eid = ((HTMLElement) node).getAttribute("data-jux-eid");
+                ElementHandlerEntry entry = (eid != null) ? HANDLER_REGISTRY.get(eid) : null;
+                EventHandler handler = (entry != null) ? entry.handlers.get(eventName) : null;
+
+                if (handler != null) {
+                    /* Build the JUX DomEvent once, from the original target. */
+                    if (domEvent == null) {
+                        domEvent = buildDomEvent(nativeEvent);
+                    }
+
+                    handler.handle(domEvent);
+
+                    /* Notify the state manager to schedule a re-render for the next frame. */
+                    if (entry.component != null) {
+                        ClientMain.getStateManager().notifyStateChange(entry.component);
+                    }
+
+                    if (domEvent.isPropagationStopped()) {
+                        nativeEvent.stopPropagation();
+                        break;
+                    }
+                }
             }
-            if (domEvent.isPropagationStopped()) {
-                nativeEvent.stopPropagation();
+            if (!bubbles) {
+                break;
             }
+            node = node.getParentNode();
+        }
 
-            /* Notify the state manager to trigger re-render if needed. */
-            if (component != null) {
-                ClientMain.getStateManager().notifyStateChange(component);
-            }
-        });
+        /* Honor preventDefault from any handler. */
+        if (domEvent != null && domEvent.isDefaultPrevented()) {
+            nativeEvent.preventDefault();
+        }
     }
 
     /**
@@ -808,6 +1553,26 @@ public class JuxDomBridge {
     @JSBody(params = {"element"}, script = "return element.value || '';")
     private static native String getInputValue(HTMLElement element);
 
+    @JSBody(params = {"target", "type", "listener", "capture", "passive"},
+            script = "target.addEventListener(type, listener, {capture: capture, passive: passive});")
+    private static native void addDelegatedListener(HTMLDocument target, String type,
+                                                    EventListener<Event> listener,
+                                                    boolean capture, boolean passive);
+
+    @JSBody(params = {"target", "type", "listener", "capture"},
+            script = "target.removeEventListener(type, listener, {capture: capture});")
+    private static native void removeDelegatedListener(HTMLDocument target, String type,
+                                                       EventListener<Event> listener,
+                                                       boolean capture);
+
+    @JSBody(params = {"element", "name", "on"}, script = "element.classList.toggle(name, on);")
+    private static native void toggleClass(HTMLElement element, String name, boolean on);
+
+    @JSBody(params = {"element", "property", "value"},
+            script = "if (value === null) { element.style.removeProperty(property); }"
+                    + " else { element.style.setProperty(property, value); }")
+    private static native void setStyleProperty(HTMLElement element, String property, String value);
+
     // ====================================================================
     //  Private helpers: DOM traversal utilities
     // ====================================================================
@@ -894,85 +1659,35 @@ public class JuxDomBridge {
     }
 
     /**
-     * Find the next {@link HTMLElement} child in a {@link NodeList},
-     * starting from the given index and skipping text/comment nodes.
+     * Snapshot the element children of a DOM element, in order.
      *
      * <p>The real DOM may contain text nodes (whitespace between tags),
      * comment nodes, and other non-element nodes that do not appear in
-     * the virtual tree. This method advances past them.</p>
-     *
-     * @param nodes      the child node list
-     * @param startIndex the index to start searching from
-     * @return the next HTMLElement child, or null if none found
-     */
-    private HTMLElement findNextElementChild(NodeList<Node> nodes, int startIndex) {
-        int length = nodes.getLength();
-
-        for (int i = startIndex; i < length; i++) {
-            Node node = nodes.item(i);
-
-            /*
-             * Check if this node is an element node (nodeType == 1).
-             * Text nodes are type 3, comment nodes are type 8.
-             */
-            if (node.getNodeType() == Node.ELEMENT_NODE) {
-                return (HTMLElement) node;
-            }
-        }
-
-        return null;
-    }
-
-    /**
-     * Find the index of a specific node within a {@link NodeList}.
-     *
-     * <p>Used to advance the real-child-index cursor during hydration
-     * after finding a matching element node.</p>
-     *
-     * @param nodes  the node list to search
-     * @param target the node to find
-     * @return the index of the node, or -1 if not found
-     */
-    private int indexOfNode(NodeList<Node> nodes, Node target) {
-        int length = nodes.getLength();
-
-        for (int i = 0; i < length; i++) {
-            if (nodes.item(i) == target) {
-                return i;
-            }
-        }
-
-        return -1;
-    }
-
-    /**
-     * Find the n-th element child of a parent element, skipping non-element
-     * nodes (text nodes, comment nodes).
-     *
-     * <p>This is used during child patching to map virtual child indices
-     * to real DOM element children. The virtual tree contains only element
-     * nodes, but the real DOM may intersperse text nodes for whitespace.</p>
+     * the virtual tree. They are skipped, so index i of the result
+     * corresponds to virtual child i. The live child list is read once;
+     * the snapshot stays valid while the nodes are moved or removed.</p>
      *
      * @param parent the parent DOM element
-     * @param n      the zero-based index of the desired element child
-     * @return the n-th element child, or null if fewer element children exist
+     * @return the parent's element children
      */
-    private HTMLElement findNthElementChild(HTMLElement parent, int n) {
+    static HTMLElement[] elementChildren(HTMLElement parent) {
         NodeList<Node> childNodes = parent.getChildNodes();
         int length = childNodes.getLength();
-        int elementCount = 0;
+        HTMLElement[] elements = new HTMLElement[length];
+        int count = 0;
 
         for (int i = 0; i < length; i++) {
             Node node = childNodes.item(i);
 
+            /*
+             * Check if this node is an element node (nodeType == 1).
+             * Text nodes are type 3, comment nodes are type 8.
+             */
             if (node.getNodeType() == Node.ELEMENT_NODE) {
-                if (elementCount == n) {
-                    return (HTMLElement) node;
-                }
-                elementCount++;
+                elements[count++] = (HTMLElement) node;
             }
         }
 
-        return null;
+        return (count == length) ? elements : Arrays.copyOf(elements, count);
     }
 }
@@ -13,14 +13,22 @@
 
 package xss.it.jux.client;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
+import org.teavm.jso.JSBody;
+import org.teavm.jso.browser.Window;
 import org.teavm.jso.dom.html.HTMLElement;
+import org.teavm.jso.dom.xml.Node;
 
 import xss.it.jux.core.Component;
 import xss.it.jux.core.Element;
+import xss.it.jux.core.RenderMemo;
 
 /**
  * Manages reactive state for client-side JUX components, triggering re-render
@@ -29,15 +37,31 @@ import xss.it.jux.core.Element;
  * <h2>Reactive State Model</h2>
  * <p>JUX components declare reactive fields with the {@code @State} annotation.
  * When a component's event handler modifies state, the framework calls
- * {@link #notifyStateChange(Object)} which unconditionally re-renders the
- * component and patches the DOM.</p>
+ * {@link #notifyStateChange(Object)}, which marks the component dirty.</p>
+ *
+ * <h2>Frame Batching</h2>
+ * <p>Dirty components are not re-rendered on the spot. They are queued, and
+ * the queue is flushed once per {@code requestAnimationFrame}, right before
+ * the browser paints:</p>
+ * <ul>
+ *   <li>Any number of notifications for the same component within a frame
+ *       (every keystroke, every {@code mousemove}, every resolved request)
+ *       coalesce into a single {@code render()} and {@code patch()}.</li>
+ *   <li>Queued components are rendered parents first, ordered by the DOM
+ *       depth of their root element. A component whose root lies inside
+ *       the root of a component already re-rendered in the same flush is
+ *       rendered after it, diffing against the part of the enclosing
+ *       component's new tree that its DOM now shows.</li>
+ * </ul>
+ * <p>Code that needs the DOM to be up to date immediately (e.g. to measure
+ * or focus a freshly rendered element) can call {@link #flush()}.</p>
  *
  * <h2>TeaVM Compatibility</h2>
  * <p>This implementation avoids all Java reflection (no {@code getDeclaredFields},
  * no {@code Field.get()}, no {@code isAnnotationPresent}) because TeaVM's
  * ahead-of-time compiler does not reliably support reflective field access.
  * Instead, the state manager takes a simple approach: every notification
- * triggers a re-render. The DOM diff/patch algorithm in {@link JuxDomBridge}
+ * schedules a re-render. The DOM diff/patch algorithm in {@link JuxDomBridge}
  * ensures only actual changes are applied to the DOM.</p>
  *
  * @see JuxDomBridge#patch(HTMLElement, Element, Element)
@@ -63,20 +87,38 @@ public class StateManager {
         /** The root DOM element that this component hydrated into. */
         HTMLElement rootElement;
 
-        /** The virtual tree from the most recent render. */
+        /** The virtual tree from the most recent render; null until a deferred component renders. */
         Element currentTree;
 
+        /**
+         * Renders the tree the server-rendered DOM shows, as the "old" tree
+         * of a deferred component's first render. Null once it has rendered.
+         */
+        Supplier<Element> serverTree;
+
+        /** Whether the entry is waiting in the dirty queue. */
+        boolean dirty;
+
+        /** DOM depth of the root element, computed when the queue is flushed. */
+        int depth;
+
+        /** Child subtrees of the previous render, reused while their props are unchanged. */
+        RenderMemo memo;
+
         /**
          * Construct a new component entry.
          *
          * @param component   the component instance
          * @param rootElement the root DOM element
-         * @param currentTree the initial virtual tree
+         * @param currentTree the initial virtual tree, or null for a deferred component
+         * @param memo        the memo the initial tree was rendered through
          */
-        ComponentEntry(Component component, HTMLElement rootElement, Element currentTree) {
+        ComponentEntry(Component component, HTMLElement rootElement, Element currentTree,
+                       RenderMemo memo) {
             this.component = component;
             this.rootElement = rootElement;
             this.currentTree = currentTree;
+            this.memo = memo;
         }
     }
 
@@ -91,6 +133,12 @@ public class StateManager {
      */
     private final Map<Integer, ComponentEntry> entries = new HashMap<>();
 
+    /** Components notified since the last flush, in notification order. */
+    private final List<ComponentEntry> dirtyQueue = new ArrayList<>();
+
+    /** Whether an animation frame has been requested to flush the queue. */
+    private boolean frameRequested;
+
     /**
      * Construct a new StateManager.
      *
@@ -114,25 +162,105 @@ public class StateManager {
      * @throws NullPointerException if any argument is null
      */
     public void registerComponent(Object component, HTMLElement root, Element initialTree) {
+        registerComponent(component, root, initialTree, new RenderMemo());
+    }
+
+    /**
+     * Register a hydrated component whose initial tree was rendered through
+     * the given memo, so that the first re-render can already reuse the
+     * subtrees of unchanged child components.
+     *
+     * @param component   the component instance that was just hydrated
+     * @param root        the root DOM element that this component is rendered into
+     * @param initialTree the virtual Element tree from the initial render
+     * @param memo        the memo {@code initialTree} was rendered with
+     * @throws NullPointerException if any argument is null
+     */
+    public void registerComponent(Object component, HTMLElement root, Element initialTree,
+                                  RenderMemo memo) {
         Objects.requireNonNull(component, "Component must not be null");
         Objects.requireNonNull(root, "Root DOM element must not be null");
         Objects.requireNonNull(initialTree, "Initial virtual tree must not be null");
+        Objects.requireNonNull(memo, "Render memo must not be null");
 
         ComponentEntry entry = new ComponentEntry(
-                (Component) component, root, initialTree);
+                (Component) component, root, initialTree, memo);
 
         int key = System.identityHashCode(component);
         entries.put(key, entry);
     }
 
+    /**
+     * Register a component that was mounted without rendering, for
+     * resumable hydration.
+     *
+     * <p>The component's DOM is still exactly what the server rendered. It
+     * renders for the first time either when {@link ClientMain} resumes it
+     * on its first event (see {@link #resume}) or when its state changes
+     * first, e.g. from a timer or a request started in {@code onMount()}.
+     * In the latter case its state is already modified, so the diff of
+     * that first re-render starts from {@code serverTree} instead: a render
+     * of the state the server rendered with.</p>
+     *
+     * @param component  the mounted component
+     * @param root       the component's server-rendered root element
+     * @param serverTree renders the tree the server-rendered DOM shows
+     * @throws NullPointerException if any argument is null
+     */
+    public void registerDeferred(Object component, HTMLElement root, Supplier<Element> serverTree) {
+        Objects.requireNonNull(component, "Component must not be null");
+        Objects.requireNonNull(root, "Root DOM element must not be null");
+        Objects.requireNonNull(serverTree, "Server tree supplier must not be null");
+
+        ComponentEntry entry = new ComponentEntry(
+                (Component) component, root, null, new RenderMemo());
+        entry.serverTree = serverTree;
+
+        entries.put(System.identityHashCode(component), entry);
+    }
+
+    /**
+     * Whether a component was registered with {@link #registerDeferred} and
+     * has not rendered yet.
+     *
+     * @param component the component
+     * @return true if the component is registered and still deferred
+     */
+    public boolean isDeferred(Object component) {
+        ComponentEntry entry = entries.get(System.identityHashCode(component));
+        return entry != null && entry.currentTree == null;
+    }
+
+    /**
+     * Record the first render of a deferred component, which has just been
+     * attached to its server-rendered DOM.
+     *
+     * @param component the deferred component
+     * @param tree      the virtual tree of its first render
+     * @param memo      the memo {@code tree} was rendered with
+     * @throws NullPointerException if tree or memo is null
+     */
+    public void resume(Object component, Element tree, RenderMemo memo) {
+        Objects.requireNonNull(tree, "Virtual tree must not be null");
+        Objects.requireNonNull(memo, "Render memo must not be null");
+
+        ComponentEntry entry = entries.get(System.identityHashCode(component));
+        if (entry != null && entry.currentTree == null) {
+            entry.currentTree = tree;
+            entry.memo = memo;
+            entry.serverTree = null;
+        }
+    }
+
     /**
      * Notify the state manager that a component's state may have changed,
-     * triggering a re-render and DOM patch.
+     * scheduling a re-render and DOM patch for the next animation frame.
      *
      * <p>This method is the core of JUX's client-side reactivity. It is
-     * called after every event handler execution. The method unconditionally
-     * re-renders the component and patches the DOM — the diff algorithm
-     * in {@link JuxDomBridge#patch} ensures only actual changes are applied.</p>
+     * called after every event handler execution. The component is queued
+     * at most once per frame; on the frame, it is re-rendered and the DOM
+     * patched &mdash; the diff algorithm in {@link JuxDomBridge#patch}
+     * ensures only actual changes are applied.</p>
      *
      * <p>This approach avoids reflection-based field tracking, which is
      * incompatible with TeaVM's ahead-of-time compilation.</p>
@@ -146,11 +274,82 @@ public class StateManager {
         int key = System.identityHashCode(component);
         ComponentEntry entry = entries.get(key);
 
-        if (entry == null) {
+        if (entry == null || entry.dirty) {
             return;
         }
 
-        performReRender(entry);
+        entry.dirty = true;
+        dirtyQueue.add(entry);
+
+        if (!frameRequested) {
+            frameRequested = true;
+            Window.requestAnimationFrame(timestamp -> {
+                frameRequested = false;
+                flush();
+            });
+        }
+    }
+
+    /**
+     * Re-render every component notified since the last flush, now.
+     *
+     * <p>Called automatically once per animation frame while components are
+     * dirty. Components are rendered parents first. The patch of an
+     * enclosing component rewrites a nested component's DOM from the
+     * enclosing component's tree, so before a nested component renders, its
+     * stored tree is replaced with the matching subtree of that new tree;
+     * its own render then restores its state on top. A nested component
+     * whose root was replaced by the enclosing patch is no longer in the
+     * document and is skipped. Notifications raised while flushing (e.g.
+     * from a {@code render()} method) are queued for the next frame.</p>
+     */
+    public void flush() {
+        if (dirtyQueue.isEmpty()) {
+            return;
+        }
+
+        List<ComponentEntry> batch = new ArrayList<>(dirtyQueue);
+        dirtyQueue.clear();
+
+        /* Order by DOM depth so that parents render before their children. */
+        for (ComponentEntry entry : batch) {
+            entry.depth = depth(entry.rootElement);
+        }
+        batch.sort(Comparator.comparingInt(entry -> entry.depth));
+
+        List<ComponentEntry> rendered = new ArrayList<>();
+        for (ComponentEntry entry : batch) {
+            entry.dirty = false;
+
+            ComponentEntry enclosing = enclosingRendered(entry, rendered);
+            if (enclosing != null) {
+                Element shown = renderedSubtree(enclosing, entry.rootElement);
+                if (shown == null) {
+                    continue;
+                }
+                entry.currentTree = shown;
+                entry.serverTree = null;
+            }
+            performReRender(entry);
+            rendered.add(entry);
+        }
+    }
+
+    /**
+     * Returns how often each component class in a component's tree has been
+     * rendered and how often a re-render was skipped because its props were
+     * unchanged.
+     *
+     * <p>Covers the registered component itself (always executed) and every
+     * child embedded via {@link Element#child(Component)}. Useful for
+     * checking that {@link Component#props()} is effective.</p>
+     *
+     * @param component a registered component
+     * @return counts per fully-qualified class name, empty if not registered
+     */
+    public Map<String, RenderMemo.RenderCount> renderCounts(Object component) {
+        ComponentEntry entry = entries.get(System.identityHashCode(component));
+        return (entry != null) ? entry.memo.counts() : Map.of();
     }
 
     /**
@@ -164,15 +363,118 @@ public class StateManager {
     public void unregisterComponent(Object component) {
         if (component != null) {
             int key = System.identityHashCode(component);
-            entries.remove(key);
+            ComponentEntry entry = entries.remove(key);
+            if (entry != null && entry.dirty) {
+                entry.dirty = false;
+                dirtyQueue.remove(entry);
+            }
+        }
+    }
+
+    /**
+     * Count the ancestors of a DOM node.
+     *
+     * @param node the node
+     * @return the number of parent links up to the document
+     */
+    private static int depth(Node node) {
+        int depth = 0;
+        for (Node parent = node.getParentNode(); parent != null; parent = parent.getParentNode()) {
+            depth++;
         }
+        return depth;
     }
 
+    /**
+     * Find the innermost component re-rendered in this flush whose root
+     * strictly contains an entry's root.
+     *
+     * @param entry    the entry about to render
+     * @param rendered entries already re-rendered, outermost first
+     * @return the innermost enclosing entry, or null if none encloses it
+     */
+    private static ComponentEntry enclosingRendered(ComponentEntry entry, List<ComponentEntry> rendered) {
+        for (int i = rendered.size() - 1; i >= 0; i--) {
+            HTMLElement ancestor = rendered.get(i).rootElement;
+            if (ancestor != entry.rootElement && contains(ancestor, entry.rootElement)) {
+                return rendered.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Locate the part of an enclosing component's current tree that a
+     * nested DOM node was just patched from.
+     *
+     * <p>After {@link JuxDomBridge#patch}, the element children of every
+     * patched node are, in order, the children of its virtual element, so
+     * the node's element-index path below the enclosing root is also its
+     * path in the enclosing tree.</p>
+     *
+     * @param enclosing the enclosing component, already re-rendered
+     * @param node      a DOM element inside the enclosing component's root
+     * @return the virtual element the node now shows, or null if it was
+     *         detached or does not line up with the tree
+     */
+    private static Element renderedSubtree(ComponentEntry enclosing, HTMLElement node) {
+        if (enclosing.currentTree == null || !contains(enclosing.rootElement, node)) {
+            return null;
+        }
+        List<Integer> path = new ArrayList<>();
+        for (HTMLElement current = node; current != enclosing.rootElement; ) {
+            HTMLElement parent = (HTMLElement) current.getParentNode();
+            HTMLElement[] siblings = JuxDomBridge.elementChildren(parent);
+            int index = 0;
+            while (index < siblings.length && siblings[index] != current) {
+                index++;
+            }
+            path.add(0, index);
+            current = parent;
+        }
+        return subtreeAt(enclosing.currentTree, path, node.getTagName());
+    }
+
+    /**
+     * Follow a path of child indices down a virtual tree.
+     *
+     * @param tree the tree to descend
+     * @param path child indices from the tree's root
+     * @param tag  the tag the element at the end of the path must have
+     *             (compared case-insensitively, as DOM tag names are upper case)
+     * @return the element at the path, or null if the path leaves the tree
+     *         or ends at an element with another tag
+     */
+    static Element subtreeAt(Element tree, List<Integer> path, String tag) {
+        Element current = tree;
+        for (int index : path) {
+            List<Element> children = current.getChildren();
+            if (index < 0 || index >= children.size()) {
+                return null;
+            }
+            current = children.get(index);
+        }
+        return current.getTag().equalsIgnoreCase(tag) ? current : null;
+    }
+
+    /**
+     * Native {@code Node.contains}, which TeaVM's {@link Node} does not expose.
+     *
+     * @param ancestor the candidate ancestor
+     * @param node     the node to look for
+     * @return true if {@code node} is {@code ancestor} or one of its descendants
+     */
+    @JSBody(params = {"ancestor", "node"}, script = "return ancestor.contains(node);")
+    private static native boolean contains(HTMLElement ancestor, HTMLElement node);
+
     /**
      * Perform a full re-render cycle for a component.
      *
      * <ol>
-     *   <li>Call {@code component.render()} to produce the new virtual tree.</li>
+     *   <li>Call {@code component.render()} through the entry's
+     *       {@link RenderMemo} to produce the new virtual tree; child
+     *       components with unchanged props contribute their previous
+     *       subtree, which {@code patch()} then skips.</li>
      *   <li>Call {@code bridge.patch(rootElement, oldTree, newTree)} to diff
      *       the trees and apply minimal DOM mutations.</li>
      *   <li>Re-bind event handlers from the new tree.</li>
@@ -183,7 +485,7 @@ public class StateManager {
      */
     private void performReRender(ComponentEntry entry) {
         try {
-            Element newTree = entry.component.render();
+            Element newTree = entry.memo.render(entry.component);
 
             if (newTree == null) {
                 System.err.println("[JUX ERROR] Component "
@@ -193,6 +495,10 @@ public class StateManager {
             }
 
             Element oldTree = entry.currentTree;
+            if (oldTree == null) {
+                /* First render of a deferred component: its DOM still shows the server's render. */
+                oldTree = entry.serverTree.get();
+            }
             JuxDomBridge bridge = ClientMain.getDomBridge();
 
             /*
@@ -212,6 +518,7 @@ public class StateManager {
              */
 
             entry.currentTree = newTree;
+            entry.serverTree = null;
 
         } catch (Exception e) {
             System.err.println("[JUX ERROR] Re-render failed for "
@@ -0,0 +1,66 @@
+package xss.it.jux.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import xss.it.jux.core.Element;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static xss.it.jux.core.Elements.*;
+
+/**
+ * Tests for the part of {@link StateManager#flush()} that runs without a
+ * browser: locating the subtree of an enclosing component's new tree that a
+ * nested dirty component's DOM was just patched from.
+ */
+class StateManagerTest {
+
+    /** A parent's new tree embedding a nested component's root at [1, 0]. */
+    private static Element parentTree(String nestedText) {
+        return div().children(
+            h2().text("Parent"),
+            section().children(
+                div().attr("data-jux-id", "counter-2").children(
+                    span().text(nestedText)
+                )
+            )
+        );
+    }
+
+    @Test
+    @DisplayName("A nested dirty component diffs against the ancestor's new subtree")
+    void nestedDirty_usesAncestorsNewSubtree() {
+        Element tree = parentTree("0");
+
+        Element shown = StateManager.subtreeAt(tree, List.of(1, 0), "DIV");
+
+        assertThat(shown).isSameAs(tree.getChildren().get(1).getChildren().get(0));
+        assertThat(shown.getChildren().get(0).getTextContent()).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("The root itself is found by the empty path")
+    void emptyPath_isTheRoot() {
+        Element tree = parentTree("0");
+
+        assertThat(StateManager.subtreeAt(tree, List.of(), "div")).isSameAs(tree);
+    }
+
+    @Test
+    @DisplayName("A path that leaves the tree finds nothing")
+    void pathOutsideTree_isNull() {
+        Element tree = parentTree("0");
+
+        assertThat(StateManager.subtreeAt(tree, List.of(1, 3), "DIV")).isNull();
+        assertThat(StateManager.subtreeAt(tree, List.of(0, 0), "DIV")).isNull();
+    }
+
+    @Test
+    @DisplayName("An element with another tag at the path finds nothing")
+    void tagMismatch_isNull() {
+        Element tree = parentTree("0");
+
+        assertThat(StateManager.subtreeAt(tree, List.of(1, 0), "SPAN")).isNull();
+    }
+}
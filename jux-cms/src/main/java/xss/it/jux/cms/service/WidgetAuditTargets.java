@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.cms.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import xss.it.jux.cms.model.WidgetInstance;
+import xss.it.jux.cms.widget.PropField;
+import xss.it.jux.cms.widget.WidgetDefinition;
+import xss.it.jux.cms.widget.WidgetRegistry;
+import xss.it.jux.server.a11y.A11yAuditTarget;
+import xss.it.jux.server.a11y.A11yAuditTargetProvider;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contributes every registered widget type to the build-time accessibility audit.
+ *
+ * <p>CMS pages are assembled from database content, so no route renders every
+ * widget type on its own. For each type in the {@link WidgetRegistry}, this
+ * provider renders a {@link WidgetInstance} through the {@link WidgetRenderer}
+ * -- the same wrapper, styling and ARIA handling as a real page -- with a sample
+ * value for every prop in the widget's schema:</p>
+ *
+ * <ul>
+ *   <li>the prop's declared default value, if it has one</li>
+ *   <li>otherwise the first allowed value for {@code ENUM} props</li>
+ *   <li>otherwise a placeholder of the prop's type (text, number, URL, image path, ...)</li>
+ * </ul>
+ *
+ * <p>Filling optional props as well as required ones puts the widget's fullest
+ * markup in front of the audit. Targets are reported as {@code widget:<type>}.
+ * The provider does nothing at runtime; it is only consulted by
+ * {@link xss.it.jux.server.a11y.A11yBuildAudit}.</p>
+ *
+ * @see A11yAuditTargetProvider
+ * @see WidgetRenderer
+ */
+@org.springframework.stereotype.Component
+public class WidgetAuditTargets implements A11yAuditTargetProvider {
+
+    /**
+     * Widget registry listing the types to audit.
+     */
+    @Autowired
+    private WidgetRegistry registry;
+
+    /**
+     * Renderer used to render each sample widget instance.
+     */
+    @Autowired
+    private WidgetRenderer renderer;
+
+    /**
+     * Create one audit target per registered widget type.
+     *
+     * @return the widget targets, in registration order
+     */
+    @Override
+    public List<A11yAuditTarget> auditTargets() {
+        List<A11yAuditTarget> targets = new ArrayList<>();
+        for (String type : registry.allTypes()) {
+            WidgetDefinition definition = registry.get(type).orElseThrow();
+            WidgetInstance instance = new WidgetInstance(
+                    "a11y-audit-" + type, type, sampleProps(definition), null, null);
+            targets.add(new A11yAuditTarget("widget:" + type, () -> renderer.render(instance)));
+        }
+        return targets;
+    }
+
+    /**
+     * Build a props map with a sample value for every prop in the widget's schema.
+     *
+     * @param definition the widget definition
+     * @return the sample props, in schema order
+     */
+    static Map<String, Object> sampleProps(WidgetDefinition definition) {
+        Map<String, Object> props = new LinkedHashMap<>();
+        if (definition.schema() == null) {
+            return props;
+        }
+        for (PropField field : definition.schema().fields()) {
+            Object value = sampleValue(field);
+            if (value != null) {
+                props.put(field.key(), value);
+            }
+        }
+        return props;
+    }
+
+    /**
+     * Choose a sample value for a single prop.
+     *
+     * @param field the prop field
+     * @return the default value, the first enum value, or a placeholder of the prop's type
+     */
+    static Object sampleValue(PropField field) {
+        if (field.defaultValue() != null) {
+            return field.defaultValue();
+        }
+        return switch (field.type()) {
+            case STRING, TEXT, RICH_TEXT -> "Sample " + field.key();
+            case INT -> 1;
+            case DOUBLE -> 1.0;
+            case BOOLEAN -> true;
+            case URL -> "https://example.com/";
+            case EMAIL -> "user@example.com";
+            case IMAGE -> "/images/sample.png";
+            case VIDEO -> "/videos/sample.mp4";
+            case COLOR -> "#000000";
+            case ENUM -> field.enumValues() != null && !field.enumValues().isEmpty()
+                    ? field.enumValues().getFirst() : null;
+            case DATE -> "2026-01-01";
+            case LIST -> List.of();
+            case OBJECT -> Map.of();
+            case ICON -> "star";
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package xss.it.jux.cms.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import xss.it.jux.cms.model.WidgetInstance;
+import xss.it.jux.cms.widget.PropField;
+import xss.it.jux.cms.widget.PropSchema;
+import xss.it.jux.cms.widget.PropType;
+import xss.it.jux.cms.widget.WidgetCategory;
+import xss.it.jux.cms.widget.WidgetRegistry;
+import xss.it.jux.core.Component;
+import xss.it.jux.core.Element;
+import xss.it.jux.server.a11y.A11yAuditTarget;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link WidgetAuditTargets} -- the provider that puts every
+ * registered widget type in front of the build-time accessibility audit.
+ */
+@DisplayName("WidgetAuditTargets")
+class WidgetAuditTargetsTest {
+
+    static class HeroWidget extends Component {
+        @Override
+        public Element render() {
+            return Element.of("div");
+        }
+    }
+
+    private WidgetRegistry registry;
+    private WidgetRenderer renderer;
+    private WidgetAuditTargets provider;
+
+    @BeforeEach
+    void setUp() {
+        registry = new WidgetRegistry();
+        renderer = mock(WidgetRenderer.class);
+        provider = new WidgetAuditTargets();
+        ReflectionTestUtils.setField(provider, "registry", registry);
+        ReflectionTestUtils.setField(provider, "renderer", renderer);
+    }
+
+    @Nested
+    @DisplayName("auditTargets")
+    class AuditTargets {
+
+        @Test
+        @DisplayName("creates one target per registered widget type")
+        void onePerType() {
+            registry.register("hero", HeroWidget.class, "Hero", "image", WidgetCategory.HERO,
+                PropSchema.builder().build());
+            registry.register("banner", HeroWidget.class, "Banner", "image", WidgetCategory.HERO,
+                PropSchema.builder().build());
+
+            assertThat(provider.auditTargets()).extracting(A11yAuditTarget::name)
+                .containsExactly("widget:hero", "widget:banner");
+        }
+
+        @Test
+        @DisplayName("renders through the WidgetRenderer with sample props")
+        void rendersSampleInstance() {
+            registry.register("hero", HeroWidget.class, "Hero", "image", WidgetCategory.HERO,
+                PropSchema.builder()
+                    .prop("heading", PropType.STRING, "Main heading", true)
+                    .prop("image", PropType.IMAGE, "Background", false)
+                    .build());
+            Element rendered = Element.of("section");
+            when(renderer.render(any())).thenReturn(rendered);
+
+            A11yAuditTarget target = provider.auditTargets().getFirst();
+
+            assertThat(target.renderer().get()).isSameAs(rendered);
+            verify(renderer).render(new WidgetInstance("a11y-audit-hero", "hero",
+                Map.of("heading", "Sample heading", "image", "/images/sample.png"), null, null));
+        }
+    }
+
+    @Nested
+    @DisplayName("sampleValue")
+    class SampleValue {
+
+        @Test
+        @DisplayName("prefers the declared default value")
+        void defaultValue() {
+            var field = new PropField("count", PropType.INT, "", false, 5, List.of(), null);
+
+            assertThat(WidgetAuditTargets.sampleValue(field)).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("uses the first allowed value of an enum")
+        void enumValue() {
+            var field = new PropField("size", PropType.ENUM, "", true, null, List.of("sm", "md"), null);
+
+            assertThat(WidgetAuditTargets.sampleValue(field)).isEqualTo("sm");
+        }
+
+        @Test
+        @DisplayName("skips an enum without allowed values")
+        void emptyEnum() {
+            var field = new PropField("size", PropType.ENUM, "", true, null, List.of(), null);
+
+            assertThat(WidgetAuditTargets.sampleValue(field)).isNull();
+        }
+
+        @Test
+        @DisplayName("falls back to a placeholder of the prop's type")
+        void placeholders() {
+            assertThat(WidgetAuditTargets.sampleValue(
+                new PropField("title", PropType.STRING, "", true, null, List.of(), null))).isEqualTo("Sample title");
+            assertThat(WidgetAuditTargets.sampleValue(
+                new PropField("n", PropType.INT, "", true, null, List.of(), null))).isEqualTo(1);
+            assertThat(WidgetAuditTargets.sampleValue(
+                new PropField("link", PropType.URL, "", true, null, List.of(), null))).isEqualTo("https://example.com/");
+        }
+    }
+}
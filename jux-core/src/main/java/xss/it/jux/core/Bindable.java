@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.core;
+
+/**
+ * A value that can change over time and notify listeners when it does,
+ * used to bind parts of an {@link Element} directly to live state.
+ *
+ * <p>An element built with {@link Element#bindText(Bindable)},
+ * {@link Element#bindAttr(String, Bindable)}, {@link Element#bindClass(String, Bindable)}
+ * or {@link Element#bindStyle(String, Bindable)} takes the value's current
+ * state when it is built, so server-side rendering is unaffected. On the
+ * client, the DOM bridge subscribes the real DOM node to the value: each
+ * change rewrites exactly that text, attribute, class or style property,
+ * without calling {@code render()} or diffing the component tree.</p>
+ *
+ * <p>Every {@code jux-reactive} {@code ObservableValue} (properties and
+ * bindings alike) is a {@code Bindable}:</p>
+ * <pre>{@code
+ * StringProperty status = new SimpleStringProperty("Idle");
+ * BooleanProperty busy = new SimpleBooleanProperty(false);
+ *
+ * span().bindText(status).bindClass("spinner", busy)
+ * }</pre>
+ *
+ * @param <T> the type of the value
+ * @see ElementBinding
+ */
+public interface Bindable<T> {
+
+    /**
+     * Returns the current value.
+     *
+     * @return the current value, may be null
+     */
+    T getValue();
+
+    /**
+     * Register a listener to run whenever the value may have changed.
+     *
+     * <p>The listener reads the new value with {@link #getValue()}. It may be
+     * called when the value was invalidated but ends up equal to before.</p>
+     *
+     * @param listener the callback to run on change
+     * @return a handle that unregisters the listener when run; running it
+     *         more than once has no further effect
+     */
+    Runnable observe(Runnable listener);
+}
@@ -13,6 +13,8 @@
 
 package xss.it.jux.core;
 
+import java.util.Objects;
+
 /**
  * Base class for every JUX UI component -- widgets, layouts, cards, navbars.
  *
@@ -34,7 +36,8 @@ package xss.it.jux.core;
  *
  * <p><b>Lifecycle (Client, if {@code @JuxComponent(clientSide = true)}):</b></p>
  * <ol>
- *   <li>Hydrated from server-rendered HTML via {@code data-jux-id} attributes</li>
+ *   <li>Hydrated from server-rendered HTML via {@code data-jux-id} attributes,
+ *       after {@link #restoreState} with the state saved on the server</li>
  *   <li>{@code @OnMount} method called after hydration</li>
  *   <li>{@code @State} changes trigger re-render + DOM diff/patch</li>
  *   <li>{@code @OnUnmount} method called on removal</li>
@@ -74,6 +77,115 @@ public abstract class Component {
      */
     public abstract Element render();
 
+    /**
+     * The inputs this component renders from, used to skip re-rendering it
+     * when it is embedded via {@link Element#child(Component)}.
+     *
+     * <p>On the client, when a parent component re-renders and creates this
+     * child again with props equal to the previous render's (as decided by
+     * {@link #shouldUpdate(Object)}), the child's {@link #render()} is not
+     * called: its previous subtree is reused as-is, and the DOM bridge
+     * skips diffing it. A record of the fields {@code render()} reads is
+     * the natural choice:</p>
+     * <pre>{@code
+     * public class PriceTag extends Component {
+     *     private final Money amount;
+     *     private final Locale locale;
+     *
+     *     @Override
+     *     public Object props() {
+     *         return new Props(amount, locale);
+     *     }
+     *
+     *     private record Props(Money amount, Locale locale) {}
+     * }
+     * }</pre>
+     *
+     * <p>The default, {@code null}, opts out: the component is rendered
+     * every time. Server-side rendering always calls {@code render()}.</p>
+     *
+     * @return the props of this instance, or null to disable memoization
+     * @see RenderMemo
+     */
+    public Object props() {
+        return null;
+    }
+
+    /**
+     * Decide whether this component must re-render, given the props of the
+     * instance rendered in the same place last time.
+     *
+     * <p>Only consulted when {@link #props()} returns non-null. The default
+     * re-renders unless the props are {@link Object#equals equal}. Override
+     * to compare only what affects the output.</p>
+     *
+     * @param previousProps the previous instance's {@link #props()}, never null
+     * @return true to call {@link #render()}, false to reuse the previous subtree
+     */
+    public boolean shouldUpdate(Object previousProps) {
+        return !Objects.equals(previousProps, props());
+    }
+
+    /**
+     * Record the state this component was rendered with, for transfer to
+     * the client.
+     *
+     * <p>Called for {@code @JuxComponent(clientSide = true)} components right
+     * after {@link #render()} when they are embedded via
+     * {@link Element#child(Component)}. Whatever is stored here is emitted
+     * in the {@code data-jux-state} attribute during SSR and handed to
+     * {@link #restoreState(ComponentState)} on the client before the first
+     * render. Store the {@code @State} fields, and any data loaded on the
+     * server that {@code render()} reads, so that hydration reproduces the
+     * server's DOM without fetching it again.</p>
+     *
+     * <p>The {@code jux-processor} annotation processor generates a
+     * {@code <ClassName>State} class for each client-side component, whose
+     * static {@code save} and {@code restore} methods copy its non-private
+     * {@code @State} fields by name. Delegate to them rather than listing the
+     * fields by hand; the generated code needs no reflection, so it runs
+     * unchanged under TeaVM:</p>
+     * <pre>{@code
+     * @Override
+     * public void saveState(ComponentState state) {
+     *     CounterState.save(this, state);
+     * }
+     *
+     * @Override
+     * public void restoreState(ComponentState state) {
+     *     CounterState.restore(this, state);
+     * }
+     * }</pre>
+     *
+     * <p>The default implementation stores nothing, and the component is
+     * hydrated from its initial field values.</p>
+     *
+     * @param state the snapshot to fill
+     * @see ComponentState
+     */
+    public void saveState(ComponentState state) {
+        // No-op by default. Override to transfer state to the client.
+    }
+
+    /**
+     * Restore the state recorded by {@link #saveState(ComponentState)} on
+     * the server.
+     *
+     * <p>Called by the JUX client runtime on a freshly created instance,
+     * before its first {@link #render()} and before {@link #onMount()}. It is
+     * only called when the server stored at least one value, so a component
+     * can use the presence of a value to skip fetching data in
+     * {@code onMount()}. It is <b>not</b> called during server-side
+     * rendering.</p>
+     *
+     * <p>The default implementation does nothing.</p>
+     *
+     * @param state the state stored on the server, never empty
+     */
+    public void restoreState(ComponentState state) {
+        // No-op by default. Override to pick up state transferred from the server.
+    }
+
     /**
      * Client-side lifecycle hook invoked after this component is hydrated.
      *
@@ -0,0 +1,626 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+package xss.it.jux.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Named state values of a client-side component, transferred from the server
+ * render to the client so that hydration starts from the state the HTML was
+ * rendered with.
+ *
+ * <p>When a {@code @JuxComponent(clientSide = true)} component is embedded via
+ * {@link Element#child(Component)}, its {@link Component#saveState} fills a
+ * snapshot right after {@link Component#render()}. A non-empty snapshot is
+ * emitted as JSON in the {@code data-jux-state} attribute next to
+ * {@code data-jux-id}. On the client, the runtime parses it and passes it to
+ * {@link Component#restoreState} before the first render, so the hydrated
+ * tree matches the server's DOM and data the server already had need not be
+ * fetched again.</p>
+ *
+ * <p>Supported values are {@code null}, strings, booleans, numbers,
+ * characters and enums (stored as their string form and name), and
+ * collections and string-keyed maps of those, nested to any depth.
+ * After a round trip, integral numbers come back as {@code Long}, other
+ * numbers as {@code Double}, collections as lists and enums as strings; the
+ * typed getters convert them back.</p>
+ *
+ * <p>For {@code @State} fields, the annotation processor generates the calls
+ * below in a {@code <ClassName>State} class (see
+ * {@link Component#saveState}). Write them by hand for other data the
+ * render depends on:</p>
+ *
+ * <pre>{@code
+ * @Override
+ * public void saveState(ComponentState state) {
+ *     state.put("query", query).put("page", page);
+ * }
+ *
+ * @Override
+ * public void restoreState(ComponentState state) {
+ *     query = state.getString("query", query);
+ *     page = state.getInt("page", page);
+ * }
+ * }</pre>
+ *
+ * <p>Instances are not thread-safe.</p>
+ *
+ * @see Component#saveState(ComponentState)
+ * @see Component#restoreState(ComponentState)
+ */
+public final class ComponentState {
+
+    /** The values by name, in insertion order. */
+    private final Map<String, Object> values = new LinkedHashMap<>();
+
+    /**
+     * Creates an empty state.
+     */
+    public ComponentState() {
+    }
+
+    // ── Writing ──────────────────────────────────────────────────
+
+    /**
+     * Stores a value, replacing any previous value of the same name.
+     *
+     * @param name  the value's name, typically the field name
+     * @param value the value, see the class documentation for supported types
+     * @return this state for chaining
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if the value (or a nested value) has
+     *                                  an unsupported type or is a non-finite number
+     */
+    public ComponentState put(String name, Object value) {
+        Objects.requireNonNull(name, "name must not be null");
+        values.put(name, normalize(name, value));
+        return this;
+    }
+
+    // ── Reading ──────────────────────────────────────────────────
+
+    /**
+     * Whether a value of the given name is present (it may be {@code null}).
+     *
+     * @param name the value's name
+     * @return true if the name was stored
+     */
+    public boolean has(String name) {
+        return values.containsKey(name);
+    }
+
+    /**
+     * Whether no value has been stored.
+     *
+     * @return true if the state is empty
+     */
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    /**
+     * Returns the names of all stored values, in insertion order.
+     *
+     * @return an unmodifiable view of the names
+     */
+    public Set<String> names() {
+        return Collections.unmodifiableSet(values.keySet());
+    }
+
+    /**
+     * Returns a raw value: a {@code String}, {@code Boolean}, {@code Long},
+     * {@code Double}, {@code List}, {@code Map} or {@code null}.
+     *
+     * @param name the value's name
+     * @return the value, or null if absent
+     */
+    public Object get(String name) {
+        return values.get(name);
+    }
+
+    /**
+     * Returns a string value.
+     *
+     * @param name     the value's name
+     * @param fallback returned when the value is absent or null
+     * @return the value, or the fallback
+     * @throws IllegalArgumentException if the value is not a string
+     */
+    public String getString(String name, String fallback) {
+        Object value = values.get(name);
+        return (value == null) ? fallback : cast(name, value, String.class);
+    }
+
+    /**
+     * Returns an {@code int} value.
+     *
+     * @param name     the value's name
+     * @param fallback returned when the value is absent or null
+     * @return the value, or the fallback
+     * @throws IllegalArgumentException if the value is not a number
+     */
+    public int getInt(String name, int fallback) {
+        Object value = values.get(name);
+        return (value == null) ? fallback : cast(name, value, Number.class).intValue();
+    }
+
+    /**
+     * Returns a {@code long} value.
+     *
+     * @param name     the value's name
+     * @param fallback returned when the value is absent or null
+     * @return the value, or the fallback
+     * @throws IllegalArgumentException if the value is not a number
+     */
+    public long getLong(String name, long fallback) {
+        Object value = values.get(name);
+        return (value == null) ? fallback : cast(name, value, Number.class).longValue();
+    }
+
+    /**
+     * Returns a {@code double} value.
+     *
+     * @param name     the value's name
+     * @param fallback returned when the value is absent or null
+     * @return the value, or the fallback
+     * @throws IllegalArgumentException if the value is not a number
+     */
+    public double getDouble(String name, double fallback) {
+        Object value = values.get(name);
+        return (value == null) ? fallback : cast(name, value, Number.class).doubleValue();
+    }
+
+    /**
+     * Returns a {@code boolean} value.
+     *
+     * @param name     the value's name
+     * @param fallback returned when the value is absent or null
+     * @return the value, or the fallback
+     * @throws IllegalArgumentException if the value is not a boolean
+     */
+    public boolean getBoolean(String name, boolean fallback) {
+        Object value = values.get(name);
+        return (value == null) ? fallback : cast(name, value, Boolean.class);
+    }
+
+    /**
+     * Returns an enum value, stored by its {@link Enum#name() name}.
+     *
+     * @param name     the value's name
+     * @param type     the enum class
+     * @param fallback returned when the value is absent or null
+     * @param <E>      the enum type
+     * @return the constant, or the fallback
+     * @throws IllegalArgumentException if the value is not the name of a constant of {@code type}
+     */
+    public <E extends Enum<E>> E getEnum(String name, Class<E> type, E fallback) {
+        Object value = values.get(name);
+        return (value == null) ? fallback : Enum.valueOf(type, cast(name, value, String.class));
+    }
+
+    /**
+     * Returns a list value.
+     *
+     * @param name the value's name
+     * @return the unmodifiable list, or an empty list when absent or null
+     * @throws IllegalArgumentException if the value is not a list
+     */
+    @SuppressWarnings("unchecked")
+    public List<Object> getList(String name) {
+        Object value = values.get(name);
+        return (value == null) ? List.of() : cast(name, value, List.class);
+    }
+
+    /**
+     * Returns a map value.
+     *
+     * @param name the value's name
+     * @return the unmodifiable map, or an empty map when absent or null
+     * @throws IllegalArgumentException if the value is not a map
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getMap(String name) {
+        Object value = values.get(name);
+        return (value == null) ? Map.of() : cast(name, value, Map.class);
+    }
+
+    // ── JSON ─────────────────────────────────────────────────────
+
+    /**
+     * Encodes the state as a compact JSON object.
+     *
+     * @return the JSON text
+     */
+    public String toJson() {
+        StringBuilder sb = new StringBuilder(16 * values.size() + 2);
+        writeValue(sb, values);
+        return sb.toString();
+    }
+
+    /**
+     * Decodes a state from the JSON produced by {@link #toJson()}.
+     *
+     * @param json the JSON text, a single object
+     * @return the decoded state
+     * @throws NullPointerException     if json is null
+     * @throws IllegalArgumentException if the text is not a JSON object
+     */
+    public static ComponentState fromJson(String json) {
+        Objects.requireNonNull(json, "json must not be null");
+        Parser parser = new Parser(json);
+        Object value = parser.readValue();
+        parser.skipWhitespace();
+        if (!(value instanceof Map<?, ?> map) || parser.pos != json.length()) {
+            throw new IllegalArgumentException("Component state must be a single JSON object");
+        }
+        ComponentState state = new ComponentState();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            state.values.put((String) entry.getKey(), entry.getValue());
+        }
+        return state;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ComponentState other && values.equals(other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return values.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toJson();
+    }
+
+    // ── Internal helpers ─────────────────────────────────────────
+
+    /**
+     * Converts a value to its stored form, checking that it can be encoded.
+     *
+     * @param name  the top-level name, for error messages
+     * @param value the value
+     * @return the value as a string, boolean, number, unmodifiable list or map, or null
+     */
+    private static Object normalize(String name, Object value) {
+        if (value == null || value instanceof String || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof Number number) {
+            if (number instanceof Double || number instanceof Float) {
+                double d = number.doubleValue();
+                if (Double.isNaN(d) || Double.isInfinite(d)) {
+                    throw new IllegalArgumentException(
+                            "State value '" + name + "' is not a finite number: " + d);
+                }
+                return d;
+            }
+            if (number instanceof Integer || number instanceof Long
+                    || number instanceof Short || number instanceof Byte) {
+                return number.longValue();
+            }
+        }
+        if (value instanceof Character || value instanceof Enum<?>) {
+            return (value instanceof Enum<?> e) ? e.name() : value.toString();
+        }
+        if (value instanceof Collection<?> collection) {
+            List<Object> list = new ArrayList<>(collection.size());
+            for (Object item : collection) {
+                list.add(normalize(name, item));
+            }
+            return Collections.unmodifiableList(list);
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> copy = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!(entry.getKey() instanceof String key)) {
+                    throw new IllegalArgumentException(
+                            "State value '" + name + "' is a map with a non-string key");
+                }
+                copy.put(key, normalize(name, entry.getValue()));
+            }
+            return Collections.unmodifiableMap(copy);
+        }
+        throw new IllegalArgumentException("State value '" + name
+                + "' has unsupported type " + value.getClass().getName());
+    }
+
+    /**
+     * Casts a stored value to the type a getter expects.
+     *
+     * @param name  the value's name, for error messages
+     * @param value the stored value, not null
+     * @param type  the expected type
+     * @param <T>   the expected type
+     * @return the value
+     * @throws IllegalArgumentException if the value has another type
+     */
+    private static <T> T cast(String name, Object value, Class<T> type) {
+        if (!type.isInstance(value)) {
+            throw new IllegalArgumentException("State value '" + name + "' is not a "
+                    + type.getSimpleName() + ": " + value);
+        }
+        return type.cast(value);
+    }
+
+    /**
+     * Appends the JSON form of a stored value.
+     *
+     * @param sb    the output
+     * @param value a value produced by {@link #normalize}
+     */
+    private static void writeValue(StringBuilder sb, Object value) {
+        if (value == null) {
+            sb.append("null");
+        } else if (value instanceof String s) {
+            writeString(sb, s);
+        } else if (value instanceof Double d && d == Math.rint(d) && Math.abs(d) < 1e15) {
+            /* Keep the decimal point so the value reads back as a Double. */
+            sb.append(d.longValue()).append(".0");
+        } else if (value instanceof Boolean || value instanceof Number) {
+            sb.append(value);
+        } else if (value instanceof List<?> list) {
+            sb.append('[');
+            for (int i = 0; i < list.size(); i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                writeValue(sb, list.get(i));
+            }
+            sb.append(']');
+        } else {
+            sb.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!first) {
+                    sb.append(',');
+                }
+                first = false;
+                writeString(sb, (String) entry.getKey());
+                sb.append(':');
+                writeValue(sb, entry.getValue());
+            }
+            sb.append('}');
+        }
+    }
+
+    /**
+     * Appends a JSON string literal.
+     *
+     * @param sb the output
+     * @param s  the string
+     */
+    private static void writeString(StringBuilder sb, String s) {
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append("\\u00").append(Character.forDigit(c >> 4, 16))
+                                .append(Character.forDigit(c & 0xF, 16));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+
+    /**
+     * Minimal recursive-descent JSON reader producing the stored value forms.
+     */
+    private static final class Parser {
+
+        /** The JSON text. */
+        private final String json;
+
+        /** Index of the next character to read. */
+        private int pos;
+
+        Parser(String json) {
+            this.json = json;
+        }
+
+        Object readValue() {
+            skipWhitespace();
+            if (pos >= json.length()) {
+                throw error("Unexpected end of input");
+            }
+            char c = json.charAt(pos);
+            return switch (c) {
+                case '{' -> readObject();
+                case '[' -> readArray();
+                case '"' -> readString();
+                case 't' -> readLiteral("true", Boolean.TRUE);
+                case 'f' -> readLiteral("false", Boolean.FALSE);
+                case 'n' -> readLiteral("null", null);
+                default -> {
+                    if (c == '-' || (c >= '0' && c <= '9')) {
+                        yield readNumber();
+                    }
+                    throw error("Unexpected character '" + c + "'");
+                }
+            };
+        }
+
+        private Map<String, Object> readObject() {
+            pos++;
+            Map<String, Object> map = new LinkedHashMap<>();
+            skipWhitespace();
+            if (peek() == '}') {
+                pos++;
+                return Collections.unmodifiableMap(map);
+            }
+            while (true) {
+                skipWhitespace();
+                if (peek() != '"') {
+                    throw error("Expected a string key");
+                }
+                String key = readString();
+                skipWhitespace();
+                expect(':');
+                map.put(key, readValue());
+                skipWhitespace();
+                if (peek() == ',') {
+                    pos++;
+                } else {
+                    expect('}');
+                    return Collections.unmodifiableMap(map);
+                }
+            }
+        }
+
+        private List<Object> readArray() {
+            pos++;
+            List<Object> list = new ArrayList<>();
+            skipWhitespace();
+            if (peek() == ']') {
+                pos++;
+                return Collections.unmodifiableList(list);
+            }
+            while (true) {
+                list.add(readValue());
+                skipWhitespace();
+                if (peek() == ',') {
+                    pos++;
+                } else {
+                    expect(']');
+                    return Collections.unmodifiableList(list);
+                }
+            }
+        }
+
+        private String readString() {
+            pos++;
+            StringBuilder sb = null;
+            int start = pos;
+            while (pos < json.length()) {
+                char c = json.charAt(pos);
+                if (c == '"') {
+                    String tail = json.substring(start, pos++);
+                    return (sb == null) ? tail : sb.append(tail).toString();
+                }
+                if (c != '\\') {
+                    pos++;
+                    continue;
+                }
+                if (sb == null) {
+                    sb = new StringBuilder();
+                }
+                sb.append(json, start, pos);
+                if (pos + 1 >= json.length()) {
+                    break;
+                }
+                char escaped = json.charAt(pos + 1);
+                pos += 2;
+                switch (escaped) {
+                    case '"', '\\', '/' -> sb.append(escaped);
+                    case 'b' -> sb.append('\b');
+                    case 'f' -> sb.append('\f');
+                    case 'n' -> sb.append('\n');
+                    case 'r' -> sb.append('\r');
+                    case 't' -> sb.append('\t');
+                    case 'u' -> {
+                        if (pos + 4 > json.length()) {
+                            throw error("Truncated unicode escape");
+                        }
+                        try {
+                            sb.append((char) Integer.parseInt(json.substring(pos, pos + 4), 16));
+                        } catch (NumberFormatException e) {
+                            throw error("Invalid unicode escape");
+                        }
+                        pos += 4;
+                    }
+                    default -> throw error("Invalid escape '\\" + escaped + "'");
+                }
+                start = pos;
+            }
+            throw error("Unterminated string");
+        }
+
+        private Object readNumber() {
+            int start = pos;
+            boolean integral = true;
+            if (peek() == '-') {
+                pos++;
+            }
+            while (pos < json.length()) {
+                char c = json.charAt(pos);
+                if (c >= '0' && c <= '9') {
+                    pos++;
+                } else if (c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-') {
+                    integral = false;
+                    pos++;
+                } else {
+                    break;
+                }
+            }
+            String text = json.substring(start, pos);
+            try {
+                return integral ? (Object) Long.parseLong(text) : (Object) Double.parseDouble(text);
+            } catch (NumberFormatException e) {
+                throw error("Invalid number '" + text + "'");
+            }
+        }
+
+        private Object readLiteral(String literal, Object value) {
+            if (!json.startsWith(literal, pos)) {
+                throw error("Unexpected token");
+            }
+            pos += literal.length();
+            return value;
+        }
+
+        void skipWhitespace() {
+            while (pos < json.length()) {
+                char c = json.charAt(pos);
+                if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                    return;
+                }
+                pos++;
+            }
+        }
+
+        private char peek() {
+            return (pos < json.length()) ? json.charAt(pos) : '\0';
+        }
+
+        private void expect(char c) {
+            if (peek() != c) {
+                throw error("Expected '" + c + "'");
+            }
+            pos++;
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at offset " + pos + " of component state");
+        }
+    }
+}
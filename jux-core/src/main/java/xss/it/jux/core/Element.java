@@ -55,6 +55,12 @@ import xss.it.jux.annotation.JuxComponent;
  * returned from {@link Component#render()}, they should not be mutated.
  * Builder methods mutate in place during construction for efficiency.</p>
  *
+ * <p>A subtree can be made truly immutable with {@link #freeze()}. Frozen
+ * elements reject every builder call with an {@link IllegalStateException},
+ * which lets caches share one subtree between many rendered trees (see the
+ * {@code jux-html} template cache). {@link #copyWithoutChildren()} produces a
+ * mutable copy of a single node.</p>
+ *
  * @see Elements
  * @see Component#render()
  */
@@ -114,6 +120,24 @@ public class Element {
      */
     private final Map<String, String> styles;
 
+    /**
+     * Reconciliation key set via {@link #key(String)}, or null. Identifies this
+     * element among its siblings across client-side re-renders; never rendered.
+     */
+    private String key;
+
+    /**
+     * Live bindings added via the {@code bind*} builder methods, in the order
+     * they were added. Applied to the real DOM node by {@code JuxDomBridge}.
+     */
+    private final List<ElementBinding> bindings;
+
+    /**
+     * Whether this element is read-only. Set by {@link #freeze()} on shared
+     * subtrees; builder methods throw once it is set.
+     */
+    private boolean frozen;
+
     // ── Constructor (private) ────────────────────────────────────
 
     /**
@@ -136,6 +160,7 @@ public class Element {
         this.textContent = null;
         this.eventHandlers = new LinkedHashMap<>();
         this.styles = new LinkedHashMap<>();
+        this.bindings = new ArrayList<>();
     }
 
     // ── Factory ──────────────────────────────────────────────────
@@ -169,6 +194,7 @@ public class Element {
      */
     public Element attr(String key, String value) {
         Objects.requireNonNull(key, "attribute key must not be null");
+        checkMutable();
         if (value != null) {
             attributes.put(key, value);
         }
@@ -185,6 +211,7 @@ public class Element {
      * @return this element for chaining
      */
     public Element cls(String... classes) {
+        checkMutable();
         if (classes != null) {
             for (String cls : classes) {
                 if (cls != null && !cls.isEmpty()) {
@@ -209,6 +236,33 @@ public class Element {
         return attr("id", id);
     }
 
+    /**
+     * Set the element's reconciliation key.
+     *
+     * <p>When a client-side component re-renders, the DOM bridge matches the
+     * old and new children of each element by key instead of by position, so
+     * a keyed element that moves, or has siblings inserted or removed before
+     * it, keeps its DOM node (with its focus, selection and scroll state) and
+     * is only moved. Give every child of a dynamic list a key that is stable
+     * for the item it shows and unique among its siblings:</p>
+     * <pre>{@code
+     * ul().children(
+     *     items.stream().map(i -> li().key(i.id()).text(i.name())).toList()
+     * )
+     * }</pre>
+     *
+     * <p>The key is not an HTML attribute and is not rendered during SSR.
+     * Unkeyed children are still matched by position.</p>
+     *
+     * @param key a key unique among this element's siblings, or null for none
+     * @return this element for chaining
+     */
+    public Element key(String key) {
+        checkMutable();
+        this.key = key;
+        return this;
+    }
+
     /**
      * Set an inline CSS style property.
      *
@@ -223,6 +277,7 @@ public class Element {
      */
     public Element style(String property, String value) {
         Objects.requireNonNull(property, "style property must not be null");
+        checkMutable();
         if (value != null) {
             styles.put(property, value);
         }
@@ -243,6 +298,7 @@ public class Element {
      * @return this element for chaining
      */
     public Element text(String content) {
+        checkMutable();
         this.textContent = content;
         return this;
     }
@@ -258,6 +314,7 @@ public class Element {
      * @return this element for chaining
      */
     public Element children(Element... children) {
+        checkMutable();
         if (children != null) {
             for (Element child : children) {
                 if (child != null) {
@@ -284,6 +341,7 @@ public class Element {
      * @return this element for chaining
      */
     public Element children(List<Element> children) {
+        checkMutable();
         if (children != null) {
             for (Element child : children) {
                 if (child != null) {
@@ -298,13 +356,22 @@ public class Element {
      * Embed another Component as a child.
      *
      * <p>The component's {@link Component#render()} is called immediately
-     * and its output Element tree is inserted as a child of this element.</p>
+     * and its output Element tree is inserted as a child of this element.
+     * During a client-side re-render through a {@link RenderMemo}, a
+     * component whose {@link Component#props() props} are unchanged is not
+     * rendered again; its previous tree is inserted instead.</p>
      *
      * <p>If the component class is annotated with
      * {@code @JuxComponent(clientSide = true)}, the root element of the
      * rendered tree is automatically tagged with {@code data-jux-id} and
      * {@code data-jux-class} attributes. These markers enable the TeaVM
-     * client runtime to discover and hydrate the component after SSR.</p>
+     * client runtime to discover and hydrate the component after SSR. During
+     * server-side rendering, the state recorded by its
+     * {@link Component#saveState saveState}, if any, is added as JSON in a
+     * {@code data-jux-state} attribute; client renders, which run through a
+     * {@link RenderMemo}, skip it, since only the server's state is ever
+     * read back. A component declared with {@code resumable = true} is
+     * marked with {@code data-jux-resumable}.</p>
      *
      * @param component the child component to render inline
      * @return this element for chaining
@@ -312,6 +379,24 @@ public class Element {
      */
     public Element child(Component component) {
         Objects.requireNonNull(component, "component must not be null");
+        checkMutable();
+        Element rendered = RenderMemo.renderChild(component, Element::renderComponent);
+        if (rendered != null) {
+            this.children.add(rendered);
+        }
+        return this;
+    }
+
+    /**
+     * Render a component for embedding, tagging the root of a client-side
+     * component with its {@code data-jux-id}, {@code data-jux-class}, saved
+     * {@code data-jux-state} (server-side only) and, if it opted in,
+     * {@code data-jux-resumable}.
+     *
+     * @param component the component to render
+     * @return the rendered tree, or null if render() returned null
+     */
+    private static Element renderComponent(Component component) {
         Element rendered = component.render();
         if (rendered != null) {
             JuxComponent annotation = component.getClass().getAnnotation(JuxComponent.class);
@@ -322,10 +407,20 @@ public class Element {
                         + JUX_ID_COUNTER.incrementAndGet();
                 rendered.attr("data-jux-id", instanceId);
                 rendered.attr("data-jux-class", className);
+                if (annotation.resumable()) {
+                    rendered.attr("data-jux-resumable", "true");
+                }
+
+                if (!RenderMemo.isRendering()) {
+                    ComponentState state = new ComponentState();
+                    component.saveState(state);
+                    if (!state.isEmpty()) {
+                        rendered.attr("data-jux-state", state.toJson());
+                    }
+                }
             }
-            this.children.add(rendered);
         }
-        return this;
+        return rendered;
     }
 
     /**
@@ -343,10 +438,102 @@ public class Element {
     public Element on(String event, EventHandler handler) {
         Objects.requireNonNull(event, "event name must not be null");
         Objects.requireNonNull(handler, "event handler must not be null");
+        checkMutable();
         eventHandlers.put(event, handler);
         return this;
     }
 
+    // ── Builder -- live bindings ─────────────────────────────────
+
+    /**
+     * Bind the text content to a changing value.
+     *
+     * <p>The text is set to the value's current string form, exactly as
+     * {@link #text(String)} would, so SSR renders it as usual. On the client,
+     * each change of the value rewrites this element's text directly, without
+     * re-rendering the component. A null value renders as no text.</p>
+     *
+     * @param value the value to display, e.g. a {@code StringProperty}
+     * @return this element for chaining
+     * @throws NullPointerException if value is null
+     * @see Bindable
+     */
+    public Element bindText(Bindable<?> value) {
+        ElementBinding binding = new ElementBinding(ElementBinding.Target.TEXT, null, value);
+        checkMutable();
+        this.textContent = binding.currentText();
+        bindings.add(binding);
+        return this;
+    }
+
+    /**
+     * Bind an attribute to a changing value.
+     *
+     * <p>The attribute takes the value's current string form, or is left out
+     * while the value is null. On the client, each change sets or removes
+     * the attribute on the DOM node directly.</p>
+     *
+     * @param name  attribute name (e.g. "href", "disabled", "aria-busy")
+     * @param value the attribute value
+     * @return this element for chaining
+     * @throws NullPointerException if name or value is null
+     */
+    public Element bindAttr(String name, Bindable<?> value) {
+        ElementBinding binding = new ElementBinding(ElementBinding.Target.ATTRIBUTE, name, value);
+        checkMutable();
+        String current = binding.currentText();
+        if (current != null) {
+            attributes.put(name, current);
+        }
+        bindings.add(binding);
+        return this;
+    }
+
+    /**
+     * Toggle a CSS class with a changing boolean value.
+     *
+     * <p>The class is present while the value is {@code true}. On the client,
+     * each change adds or removes it from the DOM node's class list directly.</p>
+     *
+     * @param className the CSS class name
+     * @param on        whether the class applies, e.g. a {@code BooleanProperty}
+     * @return this element for chaining
+     * @throws NullPointerException if className or on is null
+     */
+    public Element bindClass(String className, Bindable<Boolean> on) {
+        ElementBinding binding = new ElementBinding(ElementBinding.Target.CLASS, className, on);
+        checkMutable();
+        if (binding.currentFlag()) {
+            cssClasses.add(className);
+        }
+        bindings.add(binding);
+        return this;
+    }
+
+    /**
+     * Bind an inline CSS style property to a changing value.
+     *
+     * <p>The property takes the value's current string form, or is left out
+     * while the value is null. On the client, each change sets or removes the
+     * property on the DOM node directly &mdash; suited to values that change
+     * every frame, such as transforms and positions during a drag.</p>
+     *
+     * @param property CSS property name (e.g. "transform", "width")
+     * @param value    the CSS value
+     * @return this element for chaining
+     * @throws NullPointerException if property or value is null
+     */
+    public Element bindStyle(String property, Bindable<?> value) {
+        ElementBinding binding = new ElementBinding(ElementBinding.Target.STYLE, property, value);
+        checkMutable();
+        String current = binding.currentText();
+        if (current != null) {
+            styles.put(property, current);
+        }
+        bindings.add(binding);
+        return this;
+    }
+
     // ── ARIA -- accessibility attributes (first-class, not afterthoughts) ──
 
     /**
@@ -660,6 +847,23 @@ public class Element {
         return Collections.unmodifiableMap(merged);
     }
 
+    /**
+     * Returns a single attribute value without building the merged attribute map.
+     *
+     * <p>Equivalent to {@code getAttributes().get(name)}, but a plain lookup for
+     * every name except {@code class} and {@code style}, which are computed from
+     * the class list and style map as in {@link #getAttributes()}.</p>
+     *
+     * @param name the attribute name
+     * @return the attribute value, or null if it is not set
+     */
+    public String getAttribute(String name) {
+        if ("class".equals(name) || "style".equals(name)) {
+            return getAttributes().get(name);
+        }
+        return attributes.get(name);
+    }
+
     /**
      * Returns child elements in render order.
      *
@@ -704,4 +908,87 @@ public class Element {
     public Map<String, String> getStyles() {
         return Collections.unmodifiableMap(styles);
     }
+
+    /**
+     * Returns the reconciliation key.
+     *
+     * @return the key set via {@link #key(String)}, or null if this element is unkeyed
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the live bindings added via the {@code bind*} builder methods.
+     *
+     * @return bindings as an unmodifiable list, in the order they were added
+     */
+    public List<ElementBinding> getBindings() {
+        return Collections.unmodifiableList(bindings);
+    }
+
+    // ── Sharing ──────────────────────────────────────────────────
+
+    /**
+     * Make this element and its entire subtree read-only.
+     *
+     * <p>After freezing, every builder method ({@link #attr}, {@link #cls},
+     * {@link #style}, {@link #text}, {@link #key}, the {@code bind*} methods, {@link #children}, {@link #child},
+     * {@link #on} and the ARIA helpers) throws {@link IllegalStateException}.
+     * Getters are unaffected. Freezing cannot be undone; use
+     * {@link #copyWithoutChildren()} to obtain a mutable copy of a node.</p>
+     *
+     * @return this element
+     */
+    public Element freeze() {
+        if (!frozen) {
+            frozen = true;
+            for (Element child : children) {
+                child.freeze();
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns whether this element has been made read-only by {@link #freeze()}.
+     *
+     * @return true if builder methods on this element throw
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Create a mutable copy of this node without its children.
+     *
+     * <p>The copy has the same tag, attributes, CSS classes, inline styles,
+     * text content, event handlers, key and bindings, held in its own collections. It is
+     * never frozen, even if this element is.</p>
+     *
+     * @return a new childless element with this element's own state
+     */
+    public Element copyWithoutChildren() {
+        Element copy = new Element(tag);
+        copy.attributes.putAll(attributes);
+        copy.cssClasses.addAll(cssClasses);
+        copy.styles.putAll(styles);
+        copy.eventHandlers.putAll(eventHandlers);
+        copy.textContent = textContent;
+        copy.key = key;
+        copy.bindings.addAll(bindings);
+        return copy;
+    }
+
+    /**
+     * Reject mutation of a frozen element.
+     *
+     * @throws IllegalStateException if this element is frozen
+     */
+    private void checkMutable() {
+        if (frozen) {
+            throw new IllegalStateException("<" + tag + "> is part of a shared, read-only tree"
+                    + " and cannot be modified; work on a copy instead");
+        }
+    }
 }
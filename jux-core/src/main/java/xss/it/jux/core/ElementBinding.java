@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.core;
+
+import java.util.Objects;
+
+/**
+ * One live binding of an {@link Element} part to a {@link Bindable} value.
+ *
+ * <p>Created by the {@code bind*} builder methods of {@link Element} and read
+ * by the client-side DOM bridge, which subscribes the bound DOM node to the
+ * value for as long as the node stays in the page.</p>
+ *
+ * @param target what the value is bound to
+ * @param name   the attribute name, class name or CSS property; null for {@link Target#TEXT}
+ * @param value  the bound value
+ *
+ * @see Element#getBindings()
+ */
+public record ElementBinding(
+    Target target,
+    String name,
+    Bindable<?> value
+) {
+
+    /**
+     * The part of an element a binding writes to.
+     */
+    public enum Target {
+
+        /** The element's text content. */
+        TEXT,
+
+        /** A single attribute; a null value removes it. */
+        ATTRIBUTE,
+
+        /** The presence of a single CSS class, toggled by a boolean value. */
+        CLASS,
+
+        /** A single inline style property; a null value removes it. */
+        STYLE
+    }
+
+    /**
+     * Validates the binding.
+     *
+     * @throws NullPointerException if target or value is null, or if name is
+     *                              null for any target other than {@link Target#TEXT}
+     */
+    public ElementBinding {
+        Objects.requireNonNull(target, "binding target must not be null");
+        Objects.requireNonNull(value, "bound value must not be null");
+        if (target != Target.TEXT) {
+            Objects.requireNonNull(name, "binding name must not be null");
+        }
+    }
+
+    /**
+     * Returns the bound value converted to the string written to the DOM.
+     *
+     * @return the value's string form, or null if the value is null
+     */
+    public String currentText() {
+        Object current = value.getValue();
+        return (current == null) ? null : String.valueOf(current);
+    }
+
+    /**
+     * Returns whether a {@link Target#CLASS} binding currently applies its class.
+     *
+     * @return true if the bound value is {@link Boolean#TRUE}
+     */
+    public boolean currentFlag() {
+        return Boolean.TRUE.equals(value.getValue());
+    }
+}
@@ -13,6 +13,8 @@
 
 package xss.it.jux.core;
 
+import java.util.Objects;
+
 /**
  * Functional interface for DOM event handlers in the JUX component model.
  *
@@ -34,6 +36,12 @@ package xss.it.jux.core;
  * annotated with {@code @JuxComponent(clientSide = true)}. Server-only
  * components ignore event handlers during rendering.</p>
  *
+ * <p><b>Passive events:</b> the client listens to {@code scroll}, {@code wheel},
+ * {@code touchstart} and {@code touchmove} passively, so the browser scrolls
+ * without waiting for the handler and ignores {@link DomEvent#preventDefault()}.
+ * A handler that must cancel one of them is registered through
+ * {@link #cancelable(EventHandler)}.</p>
+ *
  * @see DomEvent
  * @see Element#on(String, EventHandler)
  */
@@ -50,9 +58,53 @@ public interface EventHandler {
      *
      * <p>Call {@link DomEvent#preventDefault()} to suppress the browser's
      * default behavior, or {@link DomEvent#stopPropagation()} to prevent
-     * the event from bubbling up the DOM tree.</p>
+     * the event from bubbling up the DOM tree. {@code preventDefault()} has
+     * no effect on the passive scroll and touch events unless the handler
+     * was wrapped with {@link #cancelable(EventHandler)}.</p>
      *
      * @param event the event data wrapper, never null
      */
     void handle(DomEvent event);
+
+    /**
+     * Mark a handler as one that may cancel a passive event.
+     *
+     * <p>Binding a marked handler for {@code scroll}, {@code wheel},
+     * {@code touchstart} or {@code touchmove} makes the client listen to that
+     * event type non-passively from then on, so {@link DomEvent#preventDefault()}
+     * takes effect, at the cost of the browser waiting for JUX before it scrolls.
+     * All other event types are always cancelable and need no marking.</p>
+     *
+     * <pre>{@code
+     * canvas().on("touchmove", EventHandler.cancelable(e -> {
+     *     e.preventDefault();
+     *     draw(e.getClientX(), e.getClientY());
+     * }))
+     * }</pre>
+     *
+     * <p>A resumable component that has not rendered yet receives its first
+     * event through a stand-in handler, which is not marked, so that event
+     * cannot be cancelled. Leave components that must cancel it non-resumable.</p>
+     *
+     * @param handler the handler to mark
+     * @return a handler that delegates to {@code handler} and is marked cancelable
+     * @throws NullPointerException if handler is null
+     */
+    static EventHandler cancelable(EventHandler handler) {
+        Objects.requireNonNull(handler, "event handler must not be null");
+        return handler instanceof Cancelable ? handler : new Cancelable(handler);
+    }
+
+    /**
+     * A handler marked by {@link #cancelable(EventHandler)}.
+     *
+     * @param handler the wrapped handler
+     */
+    record Cancelable(EventHandler handler) implements EventHandler {
+
+        @Override
+        public void handle(DomEvent event) {
+            handler.handle(event);
+        }
+    }
 }
@@ -13,6 +13,8 @@
 
 package xss.it.jux.core;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
@@ -124,6 +126,39 @@ public interface JuxRequestContext {
      */
     Optional<String> cookie(String name);
 
+    /**
+     * Returns the language ranges of the {@code Accept-Language} header as locales,
+     * in the order the client listed them.
+     *
+     * <p>Quality-factor suffixes ({@code ;q=0.9}) are stripped but not used for
+     * ordering, and wildcard entries ({@code *}) are skipped. For the header
+     * {@code "fr-CH, fr;q=0.9, en;q=0.8, *;q=0.5"} the result is
+     * {@code [fr-CH, fr, en]}.</p>
+     *
+     * <p>The default implementation parses the header on every call. The server
+     * implementation parses it once per request and returns the cached list.</p>
+     *
+     * @return the accepted languages in header order; empty if the header is absent
+     */
+    default List<Locale> acceptLanguages() {
+        String header = header("Accept-Language").orElse(null);
+        if (header == null || header.isBlank()) return List.of();
+
+        List<Locale> locales = new ArrayList<>();
+        for (String part : header.split(",")) {
+            String lang = part.trim();
+
+            // Strip the quality factor suffix (e.g. ";q=0.9")
+            int semi = lang.indexOf(';');
+            if (semi >= 0) lang = lang.substring(0, semi).trim();
+
+            if (!lang.isEmpty() && !"*".equals(lang)) {
+                locales.add(Locale.forLanguageTag(lang));
+            }
+        }
+        return List.copyOf(locales);
+    }
+
     /**
      * Returns a session attribute by key.
      *
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.core;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Memoizes the subtrees of child components across re-renders of one root
+ * component.
+ *
+ * <p>The client runtime keeps one memo per mounted component and renders it
+ * through {@link #render(Component)}. While that render runs, every
+ * {@link Element#child(Component)} call is routed through the memo, which
+ * matches the child with the one rendered in the same place last time:
+ * the n-th child of the same class embedded by the same parent. If the
+ * child has {@link Component#props() props} and
+ * {@link Component#shouldUpdate(Object)} says nothing changed, the previous
+ * subtree is returned without calling {@code render()}. The DOM bridge sees
+ * the very same {@link Element} instance in the old and new tree and skips
+ * patching it.</p>
+ *
+ * <p>Memoized subtrees remember the children they embedded, so a component
+ * skipped once can still memoize its own children the next time it renders.
+ * Outside {@link #render(Component)} (e.g. during SSR) no memo is active
+ * and components always render.</p>
+ *
+ * <p>Each memo counts, per component class, how many renders were executed
+ * and how many were skipped; see {@link #counts()}.</p>
+ *
+ * <p>A memo is confined to the thread that renders with it.</p>
+ *
+ * @see Component#props()
+ * @see Component#shouldUpdate(Object)
+ */
+public final class RenderMemo {
+
+    /** The memo of the render in progress on this thread, if any. */
+    private static final ThreadLocal<RenderMemo> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Executed and skipped render counts of one component class.
+     *
+     * @param executed how many times {@code render()} was called
+     * @param skipped  how many times a previous subtree was reused instead
+     */
+    public record RenderCount(long executed, long skipped) {
+    }
+
+    /**
+     * What was rendered in one place: the child's props, its subtree, and
+     * the entries of the children it embedded in turn.
+     */
+    private record Entry(Object props, Element tree, Map<String, Entry> children) {
+    }
+
+    /**
+     * The children rendered by one component during the current render,
+     * matched against those of the previous render.
+     */
+    private static final class Scope {
+
+        /** Entries of the previous render, by slot. */
+        final Map<String, Entry> previous;
+
+        /** Entries of the current render, by slot. */
+        final Map<String, Entry> next = new HashMap<>();
+
+        /** Number of children of each class seen so far in this render. */
+        final Map<String, Integer> ordinals = new HashMap<>();
+
+        Scope(Map<String, Entry> previous) {
+            this.previous = previous;
+        }
+    }
+
+    /** Scopes of the components currently rendering, innermost first. */
+    private final Deque<Scope> scopes = new ArrayDeque<>();
+
+    /** Entries recorded by the last completed root render. */
+    private Map<String, Entry> last = Map.of();
+
+    /** Executed/skipped counters per component class name, in first-seen order. */
+    private final Map<String, long[]> counters = new LinkedHashMap<>();
+
+    /**
+     * Creates an empty memo; the first render through it executes every child.
+     */
+    public RenderMemo() {
+    }
+
+    /**
+     * Render a root component with this memo active.
+     *
+     * <p>The root itself always renders. Children it embeds via
+     * {@link Element#child(Component)} are reused from the previous call
+     * where their props allow.</p>
+     *
+     * @param root the component to render
+     * @return the root's new tree
+     */
+    public Element render(Component root) {
+        RenderMemo outer = CURRENT.get();
+        CURRENT.set(this);
+        scopes.push(new Scope(last));
+        boolean completed = false;
+        try {
+            count(root, 0);
+            Element tree = root.render();
+            completed = true;
+            return tree;
+        } finally {
+            Scope scope = scopes.pop();
+            if (completed) {
+                last = scope.next;
+            }
+            if (outer != null) {
+                CURRENT.set(outer);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns the executed and skipped render counts so far, per component
+     * class (fully-qualified name), including the root component.
+     *
+     * @return an unmodifiable snapshot of the counters
+     */
+    public Map<String, RenderCount> counts() {
+        Map<String, RenderCount> snapshot = new LinkedHashMap<>();
+        counters.forEach((name, c) -> snapshot.put(name, new RenderCount(c[0], c[1])));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Whether a render through a memo is in progress on this thread.
+     *
+     * <p>Only the client runtime renders through memos, so this tells a
+     * client-side render or re-render apart from server-side rendering.</p>
+     *
+     * @return true while {@link #render(Component)} runs on this thread
+     */
+    static boolean isRendering() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Render a child component through the active memo, if there is one.
+     *
+     * <p>Called by {@link Element#child(Component)}.</p>
+     *
+     * @param child    the child component
+     * @param renderer renders the child when its previous subtree cannot be reused
+     * @return the child's subtree, possibly the previous one
+     */
+    static Element renderChild(Component child, Function<Component, Element> renderer) {
+        RenderMemo memo = CURRENT.get();
+        if (memo == null || memo.scopes.isEmpty()) {
+            return renderer.apply(child);
+        }
+        return memo.memoize(child, renderer);
+    }
+
+    /**
+     * Reuse or render a child in the innermost scope.
+     *
+     * @param child    the child component
+     * @param renderer renders the child on a miss
+     * @return the child's subtree
+     */
+    private Element memoize(Component child, Function<Component, Element> renderer) {
+        Scope scope = scopes.peek();
+        String type = child.getClass().getName();
+        int ordinal = scope.ordinals.merge(type, 1, Integer::sum) - 1;
+        String slot = type + '#' + ordinal;
+
+        Object props = child.props();
+        Entry previous = scope.previous.get(slot);
+
+        if (props != null && previous != null && previous.props() != null
+                && previous.tree() != null && !child.shouldUpdate(previous.props())) {
+            count(child, 1);
+            scope.next.put(slot, previous);
+            return previous.tree();
+        }
+
+        count(child, 0);
+        Scope own = new Scope(previous != null ? previous.children() : Map.of());
+        scopes.push(own);
+        Element tree;
+        try {
+            tree = renderer.apply(child);
+        } finally {
+            scopes.pop();
+        }
+        scope.next.put(slot, new Entry(props, tree, own.next));
+        return tree;
+    }
+
+    /**
+     * Increment a counter of a component class.
+     *
+     * @param component the component
+     * @param index     0 for executed, 1 for skipped
+     */
+    private void count(Component component, int index) {
+        counters.computeIfAbsent(component.getClass().getName(), name -> new long[2])[index]++;
+    }
+}
@@ -0,0 +1,189 @@
+package xss.it.jux.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import xss.it.jux.annotation.JuxComponent;
+
+import java.time.DayOfWeek;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static xss.it.jux.core.Elements.*;
+
+/**
+ * Tests for {@link ComponentState} -- the JSON snapshot that carries a
+ * client-side component's state from the server render to hydration.
+ */
+class ComponentStateTest {
+
+    /** Client-side component that transfers its query and page. */
+    @JuxComponent(clientSide = true)
+    static final class Search extends Component {
+        String query = "";
+        int page = 1;
+
+        @Override
+        public Element render() {
+            return div().text(query + "#" + page);
+        }
+
+        @Override
+        public void saveState(ComponentState state) {
+            state.put("query", query).put("page", page);
+        }
+
+        @Override
+        public void restoreState(ComponentState state) {
+            query = state.getString("query", query);
+            page = state.getInt("page", page);
+        }
+    }
+
+    /** Client-side component that saves nothing. */
+    @JuxComponent(clientSide = true)
+    static final class Plain extends Component {
+        @Override
+        public Element render() {
+            return span();
+        }
+    }
+
+    @Test
+    @DisplayName("values survive a JSON round trip with their types restored by the getters")
+    void roundTrip() {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 7);
+        row.put("active", true);
+
+        ComponentState state = new ComponentState()
+                .put("name", "Ada")
+                .put("count", 42)
+                .put("big", Long.MAX_VALUE)
+                .put("ratio", 0.25)
+                .put("whole", 3.0)
+                .put("on", true)
+                .put("day", DayOfWeek.FRIDAY)
+                .put("none", null)
+                .put("tags", Set.of("x"))
+                .put("rows", List.of(row));
+
+        ComponentState restored = ComponentState.fromJson(state.toJson());
+
+        assertThat(restored).isEqualTo(state);
+        assertThat(restored.names()).containsExactly(
+                "name", "count", "big", "ratio", "whole", "on", "day", "none", "tags", "rows");
+        assertThat(restored.getString("name", null)).isEqualTo("Ada");
+        assertThat(restored.getInt("count", 0)).isEqualTo(42);
+        assertThat(restored.getLong("big", 0)).isEqualTo(Long.MAX_VALUE);
+        assertThat(restored.getDouble("ratio", 0)).isEqualTo(0.25);
+        assertThat(restored.get("whole")).isEqualTo(3.0);
+        assertThat(restored.getBoolean("on", false)).isTrue();
+        assertThat(restored.getEnum("day", DayOfWeek.class, null)).isEqualTo(DayOfWeek.FRIDAY);
+        assertThat(restored.has("none")).isTrue();
+        assertThat(restored.getString("none", "fallback")).isEqualTo("fallback");
+        assertThat(restored.getList("tags")).containsExactly("x");
+        assertThat(restored.getList("rows")).containsExactly(Map.of("id", 7L, "active", true));
+    }
+
+    @Test
+    @DisplayName("strings with quotes, backslashes and control characters are escaped")
+    void escapesStrings() {
+        String text = "say \"hi\"\\\n\t\u0001 </div> é";
+        ComponentState state = new ComponentState().put("text", text);
+
+        String json = state.toJson();
+
+        assertThat(json).isEqualTo("{\"text\":\"say \\\"hi\\\"\\\\\\n\\t\\u0001 </div> é\"}");
+        assertThat(ComponentState.fromJson(json).getString("text", null)).isEqualTo(text);
+        assertThat(ComponentState.fromJson("{\"a\":\"\\u0041\\/\"}").getString("a", null))
+                .isEqualTo("A/");
+    }
+
+    @Test
+    @DisplayName("absent values return the fallback and empty collections")
+    void absentValuesFallBack() {
+        ComponentState state = new ComponentState();
+
+        assertThat(state.isEmpty()).isTrue();
+        assertThat(state.toJson()).isEqualTo("{}");
+        assertThat(state.getInt("missing", 5)).isEqualTo(5);
+        assertThat(state.getList("missing")).isEmpty();
+        assertThat(state.getMap("missing")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("unsupported values are rejected when stored")
+    void rejectsUnsupportedValues() {
+        ComponentState state = new ComponentState();
+
+        assertThatThrownBy(() -> state.put("obj", new Object()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("'obj'");
+        assertThatThrownBy(() -> state.put("nan", Double.NaN))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> state.put("map", Map.of(1, "a")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatNullPointerException().isThrownBy(() -> state.put(null, 1));
+    }
+
+    @Test
+    @DisplayName("a value of the wrong type is reported by the getter")
+    void wrongTypeIsReported() {
+        ComponentState state = new ComponentState().put("page", "two");
+
+        assertThatThrownBy(() -> state.getInt("page", 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("'page'");
+    }
+
+    @Test
+    @DisplayName("malformed JSON is rejected")
+    void rejectsMalformedJson() {
+        for (String json : List.of("", "[]", "{\"a\":}", "{\"a\":1", "{\"a\":1} x", "{a:1}", "{\"a\":\"x}")) {
+            assertThatThrownBy(() -> ComponentState.fromJson(json))
+                    .as(json)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("an embedded client-side component carries its saved state in data-jux-state")
+    void embeddedComponentEmitsState() {
+        Search search = new Search();
+        search.query = "jux";
+        search.page = 3;
+
+        Element root = div().child(search).child(new Plain());
+
+        Element tagged = root.getChildren().get(0);
+        assertThat(tagged.getAttribute("data-jux-id")).isNotNull();
+        assertThat(tagged.getAttribute("data-jux-state")).isEqualTo("{\"query\":\"jux\",\"page\":3}");
+        assertThat(root.getChildren().get(1).getAttribute("data-jux-state")).isNull();
+
+        Search hydrated = new Search();
+        hydrated.restoreState(ComponentState.fromJson(tagged.getAttribute("data-jux-state")));
+        assertThat(hydrated.render().getTextContent()).isEqualTo(search.render().getTextContent());
+    }
+
+    @Test
+    @DisplayName("client renders through a RenderMemo do not serialize state")
+    void clientRenderSkipsState() {
+        Search search = new Search();
+        search.query = "jux";
+        Component host = new Component() {
+            @Override
+            public Element render() {
+                return div().child(search);
+            }
+        };
+
+        Element tagged = new RenderMemo().render(host).getChildren().get(0);
+
+        assertThat(tagged.getAttribute("data-jux-id")).isNotNull();
+        assertThat(tagged.getAttribute("data-jux-state")).isNull();
+    }
+}
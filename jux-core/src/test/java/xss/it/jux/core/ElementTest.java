@@ -3,6 +3,7 @@ package xss.it.jux.core;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import xss.it.jux.annotation.JuxComponent;
 
 import java.util.List;
 import java.util.Map;
@@ -65,6 +66,16 @@ class ElementTest {
             assertThatNullPointerException()
                     .isThrownBy(() -> Element.of("div").attr(null, "value"));
         }
+
+        @Test
+        @DisplayName("getAttribute() matches getAttributes() for plain, class and style names")
+        void getAttributeMatchesMergedMap() {
+            Element el = Element.of("a").attr("href", "/about").cls("nav").style("color", "red");
+            assertThat(el.getAttribute("href")).isEqualTo("/about");
+            assertThat(el.getAttribute("class")).isEqualTo("nav");
+            assertThat(el.getAttribute("style")).isEqualTo("color: red");
+            assertThat(el.getAttribute("title")).isNull();
+        }
     }
 
     // ── cls() ─────────────────────────────────────────────────────────
@@ -111,6 +122,17 @@ class ElementTest {
         assertThat(el.getAttributes().get("id")).isEqualTo("x");
     }
 
+    // ── key() ─────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("key() sets the reconciliation key without adding an attribute")
+    void keyIsNotAnAttribute() {
+        Element el = li().key("item-7");
+        assertThat(el.getKey()).isEqualTo("item-7");
+        assertThat(el.getAttributes()).isEmpty();
+        assertThat(div().getKey()).isNull();
+    }
+
     // ── style() ───────────────────────────────────────────────────────
 
     @Nested
@@ -190,6 +212,34 @@ class ElementTest {
         assertThat(parent.getChildren().getFirst().getTextContent()).isEqualTo("rendered");
     }
 
+    /** Client-side component that opts in to resumable hydration. */
+    @JuxComponent(clientSide = true, resumable = true)
+    static final class ResumableWidget extends Component {
+        @Override
+        public Element render() {
+            return button().text("go");
+        }
+    }
+
+    /** Client-side component left at the defaults. */
+    @JuxComponent(clientSide = true)
+    static final class EagerWidget extends Component {
+        @Override
+        public Element render() {
+            return button().text("go");
+        }
+    }
+
+    @Test
+    @DisplayName("child(Component) marks only opted-in client-side components as resumable")
+    void childComponentResumableMarker() {
+        Element parent = div().child(new ResumableWidget()).child(new EagerWidget());
+
+        assertThat(parent.getChildren().get(0).getAttribute("data-jux-resumable")).isEqualTo("true");
+        assertThat(parent.getChildren().get(1).getAttribute("data-jux-id")).isNotNull();
+        assertThat(parent.getChildren().get(1).getAttribute("data-jux-resumable")).isNull();
+    }
+
     // ── on() ──────────────────────────────────────────────────────────
 
     @Test
@@ -403,4 +453,96 @@ class ElementTest {
                     .isThrownBy(() -> el.getAttributes().put("data-y", "2"));
         }
     }
+
+    @Nested
+    @DisplayName("Live bindings")
+    class LiveBindings {
+
+        /** Minimal fixed value; observing it never fires. */
+        private <T> Bindable<T> value(T current) {
+            return new Bindable<>() {
+                @Override
+                public T getValue() {
+                    return current;
+                }
+
+                @Override
+                public Runnable observe(Runnable listener) {
+                    return () -> { };
+                }
+            };
+        }
+
+        @Test
+        @DisplayName("bind* methods apply the current value and record the binding")
+        void bindAppliesCurrentValue() {
+            Element el = div().bindText(value(42)).bindAttr("title", value("t"))
+                    .bindClass("on", value(true)).bindStyle("width", value("10px"));
+
+            assertThat(el.getTextContent()).isEqualTo("42");
+            assertThat(el.getAttribute("title")).isEqualTo("t");
+            assertThat(el.getCssClasses()).containsExactly("on");
+            assertThat(el.getStyles()).containsEntry("width", "10px");
+            assertThat(el.getBindings()).extracting(ElementBinding::target).containsExactly(
+                    ElementBinding.Target.TEXT, ElementBinding.Target.ATTRIBUTE,
+                    ElementBinding.Target.CLASS, ElementBinding.Target.STYLE);
+        }
+
+        @Test
+        @DisplayName("null and false values leave the attribute, style or class out")
+        void bindOmitsAbsentValues() {
+            Element el = div().bindAttr("title", value(null))
+                    .bindClass("on", value(false)).bindStyle("width", value(null));
+
+            assertThat(el.getAttributes()).isEmpty();
+            assertThat(el.getBindings()).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("bind* rejects a null value")
+        void bindRejectsNull() {
+            assertThatNullPointerException().isThrownBy(() -> div().bindText(null));
+            assertThatNullPointerException().isThrownBy(() -> div().bindAttr("title", null));
+        }
+    }
+
+    @Nested
+    @DisplayName("freeze() and copyWithoutChildren()")
+    class Sharing {
+
+        @Test
+        @DisplayName("freeze() makes the whole subtree read-only")
+        void freezeRejectsMutation() {
+            Element child = span().text("a");
+            Element root = div().children(child).freeze();
+
+            assertThat(root.isFrozen()).isTrue();
+            assertThat(child.isFrozen()).isTrue();
+            assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> root.attr("id", "x"));
+            assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> child.text("b"));
+            assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> root.children(p()));
+            assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> child.ariaHidden(true));
+            assertThat(child.getTextContent()).isEqualTo("a");
+        }
+
+        @Test
+        @DisplayName("copyWithoutChildren() copies node state into a mutable element")
+        void copyWithoutChildren() {
+            Element original = div().id("x").key("k").cls("a", "b").style("color", "red")
+                    .text("t").children(span()).freeze();
+
+            Element copy = original.copyWithoutChildren();
+            copy.cls("c").attr("data-y", "1");
+
+            assertThat(copy.isFrozen()).isFalse();
+            assertThat(copy.getChildren()).isEmpty();
+            assertThat(copy.getCssClasses()).containsExactly("a", "b", "c");
+            assertThat(copy.getStyles()).containsEntry("color", "red");
+            assertThat(copy.getTextContent()).isEqualTo("t");
+            assertThat(copy.getKey()).isEqualTo("k");
+            assertThat(copy.getBindings()).isEqualTo(original.getBindings());
+            assertThat(original.getCssClasses()).containsExactly("a", "b");
+            assertThat(original.getAttributes()).doesNotContainKey("data-y");
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package xss.it.jux.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the {@link EventHandler} interface.
+ *
+ * <p>Covers {@code cancelable()}, which marks a handler so the client binds
+ * passive event types non-passively for it.</p>
+ */
+class EventHandlerTest {
+
+    @Test
+    @DisplayName("cancelable() marks the handler and delegates to it")
+    void cancelableDelegates() {
+        List<String> seen = new ArrayList<>();
+        EventHandler handler = EventHandler.cancelable(e -> {
+            e.preventDefault();
+            seen.add(e.getType());
+        });
+        DomEvent event = DomEvent.simple("touchmove", "");
+
+        handler.handle(event);
+
+        assertThat(handler).isInstanceOf(EventHandler.Cancelable.class);
+        assertThat(seen).containsExactly("touchmove");
+        assertThat(event.isDefaultPrevented()).isTrue();
+    }
+
+    @Test
+    @DisplayName("cancelable() does not wrap a handler twice")
+    void cancelableIsIdempotent() {
+        EventHandler once = EventHandler.cancelable(e -> { });
+
+        assertThat(EventHandler.cancelable(once)).isSameAs(once);
+    }
+
+    @Test
+    @DisplayName("cancelable() rejects a null handler")
+    void cancelableRejectsNull() {
+        assertThatNullPointerException().isThrownBy(() -> EventHandler.cancelable(null));
+    }
+
+    @Test
+    @DisplayName("a cancelable handler is kept as registered on the element")
+    void cancelableSurvivesRegistration() {
+        EventHandler handler = EventHandler.cancelable(e -> { });
+
+        Element element = Element.of("div").on("wheel", handler);
+
+        assertThat(element.getEventHandlers().get("wheel")).isSameAs(handler);
+    }
+}
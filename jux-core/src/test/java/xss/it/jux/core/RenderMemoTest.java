@@ -0,0 +1,165 @@
+package xss.it.jux.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static xss.it.jux.core.Elements.*;
+
+/**
+ * Tests for {@link RenderMemo} -- reuse of child component subtrees whose
+ * props did not change between renders of the same root.
+ */
+class RenderMemoTest {
+
+    /** Child with props; records every render. */
+    static class Label extends Component {
+        final String text;
+        final List<String> log;
+
+        Label(String text, List<String> log) {
+            this.text = text;
+            this.log = log;
+        }
+
+        @Override
+        public Element render() {
+            log.add(text);
+            return span().text(text);
+        }
+
+        @Override
+        public Object props() {
+            return text;
+        }
+    }
+
+    /** Root that embeds one Label per entry of a mutable list. */
+    static final class Root extends Component {
+        final List<String> labels = new ArrayList<>();
+        final List<String> log = new ArrayList<>();
+
+        @Override
+        public Element render() {
+            Element list = ul();
+            for (String label : labels) {
+                list.child(new Label(label, log));
+            }
+            return list;
+        }
+    }
+
+    @Test
+    @DisplayName("a child with equal props is not rendered again and keeps its subtree")
+    void equalPropsReusePreviousSubtree() {
+        Root root = new Root();
+        root.labels.addAll(List.of("a", "b"));
+        RenderMemo memo = new RenderMemo();
+
+        Element first = memo.render(root);
+        root.labels.set(1, "c");
+        Element second = memo.render(root);
+
+        assertThat(root.log).containsExactly("a", "b", "c");
+        assertThat(second.getChildren().get(0)).isSameAs(first.getChildren().get(0));
+        assertThat(second.getChildren().get(1).getTextContent()).isEqualTo("c");
+        assertThat(memo.counts().get(Label.class.getName()))
+                .isEqualTo(new RenderMemo.RenderCount(3, 1));
+        assertThat(memo.counts().get(Root.class.getName()))
+                .isEqualTo(new RenderMemo.RenderCount(2, 0));
+    }
+
+    @Test
+    @DisplayName("a child without props always renders")
+    void nullPropsAlwaysRender() {
+        List<String> log = new ArrayList<>();
+        Component root = new Component() {
+            @Override
+            public Element render() {
+                return div().child(new Component() {
+                    @Override
+                    public Element render() {
+                        log.add("x");
+                        return span();
+                    }
+                });
+            }
+        };
+        RenderMemo memo = new RenderMemo();
+
+        memo.render(root);
+        memo.render(root);
+
+        assertThat(log).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("shouldUpdate overrides props equality")
+    void shouldUpdateDecides() {
+        List<String> log = new ArrayList<>();
+        Component root = new Component() {
+            @Override
+            public Element render() {
+                return div().child(new Label("same", log) {
+                    @Override
+                    public boolean shouldUpdate(Object previousProps) {
+                        return true;
+                    }
+                });
+            }
+        };
+        RenderMemo memo = new RenderMemo();
+
+        memo.render(root);
+        memo.render(root);
+
+        assertThat(log).containsExactly("same", "same");
+    }
+
+    @Test
+    @DisplayName("children of a reused subtree stay memoized once it renders again")
+    void nestedEntriesSurviveSkippedRenders() {
+        List<String> log = new ArrayList<>();
+        String[] outerProps = {"v1"};
+        Component root = new Component() {
+            @Override
+            public Element render() {
+                return div().child(new Component() {
+                    @Override
+                    public Element render() {
+                        log.add("outer");
+                        return section().child(new Label("inner", log));
+                    }
+
+                    @Override
+                    public Object props() {
+                        return outerProps[0];
+                    }
+                });
+            }
+        };
+        RenderMemo memo = new RenderMemo();
+
+        memo.render(root);
+        memo.render(root);
+        outerProps[0] = "v2";
+        memo.render(root);
+
+        assertThat(log).containsExactly("outer", "inner", "outer");
+    }
+
+    @Test
+    @DisplayName("without an active memo children always render")
+    void noMemoOutsideRender() {
+        Root root = new Root();
+        root.labels.add("a");
+
+        root.render();
+        root.render();
+
+        assertThat(root.log).containsExactly("a", "a");
+    }
+}
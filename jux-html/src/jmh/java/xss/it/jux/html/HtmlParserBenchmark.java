@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+package xss.it.jux.html;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import xss.it.jux.core.Element;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Parses large CMS-style documents the way templates used to be loaded and the
+ * ways {@link HtmlStreamParser} allows.
+ *
+ * <ul>
+ *   <li>{@link #joinedString} -- the former {@code HtmlLoader} path: decode the
+ *       bytes, collect the lines into one {@code String}, then
+ *       {@link HtmlParser#parse(String)}</li>
+ *   <li>{@link #string} -- {@link HtmlParser#parse(String)} on a document already
+ *       held as a {@code String}</li>
+ *   <li>{@link #streamTree} -- {@link HtmlStreamParser#parse} straight from the
+ *       decoding reader, as {@code HtmlLoader} does now</li>
+ *   <li>{@link #streamEvents} -- pull events only, materializing no tree</li>
+ * </ul>
+ *
+ * <p>Run with {@code ./gradlew :jux-html:jmh}. Add {@code -prof gc} to the JMH
+ * arguments to compare allocation per document.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HtmlParserBenchmark {
+
+    /** Approximate document size in KiB. */
+    @Param({"16", "256", "1024"})
+    int sizeKb;
+
+    /** The document as a string. */
+    String html;
+
+    /** The document as UTF-8 bytes, as read from the classpath or a CMS store. */
+    byte[] bytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        html = article(sizeKb * 1024);
+        bytes = html.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Element joinedString() {
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8));
+        String source = reader.lines().collect(Collectors.joining("\n"));
+        return HtmlParser.parse(source);
+    }
+
+    @Benchmark
+    public Element string() {
+        return HtmlParser.parse(html);
+    }
+
+    @Benchmark
+    public Element streamTree() {
+        return HtmlStreamParser.parse(
+                new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8), null);
+    }
+
+    @Benchmark
+    public void streamEvents(Blackhole blackhole) {
+        try (HtmlStreamParser parser = HtmlStreamParser.of(new StringReader(html), null)) {
+            HtmlStreamParser.Event event;
+            while ((event = parser.next()) != HtmlStreamParser.Event.END_DOCUMENT) {
+                blackhole.consume(event);
+            }
+        }
+    }
+
+    /**
+     * Build a rich-text article of at least the given number of characters.
+     */
+    private static String article(int minLength) {
+        StringBuilder sb = new StringBuilder(minLength + 1024);
+        sb.append("<article class=\"cms-body\" lang=\"en\">\n");
+        int section = 0;
+        while (sb.length() < minLength) {
+            section++;
+            sb.append("  <section id=\"s").append(section).append("\" class=\"prose\">\n")
+                    .append("    <h2>Section ").append(section).append(" &mdash; overview</h2>\n")
+                    .append("    <p>Lorem ipsum dolor sit amet, <strong>consectetur</strong> adipiscing elit, ")
+                    .append("sed do <em>eiusmod</em> tempor &amp; incididunt ut labore.</p>\n")
+                    .append("    <!-- editor note -->\n")
+                    .append("    <figure><img src=\"/media/").append(section)
+                    .append(".jpg\" alt=\"Figure ").append(section).append("\">")
+                    .append("<figcaption>Caption &#8470; ").append(section).append("</figcaption></figure>\n")
+                    .append("    <ul style=\"margin: 0; padding-left: 1rem\"><li>One</li><li>Two</li>")
+                    .append("<li><a href=\"/docs?page=").append(section).append("\">Three</a></li></ul>\n")
+                    .append("  </section>\n");
+        }
+        sb.append("</article>\n");
+        return sb.toString();
+    }
+}
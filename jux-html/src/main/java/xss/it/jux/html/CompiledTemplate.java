@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+package xss.it.jux.html;
+
+import xss.it.jux.core.Element;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * A template compiled at build time into Java code that constructs the
+ * {@link Element} tree directly.
+ *
+ * <p>Implementations are generated by {@code JuxAnnotationProcessor} for every
+ * {@link xss.it.jux.html.annotation.Html @Html} component whose template is
+ * available at compile time. The generated class is named
+ * {@code <ComponentName>Template} and lives in the component's package (nested
+ * components are flattened with underscores, e.g. {@code Outer_InnerTemplate}).
+ * {@link HtmlLoader} discovers it once per component class and from then on
+ * builds each instance without reading, parsing, or cloning the template.</p>
+ *
+ * <p>When every {@link xss.it.jux.html.annotation.HtmlId @HtmlId} and
+ * {@link xss.it.jux.html.annotation.Slot @Slot} field of the component is
+ * accessible from its package (not {@code private}, not {@code final}), the
+ * generated {@link #build(Object)} assigns those fields directly and
+ * {@link #bindsFields()} returns {@code true}. Otherwise the loader indexes the
+ * built tree and injects the fields reflectively, as it does for parsed templates.</p>
+ *
+ * <p>The generated class records a {@linkplain #sourceHash() hash} of the template
+ * source it was compiled from. A template is a resource, not a source file, so
+ * editing only the {@code .html} file does not necessarily recompile the component.
+ * {@link HtmlLoader} therefore hashes the template resource on the classpath once
+ * per component class and ignores a compiled class whose hash no longer matches,
+ * parsing the current template instead.</p>
+ *
+ * @see HtmlLoader
+ */
+public interface CompiledTemplate {
+
+    /**
+     * Returns the template path this class was compiled from, as declared in {@code @Html}.
+     *
+     * @return the template path (e.g. {@code "components/pricing-table.html"})
+     */
+    String path();
+
+    /**
+     * Builds a fresh, independent Element tree for one component instance.
+     *
+     * <p>If {@link #bindsFields()} is {@code true}, the component's
+     * {@code @HtmlId} and {@code @Slot} fields are assigned before returning.</p>
+     *
+     * @param component the component instance being loaded
+     * @return the root element of the new tree
+     */
+    Element build(Object component);
+
+    /**
+     * Whether {@link #build(Object)} assigns every {@code @HtmlId} and {@code @Slot}
+     * field of the component itself.
+     *
+     * @return {@code true} if no further injection is needed
+     */
+    boolean bindsFields();
+
+    /**
+     * Returns the {@link #hash(Reader)} of the template source this class was compiled from.
+     *
+     * @return the 64-bit hash of the template source
+     */
+    long sourceHash();
+
+    /**
+     * Hashes a template source: 64-bit FNV-1a over its UTF-16 characters.
+     *
+     * <p>Used by the annotation processor when generating a compiled template and by
+     * {@link HtmlLoader} when checking it against the template resource, so both sides
+     * hash exactly the same characters. The reader is consumed but not closed.</p>
+     *
+     * @param source the template source
+     * @return the 64-bit hash
+     * @throws IOException if the source cannot be read
+     */
+    static long hash(Reader source) throws IOException {
+        long hash = 0xCBF29CE484222325L;
+        char[] buffer = new char[4096];
+        int read;
+        while ((read = source.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                hash ^= buffer[i];
+                hash *= 0x100000001B3L;
+            }
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+package xss.it.jux.html;
+
+import xss.it.jux.core.Element;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The positions of all id-bearing elements in a template, computed once per
+ * prototype.
+ *
+ * <p>Each id maps to its path from the root as a sequence of child indices. The
+ * same path leads to the corresponding element in any tree with the prototype's
+ * shape -- a deep clone or a copy-on-write instance -- so finding an injected
+ * element in a fresh instance costs a few list lookups instead of a walk over the
+ * whole tree.</p>
+ *
+ * <p>As in {@link HtmlLoader#indexById(Element)}, when several elements share an
+ * id the first one in breadth-first order wins.</p>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ *
+ * @see TemplateCache
+ */
+final class ElementPaths {
+
+    /** An empty path, leading to the root itself. */
+    private static final int[] ROOT = new int[0];
+
+    /** Child-index path from the root, keyed by element id. */
+    private final Map<String, int[]> paths;
+
+    private ElementPaths(Map<String, int[]> paths) {
+        this.paths = paths;
+    }
+
+    /**
+     * Index the id-bearing elements of a tree.
+     *
+     * @param root the root element of the tree
+     * @return the paths of all elements with a non-empty {@code id}
+     */
+    static ElementPaths index(Element root) {
+        Map<String, int[]> paths = new HashMap<>();
+
+        Deque<Element> queue = new ArrayDeque<>();
+        Deque<int[]> queuedPaths = new ArrayDeque<>();
+        queue.add(root);
+        queuedPaths.add(ROOT);
+        while (!queue.isEmpty()) {
+            Element current = queue.poll();
+            int[] path = queuedPaths.poll();
+
+            String id = current.getAttribute("id");
+            if (id != null && !id.isEmpty()) {
+                paths.putIfAbsent(id, path);
+            }
+
+            List<Element> children = current.getChildren();
+            for (int i = 0; i < children.size(); i++) {
+                int[] childPath = Arrays.copyOf(path, path.length + 1);
+                childPath[path.length] = i;
+                queue.add(children.get(i));
+                queuedPaths.add(childPath);
+            }
+        }
+        return new ElementPaths(Map.copyOf(paths));
+    }
+
+    /**
+     * Follow the path of an id in a tree with the indexed shape.
+     *
+     * @param root the root of the tree
+     * @param id   the element id
+     * @return the element, or null if the template has no element with that id
+     *         (or the tree no longer has the indexed shape)
+     */
+    Element find(Element root, String id) {
+        int[] path = paths.get(id);
+        if (path == null) {
+            return null;
+        }
+        Element current = root;
+        for (int index : path) {
+            List<Element> children = current.getChildren();
+            if (index >= children.size()) {
+                return null;
+            }
+            current = children.get(index);
+        }
+        return current;
+    }
+
+    /**
+     * Collect the nodes on the path of an id in a tree with the indexed shape.
+     *
+     * @param root the root of the tree
+     * @param id   the element id
+     * @return the nodes from the root to the element, both included; empty if
+     *         the template has no element with that id
+     */
+    List<Element> trail(Element root, String id) {
+        int[] path = paths.get(id);
+        if (path == null) {
+            return List.of();
+        }
+        Element[] trail = new Element[path.length + 1];
+        trail[0] = root;
+        for (int i = 0; i < path.length; i++) {
+            trail[i + 1] = trail[i].getChildren().get(path[i]);
+        }
+        return List.of(trail);
+    }
+
+    /**
+     * Returns the indexed ids.
+     *
+     * @return the ids of all indexed elements
+     */
+    Set<String> ids() {
+        return paths.keySet();
+    }
+}
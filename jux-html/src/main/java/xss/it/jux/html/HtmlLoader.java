@@ -19,17 +19,15 @@ import xss.it.jux.html.annotation.HtmlId;
 import xss.it.jux.html.annotation.Slot;
 import xss.it.jux.reactive.Initializable;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 /**
  * Orchestrator that loads, parses, caches, and wires HTML templates into JUX components.
@@ -38,17 +36,42 @@ import java.util.stream.Collectors;
  * <ol>
  *   <li>Read the {@code @Html} annotation to determine the template path</li>
  *   <li>Check the cache for a previously parsed prototype</li>
- *   <li>If not cached: load raw HTML from the classpath ({@code templates/} directory)</li>
- *   <li>Parse the HTML into an {@link Element} tree via {@link HtmlParser}</li>
+ *   <li>If not cached: open the template on the classpath ({@code templates/} directory)</li>
+ *   <li>Parse the HTML into an {@link Element} tree via {@link HtmlStreamParser},
+ *       straight from the resource stream</li>
  *   <li>Cache the prototype for future requests</li>
- *   <li>Deep-clone the prototype (each caller gets an independent copy)</li>
- *   <li>Build an index of all elements by their {@code id} attribute</li>
+ *   <li>Copy the prototype: a deep clone by default, or, for components declared
+ *       with {@link Html#shared() @Html(shared = true)}, a copy-on-write instance
+ *       in which only the injected elements, their subtrees and their ancestors
+ *       are copied and every other node is shared read-only with the cached
+ *       prototype (see {@link TemplateCache#instance})</li>
+ *   <li>Locate each injected element by following its precomputed child-index
+ *       path from the root</li>
  *   <li>Inject {@link HtmlId @HtmlId}-annotated fields with matching elements</li>
  *   <li>Inject {@link Slot @Slot}-annotated fields with matching elements</li>
  *   <li>If the component implements {@link Initializable}, call {@code initialize()}</li>
  *   <li>Return the root Element</li>
  * </ol>
  *
+ * <p>Nothing is searched or reflected per call: the id paths are computed once per
+ * template when its prototype is cached, and the annotated fields of each component
+ * class are resolved once into method-handle setters. Loading a cached template is
+ * a copy, N path walks and N field writes.</p>
+ *
+ * <p><b>Compiled templates:</b> when the annotation processor has generated a
+ * {@link CompiledTemplate} for the component class, steps 2-9 are replaced by a
+ * call to its {@link CompiledTemplate#build(Object)}, which constructs the tree
+ * directly and (for non-private fields) assigns the injected fields itself; other
+ * fields are found by id paths indexed from the first build, and a component
+ * without injected fields needs no lookup at all. For shared templates the nodes
+ * a cached instance would share are then frozen, so the writable nodes are the
+ * same in every mode (see {@link #load(Object)}). The compiled class is looked up
+ * once per component class, and is only used if the
+ * hash of the template it was compiled from matches the template resource on the
+ * classpath; a template edited without recompiling the component is parsed as
+ * usual. Compiled templates are bypassed while the cache is disabled, so edited
+ * templates are picked up during development without recompiling.</p>
+ *
  * <p><b>Example usage in a component:</b></p>
  * <pre>{@code
  * @Html("pages/dashboard.html")
@@ -77,6 +100,61 @@ public final class HtmlLoader {
     /** Shared template cache instance. */
     private static final TemplateCache CACHE = new TemplateCache();
 
+    /** Suffix of the class generated for a compiled template (e.g. {@code HomePageTemplate}). */
+    private static final String COMPILED_SUFFIX = "Template";
+
+    /** Compiled template per component class; empty when none was generated. */
+    private static final ClassValue<Optional<Compiled>> COMPILED = new ClassValue<>() {
+        @Override
+        protected Optional<Compiled> computeValue(Class<?> type) {
+            return findCompiledTemplate(type).map(Compiled::new);
+        }
+    };
+
+    /**
+     * A component's compiled template, with the writable shape and the id paths of the
+     * trees it builds. Both are computed from the first build that needs them; a race
+     * computes them twice, harmlessly.
+     */
+    private static final class Compiled {
+
+        /** The generated template. */
+        final CompiledTemplate template;
+
+        /** Nodes left mutable in each built tree; null until the first build. */
+        volatile TemplateCache.WritableShape shape;
+
+        /** Id paths of the built trees, for loader-side injection; null until first needed. */
+        private volatile ElementPaths paths;
+
+        Compiled(CompiledTemplate template) {
+            this.template = template;
+        }
+
+        /**
+         * Returns the id paths of the built trees, indexing the given tree the first time.
+         *
+         * @param root a tree built by {@link #template}
+         * @return the id paths
+         */
+        ElementPaths paths(Element root) {
+            ElementPaths result = paths;
+            if (result == null) {
+                result = ElementPaths.index(root);
+                paths = result;
+            }
+            return result;
+        }
+    }
+
+    /** Field injection plan ({@code @HtmlId} / {@code @Slot} setters) per component class. */
+    private static final ClassValue<InjectionPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected InjectionPlan computeValue(Class<?> type) {
+            return InjectionPlan.of(type);
+        }
+    };
+
     /** Classpath directory prefix where templates are loaded from. */
     private static final String TEMPLATES_DIR = "templates/";
 
@@ -95,6 +173,23 @@ public final class HtmlLoader {
      * If the component implements {@link Initializable}, its {@code initialize()}
      * method is called after all injection is complete.</p>
      *
+     * <p><b>Writable nodes.</b> By default every node of the returned tree is an
+     * independent, mutable copy. If the component is declared with
+     * {@link Html#shared() @Html(shared = true)}, the returned tree shares its static
+     * parts with other callers, and only these nodes may be modified:</p>
+     * <ul>
+     *   <li>the root</li>
+     *   <li>every element injected into an {@code @HtmlId} or {@code @Slot} field,
+     *       together with its whole subtree</li>
+     *   <li>every ancestor of an injected element</li>
+     * </ul>
+     * <p>Every other node is {@linkplain Element#isFrozen() frozen}: its builder methods
+     * throw {@link IllegalStateException}. To change such a node, give it an {@code id}
+     * and inject it, or replace it by rebuilding a writable parent's children. The
+     * same nodes are writable whether the tree comes from the template cache, from a
+     * fresh parse while the cache is disabled, or from a {@link CompiledTemplate}, so
+     * a component that works in development behaves identically in production.</p>
+     *
      * @param component the component instance to load the template for
      * @return the root Element of the processed template tree
      * @throws TemplateException if the template cannot be found, parsed, or wired
@@ -121,32 +216,58 @@ public final class HtmlLoader {
                     null, -1);
         }
 
-        /* 2. Check cache for previously parsed prototype. */
-        Element root = CACHE.get(templatePath);
+        /* Build-time compiled template: no parsing, cloning or (usually) reflection. */
+        if (CACHE.isEnabled()) {
+            Compiled compiled = COMPILED.get(componentClass).orElse(null);
+            if (compiled != null && compiled.template.path().equals(templatePath)) {
+                InjectionPlan plan = PLANS.get(componentClass);
+                Element root = compiled.template.build(component);
+                if (htmlAnnotation.shared()) {
+                    TemplateCache.WritableShape shape = compiled.shape;
+                    if (shape == null) {
+                        shape = TemplateCache.WritableShape.of(root, plan.targetIds());
+                        compiled.shape = shape;
+                    }
+                    shape.restrict(root);
+                }
+                if (!compiled.template.bindsFields() && !plan.targetIds().isEmpty()) {
+                    ElementPaths paths = compiled.paths(root);
+                    plan.inject(component, id -> paths.find(root, id));
+                }
+                if (component instanceof Initializable initializable) {
+                    initializable.initialize();
+                }
+                return root;
+            }
+        }
 
-        if (root == null) {
-            /* 3. Load raw HTML from classpath. */
-            String rawHtml = loadTemplate(templatePath);
+        /* 2. Check cache for previously parsed prototype; shared templates copy only what gets injected. */
+        InjectionPlan plan = PLANS.get(componentClass);
+        boolean shared = htmlAnnotation.shared();
+        TemplateCache.Instance instance = instantiate(templatePath, plan, shared);
 
-            /* 4. Parse HTML into Element tree. */
-            Element prototype = HtmlParser.parse(rawHtml, templatePath);
+        if (instance == null) {
+            /* 3-4. Stream the template from the classpath into an Element tree. */
+            Element prototype = parseTemplate(templatePath);
 
-            /* 5. Cache the prototype. */
+            /* 5. Cache the prototype (frozen from here on). */
             CACHE.put(templatePath, prototype);
 
-            /* 6. Clone the prototype. */
-            root = TemplateCache.deepClone(prototype);
+            /* 6. Instantiate it; with caching off, a fresh shared tree gets the same read-only nodes. */
+            instance = prototype.isFrozen() ? instantiate(templatePath, plan, shared) : null;
+            if (instance == null) {
+                Element root = prototype.isFrozen() ? TemplateCache.deepClone(prototype) : prototype;
+                if (shared) {
+                    TemplateCache.WritableShape.of(root, plan.targetIds()).restrict(root);
+                }
+                instance = new TemplateCache.Instance(root, ElementPaths.index(root));
+            }
         }
-        /* If cache hit, root is already a deep clone from CACHE.get(). */
-
-        /* 7. Index all elements by id. */
-        Map<String, Element> idIndex = indexById(root);
 
-        /* 8. Inject @HtmlId fields. */
-        injectHtmlIds(component, idIndex);
-
-        /* 9. Inject @Slot fields. */
-        injectSlots(component, idIndex);
+        /* 7-9. Follow the precomputed id paths and inject @HtmlId, then @Slot fields. */
+        Element root = instance.root();
+        ElementPaths paths = instance.paths();
+        plan.inject(component, id -> paths.find(root, id));
 
         /* 10. Call Initializable.initialize() if applicable. */
         if (component instanceof Initializable initializable) {
@@ -171,32 +292,106 @@ public final class HtmlLoader {
     // ── Internal helpers ──────────────────────────────────────────
 
     /**
-     * Load the raw HTML content of a template from the classpath.
+     * Obtain an instance of a cached template: copy-on-write for shared templates,
+     * a deep clone otherwise.
+     *
+     * @param path   the template path
+     * @param plan   the component's injection plan
+     * @param shared whether the component declared {@code @Html(shared = true)}
+     * @return the instance, or null if not cached or the cache is disabled
+     */
+    private static TemplateCache.Instance instantiate(String path, InjectionPlan plan, boolean shared) {
+        return shared ? CACHE.instantiate(path, plan.targetIds()) : CACHE.cloneInstance(path);
+    }
+
+    /**
+     * Load and parse a template from the classpath.
      *
-     * <p>Templates are loaded from the {@code templates/} directory on the classpath.
-     * The entire file is read as UTF-8 text.</p>
+     * <p>Templates are loaded from the {@code templates/} directory on the classpath
+     * and decoded as UTF-8. The resource is parsed as it is read, through the
+     * bounded buffer of {@link HtmlStreamParser}, so the raw HTML is never held in
+     * memory as a whole.</p>
      *
      * @param path the template path relative to templates/ (e.g. "pages/home.html")
-     * @return the raw HTML content
-     * @throws TemplateException if the template file cannot be found or read
+     * @return the root Element of the parsed template
+     * @throws TemplateException if the template file cannot be found, read or parsed
      */
-    static String loadTemplate(String path) {
+    static Element parseTemplate(String path) {
         String resourcePath = TEMPLATES_DIR + path;
-        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
-        if (classLoader == null) {
-            classLoader = HtmlLoader.class.getClassLoader();
-        }
-
-        try (InputStream is = classLoader.getResourceAsStream(resourcePath)) {
+        try (InputStream is = classLoader().getResourceAsStream(resourcePath)) {
             if (is == null) {
                 throw new TemplateException(
                         "Template not found on classpath: " + resourcePath,
                         path, -1);
             }
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(is, StandardCharsets.UTF_8))) {
-                return reader.lines().collect(Collectors.joining("\n"));
+            return HtmlStreamParser.parse(new InputStreamReader(is, StandardCharsets.UTF_8), path);
+        } catch (IOException e) {
+            throw new TemplateException(
+                    "Failed to read template: " + resourcePath,
+                    path, -1, e);
+        }
+    }
+
+    /**
+     * Locate the {@link CompiledTemplate} generated for a component class.
+     *
+     * <p>The generated class lives in the component's package and is named after
+     * the component's flattened simple name plus {@code Template}
+     * (e.g. {@code Outer$Inner} becomes {@code Outer_InnerTemplate}).</p>
+     *
+     * <p>A compiled template is stale when the template resource was changed after
+     * the component was compiled. Its {@link CompiledTemplate#sourceHash() source hash}
+     * is therefore compared with the hash of the resource on the classpath, and a
+     * mismatch is treated as if no class had been generated. When the resource is
+     * missing, the compiled template is the only copy and is used as-is.</p>
+     *
+     * @param componentClass the {@code @Html} component class
+     * @return the compiled template, or empty if none was generated or it is stale
+     */
+    static Optional<CompiledTemplate> findCompiledTemplate(Class<?> componentClass) {
+        String binaryName = componentClass.getName();
+        int lastDot = binaryName.lastIndexOf('.');
+        String packagePrefix = binaryName.substring(0, lastDot + 1);
+        String flatName = binaryName.substring(lastDot + 1).replace('$', '_');
+        try {
+            Class<?> generated = Class.forName(packagePrefix + flatName + COMPILED_SUFFIX,
+                    true, componentClass.getClassLoader());
+            if (!CompiledTemplate.class.isAssignableFrom(generated)) {
+                return Optional.empty();
+            }
+            CompiledTemplate compiled = (CompiledTemplate) generated.getDeclaredConstructor().newInstance();
+            Long resourceHash = resourceHash(compiled.path());
+            if (resourceHash != null && resourceHash != compiled.sourceHash()) {
+                return Optional.empty();
+            }
+            return Optional.of(compiled);
+        } catch (ClassNotFoundException e) {
+            return Optional.empty();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            Html html = componentClass.getAnnotation(Html.class);
+            throw new TemplateException(
+                    "Cannot instantiate compiled template for " + binaryName + ": " + e.getMessage(),
+                    html != null ? html.value() : null, -1, e);
+        }
+    }
+
+    /**
+     * Hash a template resource with {@link CompiledTemplate#hash(java.io.Reader)}.
+     *
+     * <p>The resource is decoded as UTF-8 and streamed through the hash, exactly as
+     * {@link #parseTemplate(String)} reads it.</p>
+     *
+     * @param path the template path relative to templates/
+     * @return the hash, or null if the resource is not on the classpath
+     * @throws TemplateException if the resource exists but cannot be read
+     */
+    static Long resourceHash(String path) {
+        String resourcePath = TEMPLATES_DIR + path;
+        try (InputStream is = classLoader().getResourceAsStream(resourcePath)) {
+            if (is == null) {
+                return null;
             }
+            return CompiledTemplate.hash(new InputStreamReader(is, StandardCharsets.UTF_8));
         } catch (IOException e) {
             throw new TemplateException(
                     "Failed to read template: " + resourcePath,
@@ -204,6 +399,17 @@ public final class HtmlLoader {
         }
     }
 
+    /**
+     * The class loader templates are read from: the thread's context class loader,
+     * falling back to the loader of this class.
+     *
+     * @return the class loader to read template resources with
+     */
+    private static ClassLoader classLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : HtmlLoader.class.getClassLoader();
+    }
+
     /**
      * Build a map of element id to Element by walking the entire tree.
      *
@@ -226,7 +432,7 @@ public final class HtmlLoader {
             Element current = queue.poll();
 
             /* Check for id attribute. */
-            String id = current.getAttributes().get("id");
+            String id = current.getAttribute("id");
             if (id != null && !id.isEmpty()) {
                 index.putIfAbsent(id, current);
             }
@@ -239,109 +445,4 @@ public final class HtmlLoader {
 
         return index;
     }
-
-    /**
-     * Inject elements into fields annotated with {@link HtmlId @HtmlId}.
-     *
-     * <p>Walks the component class hierarchy (including superclasses) looking for
-     * {@code @HtmlId} fields. For each field, determines the target element id
-     * (from the annotation value or the field name) and injects the corresponding
-     * element from the id index.</p>
-     *
-     * @param component the component instance
-     * @param idIndex   map of element id to Element
-     * @throws TemplateException if a required element id is not found in the template
-     */
-    static void injectHtmlIds(Object component, Map<String, Element> idIndex) {
-        Class<?> clazz = component.getClass();
-        while (clazz != null && clazz != Object.class) {
-            for (Field field : clazz.getDeclaredFields()) {
-                HtmlId annotation = field.getAnnotation(HtmlId.class);
-                if (annotation == null) {
-                    continue;
-                }
-
-                /* Determine the element id to look up. */
-                String targetId = annotation.value();
-                if (targetId == null || targetId.isEmpty()) {
-                    targetId = field.getName();
-                }
-
-                Element element = idIndex.get(targetId);
-                if (element == null) {
-                    throw new TemplateException(
-                            "No element with id=\"" + targetId + "\" found in template for @HtmlId field '"
-                                    + field.getName() + "' in " + component.getClass().getName(),
-                            getTemplatePath(component), -1);
-                }
-
-                injectField(component, field, element);
-            }
-            clazz = clazz.getSuperclass();
-        }
-    }
-
-    /**
-     * Inject elements into fields annotated with {@link Slot @Slot}.
-     *
-     * <p>Walks the component class hierarchy looking for {@code @Slot} fields.
-     * The slot value maps to an element id in the template.</p>
-     *
-     * @param component the component instance
-     * @param idIndex   map of element id to Element
-     * @throws TemplateException if a required slot element is not found in the template
-     */
-    static void injectSlots(Object component, Map<String, Element> idIndex) {
-        Class<?> clazz = component.getClass();
-        while (clazz != null && clazz != Object.class) {
-            for (Field field : clazz.getDeclaredFields()) {
-                Slot annotation = field.getAnnotation(Slot.class);
-                if (annotation == null) {
-                    continue;
-                }
-
-                String slotName = annotation.value();
-                Element element = idIndex.get(slotName);
-
-                if (element == null) {
-                    throw new TemplateException(
-                            "No element with id=\"" + slotName + "\" found in template for @Slot field '"
-                                    + field.getName() + "' in " + component.getClass().getName(),
-                            getTemplatePath(component), -1);
-                }
-
-                injectField(component, field, element);
-            }
-            clazz = clazz.getSuperclass();
-        }
-    }
-
-    /**
-     * Reflectively set a field value on the component instance.
-     *
-     * @param component the target object
-     * @param field     the field to set
-     * @param value     the value to inject
-     * @throws TemplateException if the field cannot be set
-     */
-    private static void injectField(Object component, Field field, Object value) {
-        try {
-            field.setAccessible(true);
-            field.set(component, value);
-        } catch (IllegalAccessException e) {
-            throw new TemplateException(
-                    "Cannot inject field '" + field.getName() + "' in "
-                            + component.getClass().getName() + ": " + e.getMessage(),
-                    getTemplatePath(component), -1, e);
-        }
-    }
-
-    /**
-     * Extract the template path from the component's {@code @Html} annotation.
-     * Returns null if the annotation is not present.
-     */
-    private static String getTemplatePath(Object component) {
-        Html html = component.getClass().getAnnotation(Html.class);
-        return html != null ? html.value() : null;
-    }
 }
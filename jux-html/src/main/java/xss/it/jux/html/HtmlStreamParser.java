@@ -0,0 +1,957 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+package xss.it.jux.html;
+
+import xss.it.jux.core.Element;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Pull-based HTML5 parser that reads from a {@link Reader} or
+ * {@link ReadableByteChannel} through a fixed-size buffer.
+ *
+ * <p>This is the HTML grammar of JUX: {@link HtmlParser} parses strings by reading
+ * them through this class. The parser never holds more of the input than its
+ * buffer (8 KiB of characters by default), which suits large templates and
+ * server-side ingestion of HTML such as CMS rich text.</p>
+ *
+ * <p>Documents can be consumed in three ways:</p>
+ * <ul>
+ *   <li><b>Events:</b> {@link #next()} advances to the next
+ *       {@link Event#START_ELEMENT START_ELEMENT}, {@link Event#END_ELEMENT END_ELEMENT},
+ *       {@link Event#TEXT TEXT} or {@link Event#END_DOCUMENT END_DOCUMENT} event;
+ *       the accessors describe the current one. Comments and declarations are
+ *       skipped, entities are decoded, and whitespace-only text is not reported.
+ *       Void and self-closing elements produce a start and an end event.</li>
+ *   <li><b>Subtrees on demand:</b> at a start event, {@link #readElement()} builds
+ *       that element and its descendants and leaves the parser after its end tag,
+ *       so a caller can stream past uninteresting markup and materialize only the
+ *       parts it needs.</li>
+ *   <li><b>Whole documents:</b> {@link #parse(Reader, String)} returns the whole
+ *       tree, as {@link HtmlParser#parse(String, String)} does for a string.</li>
+ * </ul>
+ *
+ * <p>Line breaks are normalized as in HTML5 input preprocessing: {@code \r\n} and
+ * a lone {@code \r} are read as {@code \n}.</p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>{@code
+ * try (HtmlStreamParser parser = HtmlStreamParser.of(reader, "cms/article-42")) {
+ *     while (parser.next() != HtmlStreamParser.Event.END_DOCUMENT) {
+ *         if (parser.getEvent() == HtmlStreamParser.Event.START_ELEMENT
+ *                 && parser.getTagName().equals("figure")) {
+ *             figures.add(parser.readElement());
+ *         }
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p>Instances are not thread-safe.</p>
+ *
+ * @see HtmlParser
+ * @see TemplateException
+ */
+public final class HtmlStreamParser implements AutoCloseable {
+
+    /**
+     * The kinds of event reported by {@link #next()}.
+     */
+    public enum Event {
+        /** An opening tag; {@link #getTagName()} and {@link #getAttributes()} are set. */
+        START_ELEMENT,
+        /** A closing tag, or the implicit end of a void or self-closing element. */
+        END_ELEMENT,
+        /** A run of non-blank text between tags; {@link #getText()} is set. */
+        TEXT,
+        /** The end of the input. Returned by every further call to {@link #next()}. */
+        END_DOCUMENT
+    }
+
+    /** Default size of the character buffer. */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * Smallest accepted buffer size; the parser looks at most four characters
+     * ahead ({@code <!--}).
+     */
+    private static final int MIN_BUFFER_SIZE = 16;
+
+    /**
+     * HTML5 void elements that have no closing tag.
+     * Per the HTML5 specification, these elements cannot have children.
+     */
+    private static final Set<String> VOID_ELEMENTS = Set.of(
+            "area", "base", "br", "col", "embed", "hr", "img", "input",
+            "link", "meta", "param", "source", "track", "wbr"
+    );
+
+    /** The character source. */
+    private final Reader reader;
+
+    /** Template path for error reporting. */
+    private final String templatePath;
+
+    /** The bounded input buffer; {@code [pos, limit)} holds unread characters. */
+    private final char[] buffer;
+
+    /** Index of the next unread character in {@link #buffer}. */
+    private int pos;
+
+    /** End of the valid characters in {@link #buffer}. */
+    private int limit;
+
+    /** Whether the reader has been exhausted. */
+    private boolean eof;
+
+    /** Whether the last character read from the source was a {@code \r}. */
+    private boolean afterCarriageReturn;
+
+    /** Current line number (1-based) for error reporting. */
+    private int line = 1;
+
+    /** Tag names of the currently open elements, innermost first. */
+    private final Deque<String> openTags = new ArrayDeque<>();
+
+    /** Lines of the currently open tags, parallel to {@link #openTags}. */
+    private final Deque<Integer> openLines = new ArrayDeque<>();
+
+    /** Scratch buffer for names, values and text. */
+    private final StringBuilder scratch = new StringBuilder();
+
+    /** The current event, or null before the first call to {@link #next()}. */
+    private Event event;
+
+    /** Tag name of the current start or end event. */
+    private String tagName;
+
+    /** Attribute names of the current start event, lowercased, in source order. */
+    private final List<String> attributeNames = new ArrayList<>();
+
+    /** Attribute values of the current start event, parallel to {@link #attributeNames}. */
+    private final List<String> attributeValues = new ArrayList<>();
+
+    /** Text of the current text event. */
+    private String text;
+
+    /** Line on which the current event started. */
+    private int eventLine;
+
+    /** Whether the current start event is void or self-closing, so an end event follows. */
+    private boolean pendingEnd;
+
+    private HtmlStreamParser(Reader reader, String templatePath, int bufferSize) {
+        if (reader == null) {
+            throw new NullPointerException("reader must not be null");
+        }
+        if (bufferSize < MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException(
+                    "bufferSize must be at least " + MIN_BUFFER_SIZE + ", got " + bufferSize);
+        }
+        this.reader = reader;
+        this.templatePath = templatePath;
+        this.buffer = new char[bufferSize];
+    }
+
+    // ── Factories ─────────────────────────────────────────────────
+
+    /**
+     * Create a streaming parser over a reader, with the default buffer size.
+     *
+     * @param reader       the character source; closed by {@link #close()}
+     * @param templatePath the template path for error reporting, may be null
+     * @return a new parser positioned before the first event
+     */
+    public static HtmlStreamParser of(Reader reader, String templatePath) {
+        return new HtmlStreamParser(reader, templatePath, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Create a streaming parser over a reader with a custom buffer size.
+     *
+     * @param reader       the character source; closed by {@link #close()}
+     * @param templatePath the template path for error reporting, may be null
+     * @param bufferSize   the number of characters buffered at a time (at least 16)
+     * @return a new parser positioned before the first event
+     * @throws IllegalArgumentException if {@code bufferSize} is too small
+     */
+    public static HtmlStreamParser of(Reader reader, String templatePath, int bufferSize) {
+        return new HtmlStreamParser(reader, templatePath, bufferSize);
+    }
+
+    /**
+     * Create a streaming parser over a byte channel, decoding with the given charset.
+     *
+     * <p>Bytes are decoded through a bounded buffer as well; the channel is never
+     * read ahead further than the decoder needs.</p>
+     *
+     * @param channel      the byte source; closed by {@link #close()}
+     * @param charset      the charset of the bytes
+     * @param templatePath the template path for error reporting, may be null
+     * @return a new parser positioned before the first event
+     */
+    public static HtmlStreamParser of(ReadableByteChannel channel, Charset charset, String templatePath) {
+        return of(Channels.newReader(channel, charset.newDecoder(), DEFAULT_BUFFER_SIZE), templatePath);
+    }
+
+    /**
+     * Parse a whole document from a reader into a JUX Element tree.
+     *
+     * <p>The content is never held in memory as a whole. Multiple root nodes are
+     * wrapped in a synthetic {@code <div>}; empty input yields an empty
+     * {@code <div>}. The reader is not closed.</p>
+     *
+     * @param reader       the character source
+     * @param templatePath the template path for error reporting, may be null
+     * @return the root Element of the parsed tree
+     * @throws TemplateException if the HTML contains syntax errors or cannot be read
+     */
+    public static Element parse(Reader reader, String templatePath) {
+        HtmlStreamParser parser = of(reader, templatePath);
+        List<Element> roots = new ArrayList<>();
+        while (true) {
+            switch (parser.next()) {
+                case START_ELEMENT -> roots.add(parser.readElement());
+                case TEXT -> roots.add(Element.of("span").text(parser.getText()));
+                case END_ELEMENT -> throw new IllegalStateException("Unbalanced end event at root level");
+                case END_DOCUMENT -> {
+                    if (roots.isEmpty()) {
+                        return Element.of("div");
+                    }
+                    if (roots.size() == 1) {
+                        return roots.getFirst();
+                    }
+                    /* Multiple root nodes -- wrap in a synthetic div. */
+                    return Element.of("div").children(roots);
+                }
+            }
+        }
+    }
+
+    // ── Pull API ──────────────────────────────────────────────────
+
+    /**
+     * Advance to the next event.
+     *
+     * @return the new current event
+     * @throws TemplateException if the HTML contains syntax errors or cannot be read
+     */
+    public Event next() {
+        if (event == Event.END_DOCUMENT) {
+            return event;
+        }
+        text = null;
+        if (pendingEnd) {
+            /* Implicit end of a void or self-closing element; tag name is kept. */
+            pendingEnd = false;
+            clearAttributes();
+            return event = Event.END_ELEMENT;
+        }
+        clearAttributes();
+        tagName = null;
+
+        while (true) {
+            eventLine = line;
+            int ch = peek(0);
+            if (ch < 0) {
+                if (!openTags.isEmpty()) {
+                    error("Unexpected end of input, unclosed tag <" + openTags.peek()
+                            + "> opened at line " + openLines.peek());
+                }
+                return event = Event.END_DOCUMENT;
+            }
+
+            if (lookingAt("<!--")) {
+                skipComment();
+            } else if (openTags.isEmpty() && lookingAt("<!")) {
+                skipDeclaration();
+            } else if (lookingAt("</")) {
+                if (openTags.isEmpty()) {
+                    /* Unexpected closing tag at the root level -- error. */
+                    error("Unexpected closing tag at root level");
+                }
+                parseEndTag();
+                return event = Event.END_ELEMENT;
+            } else if (ch == '<') {
+                parseStartTag();
+                return event = Event.START_ELEMENT;
+            } else {
+                String run = parseText(openTags.isEmpty());
+                if (!run.isBlank()) {
+                    text = run;
+                    return event = Event.TEXT;
+                }
+            }
+        }
+    }
+
+    /**
+     * Build the element of the current start event together with its whole
+     * subtree, consuming the events up to and including its end event.
+     *
+     * <p>The first text run of an element without children becomes its text
+     * content; later runs are wrapped in {@code <span>} children.</p>
+     *
+     * @return the element and its descendants
+     * @throws IllegalStateException if the current event is not
+     *                               {@link Event#START_ELEMENT}
+     * @throws TemplateException     if the HTML contains syntax errors or cannot be read
+     */
+    public Element readElement() {
+        if (event != Event.START_ELEMENT) {
+            throw new IllegalStateException("readElement() requires a START_ELEMENT event, current is " + event);
+        }
+
+        Element root = newElement();
+        Deque<Element> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            switch (next()) {
+                case START_ELEMENT -> {
+                    Element child = newElement();
+                    stack.peek().children(child);
+                    stack.push(child);
+                }
+                case TEXT -> {
+                    Element parent = stack.peek();
+                    if (parent.getChildren().isEmpty() && parent.getTextContent() == null) {
+                        parent.text(text);
+                    } else {
+                        parent.children(Element.of("span").text(text));
+                    }
+                }
+                case END_ELEMENT -> stack.pop();
+                case END_DOCUMENT -> throw new IllegalStateException("Unexpected end of document");
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Returns the current event.
+     *
+     * @return the current event, or null before the first call to {@link #next()}
+     */
+    public Event getEvent() {
+        return event;
+    }
+
+    /**
+     * Returns the lowercased tag name of the current start or end event.
+     *
+     * @return the tag name, or null for other events
+     */
+    public String getTagName() {
+        return tagName;
+    }
+
+    /**
+     * Returns the attributes of the current start event.
+     *
+     * <p>Names are lowercased and values have their entities decoded. If an
+     * attribute is repeated, the last value wins here; {@link #readElement()}
+     * applies them in order (repeated {@code class} attributes accumulate).</p>
+     *
+     * @return the attributes in source order as an unmodifiable map; empty for
+     *         other events
+     */
+    public Map<String, String> getAttributes() {
+        if (attributeNames.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> attributes = new LinkedHashMap<>();
+        for (int i = 0; i < attributeNames.size(); i++) {
+            attributes.put(attributeNames.get(i), attributeValues.get(i));
+        }
+        return Collections.unmodifiableMap(attributes);
+    }
+
+    /**
+     * Returns the decoded text of the current text event.
+     *
+     * @return the text, or null for other events
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the line on which the current event started.
+     *
+     * @return the 1-based line number
+     */
+    public int getLine() {
+        return eventLine;
+    }
+
+    /**
+     * Returns the number of currently open elements.
+     *
+     * @return the nesting depth after the current event
+     */
+    public int getDepth() {
+        return openTags.size();
+    }
+
+    /**
+     * Close the underlying reader or channel.
+     *
+     * @throws TemplateException if closing fails
+     */
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new TemplateException("Failed to close template source", templatePath, line, e);
+        }
+    }
+
+    // ── Tags ──────────────────────────────────────────────────────
+
+    /**
+     * Parse an opening tag and its attributes, starting at {@code <}.
+     */
+    private void parseStartTag() {
+        int tagStartLine = line;
+        read(); /* Skip < */
+
+        String name = parseName(false);
+        if (name.isEmpty()) {
+            error("Expected tag name after '<'");
+        }
+        tagName = name.toLowerCase();
+
+        parseAttributes();
+        skipWhitespace();
+
+        /* Check for self-closing syntax: /> */
+        boolean selfClosing = false;
+        if (peek(0) == '/') {
+            selfClosing = true;
+            read();
+        }
+        expect('>');
+
+        if (selfClosing || isVoidElement(tagName)) {
+            pendingEnd = true;
+        } else {
+            openTags.push(tagName);
+            openLines.push(tagStartLine);
+        }
+    }
+
+    /**
+     * Parse a closing tag starting at {@code </} and check it against the
+     * innermost open element.
+     */
+    private void parseEndTag() {
+        read();
+        read(); /* Skip </ */
+        String closingTag = parseName(false).toLowerCase();
+        skipWhitespace();
+        if (peek(0) == '>') {
+            read();
+        } else {
+            error("Expected '>' in closing tag </" + closingTag + ">");
+        }
+
+        String parentTag = openTags.peek();
+        if (!closingTag.equals(parentTag)) {
+            error("Unexpected closing tag </" + closingTag + ">, expected </" + parentTag + ">. "
+                    + "Opening tag was at line " + openLines.peek());
+        }
+        openTags.pop();
+        openLines.pop();
+        tagName = closingTag;
+    }
+
+    /**
+     * Parse all attributes of the current tag until {@code >} or {@code />}.
+     */
+    private void parseAttributes() {
+        while (true) {
+            skipWhitespace();
+            int ch = peek(0);
+            if (ch < 0 || ch == '>' || ch == '/') {
+                break;
+            }
+
+            String name = parseName(true);
+            if (name.isEmpty()) {
+                /* Unexpected character in attribute position -- skip it. */
+                read();
+                continue;
+            }
+
+            skipWhitespace();
+            String value = "";
+            if (peek(0) == '=') {
+                read(); /* Skip = */
+                skipWhitespace();
+                int first = peek(0);
+                if (first == '"' || first == '\'') {
+                    value = parseQuotedValue((char) first);
+                } else if (first >= 0) {
+                    value = parseUnquotedValue();
+                }
+            }
+            attributeNames.add(name.toLowerCase());
+            attributeValues.add(value);
+        }
+    }
+
+    /**
+     * Parse a tag name, or an attribute name when {@code attribute} is true
+     * (which additionally allows {@code :} and {@code @}).
+     */
+    private String parseName(boolean attribute) {
+        scratch.setLength(0);
+        while (true) {
+            int ch = peek(0);
+            if (ch >= 0 && (Character.isLetterOrDigit(ch) || ch == '-' || ch == '_' || ch == '.'
+                    || (attribute && (ch == ':' || ch == '@')))) {
+                scratch.append((char) read());
+            } else {
+                return scratch.toString();
+            }
+        }
+    }
+
+    /**
+     * Parse a quoted attribute value, decoding entities.
+     */
+    private String parseQuotedValue(char quote) {
+        read(); /* Skip opening quote. */
+        scratch.setLength(0);
+        while (true) {
+            int ch = peek(0);
+            if (ch < 0) {
+                error("Unterminated attribute value, expected closing " + quote);
+            }
+            if (ch == quote) {
+                read(); /* Skip closing quote. */
+                return scratch.toString();
+            }
+            if (ch == '&') {
+                appendEntity(scratch);
+            } else {
+                scratch.append((char) read());
+            }
+        }
+    }
+
+    /**
+     * Parse an unquoted attribute value (terminated by whitespace or tag end).
+     */
+    private String parseUnquotedValue() {
+        scratch.setLength(0);
+        while (true) {
+            int ch = peek(0);
+            if (ch < 0 || ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r'
+                    || ch == '>' || ch == '/' || ch == '"' || ch == '\'' || ch == '=') {
+                return scratch.toString();
+            }
+            scratch.append((char) read());
+        }
+    }
+
+    /**
+     * Apply a parsed attribute to the element. Handles special attribute names:
+     * {@code class} is split and applied via {@link Element#cls(String...)},
+     * {@code id} is applied via {@link Element#id(String)},
+     * {@code style} is parsed into individual properties via {@link Element#style(String, String)}.
+     */
+    private static void applyAttribute(Element element, String name, String value) {
+        String lowerName = name.toLowerCase();
+
+        switch (lowerName) {
+            case "class" -> {
+                /* Split class value by whitespace and apply each class name. */
+                if (value != null && !value.isEmpty()) {
+                    String[] classes = value.trim().split("\\s+");
+                    element.cls(classes);
+                }
+            }
+            case "id" -> element.id(value);
+            case "style" -> {
+                /* Parse inline style declarations into individual properties. */
+                if (value != null && !value.isEmpty()) {
+                    parseInlineStyle(element, value);
+                }
+            }
+            default -> element.attr(lowerName, value);
+        }
+    }
+
+    /**
+     * Parse an inline CSS style string and apply individual properties to the element.
+     * Example input: {@code "color: red; padding: 1rem; background-color: #fff"}
+     */
+    private static void parseInlineStyle(Element element, String styleString) {
+        String[] declarations = styleString.split(";");
+        for (String declaration : declarations) {
+            String trimmed = declaration.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int colonIndex = trimmed.indexOf(':');
+            if (colonIndex > 0 && colonIndex < trimmed.length() - 1) {
+                String property = trimmed.substring(0, colonIndex).trim();
+                String propValue = trimmed.substring(colonIndex + 1).trim();
+                if (!property.isEmpty() && !propValue.isEmpty()) {
+                    element.style(property, propValue);
+                }
+            }
+        }
+    }
+
+    // ── Text ──────────────────────────────────────────────────────
+
+    /**
+     * Read a run of text up to the next {@code <} or the end of input, decoding
+     * entities. At the root level, leading whitespace is skipped.
+     */
+    private String parseText(boolean root) {
+        if (root) {
+            skipWhitespace();
+        }
+        scratch.setLength(0);
+        while (true) {
+            int ch = peek(0);
+            if (ch < 0 || ch == '<') {
+                return scratch.toString();
+            }
+            if (ch == '&') {
+                appendEntity(scratch);
+            } else {
+                scratch.append((char) read());
+            }
+        }
+    }
+
+    /**
+     * Decode a character entity starting at {@code &} and append it. Numeric
+     * entities run to the next {@code ;}, and anything unrecognized is kept as
+     * raw text.
+     */
+    private void appendEntity(StringBuilder out) {
+        read(); /* Skip & */
+        if (peek(0) < 0) {
+            out.append('&');
+            return;
+        }
+
+        if (peek(0) == '#') {
+            /* Numeric entity. */
+            StringBuilder raw = new StringBuilder("&#");
+            read();
+            if (peek(0) < 0) {
+                out.append(raw);
+                return;
+            }
+
+            boolean hex = false;
+            if (peek(0) == 'x' || peek(0) == 'X') {
+                hex = true;
+                raw.append((char) read());
+            }
+
+            int numStart = raw.length();
+            while (peek(0) >= 0 && peek(0) != ';') {
+                raw.append((char) read());
+            }
+            if (peek(0) < 0) {
+                /* No closing semicolon -- keep raw text. */
+                out.append(raw);
+                return;
+            }
+
+            String number = raw.substring(numStart);
+            raw.append((char) read()); /* ; */
+            try {
+                int codePoint = hex ? Integer.parseInt(number, 16) : Integer.parseInt(number);
+                out.append((char) codePoint);
+            } catch (NumberFormatException e) {
+                out.append(raw);
+            }
+            return;
+        }
+
+        /* Named entity. */
+        StringBuilder name = new StringBuilder();
+        while (peek(0) >= 0 && Character.isLetterOrDigit(peek(0))) {
+            name.append((char) read());
+        }
+        if (peek(0) == ';') {
+            read(); /* Skip ; */
+        }
+        out.append(namedEntity(name.toString()));
+    }
+
+    /**
+     * Decode a named character entity. Unknown names are returned in their
+     * raw {@code &name;} form.
+     *
+     * @param entityName the entity name without {@code &} and {@code ;}
+     * @return the decoded character, or the raw entity text
+     */
+    private static String namedEntity(String entityName) {
+        return switch (entityName) {
+            case "amp" -> "&";
+            case "lt" -> "<";
+            case "gt" -> ">";
+            case "quot" -> "\"";
+            case "apos" -> "'";
+            case "nbsp" -> "\u00A0";
+            case "copy" -> "\u00A9";
+            case "reg" -> "\u00AE";
+            case "trade" -> "\u2122";
+            case "mdash" -> "\u2014";
+            case "ndash" -> "\u2013";
+            case "laquo" -> "\u00AB";
+            case "raquo" -> "\u00BB";
+            case "bull" -> "\u2022";
+            case "hellip" -> "\u2026";
+            case "prime" -> "\u2032";
+            case "Prime" -> "\u2033";
+            case "lsquo" -> "\u2018";
+            case "rsquo" -> "\u2019";
+            case "ldquo" -> "\u201C";
+            case "rdquo" -> "\u201D";
+            case "euro" -> "\u20AC";
+            case "pound" -> "\u00A3";
+            case "yen" -> "\u00A5";
+            case "cent" -> "\u00A2";
+            case "times" -> "\u00D7";
+            case "divide" -> "\u00F7";
+            case "plusmn" -> "\u00B1";
+            case "frac12" -> "\u00BD";
+            case "frac14" -> "\u00BC";
+            case "frac34" -> "\u00BE";
+            case "deg" -> "\u00B0";
+            case "micro" -> "\u00B5";
+            case "para" -> "\u00B6";
+            case "middot" -> "\u00B7";
+            case "larr" -> "\u2190";
+            case "rarr" -> "\u2192";
+            case "uarr" -> "\u2191";
+            case "darr" -> "\u2193";
+            case "harr" -> "\u2194";
+            case "ensp" -> "\u2002";
+            case "emsp" -> "\u2003";
+            case "thinsp" -> "\u2009";
+            default -> "&" + entityName + ";";
+        };
+    }
+
+    // ── Comments and declarations ─────────────────────────────────
+
+    /**
+     * Skip an HTML comment, consuming up to and including {@code -->} (or to the
+     * end of input if it is unterminated).
+     */
+    private void skipComment() {
+        for (int i = 0; i < 4; i++) {
+            read(); /* Skip <!-- */
+        }
+        while (peek(0) >= 0) {
+            if (lookingAt("-->")) {
+                read();
+                read();
+                read();
+                return;
+            }
+            read();
+        }
+    }
+
+    /**
+     * Skip a declaration ({@code <!DOCTYPE ...>} or similar) up to and
+     * including its {@code >}.
+     */
+    private void skipDeclaration() {
+        int ch;
+        while ((ch = read()) >= 0) {
+            if (ch == '>') {
+                return;
+            }
+        }
+    }
+
+    // ── Buffer management ─────────────────────────────────────────
+
+    /**
+     * Returns the character {@code offset} positions ahead without consuming it.
+     *
+     * @return the character, or -1 past the end of input
+     */
+    private int peek(int offset) {
+        if (pos + offset >= limit && !fill(offset + 1)) {
+            return -1;
+        }
+        return buffer[pos + offset];
+    }
+
+    /**
+     * Consume one character, tracking line numbers.
+     *
+     * @return the character, or -1 at the end of input
+     */
+    private int read() {
+        int ch = peek(0);
+        if (ch >= 0) {
+            pos++;
+            if (ch == '\n') {
+                line++;
+            }
+        }
+        return ch;
+    }
+
+    /**
+     * Check whether the upcoming characters match {@code expected} exactly.
+     */
+    private boolean lookingAt(String expected) {
+        for (int i = 0; i < expected.length(); i++) {
+            if (peek(i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Ensure at least {@code needed} unread characters are buffered, compacting
+     * the buffer and reading more input as necessary. Line breaks are
+     * normalized as they are read.
+     *
+     * @return false if the input ends before {@code needed} characters
+     */
+    private boolean fill(int needed) {
+        while (limit - pos < needed) {
+            if (eof) {
+                return false;
+            }
+            if (pos > 0) {
+                System.arraycopy(buffer, pos, buffer, 0, limit - pos);
+                limit -= pos;
+                pos = 0;
+            }
+
+            int read;
+            try {
+                read = reader.read(buffer, limit, buffer.length - limit);
+            } catch (IOException e) {
+                throw new TemplateException("Failed to read template: " + e.getMessage(),
+                        templatePath, line, e);
+            }
+            if (read < 0) {
+                eof = true;
+                continue;
+            }
+
+            /* Normalize \r\n and lone \r to \n in place. */
+            int out = limit;
+            for (int i = limit; i < limit + read; i++) {
+                char ch = buffer[i];
+                if (ch == '\n' && afterCarriageReturn) {
+                    afterCarriageReturn = false;
+                    continue;
+                }
+                afterCarriageReturn = ch == '\r';
+                buffer[out++] = afterCarriageReturn ? '\n' : ch;
+            }
+            limit = out;
+        }
+        return true;
+    }
+
+    // ── Utility methods ───────────────────────────────────────────
+
+    /**
+     * Check if the given element tag is an HTML5 void element.
+     */
+    private static boolean isVoidElement(String tag) {
+        return VOID_ELEMENTS.contains(tag);
+    }
+
+
+    /**
+     * Skip spaces, tabs and line breaks at the current position.
+     */
+    private void skipWhitespace() {
+        while (true) {
+            int ch = peek(0);
+            if (ch == ' ' || ch == '\t' || ch == '\r' || ch == '\n') {
+                read();
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Expect and consume a specific character at the current position.
+     *
+     * @throws TemplateException if the expected character is not found
+     */
+    private void expect(char expected) {
+        int ch = peek(0);
+        if (ch != expected) {
+            error("Expected '" + expected + "' but found "
+                    + (ch < 0 ? "end of input" : "'" + (char) ch + "'"));
+        }
+        read();
+    }
+
+    /**
+     * Create the element of the current start event, applying its attributes
+     * in source order.
+     */
+    private Element newElement() {
+        Element element = Element.of(tagName);
+        for (int i = 0; i < attributeNames.size(); i++) {
+            applyAttribute(element, attributeNames.get(i), attributeValues.get(i));
+        }
+        return element;
+    }
+
+    /** Reset the attributes of the previous start event. */
+    private void clearAttributes() {
+        attributeNames.clear();
+        attributeValues.clear();
+    }
+
+    /**
+     * Throw a {@link TemplateException} with the current line.
+     *
+     * @param message the error description
+     * @throws TemplateException always
+     */
+    private void error(String message) {
+        throw new TemplateException(message, templatePath, line);
+    }
+}
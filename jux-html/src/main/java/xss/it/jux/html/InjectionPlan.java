@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+package xss.it.jux.html;
+
+import xss.it.jux.core.Element;
+import xss.it.jux.html.annotation.Html;
+import xss.it.jux.html.annotation.HtmlId;
+import xss.it.jux.html.annotation.Slot;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The {@link HtmlId @HtmlId} and {@link Slot @Slot} fields of a component class,
+ * resolved once into setter method handles.
+ *
+ * <p>Scanning the class hierarchy with {@code getDeclaredFields()} and
+ * {@code getAnnotation()}, and making each field accessible, happens when the
+ * plan is built. Injecting into a component instance is then one lookup and one
+ * {@link MethodHandle#invokeExact} per field.</p>
+ *
+ * <p>Fields are injected in the order reflection used to: every {@code @HtmlId}
+ * field from the component class up through its superclasses, then every
+ * {@code @Slot} field in the same order.</p>
+ *
+ * <p>Instances are immutable and thread-safe; {@link HtmlLoader} keeps one per
+ * component class.</p>
+ *
+ * @see HtmlLoader
+ */
+final class InjectionPlan {
+
+    /** Uniform setter type, so every handle can be invoked exactly. */
+    private static final MethodType SETTER_TYPE =
+            MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * One field to inject.
+     *
+     * @param elementId the id of the element to inject
+     * @param fieldName the field name, for error messages
+     * @param kind      the annotation, for error messages ({@code "@HtmlId"} or {@code "@Slot"})
+     * @param setter    the field setter, of type {@code (Object, Object)void}
+     */
+    private record Injection(String elementId, String fieldName, String kind, MethodHandle setter) {}
+
+    /** The injections in order. */
+    private final Injection[] injections;
+
+    /** The distinct element ids the plan injects, in injection order. */
+    private final List<String> targetIds;
+
+    private InjectionPlan(Injection[] injections, List<String> targetIds) {
+        this.injections = injections;
+        this.targetIds = targetIds;
+    }
+
+    /**
+     * Build the injection plan of a component class.
+     *
+     * @param componentClass the component class
+     * @return the plan; empty if the class has no annotated fields
+     * @throws TemplateException if an annotated field cannot be made writable
+     */
+    static InjectionPlan of(Class<?> componentClass) {
+        List<Injection> htmlIds = new ArrayList<>();
+        List<Injection> slots = new ArrayList<>();
+        Class<?> clazz = componentClass;
+        while (clazz != null && clazz != Object.class) {
+            for (Field field : clazz.getDeclaredFields()) {
+                HtmlId htmlId = field.getAnnotation(HtmlId.class);
+                if (htmlId != null) {
+                    /* Determine the element id to look up. */
+                    String targetId = htmlId.value();
+                    if (targetId == null || targetId.isEmpty()) {
+                        targetId = field.getName();
+                    }
+                    htmlIds.add(new Injection(targetId, field.getName(), "@HtmlId",
+                            setter(componentClass, field)));
+                }
+                Slot slot = field.getAnnotation(Slot.class);
+                if (slot != null) {
+                    slots.add(new Injection(slot.value(), field.getName(), "@Slot",
+                            setter(componentClass, field)));
+                }
+            }
+            clazz = clazz.getSuperclass();
+        }
+
+        List<Injection> all = new ArrayList<>(htmlIds);
+        all.addAll(slots);
+        Set<String> ids = new LinkedHashSet<>();
+        for (Injection injection : all) {
+            ids.add(injection.elementId());
+        }
+        return new InjectionPlan(all.toArray(new Injection[0]), List.copyOf(ids));
+    }
+
+    /**
+     * Returns the distinct ids of the elements this plan injects.
+     *
+     * @return the target ids in injection order
+     */
+    List<String> targetIds() {
+        return targetIds;
+    }
+
+    /**
+     * Inject the looked-up elements into the component's fields.
+     *
+     * @param component the component instance
+     * @param lookup    maps an element id to the element, or to null if absent
+     * @throws TemplateException if an element is missing from the template or a
+     *                           field does not accept it
+     */
+    void inject(Object component, Function<String, Element> lookup) {
+        for (Injection injection : injections) {
+            Element element = lookup.apply(injection.elementId());
+            if (element == null) {
+                throw new TemplateException(
+                        "No element with id=\"" + injection.elementId() + "\" found in template for "
+                                + injection.kind() + " field '" + injection.fieldName() + "' in "
+                                + component.getClass().getName(),
+                        templatePath(component.getClass()), -1);
+            }
+
+            try {
+                injection.setter().invokeExact(component, (Object) element);
+            } catch (ClassCastException e) {
+                throw new TemplateException(
+                        "Cannot inject field '" + injection.fieldName() + "' in "
+                                + component.getClass().getName() + ": " + e.getMessage(),
+                        templatePath(component.getClass()), -1, e);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                /* A field setter throws nothing checked; kept for invokeExact's signature. */
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Create an {@code (Object, Object)void} setter for a field, bypassing access
+     * checks once here instead of on every injection.
+     *
+     * @throws TemplateException if the field cannot be made writable
+     */
+    private static MethodHandle setter(Class<?> componentClass, Field field) {
+        try {
+            field.setAccessible(true);
+            MethodHandle setter = MethodHandles.lookup().unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                /* Static fields ignore the instance, as Field.set does. */
+                setter = MethodHandles.dropArguments(setter, 0, Object.class);
+            }
+            return setter.asType(SETTER_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new TemplateException(
+                    "Cannot inject field '" + field.getName() + "' in "
+                            + componentClass.getName() + ": " + e.getMessage(),
+                    templatePath(componentClass), -1, e);
+        }
+    }
+
+    /**
+     * Extract the template path from the class's {@code @Html} annotation.
+     * Returns null if the annotation is not present.
+     */
+    private static String templatePath(Class<?> componentClass) {
+        Html html = componentClass.getAnnotation(Html.class);
+        return html != null ? html.value() : null;
+    }
+}
@@ -14,17 +14,37 @@
 package xss.it.jux.html;
 
 import xss.it.jux.core.Element;
+import xss.it.jux.html.expression.TemplateExpressions;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Thread-safe cache for parsed HTML templates.
  *
- * <p>Stores prototype {@link Element} trees keyed by template path. Every call to
- * {@link #get(String)} returns a <b>deep clone</b> of the cached tree so that each
- * caller receives an independent copy safe for mutation (attribute changes, child
- * additions, text injection, etc.).</p>
+ * <p>Stores prototype {@link Element} trees keyed by template path. Prototypes are
+ * {@linkplain Element#freeze() frozen} when cached, so they can never be modified
+ * through any tree handed out by the cache.</p>
+ *
+ * <p>Two ways of obtaining a tree are offered:</p>
+ * <ul>
+ *   <li>{@link #get(String)} returns a <b>deep clone</b> of the cached tree: every
+ *       node is an independent, mutable copy.</li>
+ *   <li>{@link #instance(String, List)} returns a <b>copy-on-write instance</b> that
+ *       shares every node with the frozen prototype except those a component can
+ *       reach: the elements with the requested ids (copied together with their
+ *       subtrees) and their ancestors up to the root (copied node by node). A
+ *       mostly static page that injects a handful of elements allocates only those
+ *       nodes and the paths leading to them. Shared nodes are read-only; modifying
+ *       one throws {@link IllegalStateException}.</li>
+ * </ul>
+ *
+ * <p>{@link HtmlLoader} hands out deep clones unless the component opts into
+ * sharing with {@link xss.it.jux.html.annotation.Html#shared() @Html(shared = true)}.</p>
  *
  * <p>The cache can be disabled at runtime (e.g. during development) so that
  * templates are re-parsed on every request, enabling live-reload workflows.</p>
@@ -37,12 +57,115 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class TemplateCache {
 
-    /** Cached prototype Element trees keyed by template path. */
-    private final Map<String, Element> cache = new ConcurrentHashMap<>();
+    /** Cached prototypes keyed by template path. */
+    private final Map<String, Prototype> cache = new ConcurrentHashMap<>();
 
     /** Whether caching is currently enabled. Volatile for visibility across threads. */
     private volatile boolean enabled = true;
 
+    /**
+     * A frozen prototype tree together with everything precomputed from it.
+     *
+     * @param root        the frozen prototype root
+     * @param expressions the {@code #{...}}/{@code @{...}} expressions of the tree,
+     *                    compiled once when the prototype is stored
+     * @param paths       the child-index paths of all id-bearing elements
+     * @param plans       copy plans keyed by the list of mutable ids they were built for
+     */
+    private record Prototype(Element root, TemplateExpressions expressions, ElementPaths paths,
+                             Map<List<String>, CopyPlan> plans) {}
+
+    /**
+     * An instance tree together with the id paths of its prototype.
+     *
+     * @param root  the instance root (a copy-on-write instance or a deep clone)
+     * @param paths the paths of the id-bearing elements, valid for {@code root}
+     */
+    record Instance(Element root, ElementPaths paths) {}
+
+    /**
+     * The prototype nodes an instance must copy for one set of mutable ids.
+     *
+     * <p>Both sets are identity sets that are never modified after construction,
+     * so they are safe to read from many threads.</p>
+     *
+     * @param path    nodes copied individually (the root and every ancestor of a target)
+     * @param targets nodes copied together with their whole subtree
+     */
+    private record CopyPlan(Set<Element> path, Set<Element> targets) {}
+
+    /**
+     * The nodes of a template that stay writable in an instance, by child index.
+     *
+     * <p>This is a {@link CopyPlan} that no longer depends on node identity, so it
+     * applies to any tree with the template's shape. {@link HtmlLoader} uses it to
+     * give trees of {@linkplain xss.it.jux.html.annotation.Html#shared() shared}
+     * templates that it builds afresh -- with the cache disabled, or from a
+     * {@link CompiledTemplate} -- the same read-only nodes as a copy-on-write
+     * instance, by freezing in place every node an instance would share.</p>
+     *
+     * <p>Instances are immutable and thread-safe.</p>
+     */
+    static final class WritableShape {
+
+        /** Shape of a node whose whole subtree is writable. */
+        private static final WritableShape SUBTREE = new WritableShape(null);
+
+        /** Shape of each writable child by index (null entries are shared); null for {@link #SUBTREE}. */
+        private final WritableShape[] children;
+
+        private WritableShape(WritableShape[] children) {
+            this.children = children;
+        }
+
+        /**
+         * Compute the writable shape of a template for the given ids.
+         *
+         * @param root the root of a tree with the template's shape, not yet restricted
+         * @param ids  the ids of the elements that will be mutated
+         * @return the shape
+         */
+        static WritableShape of(Element root, List<String> ids) {
+            return of(root, planCopy(root, ElementPaths.index(root), ids));
+        }
+
+        private static WritableShape of(Element node, CopyPlan plan) {
+            if (plan.targets().contains(node)) {
+                return SUBTREE;
+            }
+            List<Element> nodeChildren = node.getChildren();
+            WritableShape[] shapes = new WritableShape[nodeChildren.size()];
+            for (int i = 0; i < shapes.length; i++) {
+                Element child = nodeChildren.get(i);
+                if (plan.path().contains(child) || plan.targets().contains(child)) {
+                    shapes[i] = of(child, plan);
+                }
+            }
+            return new WritableShape(shapes);
+        }
+
+        /**
+         * Freeze, in place, every node of a tree that an instance would share.
+         *
+         * @param root the root of a mutable tree with the template's shape
+         * @return the root, with only the writable nodes left mutable
+         */
+        Element restrict(Element root) {
+            if (children == null) {
+                return root;
+            }
+            List<Element> rootChildren = root.getChildren();
+            for (int i = 0; i < children.length && i < rootChildren.size(); i++) {
+                if (children[i] == null) {
+                    rootChildren.get(i).freeze();
+                } else {
+                    children[i].restrict(rootChildren.get(i));
+                }
+            }
+            return root;
+        }
+    }
+
     /**
      * Retrieve a deep clone of the cached template for the given path.
      *
@@ -57,19 +180,102 @@ public class TemplateCache {
         if (!enabled) {
             return null;
         }
-        Element prototype = cache.get(path);
+        Prototype prototype = cache.get(path);
         if (prototype == null) {
             return null;
         }
-        return deepClone(prototype);
+        return deepClone(prototype.root());
+    }
+
+    /**
+     * Retrieve a copy-on-write instance of the cached template for the given path.
+     *
+     * <p>The elements carrying the given ids (first match in breadth-first order,
+     * as {@link HtmlLoader} resolves them) are copied along with their subtrees,
+     * as are their ancestors and the root. Every other node is shared with the
+     * frozen prototype. Ids not present in the template are ignored. The copy
+     * plan for each distinct id list is computed once and reused.</p>
+     *
+     * <p>Expressions in shared nodes cannot be resolved in place; resolve a tree
+     * obtained from {@link #get(String)} instead.</p>
+     *
+     * @param path       the template path (as declared in {@code @Html})
+     * @param mutableIds ids of the elements the caller will modify
+     * @return a new instance tree, or null if not cached or disabled
+     */
+    public Element instance(String path, List<String> mutableIds) {
+        Instance instance = instantiate(path, mutableIds);
+        return instance != null ? instance.root() : null;
+    }
+
+    /**
+     * Like {@link #instance(String, List)}, but also returns the prototype's id
+     * paths, so the caller can reach the injected elements without searching the
+     * tree. Both come from the same prototype even if the entry is replaced
+     * concurrently.
+     *
+     * @param path       the template path (as declared in {@code @Html})
+     * @param mutableIds ids of the elements the caller will modify
+     * @return the new instance and its id paths, or null if not cached or disabled
+     */
+    Instance instantiate(String path, List<String> mutableIds) {
+        if (!enabled) {
+            return null;
+        }
+        Prototype prototype = cache.get(path);
+        if (prototype == null) {
+            return null;
+        }
+        CopyPlan plan = prototype.plans().computeIfAbsent(mutableIds,
+                ids -> planCopy(prototype.root(), prototype.paths(), ids));
+        return new Instance(copy(prototype.root(), plan), prototype.paths());
+    }
+
+    /**
+     * Like {@link #get(String)}, but also returns the prototype's id paths, which
+     * are valid for the deep clone. Both come from the same prototype even if the
+     * entry is replaced concurrently.
+     *
+     * @param path the template path (as declared in {@code @Html})
+     * @return a deep clone and its id paths, or null if not cached or disabled
+     */
+    Instance cloneInstance(String path) {
+        if (!enabled) {
+            return null;
+        }
+        Prototype prototype = cache.get(path);
+        if (prototype == null) {
+            return null;
+        }
+        return new Instance(deepClone(prototype.root()), prototype.paths());
+    }
+
+    /**
+     * Retrieve the compiled expressions of the cached template for the given path.
+     *
+     * <p>They apply to every tree obtained from {@link #get(String)} for the same
+     * path, as long as its structure has not been changed, and can be passed to
+     * {@link xss.it.jux.html.expression.ExpressionResolver#resolveTree(Element, TemplateExpressions)}
+     * together with it.</p>
+     *
+     * @param path the template path (as declared in {@code @Html})
+     * @return the compiled expressions, or null if not cached or disabled
+     */
+    public TemplateExpressions expressions(String path) {
+        if (!enabled) {
+            return null;
+        }
+        Prototype prototype = cache.get(path);
+        return prototype == null ? null : prototype.expressions();
     }
 
     /**
      * Store a prototype Element tree in the cache.
      *
      * <p>If caching is disabled, this method is a no-op. The stored element is
-     * used as the prototype for future {@link #get(String)} calls -- it should
-     * not be mutated after being placed in the cache.</p>
+     * frozen and used as the prototype for future {@link #get(String)} and
+     * {@link #instance(String, List)} calls -- it can no longer be mutated after
+     * being placed in the cache. Its expressions are compiled at the same time.</p>
      *
      * @param path     the template path (as declared in {@code @Html})
      * @param template the parsed Element tree to cache
@@ -79,7 +285,10 @@ public class TemplateCache {
             return;
         }
         if (path != null && template != null) {
-            cache.put(path, template);
+            Element root = template.freeze();
+            TemplateExpressions expressions = TemplateExpressions.compile(root);
+            cache.put(path, new Prototype(root, expressions, ElementPaths.index(root),
+                    new ConcurrentHashMap<>()));
         }
     }
 
@@ -127,14 +336,66 @@ public class TemplateCache {
         return cache.size();
     }
 
+    // ── Copy-on-write instances ───────────────────────────────────
+
+    /**
+     * Compute which prototype nodes an instance must copy for the given ids.
+     *
+     * <p>Starts from the root and adds the precomputed path of each id.</p>
+     *
+     * @param root  the prototype root
+     * @param paths the id paths of the prototype
+     * @param ids   the ids of the elements that will be mutated
+     * @return the copy plan
+     */
+    private static CopyPlan planCopy(Element root, ElementPaths paths, List<String> ids) {
+        Set<Element> path = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Element> targets = Collections.newSetFromMap(new IdentityHashMap<>());
+        path.add(root);
+
+        for (String id : ids) {
+            List<Element> trail = paths.trail(root, id);
+            if (trail.isEmpty()) {
+                continue;
+            }
+            // Everything above the target is copied node by node, the target with its subtree
+            int last = trail.size() - 1;
+            path.addAll(trail.subList(0, last));
+            targets.add(trail.get(last));
+        }
+        return new CopyPlan(path, targets);
+    }
+
+    /**
+     * Build an instance of a prototype node according to a copy plan.
+     *
+     * @param node the prototype node
+     * @param plan the copy plan
+     * @return the node itself if shared, otherwise its copy
+     */
+    private static Element copy(Element node, CopyPlan plan) {
+        if (plan.targets().contains(node)) {
+            return deepClone(node);
+        }
+        if (!plan.path().contains(node)) {
+            return node;
+        }
+        Element copy = node.copyWithoutChildren();
+        for (Element child : node.getChildren()) {
+            copy.children(copy(child, plan));
+        }
+        return copy;
+    }
+
     // ── Deep cloning ──────────────────────────────────────────────
 
     /**
      * Create a deep clone of an Element tree.
      *
-     * <p>Recursively copies the element, its attributes (including id, class, style),
-     * its text content, and all children. Event handlers are <b>not</b> cloned since
-     * templates are SSR-focused and handlers are set up programmatically.</p>
+     * <p>Recursively copies the element, its attributes, CSS classes, inline
+     * styles, text content, and all children. Classes and styles are copied as
+     * collections, so nothing is re-split or re-parsed. The clone is mutable even
+     * if the original is frozen.</p>
      *
      * @param original the element to clone
      * @return a fully independent deep copy
@@ -144,56 +405,10 @@ public class TemplateCache {
             return null;
         }
 
-        Element clone = Element.of(original.getTag());
-
-        /* Clone all attributes (the merged map includes id, role, lang, aria-*, etc.). */
-        Map<String, String> attrs = original.getAttributes();
-        for (Map.Entry<String, String> entry : attrs.entrySet()) {
-            String key = entry.getKey();
-            String value = entry.getValue();
-
-            /*
-             * The getAttributes() map merges class and style into computed attributes.
-             * We need to apply them through the proper API to maintain Element's internal
-             * structure (cssClasses list and styles map).
-             */
-            switch (key) {
-                case "class" -> {
-                    if (value != null && !value.isEmpty()) {
-                        clone.cls(value.split("\\s+"));
-                    }
-                }
-                case "style" -> {
-                    if (value != null && !value.isEmpty()) {
-                        /* Parse style string back into individual properties. */
-                        String[] declarations = value.split(";");
-                        for (String decl : declarations) {
-                            String trimmed = decl.trim();
-                            int colonIdx = trimmed.indexOf(':');
-                            if (colonIdx > 0 && colonIdx < trimmed.length() - 1) {
-                                String prop = trimmed.substring(0, colonIdx).trim();
-                                String val = trimmed.substring(colonIdx + 1).trim();
-                                if (!prop.isEmpty() && !val.isEmpty()) {
-                                    clone.style(prop, val);
-                                }
-                            }
-                        }
-                    }
-                }
-                default -> clone.attr(key, value);
-            }
-        }
-
-        /* Clone text content. */
-        if (original.getTextContent() != null) {
-            clone.text(original.getTextContent());
-        }
-
-        /* Recursively clone children. */
+        Element clone = original.copyWithoutChildren();
         for (Element child : original.getChildren()) {
             clone.children(deepClone(child));
         }
-
         return clone;
     }
 }
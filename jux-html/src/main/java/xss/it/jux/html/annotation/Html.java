@@ -42,6 +42,11 @@ import java.lang.annotation.Target;
  * }
  * }</pre>
  *
+ * <p>Every tree returned by {@link xss.it.jux.html.HtmlLoader#load(Object)} is fully
+ * mutable by default. A component that only modifies its injected elements can
+ * set {@link #shared() shared = true} to have the static parts of the template
+ * shared, read-only, between all instances instead of copied for each one.</p>
+ *
  * @see HtmlId
  * @see Slot
  * @see xss.it.jux.html.HtmlLoader
@@ -61,4 +66,23 @@ public @interface Html {
      * @return the template path
      */
     String value();
+
+    /**
+     * Whether loaded trees may share their static nodes with other instances.
+     *
+     * <p>When {@code true}, {@link xss.it.jux.html.HtmlLoader#load(Object)} copies
+     * only the root, the injected elements with their subtrees, and the ancestors
+     * of those elements. Every other node is the cached, {@linkplain
+     * xss.it.jux.core.Element#freeze() frozen} prototype node, and its builder
+     * methods throw {@link IllegalStateException}. This saves most of the copying
+     * for large, mostly static templates, but code that walks the whole tree and
+     * modifies it (such as {@code JuxAccessibilityEngine.autoFix}) must not be
+     * applied to such a tree.</p>
+     *
+     * <p>When {@code false} (the default), every node of the returned tree is a
+     * mutable copy.</p>
+     *
+     * @return true to share the static nodes of the template read-only
+     */
+    boolean shared() default false;
 }
@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+package xss.it.jux.html.expression;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A template string pre-parsed into literal and expression segments.
+ *
+ * <p>{@link I18nResolver#resolveAll(String)} and {@link FormatResolver#resolveAll(String)}
+ * scan their input with a regular expression and re-parse every expression's key,
+ * parameters, or directive each time they are called. A compiled expression does
+ * that work once: the string is split into literal text, {@code #{key(params)}}
+ * segments with their parameters already coerced, and {@code @{directive(args)}}
+ * segments with their directive already lowercased. Resolving it is a single
+ * append loop over the segments.</p>
+ *
+ * <p>Splitting follows the resolvers' own ordering: {@code #{...}} expressions are
+ * located first, then {@code @{...}} expressions within the remaining literal
+ * text. A translated message that itself contains {@code @{...}} is still
+ * format-resolved after lookup, as before.</p>
+ *
+ * <p>Instances are immutable and may be shared between threads and resolvers;
+ * all locale- and message-dependent work happens in {@link ExpressionResolver}.</p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>{@code
+ * CompiledExpression compiled = CompiledExpression.compile("#{greeting(World)} (@{lang})");
+ * // segments: Message[greeting, [World]], Literal[" ("], Format[lang], Literal[")"]
+ *
+ * String text = resolver.resolve(compiled);   // "Hello, World (en)"
+ * }</pre>
+ *
+ * @see ExpressionResolver#resolve(CompiledExpression)
+ * @see TemplateExpressions
+ */
+public final class CompiledExpression {
+
+    /**
+     * One piece of a compiled string.
+     */
+    sealed interface Segment permits Literal, Message, Format {}
+
+    /**
+     * Literal text copied to the output verbatim.
+     *
+     * @param text the literal text
+     */
+    record Literal(String text) implements Segment {}
+
+    /**
+     * A pre-parsed {@code #{...}} expression.
+     *
+     * @param expression the original content between the delimiters, used when
+     *                   the key is unresolved in non-strict mode
+     * @param key        the trimmed message key
+     * @param params     the coerced parameters; never modified after parsing
+     */
+    record Message(String expression, String key, Object[] params) implements Segment {}
+
+    /**
+     * A pre-parsed {@code @{...}} expression.
+     *
+     * @param expression the original content between the delimiters
+     * @param directive  the lowercased directive name
+     * @param args       the trimmed argument string, or {@code null} for a
+     *                   directive without parentheses
+     */
+    record Format(String expression, String directive, String args) implements Segment {}
+
+    /** The original, unresolved string. */
+    private final String source;
+
+    /** The segments in output order. Adjacent literals are merged. */
+    private final Segment[] segments;
+
+    /** Combined length of all literal segments, used to presize the output. */
+    private final int literalLength;
+
+    private CompiledExpression(String source, Segment[] segments) {
+        this.source = source;
+        this.segments = segments;
+        int length = 0;
+        for (Segment segment : segments) {
+            if (segment instanceof Literal literal) {
+                length += literal.text().length();
+            }
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compile a string into its segments.
+     *
+     * <p>Returns {@code null} when the string contains no expression, so callers
+     * can keep plain strings as they are.</p>
+     *
+     * @param text the string to compile; may be null
+     * @return the compiled form, or {@code null} if {@code text} has no expressions
+     */
+    public static CompiledExpression compile(String text) {
+        if (text == null || text.isEmpty() || !containsMarker(text)) {
+            return null;
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        int literalStart = 0;
+        int from = 0;
+        int open;
+        while ((open = findExpression(text, '#', from)) >= 0) {
+            int close = text.indexOf('}', open + 2);
+            splitFormats(text, literalStart, open, segments);
+            segments.add(I18nResolver.parse(text.substring(open + 2, close)));
+            literalStart = from = close + 1;
+        }
+        splitFormats(text, literalStart, text.length(), segments);
+
+        if (segments.size() == 1 && segments.get(0) instanceof Literal) {
+            /* Only unterminated or empty markers such as "#{}" or "@{". */
+            return null;
+        }
+        return new CompiledExpression(text, segments.toArray(new Segment[0]));
+    }
+
+    /**
+     * Returns the original, unresolved string.
+     *
+     * @return the source string
+     */
+    public String source() {
+        return source;
+    }
+
+    /**
+     * Returns the number of expression (non-literal) segments.
+     *
+     * @return the expression count, at least one
+     */
+    public int expressionCount() {
+        int count = 0;
+        for (Segment segment : segments) {
+            if (!(segment instanceof Literal)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Resolve every segment and concatenate the results.
+     *
+     * <p>A {@code null} resolver leaves its expressions in their original
+     * {@code #{...}} or {@code @{...}} form, like {@link ExpressionResolver}
+     * does for raw strings.</p>
+     *
+     * @param i18n   the i18n resolver, or null
+     * @param format the format resolver, or null
+     * @return the resolved string
+     */
+    String resolve(I18nResolver i18n, FormatResolver format) {
+        StringBuilder sb = new StringBuilder(literalLength + 16 * segments.length);
+        for (Segment segment : segments) {
+            switch (segment) {
+                case Literal literal -> sb.append(literal.text());
+                case Message message -> {
+                    if (i18n == null) {
+                        sb.append("#{").append(message.expression()).append('}');
+                    } else {
+                        String resolved = i18n.resolveParsed(message);
+                        /* Messages may contain format expressions of their own. */
+                        if (format != null && resolved.contains("@{")) {
+                            resolved = format.resolveAll(resolved);
+                        }
+                        sb.append(resolved);
+                    }
+                }
+                case Format directive -> {
+                    if (format == null) {
+                        sb.append("@{").append(directive.expression()).append('}');
+                    } else {
+                        sb.append(format.resolveParsed(directive));
+                    }
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Quick check whether a string contains any expression markers.
+     *
+     * @param text the text to check
+     * @return true if the text contains {@code #{} or {@code @{}
+     */
+    static boolean containsMarker(String text) {
+        return text.contains("#{") || text.contains("@{");
+    }
+
+    /**
+     * Split {@code text[start, end)} into literal and {@code @{...}} segments.
+     */
+    private static void splitFormats(String text, int start, int end, List<Segment> segments) {
+        String region = text.substring(start, end);
+        int literalStart = 0;
+        int from = 0;
+        int open;
+        while ((open = findExpression(region, '@', from)) >= 0) {
+            int close = region.indexOf('}', open + 2);
+            addLiteral(region.substring(literalStart, open), segments);
+            segments.add(FormatResolver.parse(region.substring(open + 2, close)));
+            literalStart = from = close + 1;
+        }
+        addLiteral(region.substring(literalStart), segments);
+    }
+
+    /**
+     * Find the next well-formed expression opened by {@code marker + '{'}, with
+     * the same matching rules as the resolvers' {@code X\{([^}]+)}} patterns:
+     * at least one character before the first closing brace.
+     *
+     * @return the index of the marker, or -1 if there is no further expression
+     */
+    private static int findExpression(String text, char marker, int from) {
+        int open = from;
+        while ((open = text.indexOf(marker, open)) >= 0) {
+            if (open + 1 < text.length() && text.charAt(open + 1) == '{') {
+                int close = text.indexOf('}', open + 2);
+                if (close < 0) {
+                    return -1;
+                }
+                if (close > open + 2) {
+                    return open;
+                }
+            }
+            open++;
+        }
+        return -1;
+    }
+
+    /**
+     * Append a literal segment, merging it into a preceding literal.
+     */
+    private static void addLiteral(String text, List<Segment> segments) {
+        if (text.isEmpty()) {
+            return;
+        }
+        int last = segments.size() - 1;
+        if (last >= 0 && segments.get(last) instanceof Literal previous) {
+            segments.set(last, new Literal(previous.text() + text));
+        } else {
+            segments.add(new Literal(text));
+        }
+    }
+
+    /**
+     * Returns the original string, for debugging.
+     *
+     * @return the source string
+     */
+    @Override
+    public String toString() {
+        return source;
+    }
+}
@@ -15,10 +15,6 @@ package xss.it.jux.html.expression;
 
 import xss.it.jux.core.Element;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
-import java.util.Map;
-
 /**
  * Orchestrates resolution of all expression types in template text and Element trees.
  *
@@ -39,6 +35,12 @@ import java.util.Map;
  * <p>The {@link #resolveTree(Element)} method walks an entire Element tree and resolves
  * all expressions in all text content and attribute values, mutating the tree in place.</p>
  *
+ * <p>Strings are never scanned at resolution time when they come pre-compiled:
+ * a {@link CompiledExpression} holds a string's literal and expression segments,
+ * and {@link TemplateExpressions} holds those of a whole template together with a
+ * bitmap of the nodes that have any, so that
+ * {@link #resolveTree(Element, TemplateExpressions)} touches only those nodes.</p>
+ *
  * <p><b>Example:</b></p>
  * <pre>{@code
  * // Template contains:  <h1>#{welcome}</h1>  <html lang="@{lang}" dir="@{dir}">
@@ -81,48 +83,38 @@ public class ExpressionResolver {
      * This ordering allows i18n messages to contain format expressions that
      * are subsequently resolved.</p>
      *
+     * <p>The string is compiled on every call. Strings resolved repeatedly should
+     * be compiled once with {@link CompiledExpression#compile(String)} and passed
+     * to {@link #resolve(CompiledExpression)} instead.</p>
+     *
      * @param text the text containing expressions
      * @return the text with all expressions resolved
      */
     public String resolve(String text) {
-        if (text == null || text.isEmpty()) {
-            return text;
-        }
-
-        String result = text;
-
-        /* Resolve i18n expressions first (#{...}). */
-        if (i18nResolver != null && result.contains("#{")) {
-            result = i18nResolver.resolveAll(result);
-        }
-
-        /* Then resolve format expressions (@{...}). */
-        if (formatResolver != null && result.contains("@{")) {
-            result = formatResolver.resolveAll(result);
-        }
-
-        return result;
+        CompiledExpression compiled = CompiledExpression.compile(text);
+        return compiled == null ? text : resolve(compiled);
     }
 
     /**
-     * Resolve all expressions in all text content and attribute values of an Element tree.
+     * Resolve a pre-compiled string.
      *
-     * <p>Walks the entire tree iteratively (breadth-first) and resolves expressions
-     * in:</p>
-     * <ul>
-     *   <li>Each element's text content (via {@link Element#text(String)})</li>
-     *   <li>Each element's attribute values</li>
-     * </ul>
+     * <p>Performs no scanning or parsing: each segment is either appended verbatim
+     * or looked up through the i18n or format resolver.</p>
      *
-     * <p>The tree is mutated in place. Since Element's attribute accessors return
-     * unmodifiable views, the resolver recreates elements with resolved values
-     * by applying resolved attributes via the builder API.</p>
+     * @param compiled the compiled string
+     * @return the resolved text
+     */
+    public String resolve(CompiledExpression compiled) {
+        return compiled.resolve(i18nResolver, formatResolver);
+    }
+
+    /**
+     * Resolve all expressions in all text content and attribute values of an Element tree.
      *
-     * <p><b>Note:</b> This method modifies the Element tree in place where possible.
-     * Because Element uses a mutable builder pattern during construction, text content
-     * is updated directly. For attributes, since the internal map is accessed through
-     * the public API, the resolver reads current attributes, resolves expressions,
-     * and re-applies changed values.</p>
+     * <p>Compiles the tree's expressions and applies them with
+     * {@link #resolveTree(Element, TemplateExpressions)}. Trees built from a cached
+     * template should use the expressions compiled with the prototype instead,
+     * available from {@link xss.it.jux.html.TemplateCache#expressions(String)}.</p>
      *
      * @param root the root element of the tree to process
      * @return the same root element, with all expressions in the tree resolved
@@ -131,57 +123,47 @@ public class ExpressionResolver {
         if (root == null) {
             return null;
         }
+        return resolveTree(root, TemplateExpressions.compile(root));
+    }
 
-        Deque<Element> stack = new ArrayDeque<>();
-        stack.push(root);
-
-        while (!stack.isEmpty()) {
-            Element current = stack.pop();
-
-            /* Resolve text content. */
-            String textContent = current.getTextContent();
-            if (textContent != null && containsExpression(textContent)) {
-                current.text(resolve(textContent));
-            }
-
-            /* Resolve attribute values. */
-            Map<String, String> attrs = current.getAttributes();
-            for (Map.Entry<String, String> entry : attrs.entrySet()) {
-                String key = entry.getKey();
-                String value = entry.getValue();
-
-                /*
-                 * Skip class and style attributes -- they are computed from internal
-                 * structures (cssClasses list and styles map). Resolving them through
-                 * attr() would create duplicates. If expressions are needed in class
-                 * or style values, they should be set programmatically.
-                 */
-                if ("class".equals(key) || "style".equals(key)) {
-                    continue;
-                }
+    /**
+     * Resolve the expressions of an Element tree from its pre-compiled form.
+     *
+     * <p>Walks the tree in pre-order alongside the compiled expressions. Subtrees
+     * without expressions are skipped entirely; for every other node, the text
+     * content and attribute values that contain expressions are resolved from
+     * their segments and written back via {@link Element#text(String)} and
+     * {@link Element#attr(String, String)}. {@code class} and {@code style}
+     * attributes are never touched, since they are computed from the element's
+     * class list and style map.</p>
+     *
+     * <p>The tree must have the shape the expressions were compiled from, so
+     * resolve it before adding or removing children. The tree is mutated in place;
+     * the nodes carrying expressions must be mutable (a copy-on-write instance
+     * from the template cache always copies them).</p>
+     *
+     * @param root        the root element of the tree to process
+     * @param expressions the expressions compiled from the tree's template
+     * @return the same root element, with all expressions in the tree resolved
+     * @throws IllegalArgumentException if the tree is larger than the compiled one
+     */
+    public Element resolveTree(Element root, TemplateExpressions expressions) {
+        if (root == null) {
+            return null;
+        }
 
-                if (value != null && containsExpression(value)) {
-                    String resolved = resolve(value);
-                    current.attr(key, resolved);
-                }
+        expressions.walk(root, (index, node) -> {
+            TemplateExpressions.NodeExpressions compiled = expressions.node(index);
+            if (compiled.text() != null) {
+                node.text(resolve(compiled.text()));
             }
-
-            /* Push children onto the stack for processing. */
-            for (Element child : current.getChildren()) {
-                stack.push(child);
+            String[] names = compiled.attrNames();
+            CompiledExpression[] values = compiled.attrValues();
+            for (int i = 0; i < names.length; i++) {
+                node.attr(names[i], resolve(values[i]));
             }
-        }
+        });
 
         return root;
     }
-
-    /**
-     * Quick check whether a string contains any expression markers.
-     *
-     * @param text the text to check
-     * @return true if the text contains #{...} or @{...} markers
-     */
-    private boolean containsExpression(String text) {
-        return text.contains("#{") || text.contains("@{");
-    }
 }
@@ -13,7 +13,8 @@
 
 package xss.it.jux.html.expression;
 
-import java.text.NumberFormat;
+import xss.it.jux.i18n.LocaleFormats;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -159,6 +160,20 @@ public class FormatResolver {
      */
     private final Map<String, FormatDirective> customDirectives;
 
+    /**
+     * Shared per-locale formatter cache. Currency, number, and date
+     * formatters are built once per locale (and pattern) instead of on
+     * every expression.
+     */
+    private final LocaleFormats formats = LocaleFormats.shared();
+
+    /**
+     * ISO 4217 code of the locale's own currency, or {@code null} when the
+     * locale has no country (or the country has no currency), resolved once
+     * at construction.
+     */
+    private final String localeCurrency;
+
     // ── Constructors ─────────────────────────────────────────────
 
     /**
@@ -215,6 +230,7 @@ public class FormatResolver {
             map.put(directive.name().toLowerCase(), directive);
         }
         this.customDirectives = Collections.unmodifiableMap(map);
+        this.localeCurrency = currencyCodeOf(locale);
     }
 
     // ── Public API ───────────────────────────────────────────────
@@ -249,7 +265,40 @@ public class FormatResolver {
         if (expression == null || expression.isEmpty()) {
             return "";
         }
+        return resolveParsed(parse(expression));
+    }
+
+    /**
+     * Resolve an expression that was parsed ahead of time by {@link #parse(String)}.
+     *
+     * <p>This is the per-render half of {@link #resolve(String)}: the directive
+     * name is already split from its arguments and lowercased, so only the
+     * directive lookup and evaluation remain.</p>
+     *
+     * @param format the pre-parsed expression
+     * @return the resolved formatted value, never null
+     * @throws IllegalArgumentException if the directive is not recognized
+     *                                  by any custom or built-in handler
+     */
+    String resolveParsed(CompiledExpression.Format format) {
+        if (format.args() != null) {
+            return resolveDirectiveWithArgs(format.directive(), format.args());
+        }
+        return resolveSimpleDirective(format.directive());
+    }
 
+    /**
+     * Parse the content of an {@code @{...}} expression into its lowercased
+     * directive name and raw argument string.
+     *
+     * <p>Parsing does not depend on the locale or the registered directives,
+     * so the result can be shared by every resolver instance.</p>
+     *
+     * @param expression the expression content
+     * @return the parsed expression; its arguments are {@code null} for a
+     *         simple directive
+     */
+    static CompiledExpression.Format parse(String expression) {
         String trimmed = expression.trim();
 
         /*
@@ -258,16 +307,15 @@ public class FormatResolver {
          */
         Matcher argMatcher = DIRECTIVE_WITH_ARGS.matcher(trimmed);
         if (argMatcher.matches()) {
-            String directive = argMatcher.group(1).toLowerCase();
-            String args = argMatcher.group(2).trim();
-            return resolveDirectiveWithArgs(directive, args);
+            return new CompiledExpression.Format(expression,
+                    argMatcher.group(1).toLowerCase(), argMatcher.group(2).trim());
         }
 
         /*
          * No parentheses found — treat as a simple directive
          * (no arguments). Lowercase for case-insensitive matching.
          */
-        return resolveSimpleDirective(trimmed.toLowerCase());
+        return new CompiledExpression.Format(expression, trimmed.toLowerCase(), null);
     }
 
     /**
@@ -466,26 +514,13 @@ public class FormatResolver {
         String trimmed = args.trim();
         try {
             double amount = Double.parseDouble(trimmed);
-            NumberFormat currencyFormat = NumberFormat.getCurrencyInstance(locale);
 
             /*
-             * Attempt to resolve the currency from the locale's country
-             * code. For example, Locale("en", "US") → Currency "USD",
-             * Locale("de", "DE") → Currency "EUR". If the locale has no
-             * country or the country has no associated currency, we
-             * silently fall back to the default currency format.
+             * The currency comes from the locale's country, resolved once
+             * in the constructor (see currencyCodeOf). A null code falls
+             * back to the default currency format for the locale.
              */
-            try {
-                String country = locale.getCountry();
-                if (country != null && !country.isEmpty()) {
-                    Currency currency = Currency.getInstance(locale);
-                    currencyFormat.setCurrency(currency);
-                }
-            } catch (IllegalArgumentException ignored) {
-                /* No currency for this locale — use default format. */
-            }
-
-            return currencyFormat.format(amount);
+            return formats.formatCurrency(amount, localeCurrency, locale);
         } catch (NumberFormatException e) {
             throw new IllegalArgumentException(
                     "Invalid number in @{currency(" + trimmed + ")}: " + e.getMessage());
@@ -526,7 +561,7 @@ public class FormatResolver {
         }
 
         try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern, locale);
+            DateTimeFormatter formatter = formats.patternFormatter(pattern, locale);
 
             /*
              * Try formatting with LocalDateTime first (supports both
@@ -590,17 +625,37 @@ public class FormatResolver {
                 }
             }
 
-            NumberFormat numberFormat = NumberFormat.getNumberInstance(locale);
-            numberFormat.setMinimumFractionDigits(decimals);
-            numberFormat.setMaximumFractionDigits(decimals);
-
-            return numberFormat.format(value);
+            return formats.formatNumber(value, decimals, locale);
         } catch (NumberFormatException e) {
             throw new IllegalArgumentException(
                     "Invalid number in @{number(" + args + ")}: " + e.getMessage());
         }
     }
 
+    /**
+     * Resolve the ISO 4217 code of a locale's currency from its country.
+     *
+     * <p>For example, Locale("en", "US") → {@code "USD"}, Locale("de", "DE")
+     * → {@code "EUR"}. If the locale has no country or the country has no
+     * associated currency, {@code null} is returned and the default currency
+     * format for the locale is used.</p>
+     *
+     * @param locale the locale
+     * @return the currency code, or {@code null}
+     */
+    private static String currencyCodeOf(Locale locale) {
+        try {
+            String country = locale.getCountry();
+            if (country != null && !country.isEmpty()) {
+                Currency currency = Currency.getInstance(locale);
+                return currency != null ? currency.getCurrencyCode() : null;
+            }
+        } catch (IllegalArgumentException ignored) {
+            /* No currency for this locale — use default format. */
+        }
+        return null;
+    }
+
     // ── RTL detection ────────────────────────────────────────────
 
     /**
@@ -74,6 +74,9 @@ public class I18nResolver {
      */
     private static final Pattern KEY_WITH_PARAMS = Pattern.compile("^([^(]+)\\((.*)\\)$");
 
+    /** Shared parameter array for keys without parameters. */
+    private static final Object[] NO_PARAMS = new Object[0];
+
     private final MessageSource messageSource;
     private final boolean strict;
 
@@ -108,32 +111,54 @@ public class I18nResolver {
         if (expression == null || expression.isEmpty()) {
             return "";
         }
+        return resolveParsed(parse(expression));
+    }
 
-        String key;
-        Object[] params;
-
-        Matcher paramMatcher = KEY_WITH_PARAMS.matcher(expression.trim());
-        if (paramMatcher.matches()) {
-            key = paramMatcher.group(1).trim();
-            String paramsStr = paramMatcher.group(2).trim();
-            params = parseParams(paramsStr);
-        } else {
-            key = expression.trim();
-            params = new Object[0];
-        }
-
-        String result = messageSource.getMessage(key, params);
+    /**
+     * Resolve an expression that was parsed ahead of time by {@link #parse(String)}.
+     *
+     * <p>This is the per-render half of {@link #resolve(String)}: no pattern
+     * matching or parameter parsing takes place, only the message lookup.</p>
+     *
+     * @param message the pre-parsed expression
+     * @return the resolved message, or the original expression marker if unresolved
+     *         and not in strict mode
+     * @throws IllegalArgumentException if strict mode is enabled and the key is not found
+     */
+    String resolveParsed(CompiledExpression.Message message) {
+        /* The parsed parameters are shared by every render; hand out a copy. */
+        Object[] params = message.params();
+        String result = messageSource.getMessage(message.key(),
+                params.length == 0 ? params : params.clone());
 
         if (result == null) {
             if (strict) {
-                throw new IllegalArgumentException("Unresolved i18n key: " + key);
+                throw new IllegalArgumentException("Unresolved i18n key: " + message.key());
             }
-            return "#{" + expression + "}";
+            return "#{" + message.expression() + "}";
         }
 
         return result;
     }
 
+    /**
+     * Parse the content of a {@code #{...}} expression into its key and typed
+     * parameters.
+     *
+     * @param expression the expression content (key or key with params)
+     * @return the parsed expression
+     */
+    static CompiledExpression.Message parse(String expression) {
+        String trimmed = expression.trim();
+        Matcher paramMatcher = KEY_WITH_PARAMS.matcher(trimmed);
+        if (paramMatcher.matches()) {
+            String key = paramMatcher.group(1).trim();
+            String paramsStr = paramMatcher.group(2).trim();
+            return new CompiledExpression.Message(expression, key, parseParams(paramsStr));
+        }
+        return new CompiledExpression.Message(expression, trimmed, NO_PARAMS);
+    }
+
     /**
      * Resolve all {@code #{...}} expressions in the given text.
      *
@@ -175,9 +200,9 @@ public class I18nResolver {
      * @param paramsStr the comma-separated parameter string
      * @return array of parsed parameter values
      */
-    private Object[] parseParams(String paramsStr) {
+    private static Object[] parseParams(String paramsStr) {
         if (paramsStr == null || paramsStr.isEmpty()) {
-            return new Object[0];
+            return NO_PARAMS;
         }
 
         List<Object> params = new ArrayList<>();
@@ -227,7 +252,7 @@ public class I18nResolver {
      * @param raw the raw parameter text
      * @return the coerced value (String, Integer, Double, or Boolean)
      */
-    private Object coerceParam(String raw) {
+    private static Object coerceParam(String raw) {
         if (raw.isEmpty()) {
             return "";
         }
@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+package xss.it.jux.html.expression;
+
+import xss.it.jux.core.Element;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The expressions of a whole Element tree, compiled once per template.
+ *
+ * <p>Nodes are numbered in depth-first pre-order. For every node whose text
+ * content or attribute values contain {@code #{...}} or {@code @{...}}, the
+ * strings are stored as {@link CompiledExpression}s and the node's index is set
+ * in a bitmap. Together with the precomputed subtree sizes this lets
+ * {@link ExpressionResolver#resolveTree(Element, TemplateExpressions)} skip any
+ * subtree without expressions in a single bitmap probe, and resolve the rest
+ * without scanning a single string.</p>
+ *
+ * <p>The compiled form refers to nodes by position only, so it applies to any
+ * tree with the same shape as the one it was compiled from: the cached prototype
+ * itself, its {@linkplain xss.it.jux.html.TemplateCache#get(String) deep clones},
+ * or its {@linkplain xss.it.jux.html.TemplateCache#instance(String, List)
+ * copy-on-write instances}. {@link xss.it.jux.html.TemplateCache} compiles it
+ * when a prototype is stored and keeps it next to the prototype.</p>
+ *
+ * <p>As in {@link ExpressionResolver}, {@code class} and {@code style} attributes
+ * are not compiled; they are backed by the element's class list and style map.</p>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ *
+ * @see CompiledExpression
+ * @see ExpressionResolver
+ */
+public final class TemplateExpressions {
+
+    /**
+     * The compiled strings of one node.
+     *
+     * @param text       the compiled text content, or null if it has no expressions
+     * @param attrNames  names of the attributes whose values have expressions
+     * @param attrValues the compiled values, parallel to {@code attrNames}
+     */
+    record NodeExpressions(CompiledExpression text, String[] attrNames,
+                           CompiledExpression[] attrValues) {}
+
+    /** Number of nodes in the compiled tree. */
+    private final int nodeCount;
+
+    /** Pre-order indices of the nodes that carry at least one expression. */
+    private final BitSet marked;
+
+    /** Size of the subtree rooted at each pre-order index, the node included. */
+    private final int[] subtreeSizes;
+
+    /** Compiled strings by pre-order index; null for unmarked nodes. */
+    private final NodeExpressions[] nodes;
+
+    private TemplateExpressions(int nodeCount, BitSet marked, int[] subtreeSizes,
+                                NodeExpressions[] nodes) {
+        this.nodeCount = nodeCount;
+        this.marked = marked;
+        this.subtreeSizes = subtreeSizes;
+        this.nodes = nodes;
+    }
+
+    /**
+     * Compile the expressions of every node in the tree.
+     *
+     * @param root the root of the tree
+     * @return the compiled expressions; {@linkplain #isEmpty() empty} if the
+     *         tree contains none
+     */
+    public static TemplateExpressions compile(Element root) {
+        List<Element> order = new ArrayList<>();
+        List<Integer> parents = new ArrayList<>();
+
+        Deque<Element> stack = new ArrayDeque<>();
+        Deque<Integer> parentStack = new ArrayDeque<>();
+        stack.push(root);
+        parentStack.push(-1);
+        while (!stack.isEmpty()) {
+            Element current = stack.pop();
+            int index = order.size();
+            order.add(current);
+            parents.add(parentStack.pop());
+
+            /* Push children in reverse so the first child is visited next. */
+            List<Element> children = current.getChildren();
+            for (int i = children.size() - 1; i >= 0; i--) {
+                stack.push(children.get(i));
+                parentStack.push(index);
+            }
+        }
+
+        int count = order.size();
+        int[] sizes = new int[count];
+        for (int i = count - 1; i >= 0; i--) {
+            sizes[i]++;
+            int parent = parents.get(i);
+            if (parent >= 0) {
+                sizes[parent] += sizes[i];
+            }
+        }
+
+        BitSet marked = new BitSet(count);
+        NodeExpressions[] nodes = new NodeExpressions[count];
+        for (int i = 0; i < count; i++) {
+            NodeExpressions compiled = compileNode(order.get(i));
+            if (compiled != null) {
+                marked.set(i);
+                nodes[i] = compiled;
+            }
+        }
+        return new TemplateExpressions(count, marked, sizes, nodes);
+    }
+
+    /**
+     * Returns whether the compiled tree contains no expressions at all.
+     *
+     * @return true if there is nothing to resolve
+     */
+    public boolean isEmpty() {
+        return marked.isEmpty();
+    }
+
+    /**
+     * Returns the number of nodes that carry at least one expression.
+     *
+     * @return the count of nodes to resolve
+     */
+    public int markedCount() {
+        return marked.cardinality();
+    }
+
+    /**
+     * Returns the number of nodes in the compiled tree.
+     *
+     * @return the node count
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Locate the nodes carrying expressions in a tree of the compiled shape.
+     *
+     * <p>Used by the template cache to copy these nodes into each instance, since
+     * resolution writes to them.</p>
+     *
+     * @param root the root of a tree with the same shape as the compiled one
+     * @return the nodes with expressions, in pre-order
+     */
+    public List<Element> locate(Element root) {
+        List<Element> found = new ArrayList<>(markedCount());
+        walk(root, (index, node) -> found.add(node));
+        return found;
+    }
+
+    /**
+     * Returns the compiled strings of the node at a pre-order index.
+     */
+    NodeExpressions node(int index) {
+        return nodes[index];
+    }
+
+    /**
+     * Visit every node with expressions, walking a tree of the compiled shape
+     * in pre-order and skipping subtrees that contain none.
+     *
+     * @param root    the root of the tree to walk
+     * @param visitor receives the pre-order index and the node
+     * @throws IllegalArgumentException if the tree is larger than the compiled one
+     */
+    void walk(Element root, Visitor visitor) {
+        if (marked.isEmpty()) {
+            return;
+        }
+
+        Deque<Element> stack = new ArrayDeque<>();
+        stack.push(root);
+        int index = 0;
+        while (!stack.isEmpty()) {
+            Element current = stack.pop();
+            if (index >= nodeCount) {
+                throw new IllegalArgumentException(
+                        "Element tree does not match the compiled template ("
+                                + nodeCount + " nodes)");
+            }
+
+            int end = index + subtreeSizes[index];
+            int next = marked.nextSetBit(index);
+            if (next < 0) {
+                /* Nothing left to resolve anywhere in the tree. */
+                return;
+            }
+            if (next >= end) {
+                /* No expressions in this subtree: skip it without descending. */
+                index = end;
+                continue;
+            }
+
+            if (next == index) {
+                visitor.visit(index, current);
+            }
+            index++;
+
+            List<Element> children = current.getChildren();
+            for (int i = children.size() - 1; i >= 0; i--) {
+                stack.push(children.get(i));
+            }
+        }
+    }
+
+    /**
+     * Callback for {@link #walk(Element, Visitor)}.
+     */
+    @FunctionalInterface
+    interface Visitor {
+
+        /**
+         * Visit a node carrying expressions.
+         *
+         * @param index the node's pre-order index
+         * @param node  the node in the walked tree
+         */
+        void visit(int index, Element node);
+    }
+
+    /**
+     * Compile the text content and attribute values of a single node.
+     *
+     * @return the compiled strings, or null if the node has no expressions
+     */
+    private static NodeExpressions compileNode(Element node) {
+        CompiledExpression text = CompiledExpression.compile(node.getTextContent());
+
+        List<String> names = null;
+        List<CompiledExpression> values = null;
+        for (Map.Entry<String, String> entry : node.getAttributes().entrySet()) {
+            String key = entry.getKey();
+            if ("class".equals(key) || "style".equals(key)) {
+                continue;
+            }
+            CompiledExpression value = CompiledExpression.compile(entry.getValue());
+            if (value != null) {
+                if (names == null) {
+                    names = new ArrayList<>();
+                    values = new ArrayList<>();
+                }
+                names.add(key);
+                values.add(value);
+            }
+        }
+
+        if (text == null && names == null) {
+            return null;
+        }
+        return names == null
+                ? new NodeExpressions(text, new String[0], new CompiledExpression[0])
+                : new NodeExpressions(text, names.toArray(new String[0]),
+                values.toArray(new CompiledExpression[0]));
+    }
+}
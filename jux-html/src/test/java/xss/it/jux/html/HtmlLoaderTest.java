@@ -4,12 +4,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import xss.it.jux.a11y.JuxAccessibilityEngine;
 import xss.it.jux.core.Element;
 import xss.it.jux.html.annotation.Html;
 import xss.it.jux.html.annotation.HtmlId;
 import xss.it.jux.html.annotation.Slot;
 import xss.it.jux.reactive.Initializable;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -104,6 +107,58 @@ class HtmlLoaderTest {
         @Slot("default") Element defaultContent;
     }
 
+    static class BaseWithPrivateId {
+        @HtmlId private Element container;
+
+        Element container() {
+            return container;
+        }
+    }
+
+    @Html("with-ids.html")
+    static class SubclassWithIds extends BaseWithPrivateId {
+        @HtmlId private Element title;
+
+        Element title() {
+            return title;
+        }
+    }
+
+    @Html("with-ids.html")
+    static class ComponentWithWrongFieldType {
+        @HtmlId String title;
+    }
+
+    @Html("with-ids.html")
+    static class CompiledComponent {
+        @HtmlId Element title;
+    }
+
+    @Html("with-ids.html")
+    static class UnboundCompiledComponent {
+        @HtmlId private Element title;
+    }
+
+    @Html("with-ids.html")
+    static class StaleCompiledComponent {
+        @HtmlId Element title;
+    }
+
+    @Html(value = "with-ids.html", shared = true)
+    static class SharedComponent {
+        @HtmlId Element title;
+    }
+
+    @Html(value = "with-ids.html", shared = true)
+    static class SharedCompiledComponent {
+        @HtmlId Element title;
+    }
+
+    @Html("decorative.html")
+    static class DecorativeComponent {
+        @HtmlId Element heading;
+    }
+
     // ── Basic template loading ───────────────────────────────────
 
     @Nested
@@ -339,6 +394,180 @@ class HtmlLoaderTest {
 
             assertThat(tree1).isNotSameAs(tree2);
         }
+
+        @Test
+        @DisplayName("Cached loads inject the elements of their own instance")
+        void cachedLoads_injectOwnInstanceElements() {
+            SubclassWithIds first = new SubclassWithIds();
+            Element tree1 = HtmlLoader.load(first);
+            first.title().text("Changed");
+
+            SubclassWithIds second = new SubclassWithIds();
+            Element tree2 = HtmlLoader.load(second);
+
+            assertThat(second.container()).isSameAs(tree2);
+            assertThat(second.title()).isSameAs(tree2.getChildren().getFirst());
+            assertThat(second.title()).isNotSameAs(first.title());
+            assertThat(second.title().getTextContent()).isEqualTo("Title");
+            assertThat(first.container()).isSameAs(tree1);
+        }
+    }
+
+    // ── Writable nodes ───────────────────────────────────────────
+
+    @Nested
+    @DisplayName("Writable nodes")
+    class WritableNodes {
+
+        @Test
+        @DisplayName("Every node is writable by default, cached, uncached or compiled")
+        void defaultTrees_fullyWritable() {
+            HtmlLoader.load(new ComponentWithExplicitId());
+            Element cached = HtmlLoader.load(new ComponentWithExplicitId());
+            HtmlLoader.getCache().setEnabled(false);
+            Element uncached = HtmlLoader.load(new ComponentWithExplicitId());
+            HtmlLoader.getCache().setEnabled(true);
+            Element compiled = HtmlLoader.load(new CompiledComponent());
+
+            for (Element root : List.of(cached, uncached, compiled)) {
+                assertThat(root.isFrozen()).isFalse();
+                assertThat(findById(root, "title").isFrozen()).isFalse();
+                assertThat(findById(root, "content").attr("data-x", "1").getAttribute("data-x"))
+                        .isEqualTo("1");
+            }
+        }
+
+        @Test
+        @DisplayName("Shared cached, uncached and compiled trees have the same read-only nodes")
+        void sharedTrees_sameWritableNodesInEveryMode() {
+            Element cached = HtmlLoader.load(new SharedComponent());
+            HtmlLoader.getCache().setEnabled(false);
+            Element uncached = HtmlLoader.load(new SharedComponent());
+            HtmlLoader.getCache().setEnabled(true);
+            Element compiled = HtmlLoader.load(new SharedCompiledComponent());
+
+            for (Element root : List.of(cached, uncached, compiled)) {
+                assertThat(root.isFrozen()).isFalse();
+                assertThat(findById(root, "title").isFrozen()).isFalse();
+                assertThat(findById(root, "content").isFrozen()).isTrue();
+            }
+        }
+
+        @Test
+        @DisplayName("Modifying a shared node throws with the cache disabled too")
+        void sharedNodeMutation_throwsWithCacheDisabled() {
+            HtmlLoader.getCache().setEnabled(false);
+
+            Element root = HtmlLoader.load(new SharedComponent());
+
+            assertThatThrownBy(() -> findById(root, "content").attr("data-x", "1"))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(root.attr("data-x", "1").getAttribute("data-x")).isEqualTo("1");
+        }
+    }
+
+    // ── Accessibility auto-fix ───────────────────────────────────
+
+    @Nested
+    @DisplayName("Accessibility auto-fix")
+    class AccessibilityAutoFix {
+
+        @Test
+        @DisplayName("autoFix can modify every node of a loaded tree")
+        void autoFix_loadedTree() {
+            JuxAccessibilityEngine engine = new JuxAccessibilityEngine();
+            HtmlLoader.load(new DecorativeComponent());
+
+            DecorativeComponent component = new DecorativeComponent();
+            Element root = engine.autoFix(HtmlLoader.load(component));
+
+            Element image = root.getChildren().getFirst();
+            Element icon = root.getChildren().get(1);
+            assertThat(image.getAttribute("role")).isEqualTo("presentation");
+            assertThat(icon.getAttribute("aria-hidden")).isEqualTo("true");
+            assertThat(component.heading).isSameAs(findById(root, "heading"));
+        }
+
+        @Test
+        @DisplayName("autoFix does not leak into the cached template")
+        void autoFix_leavesPrototypeUntouched() {
+            JuxAccessibilityEngine engine = new JuxAccessibilityEngine();
+            engine.autoFix(HtmlLoader.load(new DecorativeComponent()));
+
+            Element root = HtmlLoader.load(new DecorativeComponent());
+
+            assertThat(root.getChildren().getFirst().getAttribute("role")).isNull();
+        }
+    }
+
+    // ── Compiled templates ───────────────────────────────────────
+
+    @Nested
+    @DisplayName("Compiled templates")
+    class CompiledTemplates {
+
+        @Test
+        @DisplayName("Generated template is used instead of parsing")
+        void compiledTemplate_usedInsteadOfParsing() {
+            CompiledComponent component = new CompiledComponent();
+
+            Element root = HtmlLoader.load(component);
+
+            assertThat(root.getAttributes()).containsEntry("data-compiled", "true");
+            assertThat(component.title).isSameAs(findById(root, "title"));
+            assertThat(HtmlLoader.getCache().size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Fields are injected by the loader when the template does not bind them")
+        void unboundCompiledTemplate_injectedByLoader() throws Exception {
+            UnboundCompiledComponent component = new UnboundCompiledComponent();
+
+            Element root = HtmlLoader.load(component);
+
+            var field = UnboundCompiledComponent.class.getDeclaredField("title");
+            field.setAccessible(true);
+            assertThat(root.getAttributes()).containsEntry("data-compiled", "true");
+            assertThat(field.get(component)).isSameAs(findById(root, "title"));
+        }
+
+        @Test
+        @DisplayName("Disabled cache bypasses the compiled template")
+        void disabledCache_parsesTemplate() {
+            HtmlLoader.getCache().setEnabled(false);
+            CompiledComponent component = new CompiledComponent();
+
+            Element root = HtmlLoader.load(component);
+
+            assertThat(root.getAttributes()).doesNotContainKey("data-compiled");
+            assertThat(component.title.getTextContent()).isEqualTo("Title");
+        }
+
+        @Test
+        @DisplayName("Compiled template matching the template resource is used")
+        void matchingSourceHash_isUsed() {
+            assertThat(HtmlLoader.resourceHash("with-ids.html"))
+                    .isEqualTo(new HtmlLoaderTest_CompiledComponentTemplate().sourceHash());
+            assertThat(HtmlLoader.findCompiledTemplate(CompiledComponent.class)).isPresent();
+        }
+
+        @Test
+        @DisplayName("Template edited after compilation is parsed instead of the stale class")
+        void staleSourceHash_parsesTemplate() {
+            StaleCompiledComponent component = new StaleCompiledComponent();
+
+            Element root = HtmlLoader.load(component);
+
+            assertThat(HtmlLoader.findCompiledTemplate(StaleCompiledComponent.class)).isEmpty();
+            assertThat(root.getAttributes()).doesNotContainKey("data-compiled");
+            assertThat(component.title.getTextContent()).isEqualTo("Title");
+        }
+
+        @Test
+        @DisplayName("Components without a generated class have no compiled template")
+        void noGeneratedClass_isEmpty() {
+            assertThat(HtmlLoader.findCompiledTemplate(SimpleComponent.class)).isEmpty();
+        }
     }
 
     // ── Error handling ───────────────────────────────────────────
@@ -378,6 +607,14 @@ class HtmlLoaderTest {
                     .hasMessageContaining("nonexistent")
                     .hasMessageContaining("@HtmlId");
         }
+
+        @Test
+        @DisplayName("Field of an incompatible type throws TemplateException")
+        void incompatibleFieldType_throwsTemplateException() {
+            assertThatThrownBy(() -> HtmlLoader.load(new ComponentWithWrongFieldType()))
+                    .isInstanceOf(TemplateException.class)
+                    .hasMessageContaining("Cannot inject field 'title'");
+        }
     }
 
     // ── getCache() accessor ──────────────────────────────────────
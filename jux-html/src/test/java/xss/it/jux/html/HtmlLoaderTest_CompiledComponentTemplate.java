@@ -0,0 +1,36 @@
+package xss.it.jux.html;
+
+import xss.it.jux.core.Element;
+
+/**
+ * Hand-written stand-in for the class the annotation processor generates for
+ * {@link HtmlLoaderTest.CompiledComponent}. The {@code data-compiled} marker lets
+ * tests tell a compiled build apart from a parsed template.
+ */
+public final class HtmlLoaderTest_CompiledComponentTemplate implements CompiledTemplate {
+
+    @Override
+    public String path() {
+        return "with-ids.html";
+    }
+
+    @Override
+    public long sourceHash() {
+        // CompiledTemplate.hash of templates/with-ids.html
+        return 7011610766946233423L;
+    }
+
+    @Override
+    public boolean bindsFields() {
+        return true;
+    }
+
+    @Override
+    public Element build(Object component) {
+        Element title = Element.of("span").attr("id", "title").text("Title");
+        Element root = Element.of("div").attr("id", "container").attr("data-compiled", "true")
+                .children(title, Element.of("p").attr("id", "content").text("Content"));
+        ((HtmlLoaderTest.CompiledComponent) component).title = title;
+        return root;
+    }
+}
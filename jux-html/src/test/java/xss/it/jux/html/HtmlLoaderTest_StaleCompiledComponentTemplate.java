@@ -0,0 +1,32 @@
+package xss.it.jux.html;
+
+import xss.it.jux.core.Element;
+
+/**
+ * Hand-written stand-in for a generated template that was compiled from an older
+ * version of {@code with-ids.html}: its source hash no longer matches the resource.
+ */
+public final class HtmlLoaderTest_StaleCompiledComponentTemplate implements CompiledTemplate {
+
+    @Override
+    public String path() {
+        return "with-ids.html";
+    }
+
+    @Override
+    public long sourceHash() {
+        return 42L;
+    }
+
+    @Override
+    public boolean bindsFields() {
+        return true;
+    }
+
+    @Override
+    public Element build(Object component) {
+        Element title = Element.of("span").attr("id", "title").text("Old title");
+        ((HtmlLoaderTest.StaleCompiledComponent) component).title = title;
+        return Element.of("div").attr("id", "container").attr("data-compiled", "true").children(title);
+    }
+}
@@ -0,0 +1,32 @@
+package xss.it.jux.html;
+
+import xss.it.jux.core.Element;
+
+/**
+ * Hand-written stand-in for a generated template whose component has private
+ * injected fields, leaving injection to {@link HtmlLoader}.
+ */
+public final class HtmlLoaderTest_UnboundCompiledComponentTemplate implements CompiledTemplate {
+
+    @Override
+    public String path() {
+        return "with-ids.html";
+    }
+
+    @Override
+    public long sourceHash() {
+        // CompiledTemplate.hash of templates/with-ids.html
+        return 7011610766946233423L;
+    }
+
+    @Override
+    public boolean bindsFields() {
+        return false;
+    }
+
+    @Override
+    public Element build(Object component) {
+        return Element.of("div").attr("id", "container").attr("data-compiled", "true")
+                .children(Element.of("span").attr("id", "title").text("Title"));
+    }
+}
@@ -0,0 +1,303 @@
+package xss.it.jux.html;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import xss.it.jux.core.Element;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link HtmlStreamParser} covering the event API, on-demand subtree
+ * building, equivalence with {@link HtmlParser} (including across buffer
+ * boundaries and on large inputs), line-break normalization, byte channels,
+ * and error reporting.
+ */
+@DisplayName("HtmlStreamParser")
+class HtmlStreamParserTest {
+
+    // ── Event API ────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("Event API")
+    class EventApi {
+
+        @Test
+        @DisplayName("Reports start, text and end events in document order")
+        void reportsEventsInOrder() {
+            HtmlStreamParser parser = parser("<ul class=\"list\"><li>One</li><li>Two</li></ul>");
+            List<String> events = new ArrayList<>();
+
+            while (parser.next() != HtmlStreamParser.Event.END_DOCUMENT) {
+                switch (parser.getEvent()) {
+                    case START_ELEMENT -> events.add("<" + parser.getTagName() + parser.getAttributes());
+                    case TEXT -> events.add(parser.getText());
+                    case END_ELEMENT -> events.add("/" + parser.getTagName());
+                    default -> { }
+                }
+            }
+
+            assertThat(events).containsExactly(
+                    "<ul{class=list}", "<li{}", "One", "/li", "<li{}", "Two", "/li", "/ul");
+        }
+
+        @Test
+        @DisplayName("Void and self-closing elements produce start and end events")
+        void voidElements_produceStartAndEnd() {
+            HtmlStreamParser parser = parser("<p>a<br>b<x-icon/></p>");
+            List<HtmlStreamParser.Event> events = new ArrayList<>();
+
+            while (parser.next() != HtmlStreamParser.Event.END_DOCUMENT) {
+                events.add(parser.getEvent());
+            }
+
+            assertThat(events).containsExactly(
+                    HtmlStreamParser.Event.START_ELEMENT, HtmlStreamParser.Event.TEXT,
+                    HtmlStreamParser.Event.START_ELEMENT, HtmlStreamParser.Event.END_ELEMENT,
+                    HtmlStreamParser.Event.TEXT,
+                    HtmlStreamParser.Event.START_ELEMENT, HtmlStreamParser.Event.END_ELEMENT,
+                    HtmlStreamParser.Event.END_ELEMENT);
+        }
+
+        @Test
+        @DisplayName("Comments, declarations and blank text are skipped; entities decoded")
+        void skipsCommentsAndDecodesEntities() {
+            HtmlStreamParser parser = parser("<!DOCTYPE html>\n<!-- note -->\n<p title=\"a &amp; b\">x &lt; y</p>");
+
+            assertThat(parser.next()).isEqualTo(HtmlStreamParser.Event.START_ELEMENT);
+            assertThat(parser.getAttributes()).containsEntry("title", "a & b");
+            assertThat(parser.getLine()).isEqualTo(3);
+            assertThat(parser.next()).isEqualTo(HtmlStreamParser.Event.TEXT);
+            assertThat(parser.getText()).isEqualTo("x < y");
+        }
+
+        @Test
+        @DisplayName("END_DOCUMENT is returned repeatedly at the end")
+        void endDocument_isSticky() {
+            HtmlStreamParser parser = parser("<p></p>");
+            while (parser.next() != HtmlStreamParser.Event.END_DOCUMENT) {
+                /* drain */
+            }
+
+            assertThat(parser.next()).isEqualTo(HtmlStreamParser.Event.END_DOCUMENT);
+            assertThat(parser.getDepth()).isZero();
+        }
+    }
+
+    // ── Subtrees on demand ───────────────────────────────────────
+
+    @Nested
+    @DisplayName("readElement()")
+    class ReadElement {
+
+        @Test
+        @DisplayName("Builds only the requested subtrees while streaming past the rest")
+        void buildsRequestedSubtrees() {
+            HtmlStreamParser parser = parser(
+                    "<main><p>Intro</p><figure id=\"f1\"><img src=\"a.png\"><figcaption>A</figcaption></figure>"
+                            + "<p>Middle</p><figure id=\"f2\"><figcaption>B</figcaption></figure></main>");
+            List<Element> figures = new ArrayList<>();
+
+            while (parser.next() != HtmlStreamParser.Event.END_DOCUMENT) {
+                if (parser.getEvent() == HtmlStreamParser.Event.START_ELEMENT
+                        && parser.getTagName().equals("figure")) {
+                    figures.add(parser.readElement());
+                }
+            }
+
+            assertThat(figures).hasSize(2);
+            assertThat(figures.get(0).getAttributes()).containsEntry("id", "f1");
+            assertThat(figures.get(0).getChildren()).extracting(Element::getTag)
+                    .containsExactly("img", "figcaption");
+            assertThat(figures.get(1).getChildren().getFirst().getTextContent()).isEqualTo("B");
+        }
+
+        @Test
+        @DisplayName("Leaves the parser after the element's end tag")
+        void leavesParserAfterEndTag() {
+            HtmlStreamParser parser = parser("<div><section><p>x</p></section><aside>y</aside></div>");
+            parser.next();
+            parser.next();
+
+            parser.readElement();
+
+            assertThat(parser.getEvent()).isEqualTo(HtmlStreamParser.Event.END_ELEMENT);
+            assertThat(parser.getTagName()).isEqualTo("section");
+            assertThat(parser.next()).isEqualTo(HtmlStreamParser.Event.START_ELEMENT);
+            assertThat(parser.getTagName()).isEqualTo("aside");
+        }
+
+        @Test
+        @DisplayName("Throws when the current event is not a start event")
+        void notAtStart_throws() {
+            HtmlStreamParser parser = parser("text");
+            parser.next();
+
+            assertThatThrownBy(parser::readElement).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    // ── Equivalence with HtmlParser ──────────────────────────────
+
+    @Nested
+    @DisplayName("Equivalence with HtmlParser")
+    class Equivalence {
+
+        @Test
+        @DisplayName("Builds the same trees as the String parser")
+        void sameTreesAsStringParser() {
+            String[] documents = {
+                    "",
+                    "   ",
+                    "<div id=\"root\"><h1>Hello</h1></div>",
+                    "<p>before<b>bold</b>after<!-- c -->tail</p>",
+                    "text<span>a</span> more",
+                    "<div class=\"a  b\" style=\"color: red; padding: 1rem\" data-x=unquoted hidden></div>",
+                    "<p>&copy; &#169; &#xA9; &unknown; &#zz; &</p>",
+                    "<!DOCTYPE html><html lang=\"@{lang}\"><body><h1>#{title}</h1><br/><input value='v'></body></html>",
+                    "<p class=\"x\" class=\"y\">dup</p>"
+            };
+
+            for (String html : documents) {
+                assertThat(dump(HtmlStreamParser.parse(new StringReader(html), null)))
+                        .as(html)
+                        .isEqualTo(dump(HtmlParser.parse(html)));
+            }
+        }
+
+        @Test
+        @DisplayName("Tokens split across buffer refills parse the same")
+        void bufferBoundaries_parseTheSame() {
+            String html = "<section id=\"s\"><!-- a comment --><p title=\"&quot;quoted&quot;\">"
+                    + "x &amp; y</p><img src=\"i.png\"/></section>";
+
+            HtmlStreamParser parser = HtmlStreamParser.of(new TrickleReader(html), null, 16);
+            parser.next();
+
+            assertThat(dump(parser.readElement())).isEqualTo(dump(HtmlParser.parse(html)));
+        }
+
+        @Test
+        @DisplayName("Large generated documents produce identical trees")
+        void largeDocument_identicalTree() {
+            StringBuilder html = new StringBuilder("<article>");
+            for (int i = 0; i < 5_000; i++) {
+                html.append("<section id=\"s").append(i).append("\" class=\"block\">")
+                        .append("<h2>Title &amp; ").append(i).append("</h2>")
+                        .append("<p>Lorem <b>ipsum</b> dolor<br>sit amet</p></section>\n");
+            }
+            html.append("</article>");
+
+            Element streamed = HtmlStreamParser.parse(new StringReader(html.toString()), null);
+
+            assertThat(streamed.getChildren()).hasSize(5_000);
+            assertThat(dump(streamed)).isEqualTo(dump(HtmlParser.parse(html.toString())));
+        }
+
+        @Test
+        @DisplayName("CRLF and CR line breaks are normalized to LF")
+        void lineBreaks_normalized() {
+            Element root = HtmlStreamParser.parse(new StringReader("<pre>a\r\nb\rc</pre>"), null);
+
+            assertThat(root.getTextContent()).isEqualTo("a\nb\nc");
+        }
+
+        @Test
+        @DisplayName("Parses from a byte channel")
+        void byteChannel() {
+            byte[] bytes = "<p>café</p>".getBytes(StandardCharsets.UTF_8);
+            HtmlStreamParser parser = HtmlStreamParser.of(
+                    Channels.newChannel(new ByteArrayInputStream(bytes)), StandardCharsets.UTF_8, null);
+
+            parser.next();
+
+            assertThat(parser.readElement().getTextContent()).isEqualTo("café");
+        }
+    }
+
+    // ── Error handling ───────────────────────────────────────────
+
+    @Nested
+    @DisplayName("Error handling")
+    class ErrorHandling {
+
+        @Test
+        @DisplayName("Mismatched closing tag reports the line of the opening tag")
+        void mismatchedClosingTag() {
+            assertThatThrownBy(() -> HtmlStreamParser.parse(new StringReader("<div>\n<span>\n</div>"), "t.html"))
+                    .isInstanceOf(TemplateException.class)
+                    .hasMessageContaining("Unexpected closing tag </div>, expected </span>")
+                    .hasMessageContaining("Opening tag was at line 2");
+        }
+
+        @Test
+        @DisplayName("Unclosed tag at end of input")
+        void unclosedTag() {
+            assertThatThrownBy(() -> HtmlStreamParser.parse(new StringReader("<div><p>text"), null))
+                    .isInstanceOf(TemplateException.class)
+                    .hasMessageContaining("unclosed tag <p>");
+        }
+
+        @Test
+        @DisplayName("Closing tag at root level")
+        void closingTagAtRoot() {
+            assertThatThrownBy(() -> HtmlStreamParser.parse(new StringReader("</div>"), null))
+                    .isInstanceOf(TemplateException.class)
+                    .hasMessageContaining("Unexpected closing tag at root level");
+        }
+
+        @Test
+        @DisplayName("Buffer smaller than the minimum is rejected")
+        void tinyBuffer_rejected() {
+            assertThatThrownBy(() -> HtmlStreamParser.of(new StringReader(""), null, 4))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    // ── Helpers ──────────────────────────────────────────────────
+
+    private static HtmlStreamParser parser(String html) {
+        return HtmlStreamParser.of(new StringReader(html), null);
+    }
+
+    /** Serialize a tree with everything the parsers set, for structural comparison. */
+    private static String dump(Element element) {
+        StringBuilder sb = new StringBuilder();
+        sb.append('<').append(element.getTag()).append(element.getAttributes())
+                .append(element.getCssClasses()).append('|').append(element.getTextContent()).append('|');
+        for (Element child : element.getChildren()) {
+            sb.append(dump(child));
+        }
+        return sb.append("/>").toString();
+    }
+
+    /** A reader that returns at most one character per read, forcing frequent refills. */
+    private static final class TrickleReader extends Reader {
+
+        private final StringReader delegate;
+
+        TrickleReader(String text) {
+            this.delegate = new StringReader(text);
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            return delegate.read(buffer, offset, Math.min(length, 1));
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
@@ -6,7 +6,10 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import xss.it.jux.core.Element;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Tests for {@link TemplateCache} covering storage, retrieval, deep cloning,
@@ -174,6 +177,111 @@ class TemplateCacheTest {
         }
     }
 
+    // ── Copy-on-write instances ──────────────────────────────────
+
+    @Nested
+    @DisplayName("Copy-on-write instances")
+    class CopyOnWriteInstances {
+
+        private Element header;
+        private Element title;
+        private Element footer;
+
+        @BeforeEach
+        void cacheTemplate() {
+            title = Element.of("h1").id("title").text("Title");
+            header = Element.of("header").children(title);
+            footer = Element.of("footer").children(Element.of("p").text("Static"));
+            cache.put("page.html", Element.of("main").children(header, footer));
+        }
+
+        @Test
+        @DisplayName("Cached prototype is frozen")
+        void put_freezesPrototype() {
+            assertThat(title.isFrozen()).isTrue();
+            assertThat(footer.isFrozen()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Targets and their ancestors are copied, other subtrees are shared")
+        void instance_copiesOnlyPathToTargets() {
+            Element root = cache.instance("page.html", List.of("title"));
+
+            Element instanceHeader = root.getChildren().get(0);
+            Element instanceTitle = instanceHeader.getChildren().getFirst();
+            assertThat(root.isFrozen()).isFalse();
+            assertThat(instanceHeader).isNotSameAs(header);
+            assertThat(instanceTitle).isNotSameAs(title);
+            assertThat(instanceTitle.isFrozen()).isFalse();
+            assertThat(root.getChildren().get(1)).isSameAs(footer);
+        }
+
+        @Test
+        @DisplayName("Mutating an injected element does not affect the prototype or other instances")
+        void instance_mutationIsIsolated() {
+            Element first = cache.instance("page.html", List.of("title"));
+            first.getChildren().getFirst().getChildren().getFirst().text("Changed");
+
+            Element second = cache.instance("page.html", List.of("title"));
+
+            assertThat(second.getChildren().getFirst().getChildren().getFirst().getTextContent())
+                    .isEqualTo("Title");
+            assertThat(title.getTextContent()).isEqualTo("Title");
+        }
+
+        @Test
+        @DisplayName("Shared nodes reject mutation")
+        void instance_sharedNodesAreReadOnly() {
+            Element root = cache.instance("page.html", List.of("title"));
+
+            assertThatThrownBy(() -> root.getChildren().get(1).attr("data-x", "1"))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("Unknown ids only copy the root")
+        void instance_unknownIds_copyRootOnly() {
+            Element root = cache.instance("page.html", List.of("missing"));
+
+            assertThat(root.isFrozen()).isFalse();
+            assertThat(root.getChildren().get(0)).isSameAs(header);
+        }
+
+        @Test
+        @DisplayName("instance returns null for missing key or disabled cache")
+        void instance_missingOrDisabled_returnsNull() {
+            assertThat(cache.instance("other.html", List.of())).isNull();
+
+            cache.setEnabled(false);
+            assertThat(cache.instance("page.html", List.of())).isNull();
+        }
+
+        @Test
+        @DisplayName("Nodes carrying expressions are shared; the expressions apply to deep clones")
+        void instance_sharesExpressionNodes() {
+            Element label = Element.of("span").text("#{label}");
+            Element aside = Element.of("aside").children(label);
+            cache.put("expr.html", Element.of("main").children(aside));
+
+            Element root = cache.instance("expr.html", List.of());
+            Element clone = cache.get("expr.html");
+
+            assertThat(root.getChildren().getFirst()).isSameAs(aside);
+            assertThat(cache.expressions("expr.html").locate(clone))
+                    .containsExactly(clone.getChildren().getFirst().getChildren().getFirst());
+        }
+
+        @Test
+        @DisplayName("expressions returns null for missing key or disabled cache")
+        void expressions_missingOrDisabled_returnsNull() {
+            assertThat(cache.expressions("page.html").isEmpty()).isTrue();
+            assertThat(cache.expressions("other.html")).isNull();
+
+            cache.setEnabled(false);
+            assertThat(cache.expressions("page.html")).isNull();
+        }
+    }
+
     // ── Enable/disable ───────────────────────────────────────────
 
     @Nested
@@ -0,0 +1,212 @@
+package xss.it.jux.html.expression;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import xss.it.jux.core.Element;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link ExpressionResolver}, {@link CompiledExpression}, and
+ * {@link TemplateExpressions}.
+ *
+ * <p>Covers string compilation into segments, resolution of mixed i18n and
+ * format expressions, null resolvers, and tree resolution from compiled
+ * expressions including subtree skipping and shape mismatches.</p>
+ */
+@DisplayName("ExpressionResolver")
+class ExpressionResolverTest {
+
+    /** Records every key looked up, to verify that skipped nodes are never resolved. */
+    private final List<String> lookups = new ArrayList<>();
+
+    private final I18nResolver.MessageSource testSource = (key, params) -> {
+        lookups.add(key);
+        return switch (key) {
+            case "welcome" -> "Welcome!";
+            case "greeting" -> "Hello, " + params[0];
+            case "direction" -> "Direction: @{dir}";
+            default -> null;
+        };
+    };
+
+    private ExpressionResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new ExpressionResolver(new I18nResolver(testSource, false),
+                new FormatResolver(Locale.US));
+    }
+
+    // ── Compilation ─────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("CompiledExpression.compile()")
+    class CompileTests {
+
+        @Test
+        @DisplayName("strings without expressions compile to null")
+        void plainText_compilesToNull() {
+            assertThat(CompiledExpression.compile(null)).isNull();
+            assertThat(CompiledExpression.compile("")).isNull();
+            assertThat(CompiledExpression.compile("Plain text")).isNull();
+        }
+
+        @Test
+        @DisplayName("empty and unterminated markers are literal text")
+        void malformedMarkers_compileToNull() {
+            assertThat(CompiledExpression.compile("#{} and @{")).isNull();
+        }
+
+        @Test
+        @DisplayName("expressions are split from the surrounding literals")
+        void mixedText_countsExpressions() {
+            CompiledExpression compiled =
+                    CompiledExpression.compile("#{greeting(World)} (@{lang}) #{welcome}");
+
+            assertThat(compiled.expressionCount()).isEqualTo(3);
+            assertThat(compiled.source()).isEqualTo("#{greeting(World)} (@{lang}) #{welcome}");
+        }
+    }
+
+    // ── String resolution ───────────────────────────────────────
+
+    @Nested
+    @DisplayName("resolve()")
+    class ResolveTests {
+
+        @Test
+        @DisplayName("resolves i18n and format expressions with literals preserved")
+        void mixedExpressions_resolved() {
+            assertThat(resolver.resolve("#{greeting('A, B')} (@{lang}) costs $1"))
+                    .isEqualTo("Hello, A, B (en) costs $1");
+        }
+
+        @Test
+        @DisplayName("a compiled string resolves the same on every call")
+        void compiledString_isReusable() {
+            CompiledExpression compiled = CompiledExpression.compile("#{greeting(5)}!");
+
+            assertThat(resolver.resolve(compiled)).isEqualTo("Hello, 5!");
+            assertThat(resolver.resolve(compiled)).isEqualTo("Hello, 5!");
+        }
+
+        @Test
+        @DisplayName("format expressions inside translated messages are resolved")
+        void messageWithFormatExpression_resolved() {
+            assertThat(resolver.resolve("#{direction}")).isEqualTo("Direction: ltr");
+        }
+
+        @Test
+        @DisplayName("unresolved keys stay as-is in non-strict mode")
+        void unresolvedKey_keptAsIs() {
+            assertThat(resolver.resolve("#{missing} @{LANG}")).isEqualTo("#{missing} en");
+        }
+
+        @Test
+        @DisplayName("null resolvers leave their expressions untouched")
+        void nullResolvers_leaveExpressions() {
+            var formatOnly = new ExpressionResolver(null, new FormatResolver(Locale.US));
+            var i18nOnly = new ExpressionResolver(new I18nResolver(testSource, false), null);
+
+            assertThat(formatOnly.resolve("#{welcome} @{lang}")).isEqualTo("#{welcome} en");
+            assertThat(i18nOnly.resolve("#{welcome} @{lang}")).isEqualTo("Welcome! @{lang}");
+        }
+    }
+
+    // ── Tree resolution ─────────────────────────────────────────
+
+    @Nested
+    @DisplayName("resolveTree()")
+    class ResolveTreeTests {
+
+        private Element title;
+        private Element flag;
+        private Element root;
+
+        @BeforeEach
+        void buildTree() {
+            title = Element.of("h1").text("#{welcome}");
+            flag = Element.of("img").attr("alt", "@{country}").cls("flag");
+            root = Element.of("html").attr("lang", "@{lang}").children(
+                    Element.of("header").children(Element.of("p").text("Static")),
+                    Element.of("main").children(title, flag));
+        }
+
+        @Test
+        @DisplayName("only nodes carrying expressions are marked")
+        void compile_marksExpressionNodes() {
+            TemplateExpressions expressions = TemplateExpressions.compile(root);
+
+            assertThat(expressions.nodeCount()).isEqualTo(6);
+            assertThat(expressions.markedCount()).isEqualTo(3);
+            assertThat(expressions.locate(root)).containsExactly(root, title, flag);
+        }
+
+        @Test
+        @DisplayName("text and attribute values are resolved in place")
+        void resolveTree_resolvesTextAndAttributes() {
+            resolver.resolveTree(root);
+
+            assertThat(root.getAttributes().get("lang")).isEqualTo("en");
+            assertThat(title.getTextContent()).isEqualTo("Welcome!");
+            assertThat(flag.getAttributes().get("alt")).isEqualTo("US");
+            assertThat(flag.getAttributes().get("class")).isEqualTo("flag");
+        }
+
+        @Test
+        @DisplayName("compiled expressions apply to a clone of the compiled tree")
+        void resolveTree_appliesToSameShapedTree() {
+            TemplateExpressions expressions = TemplateExpressions.compile(root);
+            root.freeze();
+            Element copy = clone(root);
+
+            resolver.resolveTree(copy, expressions);
+
+            assertThat(copy.getChildren().get(1).getChildren().getFirst().getTextContent())
+                    .isEqualTo("Welcome!");
+            assertThat(title.getTextContent()).isEqualTo("#{welcome}");
+        }
+
+        @Test
+        @DisplayName("subtrees without expressions are skipped, frozen or not")
+        void resolveTree_skipsExpressionFreeSubtrees() {
+            Element header = root.getChildren().getFirst();
+            header.freeze();
+
+            resolver.resolveTree(root);
+
+            assertThat(lookups).containsExactly("welcome");
+        }
+
+        @Test
+        @DisplayName("a tree larger than the compiled one is rejected")
+        void resolveTree_mismatchedTree_throws() {
+            TemplateExpressions expressions = TemplateExpressions.compile(Element.of("p").text("#{welcome}"));
+
+            assertThatThrownBy(() -> resolver.resolveTree(root, expressions))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("null root returns null")
+        void resolveTree_nullRoot() {
+            assertThat(resolver.resolveTree(null)).isNull();
+        }
+
+        private Element clone(Element original) {
+            Element copy = original.copyWithoutChildren();
+            for (Element child : original.getChildren()) {
+                copy.children(clone(child));
+            }
+            return copy;
+        }
+    }
+}
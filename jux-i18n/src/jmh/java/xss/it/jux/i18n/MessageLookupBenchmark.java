@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+package xss.it.jux.i18n;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import xss.it.jux.annotation.Message;
+import xss.it.jux.annotation.MessageBundle;
+import xss.it.jux.annotation.MessageLocale;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares message bundle lookups, as made once or more per rendered component.
+ *
+ * <ul>
+ *   <li>{@link #stringKeyLookup} -- the former registry lookup: build a
+ *       {@code "BundleName:locale-tag"} key and probe a {@code ConcurrentHashMap}</li>
+ *   <li>{@link #registryLookup} -- {@link MessageBundleRegistry#getBundle(Class, Locale)}:
+ *       locale ID probe, then catalog and proxy table</li>
+ *   <li>{@link #boundLookup} -- {@link Messages#get(Class)} with the request locale
+ *       bound, so the locale ID is already resolved</li>
+ *   <li>{@link #boundMessage} -- the bound lookup plus one message call through the
+ *       proxy, i.e. the full cost of {@code messages.get(HomeMessages.class).title()}</li>
+ * </ul>
+ *
+ * <p>Run with {@code ./gradlew :jux-i18n:jmh}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageLookupBenchmark {
+
+    @MessageBundle
+    public interface HomeMessages {
+        @Message("Welcome")
+        String title();
+
+        @Message("Hello, {0}")
+        String greeting(String name);
+    }
+
+    @MessageBundle
+    @MessageLocale("es")
+    public interface HomeMessagesEs extends HomeMessages {
+        @Override
+        @Message("Bienvenido")
+        String title();
+
+        @Override
+        @Message("Hola, {0}")
+        String greeting(String name);
+    }
+
+    /** The request locale. */
+    final Locale locale = Locale.forLanguageTag("es");
+
+    MessageBundleRegistry registry;
+
+    Messages messages;
+
+    /** Proxies keyed the way the registry used to key them. */
+    final Map<String, Object> stringKeyed = new ConcurrentHashMap<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        I18nProperties properties = new I18nProperties();
+        properties.setDefaultLocale("en");
+        properties.setLocales(List.of("en", "es", "fr", "de"));
+        registry = new MessageBundleRegistry(properties);
+        registry.registerBundle(HomeMessages.class);
+        registry.registerLocaleBundle(HomeMessagesEs.class);
+        messages = new Messages(registry, properties);
+
+        // Intern a few locales first so the request locale is not trivially ID 0
+        for (String tag : properties.getLocales()) {
+            registry.getBundle(HomeMessages.class, Locale.forLanguageTag(tag));
+        }
+        stringKeyed.put(HomeMessages.class.getName() + ":" + locale.toLanguageTag(),
+                registry.getBundle(HomeMessages.class, locale));
+        messages.setCurrentLocale(locale);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        messages.clearCurrentLocale();
+    }
+
+    @Benchmark
+    public Object stringKeyLookup() {
+        String cacheKey = HomeMessages.class.getName() + ":" + locale.toLanguageTag();
+        return stringKeyed.computeIfAbsent(cacheKey,
+                k -> registry.getBundle(HomeMessages.class, locale));
+    }
+
+    @Benchmark
+    public HomeMessages registryLookup() {
+        return registry.getBundle(HomeMessages.class, locale);
+    }
+
+    @Benchmark
+    public HomeMessages boundLookup() {
+        return messages.get(HomeMessages.class);
+    }
+
+    @Benchmark
+    public String boundMessage() {
+        return messages.get(HomeMessages.class).title();
+    }
+}
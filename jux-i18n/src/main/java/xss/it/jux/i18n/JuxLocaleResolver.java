@@ -40,6 +40,10 @@ import java.util.Optional;
  * supported locales ({@link I18nProperties#getLocales()}) via {@link #isSupported(Locale)}.
  * An unsupported candidate is silently skipped and the next strategy is tried.</p>
  *
+ * <p>The supported set, the default locale and the {@code Accept-Language}
+ * results are precomputed in a {@link LocaleMatcher} when the resolver is
+ * created, so the configured locales must be bound before construction.</p>
+ *
  * <p>This class has no Spring dependency and can be instantiated in plain unit
  * tests. In a Spring Boot application the {@code jux-server} auto-configuration
  * creates and registers it as a bean.</p>
@@ -61,6 +65,9 @@ public class JuxLocaleResolver {
     /** Configuration properties that control locale resolution behaviour. */
     private final I18nProperties properties;
 
+    /** Precomputed supported-locale set, default locale and Accept-Language cache. */
+    private final LocaleMatcher matcher;
+
     /**
      * Creates a new resolver backed by the given properties.
      *
@@ -68,6 +75,7 @@ public class JuxLocaleResolver {
      */
     public JuxLocaleResolver(I18nProperties properties) {
         this.properties = properties;
+        this.matcher = new LocaleMatcher(properties);
     }
 
     /**
@@ -86,7 +94,7 @@ public class JuxLocaleResolver {
      */
     public Locale resolve(JuxRequestContext ctx) {
         if (ctx == null || !properties.isEnabled()) {
-            return properties.getDefaultLocaleObj();
+            return matcher.defaultLocale();
         }
 
         // 1. URL prefix -- highest priority; locale embedded in the path
@@ -113,15 +121,16 @@ public class JuxLocaleResolver {
             if (isSupported(loc)) return loc;
         }
 
-        // 5. Accept-Language header -- browser's declared preference
+        // 5. Accept-Language header -- browser's declared preference. Cached by the
+        //    raw header value; the context's parsed list is only needed on a miss.
         Optional<String> acceptLang = ctx.header("Accept-Language");
         if (acceptLang.isPresent()) {
-            Locale candidate = parseAcceptLanguage(acceptLang.get());
-            if (candidate != null && isSupported(candidate)) return candidate;
+            Locale fromHeader = matcher.matchAcceptLanguage(acceptLang.get(), ctx::acceptLanguages);
+            if (fromHeader != null) return fromHeader;
         }
 
         // 6. Default -- ultimate fallback, always returns a valid locale
-        return properties.getDefaultLocaleObj();
+        return matcher.defaultLocale();
     }
 
     /**
@@ -157,50 +166,6 @@ public class JuxLocaleResolver {
         return null;
     }
 
-    /**
-     * Parses an {@code Accept-Language} HTTP header and returns the first
-     * supported locale found.
-     *
-     * <p>The header is split by comma into individual language entries.
-     * Quality-factor suffixes ({@code ;q=0.9}) are stripped but <b>not</b>
-     * used for ordering -- the method trusts the order in which the browser
-     * listed its preferences (highest-priority first). Wildcard entries
-     * ({@code *}) are ignored.</p>
-     *
-     * <p>For each entry the method first tries an exact language+region
-     * match (e.g. {@code en-US}). If that is not in the supported list it
-     * falls back to the language-only code (e.g. {@code en}).</p>
-     *
-     * @param header the raw {@code Accept-Language} header value,
-     *               e.g. {@code "fr-CH, fr;q=0.9, en;q=0.8, *;q=0.5"}
-     * @return the first supported {@link Locale} found, or {@code null} if
-     *         none of the header entries match a supported locale
-     */
-    private Locale parseAcceptLanguage(String header) {
-        if (header == null || header.isBlank()) return null;
-
-        // Split by comma: each part is a language tag optionally followed by ;q=...
-        for (String part : header.split(",")) {
-            String lang = part.trim();
-
-            // Strip the quality factor suffix (e.g. ";q=0.9")
-            int semi = lang.indexOf(';');
-            if (semi > 0) lang = lang.substring(0, semi).trim();
-
-            if (!lang.isEmpty() && !"*".equals(lang)) {
-                Locale candidate = Locale.forLanguageTag(lang);
-                if (isSupported(candidate)) return candidate;
-
-                // Region-to-language fallback: en-US -> en
-                if (!candidate.getLanguage().isEmpty()) {
-                    Locale langOnly = Locale.forLanguageTag(candidate.getLanguage());
-                    if (isSupported(langOnly)) return langOnly;
-                }
-            }
-        }
-        return null;
-    }
-
     /**
      * Checks whether the given locale is in the configured list of supported locales.
      *
@@ -214,8 +179,6 @@ public class JuxLocaleResolver {
      *         is {@code null} or not in the supported set
      */
     public boolean isSupported(Locale locale) {
-        if (locale == null) return false;
-        return properties.getLocaleObjects().stream()
-            .anyMatch(supported -> supported.getLanguage().equals(locale.getLanguage()));
+        return matcher.isSupported(locale);
     }
 }
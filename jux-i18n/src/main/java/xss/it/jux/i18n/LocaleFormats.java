@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.i18n;
+
+import java.text.NumberFormat;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Shared, thread-safe cache of locale-specific formatters and resource bundles.
+ *
+ * <p>Creating a {@link NumberFormat} or {@link DateTimeFormatter} involves locale
+ * provider lookups and symbol table construction. Doing that for every
+ * {@code formatCurrency(...)} call on a listing page means thousands of
+ * formatter constructions per request. This service builds each formatter once
+ * and reuses it:</p>
+ * <ul>
+ *   <li><b>Date/time formatters</b> are immutable and thread-safe, so one
+ *       {@link DateTimeFormatter} per (locale, style or pattern) is shared by all
+ *       threads.</li>
+ *   <li><b>Number and currency formats</b> are mutable and not thread-safe. One
+ *       configured prototype per (locale, decimals, currency) is cached together
+ *       with a small pool of clones; a call borrows a clone, formats, and returns
+ *       it. The pool is bounded and not tied to threads, so pooled threads do not
+ *       pin formatters and virtual threads share them.</li>
+ *   <li><b>Resource bundles</b> are cached per (base name, locale), including
+ *       the absence of a bundle, so {@link ResourceBundle#getBundle} is not
+ *       consulted on every message lookup.</li>
+ * </ul>
+ *
+ * <p>Both {@link Messages} and the {@code jux-html} {@code FormatResolver} use the
+ * {@linkplain #shared() shared instance}.</p>
+ *
+ * @see Messages
+ */
+public final class LocaleFormats {
+
+    /** Upper bound on cached custom date patterns, to keep template-driven patterns bounded. */
+    static final int MAX_DATE_PATTERNS = 1024;
+
+    /** Process-wide instance used by {@link Messages} and the template format resolver. */
+    private static final LocaleFormats SHARED = new LocaleFormats();
+
+    /** Number format kind: plain number. */
+    private static final int NUMBER = 0;
+
+    /** Number format kind: currency. */
+    private static final int CURRENCY = 1;
+
+    /** Decimals value meaning "use the locale's default fraction digits". */
+    private static final int DEFAULT_DECIMALS = -1;
+
+    /** Maximum idle clones kept per number format; about one per core that formats concurrently. */
+    static final int NUMBER_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    /** Configured number/currency prototypes and their pooled clones. */
+    private final ConcurrentMap<NumberKey, NumberFormatPool> numberFormats = new ConcurrentHashMap<>();
+
+    /** Immutable date/time formatters by locale and style or pattern. */
+    private final ConcurrentMap<DateKey, DateTimeFormatter> dateFormatters = new ConcurrentHashMap<>();
+
+    /** Resolved resource bundles by base name and locale; empty when no bundle exists. */
+    private final ConcurrentMap<BundleKey, Optional<ResourceBundle>> bundles = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an independent cache. Most callers should use {@link #shared()}.
+     */
+    public LocaleFormats() {
+    }
+
+    /**
+     * Returns the process-wide shared instance.
+     *
+     * @return the shared formatting service
+     */
+    public static LocaleFormats shared() {
+        return SHARED;
+    }
+
+    /**
+     * Formats a number with the locale's default grouping and fraction digits.
+     *
+     * @param number the number to format; must not be {@code null}
+     * @param locale the locale
+     * @return the formatted number
+     */
+    public String formatNumber(Number number, Locale locale) {
+        return format(new NumberKey(locale, NUMBER, DEFAULT_DECIMALS, null), number);
+    }
+
+    /**
+     * Formats a number with exactly {@code decimals} fraction digits.
+     *
+     * @param number   the number to format; must not be {@code null}
+     * @param decimals the number of fraction digits
+     * @param locale   the locale
+     * @return the formatted number
+     */
+    public String formatNumber(Number number, int decimals, Locale locale) {
+        return format(new NumberKey(locale, NUMBER, Math.max(decimals, 0), null), number);
+    }
+
+    /**
+     * Formats a monetary amount.
+     *
+     * @param amount       the amount to format; must not be {@code null}
+     * @param currencyCode ISO 4217 currency code, or {@code null} for the locale's own currency
+     * @param locale       the locale
+     * @return the formatted amount
+     * @throws IllegalArgumentException if {@code currencyCode} is not a valid ISO 4217 code
+     */
+    public String formatCurrency(Number amount, String currencyCode, Locale locale) {
+        return format(new NumberKey(locale, CURRENCY, DEFAULT_DECIMALS, currencyCode), amount);
+    }
+
+    /**
+     * Returns the localized date formatter for a style.
+     *
+     * @param style  the date style
+     * @param locale the locale
+     * @return a shared immutable formatter
+     */
+    public DateTimeFormatter dateFormatter(FormatStyle style, Locale locale) {
+        return dateFormatters.computeIfAbsent(new DateKey(locale, style, null, null),
+            k -> DateTimeFormatter.ofLocalizedDate(style).withLocale(locale));
+    }
+
+    /**
+     * Returns the localized date-time formatter for a style.
+     *
+     * @param style  the date and time style
+     * @param locale the locale
+     * @return a shared immutable formatter
+     */
+    public DateTimeFormatter dateTimeFormatter(FormatStyle style, Locale locale) {
+        return dateFormatters.computeIfAbsent(new DateKey(locale, null, style, null),
+            k -> DateTimeFormatter.ofLocalizedDateTime(style).withLocale(locale));
+    }
+
+    /**
+     * Returns the formatter for a {@link DateTimeFormatter} pattern.
+     *
+     * <p>Once {@value #MAX_DATE_PATTERNS} distinct patterns are cached, further
+     * patterns are compiled per call instead of growing the cache.</p>
+     *
+     * @param pattern the pattern (e.g. {@code "yyyy-MM-dd"})
+     * @param locale  the locale for locale-sensitive pattern letters
+     * @return an immutable formatter
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public DateTimeFormatter patternFormatter(String pattern, Locale locale) {
+        DateKey key = new DateKey(locale, null, null, pattern);
+        DateTimeFormatter formatter = dateFormatters.get(key);
+        if (formatter != null) return formatter;
+
+        formatter = DateTimeFormatter.ofPattern(pattern, locale);
+        if (dateFormatters.size() < MAX_DATE_PATTERNS) {
+            dateFormatters.putIfAbsent(key, formatter);
+        }
+        return formatter;
+    }
+
+    /**
+     * Returns the resource bundle for a base name and locale.
+     *
+     * @param baseName the bundle base name (e.g. {@code "lang"})
+     * @param locale   the locale
+     * @return the bundle, or {@code null} if no bundle exists for the base name
+     */
+    public ResourceBundle bundle(String baseName, Locale locale) {
+        return bundles.computeIfAbsent(new BundleKey(baseName, locale), k -> {
+            try {
+                return Optional.of(ResourceBundle.getBundle(baseName, locale));
+            } catch (MissingResourceException e) {
+                return Optional.empty();
+            }
+        }).orElse(null);
+    }
+
+    /**
+     * Format a number with a pooled clone of the format for a key.
+     */
+    private String format(NumberKey key, Number number) {
+        NumberFormatPool pool = numberFormats.computeIfAbsent(key,
+            k -> new NumberFormatPool(createNumberFormat(k)));
+        NumberFormat format = pool.borrow();
+        try {
+            return format.format(number);
+        } finally {
+            pool.release(format);
+        }
+    }
+
+    /** Create and configure the prototype for a number format key. */
+    private static NumberFormat createNumberFormat(NumberKey key) {
+        if (key.kind() == CURRENCY) {
+            NumberFormat format = NumberFormat.getCurrencyInstance(key.locale());
+            if (key.currency() != null) {
+                format.setCurrency(Currency.getInstance(key.currency()));
+            }
+            return format;
+        }
+        NumberFormat format = NumberFormat.getNumberInstance(key.locale());
+        if (key.decimals() != DEFAULT_DECIMALS) {
+            format.setMinimumFractionDigits(key.decimals());
+            format.setMaximumFractionDigits(key.decimals());
+        }
+        return format;
+    }
+
+    /**
+     * Bounded, lock-free pool of clones of one configured number format.
+     *
+     * <p>Each slot holds an idle clone or {@code null}. {@link #borrow()} takes the
+     * first idle clone it finds, starting at a slot derived from the calling
+     * thread to spread contention, and clones the prototype when every slot is
+     * empty. {@link #release(NumberFormat)} puts the clone into the first empty
+     * slot, or drops it when the pool is full.</p>
+     */
+    private static final class NumberFormatPool {
+
+        /** The configured format; only ever cloned. */
+        private final NumberFormat prototype;
+
+        /** Idle clones. */
+        private final AtomicReferenceArray<NumberFormat> idle = new AtomicReferenceArray<>(NUMBER_POOL_SIZE);
+
+        NumberFormatPool(NumberFormat prototype) {
+            this.prototype = prototype;
+        }
+
+        NumberFormat borrow() {
+            int start = start();
+            for (int i = 0; i < NUMBER_POOL_SIZE; i++) {
+                NumberFormat format = idle.getAndSet((start + i) % NUMBER_POOL_SIZE, null);
+                if (format != null) return format;
+            }
+            return (NumberFormat) prototype.clone();
+        }
+
+        void release(NumberFormat format) {
+            int start = start();
+            for (int i = 0; i < NUMBER_POOL_SIZE; i++) {
+                if (idle.compareAndSet((start + i) % NUMBER_POOL_SIZE, null, format)) return;
+            }
+        }
+
+        private static int start() {
+            return (int) (Thread.currentThread().threadId() % NUMBER_POOL_SIZE);
+        }
+    }
+
+    /** Cache key for number and currency formats. */
+    private record NumberKey(Locale locale, int kind, int decimals, String currency) {}
+
+    /** Cache key for date formatters: exactly one of the styles or the pattern is set. */
+    private record DateKey(Locale locale, FormatStyle dateStyle, FormatStyle dateTimeStyle, String pattern) {}
+
+    /** Cache key for resource bundles. */
+    private record BundleKey(String baseName, Locale locale) {}
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.i18n;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Immutable matcher that decides which configured locales are supported and
+ * maps {@code Accept-Language} headers to a supported {@link Locale}.
+ *
+ * <p>Built once from {@link I18nProperties} when the {@link JuxLocaleResolver}
+ * is created, so request-time checks never re-parse the configured locale tags:</p>
+ * <ul>
+ *   <li><b>Supported languages</b> are held in a hash set of language codes, making
+ *       {@link #isSupported(Locale)} a single set lookup.</li>
+ *   <li><b>The default locale</b> is parsed once and returned as the last step of
+ *       the fallback chain.</li>
+ *   <li><b>Accept-Language results</b> are cached in a bounded map keyed by the
+ *       raw header value. Browsers send only a few hundred distinct headers, so most
+ *       requests resolve with one map lookup. Headers that match nothing are cached
+ *       too, as an empty result.</li>
+ * </ul>
+ *
+ * <p><b>Thread safety:</b> The supported set and default locale are immutable.
+ * The header cache is a {@link ConcurrentHashMap}, so cache hits take no lock.
+ * When it is full, a miss evicts an arbitrary entry before inserting; with the
+ * small set of headers real browsers send, the evicted entry is almost always
+ * a one-off header, and recency tracking would cost a write on every hit.</p>
+ *
+ * @see JuxLocaleResolver
+ */
+public final class LocaleMatcher {
+
+    /** Maximum number of distinct {@code Accept-Language} headers kept in the cache. */
+    static final int ACCEPT_LANGUAGE_CACHE_SIZE = 512;
+
+    /** Language codes of the configured locales (e.g. {@code "en"}, {@code "es"}). */
+    private final Set<String> supportedLanguages;
+
+    /** The configured default locale, parsed once. */
+    private final Locale defaultLocale;
+
+    /** Raw header value to the matched locale (empty if none), bounded on insert. */
+    private final ConcurrentHashMap<String, Optional<Locale>> headerCache = new ConcurrentHashMap<>();
+
+    /**
+     * Build a matcher from the configured locales.
+     *
+     * @param properties i18n configuration; must not be {@code null}
+     */
+    public LocaleMatcher(I18nProperties properties) {
+        Set<String> languages = new HashSet<>();
+        List<String> locales = properties.getLocales();
+        if (locales != null) {
+            for (String tag : locales) {
+                languages.add(Locale.forLanguageTag(tag).getLanguage());
+            }
+        }
+        this.supportedLanguages = Set.copyOf(languages);
+        this.defaultLocale = properties.getDefaultLocaleObj();
+    }
+
+    /**
+     * Checks whether the given locale's language is one of the configured locales.
+     *
+     * <p>Region and variant subtags are ignored, so {@code en-US} is supported
+     * if {@code en} is configured, and vice versa.</p>
+     *
+     * @param locale the locale to test, may be {@code null}
+     * @return {@code true} if the locale's language code is supported
+     */
+    public boolean isSupported(Locale locale) {
+        return locale != null && supportedLanguages.contains(locale.getLanguage());
+    }
+
+    /**
+     * Returns the configured default locale.
+     *
+     * @return the default locale, never {@code null}
+     */
+    public Locale defaultLocale() {
+        return defaultLocale;
+    }
+
+    /**
+     * Returns the first supported locale for an {@code Accept-Language} header.
+     *
+     * <p>The result is looked up by the raw header value first. On a miss, the
+     * parsed language list is obtained from {@code accepted} (typically
+     * {@link xss.it.jux.core.JuxRequestContext#acceptLanguages()}, which has
+     * already parsed the header for this request), matched, and cached.</p>
+     *
+     * @param header   the raw header value, may be {@code null}
+     * @param accepted supplies the header's locales in header order on a cache miss
+     * @return the first supported locale, or {@code null} if none matches
+     */
+    public Locale matchAcceptLanguage(String header, Supplier<List<Locale>> accepted) {
+        if (header == null || header.isBlank()) return null;
+
+        Optional<Locale> cached = headerCache.get(header);
+        if (cached == null) {
+            // Two threads racing on the same new header compute the same value,
+            // so the duplicate put is harmless.
+            cached = Optional.ofNullable(match(accepted.get()));
+            evictIfFull();
+            headerCache.put(header, cached);
+        }
+        return cached.orElse(null);
+    }
+
+    /**
+     * Returns the first supported locale in a list of accepted locales.
+     *
+     * <p>Each entry is tried as given (e.g. {@code en-US}) and then, if it carries
+     * more than a language, as its language-only code (e.g. {@code en}).</p>
+     *
+     * @param accepted the accepted locales in preference order, never {@code null}
+     * @return the first supported locale, or {@code null} if none matches
+     */
+    public Locale match(List<Locale> accepted) {
+        for (Locale candidate : accepted) {
+            if (isSupported(candidate)) return candidate;
+
+            // Region-to-language fallback: en-US -> en
+            String language = candidate.getLanguage();
+            if (!language.isEmpty() && !language.equals(candidate.toLanguageTag())) {
+                Locale langOnly = Locale.forLanguageTag(language);
+                if (isSupported(langOnly)) return langOnly;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of headers currently cached; exposed for tests.
+     *
+     * @return the cache size
+     */
+    int cachedHeaderCount() {
+        return headerCache.size();
+    }
+
+    /**
+     * Removes arbitrary entries until there is room for one more header.
+     *
+     * <p>Concurrent misses may each see the same free slot, so the size can
+     * briefly exceed the bound by the number of racing threads; the next miss
+     * trims it back.</p>
+     */
+    private void evictIfFull() {
+        Iterator<String> keys = headerCache.keySet().iterator();
+        while (headerCache.size() >= ACCEPT_LANGUAGE_CACHE_SIZE && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+}
@@ -20,8 +20,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.text.MessageFormat;
 import java.util.Locale;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * {@link InvocationHandler} that implements {@code @MessageBundle} interfaces at
@@ -40,11 +39,11 @@ import java.util.concurrent.ConcurrentHashMap;
  *       including {@code {0,choice,...}} pluralization rules.</li>
  * </ol>
  *
- * <p>The {@code MessageFormat} cache is keyed by
- * {@code "localeInterfaceName#methodName"} and is stored in a
- * {@link ConcurrentHashMap} for thread-safe access. Because
- * {@link MessageFormat} itself is <b>not</b> thread-safe, each format
- * invocation is synchronized on the format instance.</p>
+ * <p>Patterns are resolved ahead of time by the bundle's {@link MessageCatalog}
+ * into an array indexed by message ordinal, so a call is one ordinal lookup
+ * plus one array index. Compiled {@code MessageFormat}s are cached in a
+ * parallel array. Because {@link MessageFormat} itself is <b>not</b>
+ * thread-safe, each format invocation is synchronized on the format instance.</p>
  *
  * <p>If a method has no {@code @Message} annotation on either interface, the
  * handler returns a sentinel string of the form {@code "!methodName!"} to make
@@ -71,25 +70,36 @@ public class MessageBundleProxy implements InvocationHandler {
     /** The target locale used for {@link MessageFormat} formatting. */
     private final Locale locale;
 
+    /** The compiled method table of the bundle, mapping methods to ordinals. */
+    private final MessageCatalog catalog;
+
+    /** Resolved {@code @Message} patterns for this locale, indexed by ordinal. */
+    private final String[] patterns;
+
     /**
-     * Cache of compiled {@link MessageFormat} instances, keyed by
-     * {@code "localeInterfaceName#methodName"}. Entries are created lazily
-     * on first invocation of a parameterized message method.
+     * Compiled {@link MessageFormat} instances by ordinal. Entries are created
+     * lazily on first invocation of a parameterized message method.
      */
-    private final Map<String, MessageFormat> formatCache = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<MessageFormat> formatCache;
 
     /**
-     * Private constructor -- instances are created exclusively via
-     * {@link #create(Class, Class, Locale)}.
+     * Private constructor -- instances are created exclusively via the
+     * static {@code create} factories.
      *
      * @param bundleInterface the base bundle interface class
      * @param localeInterface the locale-specific interface class (may equal {@code bundleInterface})
      * @param locale          the target locale for message formatting
+     * @param catalog         the compiled catalog of the bundle
+     * @param patterns        the patterns for this locale, indexed by ordinal
      */
-    private MessageBundleProxy(Class<?> bundleInterface, Class<?> localeInterface, Locale locale) {
+    private MessageBundleProxy(Class<?> bundleInterface, Class<?> localeInterface, Locale locale,
+                               MessageCatalog catalog, String[] patterns) {
         this.bundleInterface = bundleInterface;
         this.localeInterface = localeInterface;
         this.locale = locale;
+        this.catalog = catalog;
+        this.patterns = patterns;
+        this.formatCache = new AtomicReferenceArray<>(patterns.length);
     }
 
     /**
@@ -112,9 +122,26 @@ public class MessageBundleProxy implements InvocationHandler {
      * @param <T>        the bundle interface type
      * @return a proxy instance of type {@code T}; never {@code null}
      */
-    @SuppressWarnings("unchecked")
     public static <T> T create(Class<T> bundleType, Class<?> localeType, Locale locale) {
-        MessageBundleProxy handler = new MessageBundleProxy(bundleType, localeType, locale);
+        MessageCatalog catalog = new MessageCatalog(bundleType);
+        return create(bundleType, localeType, locale, catalog, catalog.patternsFor(localeType));
+    }
+
+    /**
+     * Creates a dynamic proxy backed by an existing compiled catalog.
+     *
+     * @param bundleType the base bundle interface class
+     * @param localeType the locale-specific sub-interface, or {@code bundleType}
+     * @param locale     the target locale for {@link MessageFormat} formatting
+     * @param catalog    the compiled catalog of {@code bundleType}
+     * @param patterns   the patterns for {@code localeType}, indexed by ordinal
+     * @param <T>        the bundle interface type
+     * @return a proxy instance of type {@code T}; never {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T create(Class<T> bundleType, Class<?> localeType, Locale locale,
+                        MessageCatalog catalog, String[] patterns) {
+        MessageBundleProxy handler = new MessageBundleProxy(bundleType, localeType, locale, catalog, patterns);
         return (T) Proxy.newProxyInstance(
             bundleType.getClassLoader(),
             new Class<?>[]{bundleType},
@@ -160,8 +187,10 @@ public class MessageBundleProxy implements InvocationHandler {
             };
         }
 
-        // Look up the @Message pattern from the locale or base interface
-        String pattern = resolvePattern(method);
+        // Look up the precompiled pattern by ordinal; methods outside the catalog
+        // (e.g. default methods) fall back to reflective resolution
+        int ordinal = catalog.ordinal(method);
+        String pattern = ordinal >= 0 ? patterns[ordinal] : resolvePattern(method);
         if (pattern == null) {
             // Sentinel that makes missing translations obvious in rendered output
             return "!" + method.getName() + "!";
@@ -172,12 +201,18 @@ public class MessageBundleProxy implements InvocationHandler {
             return pattern;
         }
 
-        // Compile (or retrieve) a MessageFormat and format the arguments.
-        // The cache key includes the locale interface name to prevent collisions
-        // when the same method name exists on different locale interfaces.
-        String cacheKey = localeInterface.getName() + "#" + method.getName();
-        MessageFormat format = formatCache.computeIfAbsent(cacheKey,
-            k -> new MessageFormat(pattern, locale));
+        // Compile (or retrieve) the MessageFormat for this ordinal. A lost race
+        // just compiles the same pattern twice; the first published instance wins.
+        MessageFormat format;
+        if (ordinal >= 0) {
+            format = formatCache.get(ordinal);
+            if (format == null) {
+                formatCache.compareAndSet(ordinal, null, new MessageFormat(pattern, locale));
+                format = formatCache.get(ordinal);
+            }
+        } else {
+            format = new MessageFormat(pattern, locale);
+        }
 
         // MessageFormat is not thread-safe, so synchronize on the instance
         synchronized (format) {
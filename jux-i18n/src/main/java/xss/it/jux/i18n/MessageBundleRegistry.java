@@ -40,12 +40,24 @@ import java.util.concurrent.ConcurrentHashMap;
  * <p>When a component asks for a bundle via {@link #getBundle(Class, Locale)},
  * the registry resolves the best-matching locale class (exact tag, language-only
  * fallback, or default), creates a {@link MessageBundleProxy} if one does not
- * already exist in the cache, and returns a typed proxy instance that the caller
- * can use directly.</p>
+ * already exist, and returns a typed proxy instance that the caller can use
+ * directly.</p>
  *
- * <p>All data structures are thread-safe ({@link ConcurrentHashMap}). The proxy
- * cache is unbounded because the number of bundle-class/locale combinations is
- * small and fixed after startup.</p>
+ * <p><b>Compiled catalogs:</b> each bundle type is compiled once into a
+ * {@link MessageCatalog} -- its methods numbered by ordinal and its patterns laid
+ * out as dense per-locale arrays -- and each locale is interned to a small integer
+ * ID. A lookup is a catalog lookup by class plus one array index by locale ID,
+ * instead of building a {@code "BundleName:locale-tag"} string key per call.
+ * {@link Messages} interns the request locale once when it is bound, so lookups
+ * made through it skip the locale table as well.
+ * At most {@value #MAX_LOCALE_IDS} locales are interned; proxies for further
+ * locales are created per call rather than growing the tables.</p>
+ *
+ * <p><b>Startup validation:</b> {@link #validate()} compiles every registered
+ * bundle for every configured locale and reports message methods that have no
+ * translation.</p>
+ *
+ * <p>All data structures are thread-safe.</p>
  *
  * @see MessageBundle
  * @see MessageLocale
@@ -71,14 +83,19 @@ public class MessageBundleRegistry {
      */
     private final Map<Class<?>, Map<String, Class<?>>> bundleLocales = new ConcurrentHashMap<>();
 
-    /**
-     * Cache of proxy instances keyed by {@code "fully.qualified.ClassName:locale-tag"}.
-     *
-     * <p>Once a proxy is created for a given bundle/locale pair it is reused for
-     * all subsequent requests. The cache is thread-safe and unbounded because the
-     * cardinality of bundle/locale combinations is small and known at startup.</p>
-     */
-    private final Map<String, Object> proxyCache = new ConcurrentHashMap<>();
+    /** Upper bound on interned locale IDs (and thus on per-bundle proxy table size). */
+    static final int MAX_LOCALE_IDS = 256;
+
+    /** Compiled catalog per bundle interface, built on first lookup. */
+    private final ClassValue<MessageCatalog> catalogs = new ClassValue<>() {
+        @Override
+        protected MessageCatalog computeValue(Class<?> type) {
+            return new MessageCatalog(type);
+        }
+    };
+
+    /** Locale to its interned ID; IDs index the per-bundle proxy tables. */
+    private final Map<Locale, Integer> localeIds = new ConcurrentHashMap<>();
 
     /** Configuration properties used to determine the fallback strategy. */
     private final I18nProperties properties;
@@ -153,11 +170,9 @@ public class MessageBundleRegistry {
      * Returns a typed proxy that implements the given bundle interface with
      * messages resolved for the specified locale.
      *
-     * <p>Proxies are cached by their composite key
-     * ({@code "fully.qualified.BundleName:locale-tag"}) and created lazily on
-     * first access via {@link MessageBundleProxy#create(Class, Class, Locale)}.
-     * Subsequent calls with the same bundle type and locale return the same
-     * proxy instance.</p>
+     * <p>Proxies are held in the bundle's {@link MessageCatalog}, indexed by the
+     * interned locale ID, and created lazily on first access. Subsequent calls
+     * with the same bundle type and locale return the same proxy instance.</p>
      *
      * <p>The locale resolution follows the configured
      * {@linkplain I18nProperties#getFallbackStrategy() fallback strategy}:
@@ -171,17 +186,104 @@ public class MessageBundleRegistry {
      * @return a proxy instance implementing {@code T} whose methods return
      *         localized strings; never {@code null}
      */
-    @SuppressWarnings("unchecked")
     public <T> T getBundle(Class<T> bundleType, Locale locale) {
-        String cacheKey = bundleType.getName() + ":" + locale.toLanguageTag();
+        return getBundle(bundleType, locale, localeId(locale));
+    }
 
-        return (T) proxyCache.computeIfAbsent(cacheKey, k -> {
-            // Resolve the closest matching locale-specific interface class
-            Class<?> targetClass = resolveLocaleClass(bundleType, locale);
-            return MessageBundleProxy.create(bundleType, targetClass, locale);
-        });
+    /**
+     * Like {@link #getBundle(Class, Locale)}, with the locale ID already resolved
+     * by {@link #localeId(Locale)}.
+     *
+     * <p>{@link Messages} resolves the ID once when a request's locale is bound, so
+     * each lookup during that request is a catalog lookup by class plus one array
+     * index, without probing the locale table.</p>
+     *
+     * @param bundleType the base bundle interface class
+     * @param locale     the desired locale for message resolution
+     * @param localeId   the ID returned by {@link #localeId(Locale)} for {@code locale}
+     * @param <T>        the bundle interface type
+     * @return a proxy instance implementing {@code T}; never {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    <T> T getBundle(Class<T> bundleType, Locale locale, int localeId) {
+        MessageCatalog catalog = catalogs.get(bundleType);
+
+        Object proxy = catalog.proxy(localeId, locale, null);
+        if (proxy == null) {
+            // First request for this bundle/locale: resolve the closest matching
+            // locale-specific interface class and compile its patterns
+            proxy = catalog.proxy(localeId, locale, resolveLocaleClass(bundleType, locale));
+        }
+        return (T) proxy;
     }
 
+    /**
+     * Returns the interned ID of a locale, assigning the next free ID on first use.
+     *
+     * @param locale the locale
+     * @return the locale ID, or {@code -1} once {@value #MAX_LOCALE_IDS} locales are interned
+     */
+    int localeId(Locale locale) {
+        Integer id = localeIds.get(locale);
+        if (id != null) return id;
+        synchronized (localeIds) {
+            id = localeIds.get(locale);
+            if (id != null) return id;
+            if (localeIds.size() >= MAX_LOCALE_IDS) return -1;
+            int next = localeIds.size();
+            localeIds.put(locale, next);
+            return next;
+        }
+    }
+
+    /**
+     * Validates every registered bundle against the configured locales and reports
+     * missing translations.
+     *
+     * <p>For each bundle and each locale in {@link I18nProperties#getLocales()} other
+     * than the default, the locale-specific interface is resolved with the normal
+     * fallback rules and every message method that it does not translate is listed.
+     * A locale without any locale-specific interface reports all methods.</p>
+     *
+     * <p>Validation also compiles each bundle's catalog, so the first request does
+     * not pay for it.</p>
+     *
+     * @return one entry per bundle/locale pair with missing translations; empty if complete
+     */
+    public List<MissingTranslations> validate() {
+        List<MissingTranslations> report = new ArrayList<>();
+        String defaultLocale = properties.getDefaultLocale();
+        List<String> locales = properties.getLocales() != null ? properties.getLocales() : List.of();
+
+        for (Class<?> bundleType : bundleLocales.keySet()) {
+            MessageCatalog catalog = catalogs.get(bundleType);
+            for (String tag : locales) {
+                if (tag.equals(defaultLocale)) continue;
+
+                Class<?> localeType = resolveLocaleClass(bundleType, Locale.forLanguageTag(tag));
+                List<String> missing = new ArrayList<>();
+                for (var method : catalog.methods()) {
+                    if (localeType == bundleType || MessageCatalog.translatedMessage(localeType, method) == null) {
+                        missing.add(method.getName());
+                    }
+                }
+                if (!missing.isEmpty()) {
+                    report.add(new MissingTranslations(bundleType, tag, List.copyOf(missing)));
+                }
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Missing translations of one bundle for one locale, as reported by {@link #validate()}.
+     *
+     * @param bundleType the base bundle interface
+     * @param locale     the configured locale tag lacking translations
+     * @param methods    names of the message methods without a translation
+     */
+    public record MissingTranslations(Class<?> bundleType, String locale, List<String> methods) {}
+
     /**
      * Resolves the best-matching locale-specific interface for a bundle and locale.
      *
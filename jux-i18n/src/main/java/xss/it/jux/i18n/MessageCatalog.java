@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.i18n;
+
+import xss.it.jux.annotation.Message;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compiled form of one {@code @MessageBundle} interface: its methods numbered by
+ * ordinal, their patterns laid out as dense per-locale string arrays, and the
+ * bundle proxies indexed by locale ID.
+ *
+ * <p>The catalog is built once per bundle type by {@link MessageBundleRegistry}.
+ * Message methods are sorted by name and parameter types so that ordinals are
+ * stable, and each method's {@code @Message} pattern is resolved ahead of time
+ * for every locale that is requested:</p>
+ * <pre>
+ *   ordinals:  hello() -> 0, goodbye(String) -> 1
+ *   patterns:  [localeId 0 (en)] -> ["Hello World", "Goodbye, {0}"]
+ *              [localeId 1 (es)] -> ["Hola Mundo",  "Adios, {0}"]
+ *   proxies:   [localeId 0] -> HomeMessages[en], [localeId 1] -> HomeMessages[es]
+ * </pre>
+ *
+ * <p>A bundle lookup is therefore a class lookup plus one array index, and a
+ * message lookup inside the proxy is one ordinal lookup plus one array index --
+ * no string keys and no reflection on the request path.</p>
+ *
+ * <p><b>Thread safety:</b> Ordinals and method tables are immutable. The proxy
+ * table is copy-on-write: reads see a published array, and the rare growth on a
+ * new locale is synchronized on the catalog.</p>
+ *
+ * @see MessageBundleRegistry
+ * @see MessageBundleProxy
+ */
+final class MessageCatalog {
+
+    /** The base bundle interface. */
+    private final Class<?> bundleType;
+
+    /** Message methods of the bundle, indexed by ordinal. */
+    private final Method[] methods;
+
+    /** Ordinal of each message method. */
+    private final Map<Method, Integer> ordinals;
+
+    /** Default-language patterns by ordinal; {@code null} where a method has no {@code @Message}. */
+    private final String[] defaultPatterns;
+
+    /** Bundle proxies indexed by locale ID; replaced as a whole when it grows. */
+    private volatile Object[] proxies = new Object[0];
+
+    /**
+     * Compile the method table of a bundle interface.
+     *
+     * @param bundleType the base bundle interface
+     */
+    MessageCatalog(Class<?> bundleType) {
+        this.bundleType = bundleType;
+
+        List<Method> messageMethods = new ArrayList<>();
+        for (Method method : bundleType.getMethods()) {
+            if (!Modifier.isStatic(method.getModifiers()) && !method.isDefault()) {
+                messageMethods.add(method);
+            }
+        }
+        messageMethods.sort(Comparator.comparing(Method::getName)
+            .thenComparing(m -> Arrays.toString(m.getParameterTypes())));
+
+        this.methods = messageMethods.toArray(new Method[0]);
+        Map<Method, Integer> index = new HashMap<>(methods.length * 2);
+        this.defaultPatterns = new String[methods.length];
+        for (int i = 0; i < methods.length; i++) {
+            index.put(methods[i], i);
+            Message message = methods[i].getAnnotation(Message.class);
+            defaultPatterns[i] = message != null ? message.value() : null;
+        }
+        this.ordinals = Map.copyOf(index);
+    }
+
+    /**
+     * Returns the ordinal of a message method.
+     *
+     * @param method the interface method
+     * @return the ordinal, or {@code -1} if the method is not a message method of this bundle
+     */
+    int ordinal(Method method) {
+        Integer ordinal = ordinals.get(method);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    /**
+     * Returns the message methods by ordinal.
+     *
+     * @return the method table (not copied; callers must not modify it)
+     */
+    Method[] methods() {
+        return methods;
+    }
+
+    /**
+     * Resolve the pattern of every message method for a locale-specific interface.
+     *
+     * <p>A method overridden with {@code @Message} on {@code localeType} takes its
+     * translated pattern; all others keep the default-language pattern.</p>
+     *
+     * @param localeType the locale-specific sub-interface, or the bundle type itself
+     * @return a new array of patterns by ordinal; entries may be {@code null}
+     */
+    String[] patternsFor(Class<?> localeType) {
+        String[] patterns = defaultPatterns.clone();
+        if (localeType == null || localeType == bundleType) return patterns;
+        for (int i = 0; i < methods.length; i++) {
+            Message translated = translatedMessage(localeType, methods[i]);
+            if (translated != null) patterns[i] = translated.value();
+        }
+        return patterns;
+    }
+
+    /**
+     * Returns the {@code @Message} declared for a method on the locale-specific
+     * interface itself (not inherited from the base bundle).
+     *
+     * @param localeType the locale-specific sub-interface
+     * @param method     the base bundle method
+     * @return the translated message annotation, or {@code null} if not translated
+     */
+    static Message translatedMessage(Class<?> localeType, Method method) {
+        try {
+            Method localeMethod = localeType.getMethod(method.getName(), method.getParameterTypes());
+            if (localeMethod.getDeclaringClass() == method.getDeclaringClass()) return null;
+            return localeMethod.getAnnotation(Message.class);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the proxy for a locale ID, creating it on first use when the
+     * locale-specific interface is supplied.
+     *
+     * @param localeId   the interned locale ID, or {@code -1} if the locale could not be
+     *                   interned (the proxy is then created but not cached)
+     * @param locale     the locale the proxy formats with
+     * @param localeType the resolved locale-specific interface, or {@code null} to only
+     *                   look up an existing proxy
+     * @return the bundle proxy, or {@code null} if {@code localeType} is null and no
+     *         proxy exists yet
+     */
+    Object proxy(int localeId, Locale locale, Class<?> localeType) {
+        Object[] table = proxies;
+        if (localeId >= 0 && localeId < table.length && table[localeId] != null) {
+            return table[localeId];
+        }
+        // Lookup only: the caller resolves the locale type on a miss and calls again
+        if (localeType == null) return null;
+        if (localeId < 0) {
+            return MessageBundleProxy.create(bundleType, localeType, locale, this, patternsFor(localeType));
+        }
+        synchronized (this) {
+            table = proxies;
+            if (localeId < table.length && table[localeId] != null) {
+                return table[localeId];
+            }
+            Object proxy = MessageBundleProxy.create(bundleType, localeType, locale, this, patternsFor(localeType));
+            Object[] grown = Arrays.copyOf(table, Math.max(table.length, localeId + 1));
+            grown[localeId] = proxy;
+            proxies = grown;
+            return proxy;
+        }
+    }
+}
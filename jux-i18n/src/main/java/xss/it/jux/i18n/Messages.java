@@ -16,15 +16,13 @@ package xss.it.jux.i18n;
 import xss.it.jux.core.JuxMessages;
 
 import java.text.MessageFormat;
-import java.text.NumberFormat;
 import java.time.*;
-import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
 import java.time.temporal.Temporal;
-import java.util.Currency;
 import java.util.List;
 import java.util.Locale;
 import java.util.MissingResourceException;
+import java.util.Objects;
 import java.util.ResourceBundle;
 
 /**
@@ -43,7 +41,9 @@ import java.util.ResourceBundle;
  *   <li><b>Locale-aware formatting</b> -- {@link #formatDate(LocalDate)},
  *       {@link #formatNumber(Number)}, {@link #formatCurrency(Number, String)},
  *       and {@link #formatRelative(Temporal)} produce properly localized
- *       representations of dates, numbers, currencies, and relative times.</li>
+ *       representations of dates, numbers, currencies, and relative times.
+ *       Formatters and resource bundles are cached per locale in
+ *       {@link LocaleFormats}, so repeated calls do not rebuild them.</li>
  * </ul>
  *
  * <p><b>Per-request locale binding:</b> The {@code jux-server} module sets the
@@ -84,13 +84,26 @@ public class Messages implements JuxMessages {
     /** Configuration properties for the i18n subsystem. */
     private final I18nProperties properties;
 
+    /** Shared per-locale cache of formatters and resolved resource bundles. */
+    private final LocaleFormats formats = LocaleFormats.shared();
+
     /**
      * Per-request locale holder. Set by {@link #setCurrentLocale(Locale)} at the
      * beginning of request processing and cleared by {@link #clearCurrentLocale()}
      * after the response has been sent. Using a {@link ThreadLocal} ensures that
      * concurrent requests on different threads do not interfere with each other.
      */
-    private static final ThreadLocal<Locale> currentLocaleHolder = new ThreadLocal<>();
+    private static final ThreadLocal<BoundLocale> currentLocaleHolder = new ThreadLocal<>();
+
+    /**
+     * A request locale together with its ID in the registry of the instance that
+     * bound it, resolved once per request.
+     *
+     * @param locale   the request locale
+     * @param registry the registry the ID belongs to
+     * @param localeId the locale's ID in {@code registry}
+     */
+    private record BoundLocale(Locale locale, MessageBundleRegistry registry, int localeId) {}
 
     /**
      * Creates a new {@code Messages} instance.
@@ -119,7 +132,11 @@ public class Messages implements JuxMessages {
      * @param locale the locale resolved for the current request; must not be {@code null}
      */
     public void setCurrentLocale(Locale locale) {
-        currentLocaleHolder.set(locale);
+        if (locale == null) {
+            currentLocaleHolder.remove();
+            return;
+        }
+        currentLocaleHolder.set(new BoundLocale(locale, registry, registry.localeId(locale)));
     }
 
     /**
@@ -138,7 +155,9 @@ public class Messages implements JuxMessages {
      *
      * <p>The returned object implements the given {@code bundleType} interface.
      * Calling any of its methods returns the translated, formatted string for
-     * the locale that was bound to this thread via {@link #setCurrentLocale(Locale)}.</p>
+     * the locale that was bound to this thread via {@link #setCurrentLocale(Locale)}.
+     * The locale's index into the bundle tables is resolved once when it is bound,
+     * so this lookup is a catalog lookup plus an array index.</p>
      *
      * <p><b>Example:</b></p>
      * <pre>{@code
@@ -153,6 +172,11 @@ public class Messages implements JuxMessages {
      *         never {@code null}
      */
     public <T> T get(Class<T> bundleType) {
+        BoundLocale bound = currentLocaleHolder.get();
+        if (bound != null && bound.registry() == registry) {
+            // Locale ID resolved once when the request was bound
+            return registry.getBundle(bundleType, bound.locale(), bound.localeId());
+        }
         return registry.getBundle(bundleType, currentLocale());
     }
 
@@ -193,8 +217,11 @@ public class Messages implements JuxMessages {
         if (baseName == null || baseName.isEmpty()) {
             return key;
         }
+        ResourceBundle bundle = formats.bundle(baseName, currentLocale());
+        if (bundle == null) {
+            return key;
+        }
         try {
-            ResourceBundle bundle = ResourceBundle.getBundle(baseName, currentLocale());
             return bundle.getString(key);
         } catch (MissingResourceException e) {
             return key;
@@ -232,8 +259,8 @@ public class Messages implements JuxMessages {
      */
     @Override
     public Locale currentLocale() {
-        Locale locale = currentLocaleHolder.get();
-        return locale != null ? locale : properties.getDefaultLocaleObj();
+        BoundLocale bound = currentLocaleHolder.get();
+        return bound != null ? bound.locale() : properties.getDefaultLocaleObj();
     }
 
     /**
@@ -296,7 +323,7 @@ public class Messages implements JuxMessages {
      */
     public String formatDate(LocalDate date, FormatStyle style) {
         if (date == null) return "";
-        return DateTimeFormatter.ofLocalizedDate(style).withLocale(currentLocale()).format(date);
+        return formats.dateFormatter(style, currentLocale()).format(date);
     }
 
     /**
@@ -315,7 +342,7 @@ public class Messages implements JuxMessages {
      */
     public String formatDate(LocalDateTime dateTime) {
         if (dateTime == null) return "";
-        return DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM).withLocale(currentLocale()).format(dateTime);
+        return formats.dateTimeFormatter(FormatStyle.MEDIUM, currentLocale()).format(dateTime);
     }
 
     /**
@@ -335,7 +362,7 @@ public class Messages implements JuxMessages {
      */
     public String formatNumber(Number number) {
         if (number == null) return "";
-        return NumberFormat.getNumberInstance(currentLocale()).format(number);
+        return formats.formatNumber(number, currentLocale());
     }
 
     /**
@@ -353,10 +380,7 @@ public class Messages implements JuxMessages {
      */
     public String formatNumber(Number number, int decimals) {
         if (number == null) return "";
-        NumberFormat fmt = NumberFormat.getNumberInstance(currentLocale());
-        fmt.setMinimumFractionDigits(decimals);
-        fmt.setMaximumFractionDigits(decimals);
-        return fmt.format(number);
+        return formats.formatNumber(number, decimals, currentLocale());
     }
 
     /**
@@ -377,14 +401,15 @@ public class Messages implements JuxMessages {
      *                     {@code "GBP"})
      * @return the formatted currency string, or an empty string if {@code amount}
      *         is {@code null}
+     * @throws NullPointerException     if {@code amount} is not {@code null} and
+     *                                  {@code currencyCode} is {@code null}
      * @throws IllegalArgumentException if {@code currencyCode} is not a valid
      *                                  ISO 4217 code
      */
     public String formatCurrency(Number amount, String currencyCode) {
         if (amount == null) return "";
-        NumberFormat fmt = NumberFormat.getCurrencyInstance(currentLocale());
-        fmt.setCurrency(Currency.getInstance(currencyCode));
-        return fmt.format(amount);
+        Objects.requireNonNull(currencyCode, "currencyCode");
+        return formats.formatCurrency(amount, currencyCode, currentLocale());
     }
 
     /**
@@ -0,0 +1,101 @@
+package xss.it.jux.i18n;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.FormatStyle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link LocaleFormats} -- the shared per-locale formatter and
+ * resource bundle cache used by {@link Messages} and the template format resolver.
+ */
+class LocaleFormatsTest {
+
+    private final LocaleFormats formats = new LocaleFormats();
+
+    // ── Numbers and currencies ───────────────────────────────────
+
+    @Test
+    void formatNumber_usesLocaleGrouping() {
+        assertThat(formats.formatNumber(1234.5, Locale.US)).isEqualTo("1,234.5");
+        assertThat(formats.formatNumber(1234.5, Locale.GERMANY)).isEqualTo("1.234,5");
+    }
+
+    @Test
+    void formatNumber_withDecimals_doesNotLeakIntoDefaultFormat() {
+        assertThat(formats.formatNumber(1234.5, 2, Locale.US)).isEqualTo("1,234.50");
+        assertThat(formats.formatNumber(1234.5, Locale.US)).isEqualTo("1,234.5");
+    }
+
+    @Test
+    void formatCurrency_usesGivenCurrency() {
+        assertThat(formats.formatCurrency(29.99, "USD", Locale.US)).isEqualTo("$29.99");
+    }
+
+    @Test
+    void formatCurrency_rejectsUnknownCurrencyCode() {
+        assertThatThrownBy(() -> formats.formatCurrency(1, "XYZW", Locale.US))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void formatNumber_isSafeAcrossThreads() {
+        var other = CompletableFuture.supplyAsync(() -> formats.formatNumber(1234.5, 2, Locale.GERMANY)).join();
+
+        assertThat(other).isEqualTo("1.234,50");
+        assertThat(formats.formatNumber(1234.5, 2, Locale.GERMANY)).isEqualTo("1.234,50");
+    }
+
+    @Test
+    void formatNumber_isCorrectUnderConcurrentUse() {
+        List<CompletableFuture<Boolean>> tasks = new ArrayList<>();
+        for (int t = 0; t < LocaleFormats.NUMBER_POOL_SIZE * 4; t++) {
+            int offset = t;
+            tasks.add(CompletableFuture.supplyAsync(() -> {
+                for (int i = 0; i < 500; i++) {
+                    int value = offset * 1000 + i;
+                    if (!formats.formatNumber(value + 0.5, 2, Locale.GERMANY)
+                            .equals(String.format(Locale.GERMANY, "%,.2f", value + 0.5))) {
+                        return false;
+                    }
+                }
+                return true;
+            }));
+        }
+
+        assertThat(tasks.stream().allMatch(CompletableFuture::join)).isTrue();
+    }
+
+    // ── Dates ────────────────────────────────────────────────────
+
+    @Test
+    void dateFormatter_isSharedPerLocaleAndStyle() {
+        assertThat(formats.dateFormatter(FormatStyle.MEDIUM, Locale.US))
+            .isSameAs(formats.dateFormatter(FormatStyle.MEDIUM, Locale.US));
+        assertThat(formats.dateFormatter(FormatStyle.MEDIUM, Locale.US).format(LocalDate.of(2026, 2, 6)))
+            .isEqualTo("Feb 6, 2026");
+    }
+
+    @Test
+    void patternFormatter_isCachedAndValidated() {
+        assertThat(formats.patternFormatter("yyyy-MM-dd", Locale.US))
+            .isSameAs(formats.patternFormatter("yyyy-MM-dd", Locale.US));
+        assertThatThrownBy(() -> formats.patternFormatter("qqqqqqq", Locale.US))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ── Resource bundles ─────────────────────────────────────────
+
+    @Test
+    void bundle_returnsNull_forMissingBaseName() {
+        assertThat(formats.bundle("does.not.exist", Locale.US)).isNull();
+        assertThat(formats.bundle("does.not.exist", Locale.US)).isNull();
+    }
+}
@@ -0,0 +1,123 @@
+package xss.it.jux.i18n;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link LocaleMatcher} -- the precomputed supported-locale set and
+ * the bounded {@code Accept-Language} result cache used by {@link JuxLocaleResolver}.
+ */
+class LocaleMatcherTest {
+
+    private static LocaleMatcher matcher(String... locales) {
+        I18nProperties props = new I18nProperties();
+        props.setLocales(List.of(locales));
+        return new LocaleMatcher(props);
+    }
+
+    // ── isSupported ──────────────────────────────────────────────
+
+    @Test
+    void isSupported_matchesOnLanguageOnly() {
+        LocaleMatcher matcher = matcher("en", "es");
+
+        assertThat(matcher.isSupported(Locale.forLanguageTag("en-US"))).isTrue();
+        assertThat(matcher.isSupported(Locale.forLanguageTag("es"))).isTrue();
+        assertThat(matcher.isSupported(Locale.forLanguageTag("fr"))).isFalse();
+        assertThat(matcher.isSupported(null)).isFalse();
+    }
+
+    @Test
+    void defaultLocale_isParsedFromProperties() {
+        assertThat(matcher("en").defaultLocale()).isEqualTo(Locale.forLanguageTag("en"));
+    }
+
+    // ── match ────────────────────────────────────────────────────
+
+    @Test
+    void match_returnsFirstSupportedInOrder() {
+        LocaleMatcher matcher = matcher("en", "fr");
+        List<Locale> accepted = List.of(Locale.forLanguageTag("de"), Locale.forLanguageTag("fr-CH"),
+            Locale.forLanguageTag("en"));
+
+        assertThat(matcher.match(accepted)).isEqualTo(Locale.forLanguageTag("fr-CH"));
+    }
+
+    @Test
+    void match_returnsNull_whenNothingIsSupported() {
+        assertThat(matcher("en").match(List.of(Locale.forLanguageTag("ja")))).isNull();
+    }
+
+    // ── matchAcceptLanguage ──────────────────────────────────────
+
+    @Test
+    void matchAcceptLanguage_parsesEachDistinctHeaderOnce() {
+        LocaleMatcher matcher = matcher("en", "es");
+        AtomicInteger parses = new AtomicInteger();
+        String header = "es-MX, es;q=0.9, en;q=0.8";
+
+        for (int i = 0; i < 3; i++) {
+            Locale resolved = matcher.matchAcceptLanguage(header, () -> {
+                parses.incrementAndGet();
+                return List.of(Locale.forLanguageTag("es-MX"), Locale.forLanguageTag("es"));
+            });
+            assertThat(resolved).isEqualTo(Locale.forLanguageTag("es-MX"));
+        }
+        assertThat(parses).hasValue(1);
+    }
+
+    @Test
+    void matchAcceptLanguage_cachesMisses() {
+        LocaleMatcher matcher = matcher("en");
+        AtomicInteger parses = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(matcher.matchAcceptLanguage("ja", () -> {
+                parses.incrementAndGet();
+                return List.of(Locale.forLanguageTag("ja"));
+            })).isNull();
+        }
+        assertThat(parses).hasValue(1);
+    }
+
+    @Test
+    void matchAcceptLanguage_isBounded() {
+        LocaleMatcher matcher = matcher("en");
+
+        for (int i = 0; i < LocaleMatcher.ACCEPT_LANGUAGE_CACHE_SIZE + 50; i++) {
+            matcher.matchAcceptLanguage("x-" + i, List::of);
+        }
+        assertThat(matcher.cachedHeaderCount()).isEqualTo(LocaleMatcher.ACCEPT_LANGUAGE_CACHE_SIZE);
+    }
+
+    @Test
+    void matchAcceptLanguage_staysBounded_underConcurrentMisses() throws InterruptedException {
+        LocaleMatcher matcher = matcher("en");
+        int threads = 4;
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int offset = t * 10_000;
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < LocaleMatcher.ACCEPT_LANGUAGE_CACHE_SIZE * 2; i++) {
+                    assertThat(matcher.matchAcceptLanguage("en-x-" + (offset + i),
+                        () -> List.of(Locale.ENGLISH))).isEqualTo(Locale.ENGLISH);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) worker.join();
+
+        assertThat(matcher.cachedHeaderCount())
+            .isLessThanOrEqualTo(LocaleMatcher.ACCEPT_LANGUAGE_CACHE_SIZE + threads);
+    }
+
+    @Test
+    void matchAcceptLanguage_returnsNull_forBlankHeader() {
+        assertThat(matcher("en").matchAcceptLanguage(" ", List::of)).isNull();
+    }
+}
@@ -0,0 +1,123 @@
+package xss.it.jux.i18n;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import xss.it.jux.annotation.Message;
+import xss.it.jux.annotation.MessageBundle;
+import xss.it.jux.annotation.MessageLocale;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MessageBundleRegistry} -- compiled catalogs, locale-indexed
+ * proxy reuse, and the startup translation coverage report.
+ */
+class MessageBundleRegistryTest {
+
+    private I18nProperties properties;
+    private MessageBundleRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new I18nProperties();
+        properties.setDefaultLocale("en");
+        properties.setLocales(List.of("en", "es", "fr"));
+        registry = new MessageBundleRegistry(properties);
+        registry.registerBundle(Greetings.class);
+        registry.registerLocaleBundle(GreetingsEs.class);
+    }
+
+    @MessageBundle
+    interface Greetings {
+        @Message("Hello")
+        String hello();
+
+        @Message("Bye, {0}")
+        String bye(String name);
+
+        @Message("{0} items")
+        String items(int count);
+    }
+
+    @MessageBundle
+    @MessageLocale("es")
+    interface GreetingsEs extends Greetings {
+        @Override
+        @Message("Hola")
+        String hello();
+
+        @Override
+        @Message("Adios, {0}")
+        String bye(String name);
+    }
+
+    // ── getBundle ────────────────────────────────────────────────
+
+    @Test
+    void getBundle_returnsSameProxy_forRepeatedLocale() {
+        Greetings first = registry.getBundle(Greetings.class, Locale.forLanguageTag("es"));
+        Greetings second = registry.getBundle(Greetings.class, Locale.forLanguageTag("es"));
+
+        assertThat(first).isSameAs(second);
+    }
+
+    @Test
+    void getBundle_resolvesTranslatedAndFallbackMessages() {
+        Greetings es = registry.getBundle(Greetings.class, Locale.forLanguageTag("es"));
+
+        assertThat(es.hello()).isEqualTo("Hola");
+        assertThat(es.bye("Ana")).isEqualTo("Adios, Ana");
+        assertThat(es.items(3)).isEqualTo("3 items");
+    }
+
+    @Test
+    void getBundle_keepsLocalesApart() {
+        Greetings en = registry.getBundle(Greetings.class, Locale.ENGLISH);
+        Greetings es = registry.getBundle(Greetings.class, Locale.forLanguageTag("es"));
+
+        assertThat(en).isNotSameAs(es);
+        assertThat(en.hello()).isEqualTo("Hello");
+        assertThat(es.hello()).isEqualTo("Hola");
+    }
+
+    @Test
+    void getBundle_reusesCachedFormat_acrossCalls() {
+        Greetings es = registry.getBundle(Greetings.class, Locale.forLanguageTag("es"));
+
+        assertThat(es.bye("Ana")).isEqualTo("Adios, Ana");
+        assertThat(es.bye("Luis")).isEqualTo("Adios, Luis");
+    }
+
+    // ── validate ─────────────────────────────────────────────────
+
+    @Test
+    void validate_reportsPartiallyTranslatedLocale() {
+        List<MessageBundleRegistry.MissingTranslations> report = registry.validate();
+
+        assertThat(report)
+            .filteredOn(m -> m.locale().equals("es"))
+            .singleElement()
+            .satisfies(m -> {
+                assertThat(m.bundleType()).isEqualTo(Greetings.class);
+                assertThat(m.methods()).containsExactly("items");
+            });
+    }
+
+    @Test
+    void validate_reportsAllMethods_forLocaleWithoutInterface() {
+        List<MessageBundleRegistry.MissingTranslations> report = registry.validate();
+
+        assertThat(report)
+            .filteredOn(m -> m.locale().equals("fr"))
+            .singleElement()
+            .satisfies(m -> assertThat(m.methods()).containsExactlyInAnyOrder("hello", "bye", "items"));
+    }
+
+    @Test
+    void validate_skipsDefaultLocale() {
+        assertThat(registry.validate()).noneMatch(m -> m.locale().equals("en"));
+    }
+}
@@ -16,6 +16,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 /**
  * Tests for {@link Messages} -- the central i18n service.
@@ -179,6 +180,12 @@ class MessagesTest {
         assertThat(messages.formatCurrency(null, "USD")).isEmpty();
     }
 
+    @Test
+    void formatCurrency_throwsNpe_forNullCurrencyCode() {
+        messages.setCurrentLocale(Locale.US);
+        assertThatNullPointerException().isThrownBy(() -> messages.formatCurrency(29.99, null));
+    }
+
     // ── formatRelative ───────────────────────────────────────────
 
     @Test
@@ -347,4 +354,40 @@ class MessagesTest {
         // Falls back to the base bundle (English)
         assertThat(t.hello()).isEqualTo("Hello World");
     }
+
+    @Test
+    void get_returnsSameProxy_asRegistryLookup_forBoundLocale() {
+        registry.registerBundle(TestMessages.class);
+        registry.registerLocaleBundle(TestMessagesEs.class);
+        Locale spanish = Locale.forLanguageTag("es");
+
+        messages.setCurrentLocale(spanish);
+
+        assertThat(messages.get(TestMessages.class))
+            .isSameAs(registry.getBundle(TestMessages.class, spanish));
+    }
+
+    @Test
+    void get_ignoresLocaleBoundByInstanceWithOtherRegistry() {
+        registry.registerBundle(TestMessages.class);
+        registry.registerLocaleBundle(TestMessagesEs.class);
+        MessageBundleRegistry otherRegistry = new MessageBundleRegistry(properties);
+        otherRegistry.getBundle(TestMessages.class, Locale.ENGLISH);
+        Messages other = new Messages(otherRegistry, properties);
+
+        registry.getBundle(TestMessages.class, Locale.forLanguageTag("es"));
+        registry.getBundle(TestMessages.class, Locale.ENGLISH);
+
+        // "es" is ID 1 in the other registry but ID 0 here; ID 1 here is English
+        other.setCurrentLocale(Locale.forLanguageTag("es"));
+
+        assertThat(messages.get(TestMessages.class).hello()).isEqualTo("Hola Mundo");
+    }
+
+    @Test
+    void setCurrentLocale_null_resetsToDefault() {
+        messages.setCurrentLocale(Locale.FRENCH);
+        messages.setCurrentLocale(null);
+        assertThat(messages.currentLocale().getLanguage()).isEqualTo("en");
+    }
 }
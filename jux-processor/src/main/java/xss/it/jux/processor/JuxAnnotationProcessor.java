@@ -14,10 +14,18 @@
 package xss.it.jux.processor;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintWriter;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.processing.AbstractProcessor;
@@ -26,24 +34,33 @@ import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
+import javax.tools.FileObject;
 import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import xss.it.jux.html.CompiledTemplate;
+import xss.it.jux.html.HtmlStreamParser;
+import xss.it.jux.html.TemplateException;
 
 /**
  * Compile-time annotation processor for the JUX framework.
  *
- * <p>This processor runs during the Java compilation phase and performs two major tasks:</p>
+ * <p>This processor runs during the Java compilation phase and performs five major tasks:</p>
  *
  * <ol>
  *   <li><b>{@code @Route} validation</b> -- Ensures that every class annotated with
@@ -59,6 +76,11 @@ import javax.tools.JavaFileObject;
  *         <li>{@code @PathParam} field types are among the supported JUX type coercion targets.</li>
  *       </ul>
  *   </li>
+ *   <li><b>{@code @Route} URL builder generation</b> -- For every route with a valid path,
+ *       generates a {@code <ClassName>Url} class whose static {@code of(...)} method takes
+ *       the path variables as typed parameters in pattern order and concatenates them with
+ *       the pattern's literal segments. Reverse routing through the generated builder needs
+ *       no route lookup, no parameter map, and no pattern parsing at run time.</li>
  *   <li><b>{@code @MessageBundle} validation and code generation</b> -- Ensures that every
  *       interface annotated with {@link xss.it.jux.annotation.MessageBundle} is structurally
  *       correct, and generates concrete implementation classes:
@@ -71,6 +93,27 @@ import javax.tools.JavaFileObject;
  *             format the message strings with the method parameters.</li>
  *       </ul>
  *   </li>
+ *   <li><b>{@code @Html} template compilation</b> -- For every component annotated with
+ *       {@code xss.it.jux.html.annotation.Html} whose template can be read at compile time,
+ *       parses the template once with {@code HtmlStreamParser} and generates a
+ *       {@code <ClassName>Template} class implementing {@code CompiledTemplate}, which builds
+ *       the Element tree directly and assigns non-private {@code @HtmlId} / {@code @Slot}
+ *       fields without reflection (see {@link TemplateCompiler}). Malformed templates and
+ *       {@code @HtmlId} / {@code @Slot} ids missing from the template are compile errors.
+ *       Templates are looked up in the directory given by the {@code -Ajux.templates=<dir>}
+ *       option (the {@code templates/} resource folder), then on the source path and class
+ *       path; components whose template is not found keep parsing it at run time. The
+ *       generated class records a hash of the template source, so {@code HtmlLoader} can
+ *       detect a template that was edited without recompiling the component.</li>
+ *   <li><b>Client-side state transfer</b> -- For every
+ *       {@code @JuxComponent(clientSide = true)} class with {@code @State} fields, generates
+ *       a {@code <ClassName>State} class whose static {@code save} and {@code restore}
+ *       methods copy those fields to and from a {@code ComponentState} by name (see
+ *       {@link StateCompiler}). The component's {@code saveState} / {@code restoreState}
+ *       overrides delegate to it, so the server's state reaches the client without
+ *       reflection, which TeaVM does not support. Private fields cannot be read from the
+ *       generated class and are left out with a note; fields of unsupported types are
+ *       left out with a warning.</li>
  * </ol>
  *
  * <h3>Error reporting</h3>
@@ -90,8 +133,11 @@ import javax.tools.JavaFileObject;
  */
 @SupportedAnnotationTypes({
         "xss.it.jux.annotation.Route",
-        "xss.it.jux.annotation.MessageBundle"
+        "xss.it.jux.annotation.MessageBundle",
+        "xss.it.jux.annotation.JuxComponent",
+        "xss.it.jux.html.annotation.Html"
 })
+@SupportedOptions(JuxAnnotationProcessor.TEMPLATES_OPTION)
 @SupportedSourceVersion(SourceVersion.RELEASE_25)
 public class JuxAnnotationProcessor extends AbstractProcessor {
 
@@ -114,6 +160,27 @@ public class JuxAnnotationProcessor extends AbstractProcessor {
     /** Fully-qualified name of the {@code @MessageLocale} annotation. */
     private static final String MESSAGE_LOCALE_ANNOTATION = "xss.it.jux.annotation.MessageLocale";
 
+    /** Fully-qualified name of the {@code @JuxComponent} annotation. */
+    private static final String JUX_COMPONENT_ANNOTATION = "xss.it.jux.annotation.JuxComponent";
+
+    /** Fully-qualified name of the {@code @State} field annotation. */
+    private static final String STATE_ANNOTATION = "xss.it.jux.annotation.State";
+
+    /** Fully-qualified name of the {@code @Html} template annotation. */
+    private static final String HTML_ANNOTATION = "xss.it.jux.html.annotation.Html";
+
+    /** Fully-qualified name of the {@code @HtmlId} field annotation. */
+    private static final String HTML_ID_ANNOTATION = "xss.it.jux.html.annotation.HtmlId";
+
+    /** Fully-qualified name of the {@code @Slot} field annotation. */
+    private static final String SLOT_ANNOTATION = "xss.it.jux.html.annotation.Slot";
+
+    /** Processor option naming the directory that holds {@code @Html} templates. */
+    static final String TEMPLATES_OPTION = "jux.templates";
+
+    /** Classpath folder from which {@code HtmlLoader} reads templates at run time. */
+    private static final String TEMPLATES_DIR = "templates/";
+
     /** Fully-qualified name of the {@code Component} base class. */
     private static final String COMPONENT_CLASS = "xss.it.jux.core.Component";
 
@@ -163,6 +230,10 @@ public class JuxAnnotationProcessor extends AbstractProcessor {
      *   <li>Processes all {@code @Route}-annotated elements via {@link #processRoutes}.</li>
      *   <li>Processes all {@code @MessageBundle}-annotated elements via
      *       {@link #processMessageBundles}.</li>
+     *   <li>Compiles the templates of all {@code @Html}-annotated components via
+     *       {@link #processHtmlTemplates}.</li>
+     *   <li>Generates the state transfer of all client-side {@code @JuxComponent}s via
+     *       {@link #processClientComponents}.</li>
      * </ol>
      *
      * <p>Returns {@code false} to allow other processors to also handle these annotations
@@ -186,6 +257,12 @@ public class JuxAnnotationProcessor extends AbstractProcessor {
         // Process @MessageBundle annotations.
         processMessageBundles(roundEnv);
 
+        // Compile @Html templates.
+        processHtmlTemplates(roundEnv);
+
+        // Generate @State transfer for client-side components.
+        processClientComponents(roundEnv);
+
         // Return false: don't claim the annotations exclusively. Other processors (e.g.
         // Spring's own processors) may also need to see @Route-annotated classes.
         return false;
@@ -207,6 +284,7 @@ public class JuxAnnotationProcessor extends AbstractProcessor {
      *   <li>Validates that at least one HTTP method is specified.</li>
      *   <li>Collects all {@code @PathParam}-annotated fields and validates that they
      *       match the route pattern variables and use supported types.</li>
+     *   <li>Generates a {@code <ClassName>Url} builder for routes with a valid path.</li>
      * </ol>
      *
      * @param roundEnv the current round environment
@@ -236,10 +314,15 @@ public class JuxAnnotationProcessor extends AbstractProcessor {
             // -- Check 2: Validate the route path --
             String routePath = extractRoutePath(classElement);
             if (routePath != null) {
-                validateRoutePath(routePath, classElement);
+                boolean validPath = validateRoutePath(routePath, classElement);
 
                 // -- Check 3: Validate @PathParam fields match route variables --
                 validatePathParams(routePath, classElement);
+
+                // -- Generate the type-safe URL builder for valid paths --
+                if (validPath) {
+                    generateRouteUrlBuilder(routePath, classElement);
+                }
             }
 
             // -- Check 4: Validate HTTP methods are specified --
@@ -320,13 +403,15 @@ public class JuxAnnotationProcessor extends AbstractProcessor {
      *
      * @param routePath    the route path string to validate
      * @param classElement the class element (for error reporting location)
+     * @return {@code true} if the path is valid, {@code false} if any error was reported
      */
-    private void validateRoutePath(String routePath, TypeElement classElement) {
+    private boolean validateRoutePath(String routePath, TypeElement classElement) {
         List<String> errors = RouteValidator.validatePath(routePath);
         for (String validationError : errors) {
             error("Invalid route path on '" + classElement.getSimpleName() + "': "
                     + validationError, classElement);
         }
+        return errors.isEmpty();
     }
 
     /**
@@ -517,6 +602,281 @@ public class JuxAnnotationProcessor extends AbstractProcessor {
         return typeElement != null && typeElement.getKind() == ElementKind.ENUM;
     }
 
+    /**
+     * Generates a type-safe URL builder for a {@code @Route} class.
+     *
+     * <p>The generated class:</p>
+     * <ul>
+     *   <li>Is placed in the same package as the route class.</li>
+     *   <li>Is named {@code <ClassName>Url} (e.g. {@code BlogPostPageUrl}); nested route
+     *       classes are prefixed with their enclosing class names ({@code Outer_InnerUrl}).</li>
+     *   <li>Exposes the route pattern as the {@code PATTERN} constant.</li>
+     *   <li>Declares a static {@code of(...)} method with one parameter per path variable in
+     *       pattern order. The parameter type is taken from the matching {@code @PathParam}
+     *       field, then from the pattern's type hint, and defaults to {@code String}. The
+     *       {@code **} wildcard becomes a {@code String rest} parameter.</li>
+     * </ul>
+     *
+     * <p>The method body appends the precomputed literal segments and the parameter values into
+     * a {@link StringBuilder} sized exactly to the result. Null values expand like missing ones
+     * in {@code JuxRouter}: an empty string for a variable and {@code **} for the wildcard.</p>
+     *
+     * @param routePath    the validated route path pattern
+     * @param classElement the {@code @Route} class
+     */
+    private void generateRouteUrlBuilder(String routePath, TypeElement classElement) {
+        String packageName = elementUtils.getPackageOf(classElement).getQualifiedName().toString();
+        String builderName = flatName(classElement) + "Url";
+        String qualifiedBuilderName = packageName.isEmpty()
+                ? builderName
+                : packageName + "." + builderName;
+
+        // Split the pattern into literals (always one more than variables) and variable names/types.
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        List<String> hints = new ArrayList<>();
+        splitRoutePath(routePath, literals, variables, hints);
+
+        Map<String, String> fieldTypes = pathParamFieldTypes(classElement);
+
+        try {
+            JavaFileObject sourceFile = filer.createSourceFile(qualifiedBuilderName, classElement);
+
+            try (PrintWriter writer = new PrintWriter(sourceFile.openWriter())) {
+                if (!packageName.isEmpty()) {
+                    writer.println("package " + packageName + ";");
+                    writer.println();
+                }
+
+                writer.println("/**");
+                writer.println(" * Auto-generated type-safe URL builder for {@link "
+                        + classElement.getQualifiedName() + "}.");
+                writer.println(" *");
+                writer.println(" * <p>Generated by {@code JuxAnnotationProcessor} at compile time.");
+                writer.println(" * Do not edit manually -- changes will be overwritten on next build.</p>");
+                writer.println(" */");
+                writer.println("public final class " + builderName + " {");
+                writer.println();
+                writer.println("    /** The route pattern this builder was generated from. */");
+                writer.println("    public static final String PATTERN = \"" + escapeJava(routePath) + "\";");
+                writer.println();
+                writer.println("    private " + builderName + "() {");
+                writer.println("    }");
+                writer.println();
+
+                // Method Javadoc and signature.
+                writer.println("    /**");
+                writer.println("     * Build the URL of this route.");
+                writer.println("     *");
+                List<String> paramNames = new ArrayList<>();
+                List<String> paramTypes = new ArrayList<>();
+                for (int i = 0; i < variables.size(); i++) {
+                    String variable = variables.get(i);
+                    boolean wildcard = "**".equals(variable);
+                    String paramName = wildcard ? "rest" : javaIdentifier(variable);
+                    String paramType = wildcard
+                            ? "String"
+                            : fieldTypes.getOrDefault(variable, javaTypeForHint(hints.get(i)));
+                    paramNames.add(paramName);
+                    paramTypes.add(paramType);
+                    writer.println("     * @param " + paramName + " the value of the {@code "
+                            + (wildcard ? "**" : "{" + variable + "}") + "} path segment");
+                }
+                writer.println("     * @return the expanded URL");
+                writer.println("     */");
+
+                StringBuilder signature = new StringBuilder("    public static String of(");
+                for (int i = 0; i < paramNames.size(); i++) {
+                    if (i > 0) signature.append(", ");
+                    signature.append(paramTypes.get(i)).append(' ').append(paramNames.get(i));
+                }
+                signature.append(") {");
+                writer.println(signature);
+
+                if (variables.isEmpty()) {
+                    writer.println("        return PATTERN;");
+                } else {
+                    // Convert each value once, then size the builder exactly.
+                    int literalLength = 0;
+                    for (String literal : literals) {
+                        literalLength += literal.length();
+                    }
+                    StringBuilder size = new StringBuilder().append(literalLength);
+                    for (int i = 0; i < paramNames.size(); i++) {
+                        String name = paramNames.get(i);
+                        String missing = "**".equals(variables.get(i)) ? "\"**\"" : "\"\"";
+                        String conversion = isPrimitiveTypeName(paramTypes.get(i))
+                                ? "String.valueOf(" + name + ")"
+                                : name + " == null ? " + missing + " : " + name + ".toString()";
+                        writer.println("        String v" + i + " = " + conversion + ";");
+                        size.append(" + v").append(i).append(".length()");
+                    }
+                    StringBuilder body = new StringBuilder("        return new StringBuilder(")
+                            .append(size).append(')');
+                    for (int i = 0; i < literals.size(); i++) {
+                        if (!literals.get(i).isEmpty()) {
+                            body.append(".append(\"").append(escapeJava(literals.get(i))).append("\")");
+                        }
+                        if (i < paramNames.size()) {
+                            body.append(".append(v").append(i).append(')');
+                        }
+                    }
+                    body.append(".toString();");
+                    writer.println(body);
+                }
+                writer.println("    }");
+                writer.println("}");
+            }
+
+            note("Generated route URL builder: " + qualifiedBuilderName);
+
+        } catch (IOException e) {
+            error("Failed to generate URL builder for @Route '"
+                    + classElement.getQualifiedName() + "': " + e.getMessage(), classElement);
+        }
+    }
+
+    /**
+     * Splits a route pattern into its literal segments and variables.
+     *
+     * <p>On return, {@code literals} holds exactly one more entry than {@code variables}:
+     * the text before the first variable, between each pair, and after the last. Type hints
+     * are collected into {@code hints} (empty string when absent); the wildcard {@code **}
+     * is recorded as a variable named {@code "**"}.</p>
+     *
+     * @param path      the validated route path pattern
+     * @param literals  receives the literal segments
+     * @param variables receives the variable names in pattern order
+     * @param hints     receives the type hint of each variable
+     */
+    private static void splitRoutePath(String path, List<String> literals,
+                                       List<String> variables, List<String> hints) {
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < path.length()) {
+            char c = path.charAt(i);
+            if (c == '{') {
+                // Find the matching closing brace, allowing nested braces in regex constraints
+                int depth = 1;
+                int j = i + 1;
+                while (j < path.length() && depth > 0) {
+                    char d = path.charAt(j);
+                    if (d == '{') depth++;
+                    else if (d == '}') depth--;
+                    j++;
+                }
+                String varDef = path.substring(i + 1, depth == 0 ? j - 1 : j);
+                int colon = varDef.indexOf(':');
+                literals.add(literal.toString());
+                literal.setLength(0);
+                variables.add(colon >= 0 ? varDef.substring(0, colon) : varDef);
+                hints.add(colon >= 0 ? varDef.substring(colon + 1) : "");
+                i = j;
+            } else if (c == '*' && path.startsWith("**", i)) {
+                literals.add(literal.toString());
+                literal.setLength(0);
+                variables.add("**");
+                hints.add("");
+                i += 2;
+            } else {
+                literal.append(c);
+                i++;
+            }
+        }
+        literals.add(literal.toString());
+    }
+
+    /**
+     * Collects the declared types of the class's {@code @PathParam} fields, keyed by
+     * the effective param name.
+     *
+     * @param classElement the route class
+     * @return a map from path variable name to the field's source type name
+     */
+    private Map<String, String> pathParamFieldTypes(TypeElement classElement) {
+        Map<String, String> types = new HashMap<>();
+        for (Element enclosed : classElement.getEnclosedElements()) {
+            if (enclosed.getKind() != ElementKind.FIELD) {
+                continue;
+            }
+            VariableElement field = (VariableElement) enclosed;
+            String paramName = extractPathParamName(field);
+            if (paramName != null) {
+                types.put(paramName, field.asType().toString());
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Maps a route pattern type hint to the Java type used for the generated builder parameter.
+     *
+     * @param hint the type hint after the colon (e.g. {@code "long"}), or an empty string
+     * @return the Java source type name; {@code String} for untyped, regex and enum hints
+     */
+    private static String javaTypeForHint(String hint) {
+        return switch (hint) {
+            case "long" -> "long";
+            case "int" -> "int";
+            case "double" -> "double";
+            case "bool" -> "boolean";
+            case "uuid" -> "java.util.UUID";
+            case "date" -> "java.time.LocalDate";
+            default -> "String";
+        };
+    }
+
+    /**
+     * Whether a source type name denotes a primitive, which can never be null.
+     *
+     * @param typeName the source type name
+     * @return {@code true} for {@code long}, {@code int}, {@code double} and {@code boolean}
+     */
+    private static boolean isPrimitiveTypeName(String typeName) {
+        return switch (typeName) {
+            case "long", "int", "double", "boolean" -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Returns a usable Java parameter name for a path variable, suffixing an underscore
+     * to names that collide with Java keywords (e.g. {@code {class}}).
+     *
+     * @param name the path variable name
+     * @return a valid Java identifier
+     */
+    private static String javaIdentifier(String name) {
+        return SourceVersion.isKeyword(name) ? name + "_" : name;
+    }
+
+    /**
+     * Builds the flattened simple name of a possibly nested class, joining enclosing
+     * class names with underscores (e.g. {@code Pages_AboutPage}).
+     *
+     * @param classElement the class element
+     * @return the flattened name
+     */
+    private static String flatName(TypeElement classElement) {
+        StringBuilder name = new StringBuilder(classElement.getSimpleName());
+        Element enclosing = classElement.getEnclosingElement();
+        while (enclosing instanceof TypeElement outer) {
+            name.insert(0, outer.getSimpleName() + "_");
+            enclosing = outer.getEnclosingElement();
+        }
+        return name.toString();
+    }
+
+    /**
+     * Escapes a string for use inside a Java string literal.
+     *
+     * @param value the raw value
+     * @return the escaped value
+     */
+    private static String escapeJava(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
     // ═════════════════════════════════════════════════════════════════════════════
     //  @MessageBundle Processing
     // ═════════════════════════════════════════════════════════════════════════════
@@ -835,10 +1195,424 @@ public class JuxAnnotationProcessor extends AbstractProcessor {
         writer.println();
     }
 
+    // ═════════════════════════════════════════════════════════════════════════════
+    //  @Html Template Compilation
+    // ═════════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Processes all classes annotated with {@code @Html}.
+     *
+     * <p>For each annotated class, this method:</p>
+     * <ol>
+     *   <li>Reads the template path from the annotation and loads the template source
+     *       (see {@link #readTemplate}). Missing templates are skipped with a note.</li>
+     *   <li>Parses the template with {@code HtmlStreamParser}, as {@code HtmlLoader} does at
+     *       run time; parse errors fail the build.</li>
+     *   <li>Collects the {@code @HtmlId} / {@code @Slot} fields of the class and its
+     *       superclasses and verifies that every target id exists in the template.</li>
+     *   <li>Generates the {@code <ClassName>Template} class via {@link TemplateCompiler}.</li>
+     * </ol>
+     *
+     * <p>If {@code jux-html} is not on the compile classpath the annotation type cannot be
+     * resolved and this method does nothing.</p>
+     *
+     * @param roundEnv the current round environment
+     */
+    private void processHtmlTemplates(RoundEnvironment roundEnv) {
+        TypeElement htmlAnnotationType = elementUtils.getTypeElement(HTML_ANNOTATION);
+        if (htmlAnnotationType == null) {
+            return;
+        }
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(htmlAnnotationType)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                continue;
+            }
+            TypeElement classElement = (TypeElement) element;
+
+            String templatePath = annotationValue(classElement, HTML_ANNOTATION);
+            if (templatePath == null || templatePath.isBlank()) {
+                // HtmlLoader reports the empty path at run time
+                continue;
+            }
+
+            // Generated code must be able to name and cast to the component
+            if (!isAccessibleFromPackage(classElement)) {
+                note("Template for '" + classElement.getQualifiedName()
+                        + "' not compiled: the class is private.");
+                continue;
+            }
+
+            String source = readTemplate(templatePath, classElement);
+            if (source == null) {
+                note("Template '" + templatePath + "' for '" + classElement.getQualifiedName()
+                        + "' not found at compile time; it will be parsed at run time.");
+                continue;
+            }
+
+            xss.it.jux.core.Element root;
+            long sourceHash;
+            try {
+                root = HtmlStreamParser.parse(new StringReader(source), templatePath);
+                sourceHash = CompiledTemplate.hash(new StringReader(source));
+            } catch (TemplateException | IOException e) {
+                error("Invalid @Html template: " + e.getMessage(), classElement);
+                continue;
+            }
+
+            List<TemplateCompiler.Binding> bindings = new ArrayList<>();
+            boolean bindable = collectTemplateBindings(classElement, bindings);
+
+            Map<String, xss.it.jux.core.Element> ids = TemplateCompiler.indexById(root);
+            boolean complete = true;
+            for (TemplateCompiler.Binding binding : bindings) {
+                if (!ids.containsKey(binding.elementId())) {
+                    error("No element with id=\"" + binding.elementId() + "\" found in template '"
+                            + templatePath + "' for field '" + binding.fieldName() + "' in '"
+                            + classElement.getQualifiedName() + "'.", classElement);
+                    complete = false;
+                }
+            }
+            if (complete) {
+                generateCompiledTemplate(classElement, templatePath, sourceHash, root,
+                        bindable ? bindings : null);
+            }
+        }
+    }
+
+    /**
+     * Collects the {@code @HtmlId} and {@code @Slot} fields of a component class and its
+     * superclasses.
+     *
+     * @param classElement the {@code @Html} component class
+     * @param bindings     receives one binding per annotated field
+     * @return {@code true} if every field can be assigned from generated code in the
+     *         component's package (not private, static, or final, and declared in the same
+     *         package or public)
+     */
+    private boolean collectTemplateBindings(TypeElement classElement,
+                                            List<TemplateCompiler.Binding> bindings) {
+        String packageName = elementUtils.getPackageOf(classElement).getQualifiedName().toString();
+        Set<String> boundFields = new LinkedHashSet<>();
+        boolean bindable = true;
+
+        TypeElement current = classElement;
+        while (current != null && !"java.lang.Object".equals(current.getQualifiedName().toString())) {
+            String currentPackage = elementUtils.getPackageOf(current).getQualifiedName().toString();
+            for (Element enclosed : current.getEnclosedElements()) {
+                if (enclosed.getKind() != ElementKind.FIELD) {
+                    continue;
+                }
+                String fieldName = enclosed.getSimpleName().toString();
+                String elementId;
+                if (hasAnnotation(enclosed, HTML_ID_ANNOTATION)) {
+                    elementId = annotationValue(enclosed, HTML_ID_ANNOTATION);
+                    if (elementId == null || elementId.isEmpty()) {
+                        elementId = fieldName;
+                    }
+                } else if (hasAnnotation(enclosed, SLOT_ANNOTATION)) {
+                    elementId = annotationValue(enclosed, SLOT_ANNOTATION);
+                    if (elementId == null) {
+                        // @Slot's default value, as HtmlLoader resolves it at run time
+                        elementId = "default";
+                    }
+                } else {
+                    continue;
+                }
+
+                Set<Modifier> modifiers = enclosed.getModifiers();
+                boolean visible = modifiers.contains(Modifier.PUBLIC) || currentPackage.equals(packageName);
+                // A field hidden by a subclass field of the same name cannot be assigned by name
+                if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC)
+                        || modifiers.contains(Modifier.FINAL) || !visible || !boundFields.add(fieldName)) {
+                    bindable = false;
+                }
+                bindings.add(new TemplateCompiler.Binding(fieldName, elementId));
+            }
+
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED
+                    ? (TypeElement) typeUtils.asElement(superclass)
+                    : null;
+        }
+        return bindable;
+    }
+
+    /**
+     * Whether generated code in the class's own package can refer to it, i.e. neither the
+     * class nor any enclosing class is private.
+     *
+     * @param classElement the class
+     * @return {@code true} if the class can be named from its package
+     */
+    private static boolean isAccessibleFromPackage(TypeElement classElement) {
+        Element current = classElement;
+        while (current instanceof TypeElement type) {
+            if (type.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            current = type.getEnclosingElement();
+        }
+        return true;
+    }
+
+    /**
+     * Reads a template's source at compile time.
+     *
+     * <p>Looks in the directory given by the {@value #TEMPLATES_OPTION} processor option
+     * first, then under {@code templates/} on the source path and the class path. The source
+     * is decoded as UTF-8 and returned unchanged, exactly as {@code HtmlLoader} reads it, so
+     * both the compiled tree and the source hash match the run-time template.</p>
+     *
+     * @param templatePath the path declared in {@code @Html}
+     * @param classElement the component, for error reporting
+     * @return the template source, or {@code null} if it cannot be found
+     */
+    private String readTemplate(String templatePath, TypeElement classElement) {
+        String templatesDir = processingEnv.getOptions().get(TEMPLATES_OPTION);
+        if (templatesDir != null && !templatesDir.isBlank()) {
+            Path file = Path.of(templatesDir).resolve(templatePath);
+            if (Files.isRegularFile(file)) {
+                try {
+                    return Files.readString(file, StandardCharsets.UTF_8);
+                } catch (IOException e) {
+                    warning("Could not read template '" + file + "': " + e.getMessage(), classElement);
+                    return null;
+                }
+            }
+        }
+
+        for (StandardLocation location : List.of(StandardLocation.SOURCE_PATH, StandardLocation.CLASS_PATH)) {
+            try {
+                FileObject resource = filer.getResource(location, "", TEMPLATES_DIR + templatePath);
+                try (InputStream in = resource.openInputStream()) {
+                    return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            } catch (IOException | IllegalArgumentException | UnsupportedOperationException e) {
+                // Not available in this location; try the next one
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Writes the {@code <ClassName>Template} source for a component.
+     *
+     * @param classElement the {@code @Html} component class
+     * @param templatePath the template path
+     * @param sourceHash   the {@code CompiledTemplate.hash} of the template source
+     * @param root         the parsed template
+     * @param bindings     fields to assign directly, or {@code null} to leave injection to
+     *                     {@code HtmlLoader}
+     */
+    private void generateCompiledTemplate(TypeElement classElement, String templatePath,
+                                          long sourceHash, xss.it.jux.core.Element root,
+                                          List<TemplateCompiler.Binding> bindings) {
+        String packageName = elementUtils.getPackageOf(classElement).getQualifiedName().toString();
+        String className = flatName(classElement) + "Template";
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+
+        String source = TemplateCompiler.generate(packageName, className,
+                classElement.getQualifiedName().toString(), templatePath, sourceHash, root, bindings);
+        try {
+            JavaFileObject sourceFile = filer.createSourceFile(qualifiedName, classElement);
+            try (PrintWriter writer = new PrintWriter(sourceFile.openWriter())) {
+                writer.print(source);
+            }
+            note("Generated compiled template: " + qualifiedName
+                    + (bindings == null ? " (fields injected at run time)" : ""));
+        } catch (IOException e) {
+            error("Failed to generate compiled template for @Html '"
+                    + classElement.getQualifiedName() + "': " + e.getMessage(), classElement);
+        }
+    }
+
     // ═════════════════════════════════════════════════════════════════════════════
     //  Utility Methods
     // ═════════════════════════════════════════════════════════════════════════════
 
+    // ═════════════════════════════════════════════════════════════════════════════
+    //  Client-Side State Transfer
+    // ═════════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Generates a {@code <ClassName>State} class for every {@code @JuxComponent} class with
+     * {@code clientSide = true} that has at least one transferable {@code @State} field.
+     *
+     * <p>Fields are collected from the class and its superclasses. A field is transferable
+     * when generated code in the component's package can read and assign it (not private,
+     * static, or final, and declared in the same package or public) and its type is one
+     * {@link StateCompiler} supports: {@code String}, the primitive types and their boxes,
+     * enums, and {@code List<String>}.</p>
+     *
+     * @param roundEnv the current round environment
+     */
+    private void processClientComponents(RoundEnvironment roundEnv) {
+        TypeElement componentAnnotationType = elementUtils.getTypeElement(JUX_COMPONENT_ANNOTATION);
+        if (componentAnnotationType == null) {
+            return;
+        }
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(componentAnnotationType)) {
+            if (element.getKind() != ElementKind.CLASS
+                    || !annotationFlag(element, JUX_COMPONENT_ANNOTATION, "clientSide")) {
+                continue;
+            }
+            TypeElement classElement = (TypeElement) element;
+
+            // Generated code must be able to name the component
+            if (!isAccessibleFromPackage(classElement)) {
+                note("State transfer for '" + classElement.getQualifiedName()
+                        + "' not generated: the class is private.");
+                continue;
+            }
+
+            List<StateCompiler.Field> fields = collectStateFields(classElement);
+            if (!fields.isEmpty()) {
+                generateStateTransfer(classElement, fields);
+            }
+        }
+    }
+
+    /**
+     * Collects the transferable {@code @State} fields of a component class and its
+     * superclasses, reporting the ones that are left out.
+     *
+     * @param classElement the client-side component class
+     * @return the transferable fields, subclass fields first
+     */
+    private List<StateCompiler.Field> collectStateFields(TypeElement classElement) {
+        String packageName = elementUtils.getPackageOf(classElement).getQualifiedName().toString();
+        List<StateCompiler.Field> fields = new ArrayList<>();
+        Set<String> names = new LinkedHashSet<>();
+
+        TypeElement current = classElement;
+        while (current != null && !"java.lang.Object".equals(current.getQualifiedName().toString())) {
+            String currentPackage = elementUtils.getPackageOf(current).getQualifiedName().toString();
+            for (Element enclosed : current.getEnclosedElements()) {
+                if (enclosed.getKind() != ElementKind.FIELD || !hasAnnotation(enclosed, STATE_ANNOTATION)) {
+                    continue;
+                }
+                String fieldName = enclosed.getSimpleName().toString();
+                String owner = current.getQualifiedName() + "." + fieldName;
+
+                Set<Modifier> modifiers = enclosed.getModifiers();
+                boolean visible = modifiers.contains(Modifier.PUBLIC) || currentPackage.equals(packageName);
+                if (modifiers.contains(Modifier.PRIVATE) || !visible) {
+                    note("@State field '" + owner + "' is not transferred to the client: "
+                            + "make it package-private so that " + flatName(classElement)
+                            + "State can read it.");
+                    continue;
+                }
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)) {
+                    warning("@State field '" + fieldName + "' is not transferred to the client: "
+                            + "static and final fields cannot be restored.", enclosed);
+                    continue;
+                }
+                // A field hidden by a subclass field of the same name cannot be assigned by name
+                if (!names.add(fieldName)) {
+                    continue;
+                }
+
+                StateCompiler.Field field = stateField(fieldName, enclosed.asType());
+                if (field == null) {
+                    warning("@State field '" + fieldName + "' is not transferred to the client: "
+                            + "type " + enclosed.asType() + " is not supported (use String, a "
+                            + "primitive or its box, an enum, or List<String>, or transfer it in "
+                            + "saveState/restoreState).", enclosed);
+                    continue;
+                }
+                fields.add(field);
+            }
+
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED
+                    ? (TypeElement) typeUtils.asElement(superclass)
+                    : null;
+        }
+        return fields;
+    }
+
+    /**
+     * Describes how a field of the given type is transferred.
+     *
+     * @param fieldName the field name
+     * @param type      the field type
+     * @return the field, or {@code null} if the type is not supported
+     */
+    private StateCompiler.Field stateField(String fieldName, TypeMirror type) {
+        StateCompiler.Kind primitive = switch (type.getKind()) {
+            case BOOLEAN -> StateCompiler.Kind.BOOLEAN;
+            case BYTE -> StateCompiler.Kind.BYTE;
+            case SHORT -> StateCompiler.Kind.SHORT;
+            case CHAR -> StateCompiler.Kind.CHAR;
+            case INT -> StateCompiler.Kind.INT;
+            case LONG -> StateCompiler.Kind.LONG;
+            case FLOAT -> StateCompiler.Kind.FLOAT;
+            case DOUBLE -> StateCompiler.Kind.DOUBLE;
+            default -> null;
+        };
+        if (primitive != null) {
+            return new StateCompiler.Field(fieldName, primitive, true, type.toString());
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+
+        TypeElement typeElement = (TypeElement) typeUtils.asElement(type);
+        String typeName = typeElement.getQualifiedName().toString();
+        if (isEnumType(type)) {
+            return new StateCompiler.Field(fieldName, StateCompiler.Kind.ENUM, false, typeName);
+        }
+        if ("java.util.List".equals(typeName)) {
+            List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+            boolean strings = arguments.size() == 1
+                    && typeUtils.isSameType(arguments.getFirst(),
+                            elementUtils.getTypeElement("java.lang.String").asType());
+            return strings
+                    ? new StateCompiler.Field(fieldName, StateCompiler.Kind.STRING_LIST, false, typeName)
+                    : null;
+        }
+        StateCompiler.Kind kind = switch (typeName) {
+            case "java.lang.String" -> StateCompiler.Kind.STRING;
+            case "java.lang.Boolean" -> StateCompiler.Kind.BOOLEAN;
+            case "java.lang.Byte" -> StateCompiler.Kind.BYTE;
+            case "java.lang.Short" -> StateCompiler.Kind.SHORT;
+            case "java.lang.Character" -> StateCompiler.Kind.CHAR;
+            case "java.lang.Integer" -> StateCompiler.Kind.INT;
+            case "java.lang.Long" -> StateCompiler.Kind.LONG;
+            case "java.lang.Float" -> StateCompiler.Kind.FLOAT;
+            case "java.lang.Double" -> StateCompiler.Kind.DOUBLE;
+            default -> null;
+        };
+        return kind == null ? null : new StateCompiler.Field(fieldName, kind, false, typeName);
+    }
+
+    /**
+     * Writes the {@code <ClassName>State} source for a client-side component.
+     *
+     * @param classElement the client-side component class
+     * @param fields       the fields to transfer
+     */
+    private void generateStateTransfer(TypeElement classElement, List<StateCompiler.Field> fields) {
+        String packageName = elementUtils.getPackageOf(classElement).getQualifiedName().toString();
+        String className = flatName(classElement) + "State";
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+
+        String source = StateCompiler.generate(packageName, className,
+                classElement.getQualifiedName().toString(), fields);
+        try {
+            JavaFileObject sourceFile = filer.createSourceFile(qualifiedName, classElement);
+            try (PrintWriter writer = new PrintWriter(sourceFile.openWriter())) {
+                writer.print(source);
+            }
+            note("Generated state transfer: " + qualifiedName);
+        } catch (IOException e) {
+            error("Failed to generate state transfer for @JuxComponent '"
+                    + classElement.getQualifiedName() + "': " + e.getMessage(), classElement);
+        }
+    }
+
     /**
      * Checks whether a type element has a specific annotation by fully-qualified name.
      *
@@ -850,7 +1624,7 @@ public class JuxAnnotationProcessor extends AbstractProcessor {
      * @param annotationQualified the fully-qualified name of the annotation to look for
      * @return {@code true} if the element carries the specified annotation
      */
-    private boolean hasAnnotation(TypeElement element, String annotationQualified) {
+    private boolean hasAnnotation(Element element, String annotationQualified) {
         for (var mirror : element.getAnnotationMirrors()) {
             if (annotationQualified.equals(mirror.getAnnotationType().toString())) {
                 return true;
@@ -859,6 +1633,49 @@ public class JuxAnnotationProcessor extends AbstractProcessor {
         return false;
     }
 
+    /**
+     * Reads the explicitly set {@code value()} attribute of an annotation by fully-qualified name.
+     *
+     * @param element             the annotated element
+     * @param annotationQualified the fully-qualified name of the annotation
+     * @return the attribute value as a string, or {@code null} if the annotation is absent or
+     *         its value is left at the default
+     */
+    private static String annotationValue(Element element, String annotationQualified) {
+        for (var mirror : element.getAnnotationMirrors()) {
+            if (annotationQualified.equals(mirror.getAnnotationType().toString())) {
+                for (var entry : mirror.getElementValues().entrySet()) {
+                    if ("value".equals(entry.getKey().getSimpleName().toString())) {
+                        return entry.getValue().getValue().toString();
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads an explicitly set boolean attribute of an annotation by fully-qualified name.
+     *
+     * @param element             the annotated element
+     * @param annotationQualified the fully-qualified name of the annotation
+     * @param attribute           the attribute name
+     * @return the attribute value, or {@code false} if the annotation is absent or the
+     *         attribute is left at its default
+     */
+    private static boolean annotationFlag(Element element, String annotationQualified, String attribute) {
+        for (var mirror : element.getAnnotationMirrors()) {
+            if (annotationQualified.equals(mirror.getAnnotationType().toString())) {
+                for (var entry : mirror.getElementValues().entrySet()) {
+                    if (attribute.equals(entry.getKey().getSimpleName().toString())) {
+                        return Boolean.TRUE.equals(entry.getValue().getValue());
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Reports a compilation error attached to the given element.
      *
@@ -74,10 +74,14 @@ public final class RouteValidator {
      *   {slug}           -> name="slug", type=null
      *   {id:long}        -> name="id",   type=":long"
      *   {path:regex(.+)} -> name="path", type=":regex(.+)"
+     *   {code:regex([a-z]{3})} -> name="code", type=":regex([a-z]{3})"
      * </pre>
+     *
+     * <p>The type specifier may contain one level of nested braces, so that regex
+     * quantifiers such as {@code {3}} or {@code {2,4}} are captured whole.</p>
      */
     private static final Pattern VARIABLE_PATTERN =
-            Pattern.compile("\\{([a-zA-Z_][a-zA-Z0-9_]*)(:[^}]+)?}");
+            Pattern.compile("\\{([a-zA-Z_][a-zA-Z0-9_]*)(:(?:[^{}]|\\{[^{}]*})+)?}");
 
     /**
      * Regex pattern that matches a segment containing only valid static characters.
@@ -354,21 +358,25 @@ public final class RouteValidator {
      * Validates that braces in the path are properly balanced.
      *
      * <p>Every opening brace {@code {}} must have a corresponding closing brace
-     * {@code }}, and they must not be nested. Errors are appended to the provided
-     * list.</p>
+     * {@code }}. Braces may only nest inside a {@code regex(...)} constraint, where
+     * they are regex quantifiers (e.g. {@code {code:regex([a-z]{3})}}). Errors are
+     * appended to the provided list.</p>
      *
      * @param path   the route path to check
      * @param errors the list to append error messages to
      */
     private static void validateBraceBalance(String path, List<String> errors) {
         int depth = 0;
+        int variableStart = -1;
 
         for (int i = 0; i < path.length(); i++) {
             char c = path.charAt(i);
             if (c == '{') {
                 depth++;
-                if (depth > 1) {
-                    errors.add("Nested braces are not allowed in route paths. "
+                if (depth == 1) {
+                    variableStart = i;
+                } else if (!path.substring(variableStart, i).contains(":regex(")) {
+                    errors.add("Nested braces are only allowed inside a regex(...) constraint. "
                             + "Found nested '{' at position " + i + " in: \"" + path + "\".");
                     return; // Bail out -- further brace checking would be unreliable.
                 }
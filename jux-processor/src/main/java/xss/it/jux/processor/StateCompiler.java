@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+package xss.it.jux.processor;
+
+import java.util.List;
+
+/**
+ * Compile-time code generator for the state transfer of client-side components.
+ *
+ * <p>This utility class is used by {@link JuxAnnotationProcessor} to write, for a
+ * {@code @JuxComponent(clientSide = true)} class, a {@code <ClassName>State} class with
+ * two static methods:</p>
+ * <ul>
+ *   <li>{@code save(component, state)} puts every transferable {@code @State} field into
+ *       a {@code ComponentState}, under the field's name.</li>
+ *   <li>{@code restore(component, state)} assigns each field stored in the state back,
+ *       converting the JSON types of the round trip to the field's type. Fields the
+ *       state does not contain keep their current value.</li>
+ * </ul>
+ *
+ * <p>The component's {@code saveState} and {@code restoreState} overrides delegate to
+ * these methods. The fields are read and written directly, by name, so the transfer
+ * needs no reflection and works unchanged in TeaVM-compiled code, which cannot
+ * enumerate or set fields reflectively.</p>
+ *
+ * <p>This class is stateless and all methods are static. It is not intended for
+ * instantiation.</p>
+ *
+ * @see JuxAnnotationProcessor
+ */
+public final class StateCompiler {
+
+    /**
+     * How a field's value is read back from a {@code ComponentState}.
+     */
+    public enum Kind {
+        /** {@code java.lang.String}. */
+        STRING,
+        /** {@code boolean} or {@code Boolean}. */
+        BOOLEAN,
+        /** {@code byte} or {@code Byte}. */
+        BYTE,
+        /** {@code short} or {@code Short}. */
+        SHORT,
+        /** {@code char} or {@code Character}, stored as a one-character string. */
+        CHAR,
+        /** {@code int} or {@code Integer}. */
+        INT,
+        /** {@code long} or {@code Long}. */
+        LONG,
+        /** {@code float} or {@code Float}. */
+        FLOAT,
+        /** {@code double} or {@code Double}. */
+        DOUBLE,
+        /** An enum type, stored by constant name. */
+        ENUM,
+        /** {@code java.util.List<String>}. */
+        STRING_LIST
+    }
+
+    /**
+     * A {@code @State} field to transfer.
+     *
+     * @param name      the Java field name, also used as the state value's name
+     * @param kind      how the value is read back
+     * @param primitive whether the field has a primitive type (and so cannot be null)
+     * @param type      the canonical name of the field's type, used for enum class literals
+     */
+    public record Field(String name, Kind kind, boolean primitive, String type) {}
+
+    private StateCompiler() {
+        throw new AssertionError("Use static methods");
+    }
+
+    /**
+     * Generates the source of a {@code <ClassName>State} class.
+     *
+     * @param packageName   the package of the component (empty for the default package)
+     * @param className     the simple name of the generated class
+     * @param componentType the canonical name of the component class
+     * @param fields        the fields to transfer, in declaration order
+     * @return the complete Java source file
+     */
+    public static String generate(String packageName, String className, String componentType,
+                                  List<Field> fields) {
+        StringBuilder out = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("import xss.it.jux.core.ComponentState;\n\n");
+        out.append("/**\n");
+        out.append(" * Auto-generated transfer of the {@code @State} fields of {@link ")
+                .append(componentType).append("}.\n");
+        out.append(" *\n");
+        out.append(" * <p>Generated by {@code JuxAnnotationProcessor} at compile time.\n");
+        out.append(" * Do not edit manually -- changes will be overwritten on next build.</p>\n");
+        out.append(" */\n");
+        out.append("public final class ").append(className).append(" {\n\n");
+
+        out.append("    private ").append(className).append("() {\n");
+        out.append("    }\n\n");
+
+        out.append("    /**\n");
+        out.append("     * Store the {@code @State} fields of a component, for\n");
+        out.append("     * {@link xss.it.jux.core.Component#saveState(ComponentState)}.\n");
+        out.append("     *\n");
+        out.append("     * @param component the rendered component\n");
+        out.append("     * @param state     the snapshot to fill\n");
+        out.append("     */\n");
+        out.append("    public static void save(").append(componentType)
+                .append(" component, ComponentState state) {\n");
+        for (Field field : fields) {
+            out.append("        state.put(").append(TemplateCompiler.literal(field.name()))
+                    .append(", component.").append(field.name()).append(");\n");
+        }
+        out.append("    }\n\n");
+
+        out.append("    /**\n");
+        out.append("     * Assign the {@code @State} fields stored by {@link #save}, for\n");
+        out.append("     * {@link xss.it.jux.core.Component#restoreState(ComponentState)}.\n");
+        out.append("     * Fields absent from the state keep their current value.\n");
+        out.append("     *\n");
+        out.append("     * @param component the new component\n");
+        out.append("     * @param state     the state saved on the server\n");
+        out.append("     * @throws IllegalArgumentException if a stored value does not fit its field\n");
+        out.append("     */\n");
+        out.append("    public static void restore(").append(componentType)
+                .append(" component, ComponentState state) {\n");
+        for (int i = 0; i < fields.size(); i++) {
+            emitRestore(fields.get(i), i, out);
+        }
+        out.append("    }\n");
+        out.append("}\n");
+        return out.toString();
+    }
+
+    /**
+     * Emits the statements that restore one field.
+     */
+    private static void emitRestore(Field field, int index, StringBuilder out) {
+        String name = TemplateCompiler.literal(field.name());
+        String target = "component." + field.name();
+
+        if (field.kind() == Kind.STRING_LIST) {
+            String items = "v" + index;
+            out.append("        if (state.has(").append(name).append(")) {\n");
+            out.append("            java.util.List<String> ").append(items).append(" = null;\n");
+            out.append("            if (state.get(").append(name).append(") != null) {\n");
+            out.append("                ").append(items).append(" = new java.util.ArrayList<>();\n");
+            out.append("                for (Object item : state.getList(").append(name).append(")) {\n");
+            out.append("                    ").append(items).append(".add((String) item);\n");
+            out.append("                }\n");
+            out.append("            }\n");
+            out.append("            ").append(target).append(" = ").append(items).append(";\n");
+            out.append("        }\n");
+        } else if (field.primitive()) {
+            // Absent and null values fall back to the current value
+            out.append("        ").append(target).append(" = ")
+                    .append(read(field, name, target)).append(";\n");
+        } else if (field.kind() == Kind.STRING || field.kind() == Kind.ENUM) {
+            out.append("        if (state.has(").append(name).append(")) {\n");
+            out.append("            ").append(target).append(" = ")
+                    .append(read(field, name, "null")).append(";\n");
+            out.append("        }\n");
+        } else {
+            // Boxed: a stored null clears the field
+            out.append("        if (state.has(").append(name).append(")) {\n");
+            out.append("            ").append(target).append(" = state.get(").append(name)
+                    .append(") == null ? null : ").append(read(field, name, zero(field.kind())))
+                    .append(";\n");
+            out.append("        }\n");
+        }
+    }
+
+    /**
+     * Returns the expression reading a field's value, converted to its type.
+     */
+    private static String read(Field field, String name, String fallback) {
+        return switch (field.kind()) {
+            case STRING -> "state.getString(" + name + ", " + fallback + ")";
+            case BOOLEAN -> "state.getBoolean(" + name + ", " + fallback + ")";
+            case BYTE -> "(byte) state.getInt(" + name + ", " + fallback + ")";
+            case SHORT -> "(short) state.getInt(" + name + ", " + fallback + ")";
+            case CHAR -> "state.getString(" + name + ", String.valueOf(" + fallback + ")).charAt(0)";
+            case INT -> "state.getInt(" + name + ", " + fallback + ")";
+            case LONG -> "state.getLong(" + name + ", " + fallback + ")";
+            case FLOAT -> "(float) state.getDouble(" + name + ", " + fallback + ")";
+            case DOUBLE -> "state.getDouble(" + name + ", " + fallback + ")";
+            case ENUM -> "state.getEnum(" + name + ", " + field.type() + ".class, " + fallback + ")";
+            case STRING_LIST -> throw new IllegalArgumentException("Lists are restored element-wise");
+        };
+    }
+
+    /**
+     * Returns the fallback for a boxed field, never used because the value is known
+     * to be present and non-null.
+     */
+    private static String zero(Kind kind) {
+        return switch (kind) {
+            case BOOLEAN -> "false";
+            case CHAR -> "' '";
+            default -> "0";
+        };
+    }
+}
@@ -0,0 +1,374 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+package xss.it.jux.processor;
+
+import xss.it.jux.core.Element;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compile-time code generator for {@code @Html} templates.
+ *
+ * <p>This utility class is used by {@link JuxAnnotationProcessor} to turn a template
+ * that has already been parsed with {@code HtmlStreamParser} into the Java source of a
+ * {@code CompiledTemplate} implementation. The generated {@code build(Object)} method
+ * reconstructs exactly the tree the parser produced -- same tags, attributes, classes,
+ * style properties, text, and children, in the same order -- using the
+ * {@link Element} builder API with every value known as a constant. At run time there
+ * is no template I/O, no HTML parsing, no deep clone, and no re-splitting of
+ * {@code class} or {@code style} strings.</p>
+ *
+ * <h3>Field binding</h3>
+ * <p>Each {@code @HtmlId} / {@code @Slot} target is resolved at compile time with the
+ * same rule {@code HtmlLoader} uses at run time (breadth-first, first id wins). When
+ * the component's fields can be assigned from its package, the generated code stores
+ * each target element in a slot while building and assigns the fields directly.</p>
+ *
+ * <h3>Method size</h3>
+ * <p>Java methods are limited to 64 KB of bytecode, so construction is split into
+ * private static {@code nodeN} methods of at most {@value #MAX_NODES_PER_METHOD}
+ * elements each. A subtree larger than that gets a method of its own, and when a
+ * method fills up, the remaining siblings are built by a method that appends them
+ * to the parent.</p>
+ *
+ * <p>This class is stateless and all methods are static. It is not intended for
+ * instantiation.</p>
+ *
+ * @see JuxAnnotationProcessor
+ */
+public final class TemplateCompiler {
+
+    /** Upper bound on elements constructed by a single generated method. */
+    static final int MAX_NODES_PER_METHOD = 200;
+
+    /**
+     * A component field to assign from the built tree.
+     *
+     * @param fieldName the Java field name
+     * @param elementId the {@code id} of the element to inject
+     */
+    public record Binding(String fieldName, String elementId) {}
+
+    private TemplateCompiler() {
+        throw new AssertionError("Use static methods");
+    }
+
+    /**
+     * Builds a map of element id to element, breadth-first with the first occurrence
+     * winning, mirroring {@code HtmlLoader.indexById}.
+     *
+     * @param root the parsed template root
+     * @return the id index in traversal order
+     */
+    public static Map<String, Element> indexById(Element root) {
+        Map<String, Element> index = new LinkedHashMap<>();
+        Deque<Element> queue = new ArrayDeque<>();
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            Element current = queue.poll();
+            String id = current.getAttributes().get("id");
+            if (id != null && !id.isEmpty()) {
+                index.putIfAbsent(id, current);
+            }
+            queue.addAll(current.getChildren());
+        }
+        return index;
+    }
+
+    /**
+     * Generates the source of a {@code CompiledTemplate} implementation.
+     *
+     * @param packageName   the package of the component (empty for the default package)
+     * @param className     the simple name of the generated class
+     * @param componentType the canonical name of the component class
+     * @param templatePath  the template path as declared in {@code @Html}
+     * @param sourceHash    the {@code CompiledTemplate.hash} of the template source
+     * @param root          the parsed template root
+     * @param bindings      the fields to assign directly, or {@code null} if the component's
+     *                      fields cannot be assigned from generated code
+     * @return the complete Java source file
+     */
+    public static String generate(String packageName, String className, String componentType,
+                                  String templatePath, long sourceHash, Element root,
+                                  List<Binding> bindings) {
+        // Resolve each binding to its element; an element may serve several fields
+        Map<Element, List<Integer>> refSlots = new IdentityHashMap<>();
+        if (bindings != null) {
+            Map<String, Element> ids = indexById(root);
+            for (int i = 0; i < bindings.size(); i++) {
+                Element target = ids.get(bindings.get(i).elementId());
+                refSlots.computeIfAbsent(target, k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        Map<Element, Integer> sizes = new IdentityHashMap<>();
+        subtreeSize(root, sizes);
+
+        List<StringBuilder> methods = new ArrayList<>();
+        emitMethod(root, sizes, refSlots, methods);
+
+        StringBuilder out = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("import xss.it.jux.core.Element;\n");
+        out.append("import xss.it.jux.html.CompiledTemplate;\n\n");
+        out.append("/**\n");
+        out.append(" * Auto-generated compiled form of the {@code ").append(escapeJavadoc(templatePath))
+                .append("} template\n");
+        out.append(" * for {@link ").append(componentType).append("}.\n");
+        out.append(" *\n");
+        out.append(" * <p>Generated by {@code JuxAnnotationProcessor} at compile time.\n");
+        out.append(" * Do not edit manually -- changes will be overwritten on next build.</p>\n");
+        out.append(" */\n");
+        out.append("public final class ").append(className).append(" implements CompiledTemplate {\n\n");
+
+        out.append("    /** The template path as declared in {@code @Html}. */\n");
+        out.append("    public static final String PATH = ").append(literal(templatePath)).append(";\n\n");
+
+        out.append("    /** Hash of the template source this class was compiled from. */\n");
+        out.append("    public static final long SOURCE_HASH = ").append(sourceHash).append("L;\n\n");
+
+        out.append("    /** {@inheritDoc} */\n");
+        out.append("    @Override\n");
+        out.append("    public String path() {\n");
+        out.append("        return PATH;\n");
+        out.append("    }\n\n");
+
+        out.append("    /** {@inheritDoc} */\n");
+        out.append("    @Override\n");
+        out.append("    public long sourceHash() {\n");
+        out.append("        return SOURCE_HASH;\n");
+        out.append("    }\n\n");
+
+        out.append("    /** {@inheritDoc} */\n");
+        out.append("    @Override\n");
+        out.append("    public boolean bindsFields() {\n");
+        out.append("        return ").append(bindings != null).append(";\n");
+        out.append("    }\n\n");
+
+        out.append("    /** {@inheritDoc} */\n");
+        out.append("    @Override\n");
+        out.append("    public Element build(Object component) {\n");
+        int slots = bindings != null ? bindings.size() : 0;
+        out.append("        Element[] refs = new Element[").append(slots).append("];\n");
+        out.append("        Element root = node0(refs);\n");
+        if (bindings != null && !bindings.isEmpty()) {
+            out.append("        ").append(componentType).append(" target = (")
+                    .append(componentType).append(") component;\n");
+            for (int i = 0; i < bindings.size(); i++) {
+                out.append("        target.").append(bindings.get(i).fieldName())
+                        .append(" = refs[").append(i).append("];\n");
+            }
+        }
+        out.append("        return root;\n");
+        out.append("    }\n");
+
+        for (StringBuilder method : methods) {
+            out.append('\n').append(method);
+        }
+        out.append("}\n");
+        return out.toString();
+    }
+
+    /**
+     * Emits a {@code nodeN} method that constructs the given subtree and returns its root.
+     *
+     * @return the method name
+     */
+    private static String emitMethod(Element root, Map<Element, Integer> sizes,
+                                     Map<Element, List<Integer>> refSlots, List<StringBuilder> methods) {
+        String name = "node" + methods.size();
+        StringBuilder method = new StringBuilder();
+        methods.add(method);
+
+        StringBuilder body = new StringBuilder();
+        int[] counters = {0, 0}; // next local variable index, elements in this method
+        String var = emitElement(root, body, counters, sizes, refSlots, methods);
+
+        method.append("    private static Element ").append(name).append("(Element[] refs) {\n");
+        method.append(body);
+        method.append("        return ").append(var).append(";\n");
+        method.append("    }\n");
+        return name;
+    }
+
+    /**
+     * Emits the statements constructing one element and, recursively, its children.
+     *
+     * @return the local variable holding the element
+     */
+    private static String emitElement(Element element, StringBuilder body, int[] counters,
+                                      Map<Element, Integer> sizes, Map<Element, List<Integer>> refSlots,
+                                      List<StringBuilder> methods) {
+        String var = "e" + counters[0]++;
+        counters[1]++;
+
+        body.append("        Element ").append(var).append(" = Element.of(")
+                .append(literal(element.getTag())).append(')');
+        for (Map.Entry<String, String> attr : element.getAttributes().entrySet()) {
+            String key = attr.getKey();
+            // class and style are merged into getAttributes(); emit them through their own API
+            if (key.equals("class") && !element.getCssClasses().isEmpty()) continue;
+            if (key.equals("style") && !element.getStyles().isEmpty()) continue;
+            body.append("\n                .attr(").append(literal(key)).append(", ")
+                    .append(literal(attr.getValue())).append(')');
+        }
+        if (!element.getCssClasses().isEmpty()) {
+            body.append("\n                .cls(");
+            List<String> classes = element.getCssClasses();
+            for (int i = 0; i < classes.size(); i++) {
+                if (i > 0) body.append(", ");
+                body.append(literal(classes.get(i)));
+            }
+            body.append(')');
+        }
+        for (Map.Entry<String, String> style : element.getStyles().entrySet()) {
+            body.append("\n                .style(").append(literal(style.getKey())).append(", ")
+                    .append(literal(style.getValue())).append(')');
+        }
+        if (element.getTextContent() != null) {
+            body.append("\n                .text(").append(literal(element.getTextContent())).append(')');
+        }
+        body.append(";\n");
+
+        List<Integer> slots = refSlots.get(element);
+        if (slots != null) {
+            for (int slot : slots) {
+                body.append("        refs[").append(slot).append("] = ").append(var).append(";\n");
+            }
+        }
+
+        List<Element> children = element.getChildren();
+        List<String> pending = new ArrayList<>();
+        int i = 0;
+        while (i < children.size()) {
+            Element child = children.get(i);
+            if (counters[1] + sizes.get(child) <= MAX_NODES_PER_METHOD) {
+                pending.add(emitElement(child, body, counters, sizes, refSlots, methods));
+                i++;
+            } else if (sizes.get(child) > MAX_NODES_PER_METHOD) {
+                // A large subtree gets a method of its own
+                String childVar = "e" + counters[0]++;
+                String method = emitMethod(child, sizes, refSlots, methods);
+                body.append("        Element ").append(childVar).append(" = ")
+                        .append(method).append("(refs);\n");
+                pending.add(childVar);
+                i++;
+            } else {
+                // This method is full: append the following siblings from a separate method
+                appendChildren(var, pending, body);
+                int[] next = {i};
+                String method = emitChildrenMethod(children, next, sizes, refSlots, methods);
+                body.append("        ").append(method).append("(refs, ").append(var).append(");\n");
+                i = next[0];
+            }
+        }
+        appendChildren(var, pending, body);
+        return var;
+    }
+
+    /**
+     * Emits a {@code nodeN(refs, parent)} method that constructs consecutive siblings,
+     * starting at {@code next[0]}, and appends them to {@code parent}, stopping when the
+     * method is full or a sibling needs a method of its own.
+     *
+     * @return the method name; {@code next[0]} is advanced past the emitted siblings
+     */
+    private static String emitChildrenMethod(List<Element> children, int[] next,
+                                             Map<Element, Integer> sizes,
+                                             Map<Element, List<Integer>> refSlots,
+                                             List<StringBuilder> methods) {
+        String name = "node" + methods.size();
+        StringBuilder method = new StringBuilder();
+        methods.add(method);
+
+        StringBuilder body = new StringBuilder();
+        int[] counters = {0, 0};
+        List<String> pending = new ArrayList<>();
+        int i = next[0];
+        // Always take at least one sibling so that progress is guaranteed
+        do {
+            pending.add(emitElement(children.get(i), body, counters, sizes, refSlots, methods));
+            i++;
+        } while (i < children.size()
+                && sizes.get(children.get(i)) <= MAX_NODES_PER_METHOD
+                && counters[1] + sizes.get(children.get(i)) <= MAX_NODES_PER_METHOD);
+        next[0] = i;
+        appendChildren("parent", pending, body);
+
+        method.append("    private static void ").append(name).append("(Element[] refs, Element parent) {\n");
+        method.append(body);
+        method.append("    }\n");
+        return name;
+    }
+
+    /** Emits a {@code children(...)} call for the pending child variables and clears them. */
+    private static void appendChildren(String parentVar, List<String> pending, StringBuilder body) {
+        if (pending.isEmpty()) return;
+        body.append("        ").append(parentVar).append(".children(")
+                .append(String.join(", ", pending)).append(");\n");
+        pending.clear();
+    }
+
+    /** Computes and records the number of elements in each subtree. */
+    private static int subtreeSize(Element element, Map<Element, Integer> sizes) {
+        int size = 1;
+        for (Element child : element.getChildren()) {
+            size += subtreeSize(child, sizes);
+        }
+        sizes.put(element, size);
+        return size;
+    }
+
+    /**
+     * Renders a string as a Java string literal, escaping quotes, backslashes,
+     * and control characters.
+     *
+     * @param value the raw value
+     * @return the quoted literal
+     */
+    static String literal(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20 || c == 0x7f) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    /** Escapes a value for use inside a Javadoc {@code {@code ...}} tag. */
+    private static String escapeJavadoc(String value) {
+        return value.replace("*/", "*&#47;").replace("{", "&#123;").replace("}", "&#125;");
+    }
+}
@@ -0,0 +1,732 @@
+package xss.it.jux.processor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import xss.it.jux.annotation.Route;
+import xss.it.jux.core.Component;
+import xss.it.jux.core.ComponentState;
+import xss.it.jux.core.Element;
+import xss.it.jux.html.CompiledTemplate;
+import xss.it.jux.html.HtmlLoader;
+import xss.it.jux.html.HtmlStreamParser;
+import xss.it.jux.html.annotation.Html;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link JuxAnnotationProcessor} that run the processor on fixture sources
+ * with the system Java compiler and load the classes it generates: compiled
+ * {@code @Html} templates (equivalence with {@link HtmlStreamParser}, field binding,
+ * method splitting, literal escaping, stale-template detection) and {@code @Route}
+ * URL builders.
+ */
+@DisplayName("JuxAnnotationProcessor")
+class JuxAnnotationProcessorTest {
+
+    /** Template exercising literal escaping, classes, styles and boolean attributes. */
+    private static final String ESCAPING_TEMPLATE = """
+            <main id="page" class="layout  wide" style="color: red; margin: 0 auto">
+              <h1 id="title" title="Say &quot;hi&quot; \\ back">Caf&eacute; \\u00e9 "quoted" */ {x}</h1>
+              <p id="data" data-json='{"a":"b\\\\c"}' data-multi="line one
+            line two\ttabbed">Tab\tand
+            newline</p>
+              <input type="checkbox" checked disabled>
+              <div id="default"><span>😀 emoji</span></div>
+            </main>
+            """;
+
+    // ── Compiled templates ───────────────────────────────────────
+
+    @Nested
+    @DisplayName("Compiled templates")
+    class CompiledTemplates {
+
+        @BeforeEach
+        void setUp() {
+            HtmlLoader.getCache().clear();
+            HtmlLoader.getCache().setEnabled(true);
+        }
+
+        @Test
+        @DisplayName("Built tree equals the parsed template, with escaped literals")
+        void builtTree_equalsParsedTemplate(@TempDir Path dir) throws Exception {
+            Compilation compilation = compile(dir, Map.of("fixture.EscapingPage", """
+                    package fixture;
+
+                    import xss.it.jux.core.Element;
+                    import xss.it.jux.html.annotation.Html;
+                    import xss.it.jux.html.annotation.HtmlId;
+                    import xss.it.jux.html.annotation.Slot;
+
+                    @Html("pages/escaping.html")
+                    public class EscapingPage {
+                        @HtmlId Element title;
+                        @HtmlId("data") Element paragraph;
+                        @Slot Element defaultSlot;
+                    }
+                    """), Map.of("pages/escaping.html", ESCAPING_TEMPLATE));
+
+            assertThat(compilation.success()).as(compilation.errors()).isTrue();
+            Object component = compilation.newInstance("fixture.EscapingPage");
+            CompiledTemplate template = compilation.template("fixture.EscapingPageTemplate");
+            Element root = template.build(component);
+
+            Element parsed = HtmlStreamParser.parse(new StringReader(ESCAPING_TEMPLATE), "pages/escaping.html");
+            assertThat(dump(root)).isEqualTo(dump(parsed));
+            assertThat(template.path()).isEqualTo("pages/escaping.html");
+            assertThat(template.sourceHash()).isEqualTo(CompiledTemplate.hash(new StringReader(ESCAPING_TEMPLATE)));
+        }
+
+        @Test
+        @DisplayName("Accessible @HtmlId and @Slot fields are assigned by the generated code")
+        void accessibleFields_boundDirectly(@TempDir Path dir) throws Exception {
+            Compilation compilation = compile(dir, Map.of("fixture.EscapingPage", """
+                    package fixture;
+
+                    import xss.it.jux.core.Element;
+                    import xss.it.jux.html.annotation.Html;
+                    import xss.it.jux.html.annotation.HtmlId;
+                    import xss.it.jux.html.annotation.Slot;
+
+                    @Html("pages/escaping.html")
+                    public class EscapingPage {
+                        @HtmlId Element title;
+                        @HtmlId("data") Element paragraph;
+                        @Slot Element defaultSlot;
+                    }
+                    """), Map.of("pages/escaping.html", ESCAPING_TEMPLATE));
+
+            assertThat(compilation.success()).as(compilation.errors()).isTrue();
+            Object component = compilation.newInstance("fixture.EscapingPage");
+            CompiledTemplate template = compilation.template("fixture.EscapingPageTemplate");
+            Element root = template.build(component);
+
+            Map<String, Element> ids = TemplateCompiler.indexById(root);
+            assertThat(template.bindsFields()).isTrue();
+            assertThat(field(component, "title")).isSameAs(ids.get("title"));
+            assertThat(field(component, "paragraph")).isSameAs(ids.get("data"));
+            assertThat(field(component, "defaultSlot")).isSameAs(ids.get("default"));
+        }
+
+        @Test
+        @DisplayName("Private fields leave injection to HtmlLoader")
+        void privateFields_notBound(@TempDir Path dir) throws Exception {
+            Compilation compilation = compile(dir, Map.of("fixture.PrivatePage", """
+                    package fixture;
+
+                    import xss.it.jux.core.Element;
+                    import xss.it.jux.html.annotation.Html;
+                    import xss.it.jux.html.annotation.HtmlId;
+
+                    @Html("pages/escaping.html")
+                    public class PrivatePage {
+                        @HtmlId private Element title;
+                    }
+                    """), Map.of("pages/escaping.html", ESCAPING_TEMPLATE));
+
+            assertThat(compilation.success()).as(compilation.errors()).isTrue();
+            Object component = compilation.newInstance("fixture.PrivatePage");
+            CompiledTemplate template = compilation.template("fixture.PrivatePageTemplate");
+
+            assertThat(template.bindsFields()).isFalse();
+            assertThat(dump(template.build(component))).isEqualTo(
+                    dump(HtmlStreamParser.parse(new StringReader(ESCAPING_TEMPLATE), null)));
+            assertThat(field(component, "title")).isNull();
+        }
+
+        @Test
+        @DisplayName("Large templates are split into nodeN methods of at most 200 elements")
+        void largeTemplate_splitIntoMethods(@TempDir Path dir) throws Exception {
+            StringBuilder html = new StringBuilder("<div id=\"root\"><ul id=\"list\">");
+            for (int i = 0; i < 450; i++) {
+                html.append("<li id=\"item-").append(i).append("\"><span>").append(i).append("</span></li>");
+            }
+            html.append("</ul>");
+            for (int i = 0; i < 250; i++) {
+                html.append("<p class=\"row\">Row ").append(i).append("</p>");
+            }
+            html.append("<footer id=\"last\">End</footer></div>");
+            String template = html.toString();
+
+            Compilation compilation = compile(dir, Map.of("fixture.LargePage", """
+                    package fixture;
+
+                    import xss.it.jux.core.Element;
+                    import xss.it.jux.html.annotation.Html;
+                    import xss.it.jux.html.annotation.HtmlId;
+
+                    @Html("large.html")
+                    public class LargePage {
+                        @HtmlId Element list;
+                        @HtmlId("item-7") Element early;
+                        @HtmlId("item-449") Element late;
+                        @HtmlId Element last;
+                    }
+                    """), Map.of("large.html", template));
+
+            assertThat(compilation.success()).as(compilation.errors()).isTrue();
+            Object component = compilation.newInstance("fixture.LargePage");
+            Element root = compilation.template("fixture.LargePageTemplate").build(component);
+
+            assertThat(dump(root)).isEqualTo(dump(HtmlStreamParser.parse(new StringReader(template), null)));
+            Map<String, Element> ids = TemplateCompiler.indexById(root);
+            assertThat(field(component, "list")).isSameAs(ids.get("list"));
+            assertThat(field(component, "early")).isSameAs(ids.get("item-7"));
+            assertThat(field(component, "late")).isSameAs(ids.get("item-449"));
+            assertThat(field(component, "last")).isSameAs(ids.get("last"));
+
+            Map<String, Integer> elementsPerMethod = elementsPerMethod(
+                    compilation.generatedSource("fixture.LargePageTemplate"));
+            assertThat(elementsPerMethod.size()).isGreaterThan(5);
+            assertThat(elementsPerMethod.values())
+                    .allSatisfy(count -> assertThat(count).isLessThanOrEqualTo(TemplateCompiler.MAX_NODES_PER_METHOD));
+            assertThat(elementsPerMethod.values().stream().mapToInt(Integer::intValue).sum())
+                    .isEqualTo(1 + 1 + 450 * 2 + 250 + 1);
+        }
+
+        @Test
+        @DisplayName("An id missing from the template is a compile error")
+        void missingId_failsCompilation(@TempDir Path dir) throws Exception {
+            Compilation compilation = compile(dir, Map.of("fixture.BrokenPage", """
+                    package fixture;
+
+                    import xss.it.jux.core.Element;
+                    import xss.it.jux.html.annotation.Html;
+                    import xss.it.jux.html.annotation.HtmlId;
+
+                    @Html("pages/escaping.html")
+                    public class BrokenPage {
+                        @HtmlId Element nope;
+                    }
+                    """), Map.of("pages/escaping.html", ESCAPING_TEMPLATE));
+
+            assertThat(compilation.success()).isFalse();
+            assertThat(compilation.errors()).contains("No element with id=\"nope\"");
+        }
+
+        @Test
+        @DisplayName("HtmlLoader builds a compiled template end to end without parsing it")
+        void htmlLoader_loadsCompiledTemplate(@TempDir Path dir) throws Exception {
+            Compilation compilation = compile(dir, Map.of("fixture.EscapingPage", """
+                    package fixture;
+
+                    import xss.it.jux.core.Element;
+                    import xss.it.jux.html.annotation.Html;
+                    import xss.it.jux.html.annotation.HtmlId;
+
+                    @Html("pages/escaping.html")
+                    public class EscapingPage {
+                        @HtmlId Element title;
+                        @HtmlId("data") private Element paragraph;
+                    }
+                    """), Map.of("pages/escaping.html", ESCAPING_TEMPLATE));
+            assertThat(compilation.success()).as(compilation.errors()).isTrue();
+
+            Object component = compilation.newInstance("fixture.EscapingPage");
+            Element[] loaded = new Element[1];
+            compilation.withContextLoader(() -> loaded[0] = HtmlLoader.load(component));
+
+            // The compiled class was used: nothing was parsed into the template cache
+            assertThat(HtmlLoader.getCache().size()).isZero();
+            assertThat(dump(loaded[0])).isEqualTo(
+                    dump(HtmlStreamParser.parse(new StringReader(ESCAPING_TEMPLATE), null)));
+            Map<String, Element> ids = TemplateCompiler.indexById(loaded[0]);
+            assertThat(field(component, "title")).isSameAs(ids.get("title"));
+            assertThat(field(component, "paragraph")).isSameAs(ids.get("data"));
+        }
+
+        @Test
+        @DisplayName("HtmlLoader uses the compiled class until the template resource changes")
+        void editedTemplate_makesCompiledClassStale(@TempDir Path dir) throws Exception {
+            Compilation compilation = compile(dir, Map.of("fixture.EscapingPage", """
+                    package fixture;
+
+                    import xss.it.jux.core.Element;
+                    import xss.it.jux.html.annotation.Html;
+                    import xss.it.jux.html.annotation.HtmlId;
+
+                    @Html("pages/escaping.html")
+                    public class EscapingPage {
+                        @HtmlId Element title;
+                    }
+                    """), Map.of("pages/escaping.html", ESCAPING_TEMPLATE));
+            assertThat(compilation.success()).as(compilation.errors()).isTrue();
+
+            compilation.withContextLoader(() -> HtmlLoader.load(compilation.newInstance("fixture.EscapingPage")));
+            assertThat(HtmlLoader.getCache().size()).isZero();
+
+            // Edit the template resource without recompiling: the next component class must parse it
+            Files.writeString(dir.resolve("templates/pages/escaping.html"),
+                    ESCAPING_TEMPLATE.replace("Caf&eacute;", "Bistro"), StandardCharsets.UTF_8);
+            Compilation recompiled = compilation.reloaded();
+            Object component = recompiled.newInstance("fixture.EscapingPage");
+            recompiled.withContextLoader(() -> HtmlLoader.load(component));
+
+            assertThat(HtmlLoader.getCache().size()).isEqualTo(1);
+            assertThat(((Element) field(component, "title")).getTextContent()).startsWith("Bistro");
+        }
+    }
+
+    // ── Route URL builders ───────────────────────────────────────
+
+    @Nested
+    @DisplayName("Route URL builders")
+    class RouteUrlBuilders {
+
+        @Test
+        @DisplayName("Path variables become typed parameters in pattern order")
+        void variables_becomeTypedParameters(@TempDir Path dir) throws Exception {
+            Compilation compilation = compile(dir, Map.of("fixture.BlogPage", """
+                    package fixture;
+
+                    import xss.it.jux.annotation.PathParam;
+                    import xss.it.jux.annotation.Route;
+                    import xss.it.jux.core.Component;
+                    import xss.it.jux.core.Element;
+
+                    @Route("/blog/{slug}/{id:long}/files/**")
+                    public class BlogPage extends Component {
+                        @PathParam String slug;
+                        @PathParam("id") long postId;
+
+                        @Override
+                        public Element render() {
+                            return Element.of("div");
+                        }
+                    }
+                    """), Map.of());
+
+            assertThat(compilation.success()).as(compilation.errors()).isTrue();
+            Method of = compilation.load("fixture.BlogPageUrl")
+                    .getMethod("of", String.class, long.class, String.class);
+
+            assertThat(of.invoke(null, "hello", 42L, "a/b.txt")).isEqualTo("/blog/hello/42/files/a/b.txt");
+            assertThat(of.invoke(null, null, 7L, null)).isEqualTo("/blog//7/files/**");
+            assertThat(compilation.load("fixture.BlogPageUrl").getField("PATTERN").get(null))
+                    .isEqualTo("/blog/{slug}/{id:long}/files/**");
+        }
+
+        @Test
+        @DisplayName("Type hints choose parameter types when no @PathParam field declares one")
+        void typeHints_chooseParameterTypes(@TempDir Path dir) throws Exception {
+            Compilation compilation = compile(dir, Map.of("fixture.Pages", """
+                    package fixture;
+
+                    import xss.it.jux.annotation.Route;
+                    import xss.it.jux.core.Component;
+                    import xss.it.jux.core.Element;
+
+                    public class Pages {
+
+                        @Route("/orders/{ref:uuid}/page/{page:int}")
+                        public static class OrderPage extends Component {
+                            @Override
+                            public Element render() {
+                                return Element.of("div");
+                            }
+                        }
+
+                        @Route("/about")
+                        public static class AboutPage extends Component {
+                            @Override
+                            public Element render() {
+                                return Element.of("div");
+                            }
+                        }
+                    }
+                    """), Map.of());
+
+            assertThat(compilation.success()).as(compilation.errors()).isTrue();
+            UUID ref = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+            Method order = compilation.load("fixture.Pages_OrderPageUrl").getMethod("of", UUID.class, int.class);
+            Method about = compilation.load("fixture.Pages_AboutPageUrl").getMethod("of");
+
+            assertThat(order.invoke(null, ref, 3)).isEqualTo("/orders/" + ref + "/page/3");
+            assertThat(about.invoke(null)).isEqualTo("/about");
+        }
+
+        @Test
+        @DisplayName("Regex constraints with nested braces are stripped from the builder")
+        void regexConstraints_withNestedBraces(@TempDir Path dir) throws Exception {
+            Compilation compilation = compile(dir, Map.of("fixture.ProductPage", """
+                    package fixture;
+
+                    import xss.it.jux.annotation.Route;
+                    import xss.it.jux.core.Component;
+                    import xss.it.jux.core.Element;
+
+                    @Route("/products/{code:regex([a-z]{3})}/v/{rev:regex(\\\\d{1,4})}")
+                    public class ProductPage extends Component {
+                        @Override
+                        public Element render() {
+                            return Element.of("div");
+                        }
+                    }
+                    """), Map.of());
+
+            assertThat(compilation.success()).as(compilation.errors()).isTrue();
+            Class<?> url = compilation.load("fixture.ProductPageUrl");
+            Method of = url.getMethod("of", String.class, String.class);
+
+            assertThat(of.invoke(null, "abc", "12")).isEqualTo("/products/abc/v/12");
+            assertThat(url.getField("PATTERN").get(null))
+                    .isEqualTo("/products/{code:regex([a-z]{3})}/v/{rev:regex(\\d{1,4})}");
+        }
+    }
+
+    // ── Client-side state transfer ───────────────────────────────
+
+    @Nested
+    @DisplayName("State transfer")
+    class StateTransfer {
+
+        private static final String BASE = """
+                package fixture;
+
+                import xss.it.jux.annotation.State;
+                import xss.it.jux.core.Component;
+
+                public abstract class Base extends Component {
+                    @State String inherited = "base";
+                }
+                """;
+
+        private static final String WIDGET = """
+                package fixture;
+
+                import java.util.List;
+                import xss.it.jux.annotation.JuxComponent;
+                import xss.it.jux.annotation.State;
+                import xss.it.jux.core.ComponentState;
+                import xss.it.jux.core.Element;
+
+                @JuxComponent(clientSide = true)
+                public class Widget extends Base {
+                    public enum Mode { LIST, GRID }
+
+                    @State String query = "";
+                    @State int page;
+                    @State long total;
+                    @State boolean open;
+                    @State double ratio;
+                    @State float scale;
+                    @State short level;
+                    @State byte flags;
+                    @State char key = 'a';
+                    @State Integer limit = 10;
+                    @State Mode mode = Mode.LIST;
+                    @State List<String> tags = List.of();
+
+                    public void change() {
+                        inherited = "sub";
+                        query = "caf\\u00e9 \\"q\\"";
+                        page = 3;
+                        total = 9_000_000_000L;
+                        open = true;
+                        ratio = 0.25;
+                        scale = 1.5f;
+                        level = 7;
+                        flags = -2;
+                        key = 'z';
+                        limit = null;
+                        mode = Mode.GRID;
+                        tags = List.of("a", "b");
+                    }
+
+                    @Override
+                    public void saveState(ComponentState state) {
+                        WidgetState.save(this, state);
+                    }
+
+                    @Override
+                    public void restoreState(ComponentState state) {
+                        WidgetState.restore(this, state);
+                    }
+
+                    @Override
+                    public Element render() {
+                        return Element.of("div");
+                    }
+                }
+                """;
+
+        @Test
+        @DisplayName("@State fields survive the JSON round trip through the generated class")
+        void stateFields_roundTrip(@TempDir Path dir) throws Exception {
+            Compilation compilation = compile(dir, Map.of("fixture.Base", BASE, "fixture.Widget", WIDGET),
+                    Map.of());
+
+            assertThat(compilation.success()).as(compilation.errors()).isTrue();
+            Component server = (Component) compilation.newInstance("fixture.Widget");
+            server.getClass().getMethod("change").invoke(server);
+            ComponentState saved = new ComponentState();
+            server.saveState(saved);
+
+            Component client = (Component) compilation.newInstance("fixture.Widget");
+            client.restoreState(ComponentState.fromJson(saved.toJson()));
+
+            for (String name : List.of("query", "page", "total", "open", "ratio", "scale", "level",
+                    "flags", "key", "limit", "mode", "tags")) {
+                assertThat(field(client, name)).as(name).isEqualTo(field(server, name));
+            }
+            Field inherited = compilation.load("fixture.Base").getDeclaredField("inherited");
+            inherited.setAccessible(true);
+            assertThat(inherited.get(client)).isEqualTo("sub");
+        }
+
+        @Test
+        @DisplayName("Fields absent from the state keep their initial values")
+        void absentFields_keepValues(@TempDir Path dir) throws Exception {
+            Compilation compilation = compile(dir, Map.of("fixture.Base", BASE, "fixture.Widget", WIDGET),
+                    Map.of());
+
+            Component client = (Component) compilation.newInstance("fixture.Widget");
+            client.restoreState(new ComponentState().put("page", 2));
+
+            assertThat(field(client, "page")).isEqualTo(2);
+            assertThat(field(client, "key")).isEqualTo('a');
+            assertThat(field(client, "limit")).isEqualTo(10);
+            assertThat(field(client, "query")).isEqualTo("");
+        }
+
+        @Test
+        @DisplayName("Private and unsupported fields are left out; server-only components get no class")
+        void inaccessibleFields_leftOut(@TempDir Path dir) throws Exception {
+            Compilation compilation = compile(dir, Map.of(
+                    "fixture.Mixed", """
+                            package fixture;
+
+                            import xss.it.jux.annotation.JuxComponent;
+                            import xss.it.jux.annotation.State;
+                            import xss.it.jux.core.Component;
+                            import xss.it.jux.core.Element;
+
+                            @JuxComponent(clientSide = true)
+                            public class Mixed extends Component {
+                                @State int count;
+                                @State private int hidden;
+                                @State Object payload;
+
+                                @Override
+                                public Element render() {
+                                    return Element.of("div");
+                                }
+                            }
+                            """,
+                    "fixture.ServerOnly", """
+                            package fixture;
+
+                            import xss.it.jux.annotation.JuxComponent;
+                            import xss.it.jux.annotation.State;
+                            import xss.it.jux.core.Component;
+                            import xss.it.jux.core.Element;
+
+                            @JuxComponent
+                            public class ServerOnly extends Component {
+                                @State int count;
+
+                                @Override
+                                public Element render() {
+                                    return Element.of("div");
+                                }
+                            }
+                            """), Map.of());
+
+            assertThat(compilation.success()).as(compilation.errors()).isTrue();
+            String source = compilation.generatedSource("fixture.MixedState");
+            assertThat(source.contains("component.count")).isTrue();
+            assertThat(source.contains("hidden")).isFalse();
+            assertThat(source.contains("payload")).isFalse();
+            assertThat(compilation.diagnostics().stream()
+                    .filter(d -> d.getKind() == Diagnostic.Kind.WARNING)
+                    .map(d -> d.getMessage(null))
+                    .filter(m -> m.contains("'payload'"))
+                    .toList()).hasSize(1);
+            assertThat(Files.exists(dir.resolve("generated/fixture/ServerOnlyState.java"))).isFalse();
+        }
+    }
+
+    // ── Helpers ──────────────────────────────────────────────────
+
+    /**
+     * The outcome of one compilation: the compiler result and diagnostics, and the
+     * directories holding the compiled classes, generated sources and templates.
+     */
+    private record Compilation(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics,
+                               Path root, ClassLoader loader) {
+
+        String errors() {
+            return diagnostics.stream()
+                    .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                    .map(d -> d.getMessage(null))
+                    .collect(Collectors.joining("\n"));
+        }
+
+        Class<?> load(String name) throws ClassNotFoundException {
+            return Class.forName(name, true, loader);
+        }
+
+        Object newInstance(String name) throws ReflectiveOperationException {
+            return load(name).getDeclaredConstructor().newInstance();
+        }
+
+        CompiledTemplate template(String name) throws ReflectiveOperationException {
+            return (CompiledTemplate) newInstance(name);
+        }
+
+        String generatedSource(String name) throws IOException {
+            return Files.readString(root.resolve("generated").resolve(name.replace('.', '/') + ".java"));
+        }
+
+        /** The same classes and templates, loaded afresh so per-class caches start empty. */
+        Compilation reloaded() throws IOException {
+            return new Compilation(success, diagnostics, root, classLoader(root));
+        }
+
+        /** Runs an action with this compilation's loader as the thread's context class loader. */
+        void withContextLoader(ThrowingRunnable action) throws Exception {
+            Thread thread = Thread.currentThread();
+            ClassLoader previous = thread.getContextClassLoader();
+            thread.setContextClassLoader(loader);
+            try {
+                action.run();
+            } finally {
+                thread.setContextClassLoader(previous);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    /**
+     * Compiles fixture sources with the annotation processor. Templates are written
+     * under {@code templates/}, which is passed as {@code -Ajux.templates} and is also
+     * on the resulting class loader, as it would be on an application's class path.
+     */
+    private static Compilation compile(Path dir, Map<String, String> sources, Map<String, String> templates)
+            throws IOException {
+        Path classes = Files.createDirectories(dir.resolve("classes"));
+        Path generated = Files.createDirectories(dir.resolve("generated"));
+        Path templateDir = Files.createDirectories(dir.resolve("templates"));
+        for (Map.Entry<String, String> template : templates.entrySet()) {
+            Path file = templateDir.resolve(template.getKey());
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, template.getValue(), StandardCharsets.UTF_8);
+        }
+        List<Path> files = new ArrayList<>();
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            Path file = dir.resolve("src").resolve(source.getKey().replace('.', '/') + ".java");
+            Files.createDirectories(file.getParent());
+            files.add(Files.writeString(file, source.getValue(), StandardCharsets.UTF_8));
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager =
+                     compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            List<String> options = List.of(
+                    "-d", classes.toString(),
+                    "-s", generated.toString(),
+                    "-classpath", classPath(),
+                    "-A" + JuxAnnotationProcessor.TEMPLATES_OPTION + "=" + templateDir);
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options,
+                    null, fileManager.getJavaFileObjectsFromPaths(files));
+            task.setProcessors(List.of(new JuxAnnotationProcessor()));
+            boolean success = task.call();
+            return new Compilation(success, diagnostics.getDiagnostics(), dir, classLoader(dir));
+        }
+    }
+
+    /** A loader over the compiled classes and the template root, delegating to the test class path. */
+    private static ClassLoader classLoader(Path dir) throws IOException {
+        return new URLClassLoader(new URL[]{
+                dir.resolve("classes").toUri().toURL(),
+                dir.toUri().toURL()
+        }, JuxAnnotationProcessorTest.class.getClassLoader());
+    }
+
+    /** The class path fixtures compile against: the jars or directories of the JUX modules. */
+    private static String classPath() {
+        List<String> entries = new ArrayList<>();
+        for (Class<?> type : List.of(Element.class, Route.class, Html.class, CompiledTemplate.class)) {
+            try {
+                String entry = Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+                if (!entries.contains(entry)) {
+                    entries.add(entry);
+                }
+            } catch (URISyntaxException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+
+    /** Reads a field of a fixture component. */
+    private static Object field(Object component, String name) throws ReflectiveOperationException {
+        Field field = component.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(component);
+    }
+
+    /** Counts the {@code Element.of} calls in each generated {@code nodeN} method. */
+    private static Map<String, Integer> elementsPerMethod(String source) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        Matcher method = Pattern.compile("private static \\w+ (node\\d+)\\(").matcher(source);
+        List<Integer> starts = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        while (method.find()) {
+            starts.add(method.start());
+            names.add(method.group(1));
+        }
+        starts.add(source.length());
+        for (int i = 0; i < names.size(); i++) {
+            String body = source.substring(starts.get(i), starts.get(i + 1));
+            counts.put(names.get(i), body.split("Element\\.of\\(", -1).length - 1);
+        }
+        return counts;
+    }
+
+    /** Serialize a tree with everything the parsers set, for structural comparison. */
+    private static String dump(Element element) {
+        StringBuilder sb = new StringBuilder();
+        sb.append('<').append(element.getTag()).append(element.getAttributes())
+                .append(element.getCssClasses()).append(element.getStyles())
+                .append('|').append(element.getTextContent()).append('|');
+        for (Element child : element.getChildren()) {
+            sb.append(dump(child));
+        }
+        return sb.append("/>").toString();
+    }
+}
@@ -1,6 +1,8 @@
 package xss.it.jux.reactive.value;
 
+import xss.it.jux.core.Bindable;
 import xss.it.jux.reactive.ChangeListener;
+import xss.it.jux.reactive.InvalidationListener;
 import xss.it.jux.reactive.Observable;
 import xss.it.jux.reactive.Subscription;
 
@@ -9,11 +11,16 @@ import xss.it.jux.reactive.Subscription;
  * {@link xss.it.jux.reactive.InvalidationListener}s (lightweight, lazy) and
  * {@link ChangeListener}s (receive old and new values).
  *
+ * <p>Every observable value is also a {@link Bindable}, so it can be bound
+ * directly to the text, attributes, classes or styles of an
+ * {@link xss.it.jux.core.Element}.</p>
+ *
  * @param <T> the type of the wrapped value
  * @see ChangeListener
  */
-public interface ObservableValue<T> extends Observable {
+public interface ObservableValue<T> extends Observable, Bindable<T> {
 
+    @Override
     T getValue();
 
     void addListener(ChangeListener<? super T> listener);
@@ -24,4 +31,16 @@ public interface ObservableValue<T> extends Observable {
         addListener(listener);
         return () -> removeListener(listener);
     }
+
+    /**
+     * Registers the listener as an invalidation listener.
+     *
+     * @param listener the callback to run on every invalidation
+     * @return a handle that removes the listener
+     */
+    @Override
+    default Runnable observe(Runnable listener) {
+        Subscription subscription = subscribe((InvalidationListener) observable -> listener.run());
+        return subscription::unsubscribe;
+    }
 }
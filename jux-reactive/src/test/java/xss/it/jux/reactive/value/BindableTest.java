@@ -0,0 +1,70 @@
+package xss.it.jux.reactive.value;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import xss.it.jux.core.Element;
+import xss.it.jux.reactive.binding.Bindings;
+import xss.it.jux.reactive.binding.StringBinding;
+import xss.it.jux.reactive.property.SimpleBooleanProperty;
+import xss.it.jux.reactive.property.SimpleIntegerProperty;
+import xss.it.jux.reactive.property.SimpleStringProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static xss.it.jux.core.Elements.span;
+
+/**
+ * Tests for {@link ObservableValue} as a {@link xss.it.jux.core.Bindable} —
+ * the bridge that lets element bindings observe properties and bindings.
+ */
+@DisplayName("ObservableValue as Bindable")
+class BindableTest {
+
+    @Test
+    @DisplayName("observe runs the listener on every change until the handle is run")
+    void observe_runsUntilCancelled() {
+        var name = new SimpleStringProperty("a");
+        List<String> seen = new ArrayList<>();
+
+        Runnable cancel = name.observe(() -> seen.add(name.getValue()));
+        name.set("b");
+        name.set("c");
+        cancel.run();
+        name.set("d");
+
+        assertThat(seen).containsExactly("b", "c");
+    }
+
+    @Test
+    @DisplayName("a lazy binding notifies on every change when its value is read each time")
+    void observe_lazyBindingRevalidates() {
+        var count = new SimpleIntegerProperty(1);
+        StringBinding label = Bindings.convert(count);
+        List<String> seen = new ArrayList<>();
+
+        label.observe(() -> seen.add(label.getValue()));
+        count.set(2);
+        count.set(3);
+
+        assertThat(seen).containsExactly("2", "3");
+    }
+
+    @Test
+    @DisplayName("bound element parts take the properties' current values")
+    void elementTakesCurrentValues() {
+        var text = new SimpleStringProperty("Idle");
+        var busy = new SimpleBooleanProperty(true);
+        var width = new SimpleStringProperty(null);
+
+        Element el = span().bindText(text).bindClass("spinner", busy)
+                .bindAttr("aria-busy", busy).bindStyle("width", width);
+
+        assertThat(el.getTextContent()).isEqualTo("Idle");
+        assertThat(el.getCssClasses()).containsExactly("spinner");
+        assertThat(el.getAttribute("aria-busy")).isEqualTo("true");
+        assertThat(el.getStyles()).isEmpty();
+        assertThat(el.getBindings()).hasSize(4);
+    }
+}
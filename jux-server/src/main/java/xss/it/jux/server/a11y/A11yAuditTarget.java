@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.server.a11y;
+
+import xss.it.jux.core.Element;
+
+import java.util.function.Supplier;
+
+/**
+ * Something the build-time accessibility audit renders and checks: a route
+ * with sample parameters, a CMS widget type, or any other element tree an
+ * {@link A11yAuditTargetProvider} contributes.
+ *
+ * @param name     the name the target is reported under (e.g. {@code "/blog/1"} or
+ *                 {@code "widget:hero"})
+ * @param renderer renders the target's element tree; called once, on the auditing thread
+ *
+ * @see A11yBuildAudit
+ */
+public record A11yAuditTarget(String name, Supplier<Element> renderer) {}
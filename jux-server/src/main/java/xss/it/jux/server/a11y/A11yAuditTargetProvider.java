@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.server.a11y;
+
+import java.util.List;
+
+/**
+ * Contributes element trees to the build-time accessibility audit beyond the
+ * registered routes.
+ *
+ * <p>Every bean of this type in the application context is asked for its
+ * targets when {@link A11yBuildAudit#run()} runs. Modules use it to put
+ * content in front of the audit that no route renders on its own -- the CMS,
+ * for example, contributes one target per registered widget type. Beans are
+ * only consulted by the audit, so declaring one costs nothing at runtime.</p>
+ *
+ * @see A11yBuildAudit
+ */
+@FunctionalInterface
+public interface A11yAuditTargetProvider {
+
+    /**
+     * Returns the targets to audit.
+     *
+     * @return the targets, possibly empty
+     */
+    List<A11yAuditTarget> auditTargets();
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.server.a11y;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.context.ApplicationContext;
+import xss.it.jux.a11y.A11yViolation;
+import xss.it.jux.a11y.JuxAccessibilityEngine;
+import xss.it.jux.core.Component;
+import xss.it.jux.core.Element;
+import xss.it.jux.core.JuxRequestContext;
+import xss.it.jux.core.Page;
+import xss.it.jux.i18n.JuxLocaleResolver;
+import xss.it.jux.i18n.Messages;
+import xss.it.jux.server.routing.JuxRequestContextImpl;
+import xss.it.jux.server.routing.JuxRouteRegistrar;
+import xss.it.jux.server.routing.ParameterInjector;
+import xss.it.jux.server.routing.RouteDefinition;
+import xss.it.jux.server.routing.SyntheticRequests;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Build-time accessibility audit of everything an application can render.
+ *
+ * <p>Runs against a started application context (typically a
+ * {@code @SpringBootTest}), so that production can run with
+ * {@code jux.a11y.audit-on-render=false} and pay nothing for auditing while
+ * the build still guarantees WCAG 2.2 AA. The audit:</p>
+ * <ol>
+ *   <li>Renders every registered route, once per sample from the
+ *       {@link A11yRouteSamples} bean (or {@link A11yRouteSamples#DEFAULT}),
+ *       through the same steps as {@link xss.it.jux.server.routing.JuxRouteHandler}:
+ *       component instantiation, request initialization, parameter injection and
+ *       {@code render()}, against an anonymous synthetic request</li>
+ *   <li>Renders every target contributed by {@link A11yAuditTargetProvider}
+ *       beans (e.g. each CMS widget type)</li>
+ *   <li>Audits all rendered trees in parallel with the context's
+ *       {@link JuxAccessibilityEngine}</li>
+ * </ol>
+ *
+ * <p>Rendering happens on the calling thread, because components may rely on
+ * per-thread state such as the current locale; only the audits fan out. A target
+ * that throws while rendering is recorded as a failure in the report instead of
+ * aborting the audit.</p>
+ *
+ * <p><b>Example</b> (with the {@code jux-server} test fixtures, see
+ * {@code xss.it.jux.server.test.A11yBuildAuditExtension}):</p>
+ * <pre>{@code
+ * @SpringBootTest
+ * @ExtendWith(A11yBuildAuditExtension.class)
+ * class AccessibilityBuildTest {
+ *     @Test
+ *     void noWcagErrors(A11yBuildReport report) {
+ *         report.assertNoErrors();
+ *     }
+ * }
+ * }</pre>
+ *
+ * @see A11yBuildReport
+ */
+public class A11yBuildAudit {
+
+    /** Logger for audit progress. */
+    private static final Logger log = LoggerFactory.getLogger(A11yBuildAudit.class);
+
+    /** User agent of the synthetic requests routes are rendered with. */
+    private static final String USER_AGENT = "jux-a11y-audit";
+
+    /** The started application context to render routes and targets from. */
+    private final ApplicationContext context;
+
+    /**
+     * Create an audit over the given application context.
+     *
+     * @param context the started application context
+     */
+    public A11yBuildAudit(ApplicationContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Render and audit every route and contributed target.
+     *
+     * @return the audit report
+     */
+    public A11yBuildReport run() {
+        long start = System.nanoTime();
+        List<A11yAuditTarget> targets = new ArrayList<>(routeTargets());
+        context.getBeanProvider(A11yAuditTargetProvider.class).orderedStream()
+            .forEach(provider -> targets.addAll(provider.auditTargets()));
+
+        /* Render sequentially; components may depend on thread-local request state. */
+        List<String> names = new ArrayList<>(targets.size());
+        List<Element> trees = new ArrayList<>(targets.size());
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (A11yAuditTarget target : targets) {
+            try {
+                Element tree = target.renderer().get();
+                if (tree != null) {
+                    names.add(target.name());
+                    trees.add(tree);
+                }
+            } catch (RuntimeException e) {
+                failures.put(target.name(), e.toString());
+            }
+        }
+
+        /* Audit in parallel; the engine is stateless. */
+        JuxAccessibilityEngine engine = context.getBeanProvider(JuxAccessibilityEngine.class)
+            .getIfAvailable(JuxAccessibilityEngine::new);
+        List<List<A11yViolation>> results = trees.parallelStream().map(engine::audit).toList();
+
+        Instant now = Instant.now();
+        List<A11yFinding> findings = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            for (A11yViolation violation : results.get(i)) {
+                findings.add(new A11yFinding(names.get(i), violation, now));
+            }
+        }
+
+        A11yBuildReport report = new A11yBuildReport(trees.size(), List.copyOf(findings), failures);
+        log.info("JUX a11y build audit: {} in {} ms", report.summary(), (System.nanoTime() - start) / 1_000_000);
+        return report;
+    }
+
+    /**
+     * Create one target per registered route and sample.
+     *
+     * @return the route targets, named by their sample URL
+     */
+    List<A11yAuditTarget> routeTargets() {
+        JuxRouteRegistrar registrar = context.getBean(JuxRouteRegistrar.class);
+        A11yRouteSamples samples = context.getBeanProvider(A11yRouteSamples.class)
+            .getIfAvailable(() -> A11yRouteSamples.DEFAULT);
+
+        List<A11yAuditTarget> targets = new ArrayList<>();
+        for (RouteDefinition route : registrar.getRoutes()) {
+            for (Map<String, String> params : samples.samples(route)) {
+                String url = route.urlTemplate().expand(params);
+                targets.add(new A11yAuditTarget(url, () -> renderRoute(route, url, params)));
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * Render a route's component the way the route handler does, without
+     * security checks, caching or HTML serialization.
+     *
+     * @param route  the route to render
+     * @param url    the URL the sample expands to
+     * @param params the sample's path variables
+     * @return the component's element tree
+     */
+    private Element renderRoute(RouteDefinition route, String url, Map<String, String> params) {
+        HttpServletRequest request = SyntheticRequests.get(url, null, USER_AGENT);
+        HttpServletResponse response = SyntheticRequests.response(new int[]{200});
+        JuxRequestContext ctx = JuxRequestContextImpl.of(request, response);
+        Messages messages = context.getBean(Messages.class);
+        Locale locale = context.getBean(JuxLocaleResolver.class).resolve(ctx);
+        messages.setCurrentLocale(locale);
+        try (SyntheticRequests.Binding ignored = SyntheticRequests.bind(request, response)) {
+            Component component;
+            try {
+                component = context.getBean(route.componentClass());
+            } catch (NoSuchBeanDefinitionException e) {
+                component = context.getAutowireCapableBeanFactory().createBean(route.componentClass());
+            }
+            if (component instanceof Page page) {
+                page.initRequest(ctx, params, messages);
+            }
+            context.getBean(ParameterInjector.class).inject(component, params, ctx, locale);
+            return component.render();
+        } finally {
+            messages.clearCurrentLocale();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.server.a11y;
+
+import xss.it.jux.a11y.A11ySeverity;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a build-time accessibility audit: every violation found on every
+ * target, and every target that could not be rendered.
+ *
+ * <p>The JSON form ({@link #toJson()}) is what build tooling consumes:</p>
+ * <pre>{@code
+ * {
+ *   "targets": 42, "errors": 1, "warnings": 3, "infos": 0, "renderFailures": 0,
+ *   "findings": [ {"route":"/about","violation":{...},"detectedAt":"..."}, ... ],
+ *   "failures": [ {"target":"/admin","error":"..."} ]
+ * }
+ * }</pre>
+ *
+ * <p>Findings use the same shape as the async auditor's reporters
+ * ({@link A11yFinding#toJson()}), with the target name as the route.</p>
+ *
+ * @param targets  the number of element trees rendered and audited
+ * @param findings the violations found, grouped by target in audit order
+ * @param failures the targets that failed to render, by name, with the error message
+ *
+ * @see A11yBuildAudit
+ */
+public record A11yBuildReport(int targets, List<A11yFinding> findings, Map<String, String> failures) {
+
+    /**
+     * Count the findings of a given severity.
+     *
+     * @param severity the severity to count
+     * @return the number of findings with that severity
+     */
+    public long count(A11ySeverity severity) {
+        return findings.stream().filter(f -> f.violation().severity() == severity).count();
+    }
+
+    /**
+     * Whether the audit should fail the build: any ERROR violation, or any
+     * target that could not be rendered (and therefore was not verified).
+     *
+     * @return {@code true} if the build should fail
+     */
+    public boolean hasErrors() {
+        return !failures.isEmpty() || count(A11ySeverity.ERROR) > 0;
+    }
+
+    /**
+     * Throw if the audit found ERROR violations or render failures.
+     *
+     * <p>Intended for tests: the message lists every error, one per line, in the
+     * same format the runtime audit logs them.</p>
+     *
+     * @throws AssertionError if {@link #hasErrors()}
+     */
+    public void assertNoErrors() {
+        if (!hasErrors()) {
+            return;
+        }
+        StringBuilder sb = new StringBuilder("Accessibility audit failed: ")
+            .append(summary());
+        for (A11yFinding f : findings) {
+            if (f.violation().severity() == A11ySeverity.ERROR) {
+                sb.append("\n  ").append(f.route()).append(" [").append(f.violation().wcagCriterion())
+                  .append("] ").append(f.violation().rule()).append(": ").append(f.violation().message())
+                  .append(" at ").append(f.violation().elementPath())
+                  .append(" - ").append(f.violation().suggestion());
+            }
+        }
+        failures.forEach((target, error) ->
+            sb.append("\n  ").append(target).append(" failed to render: ").append(error));
+        throw new AssertionError(sb.toString());
+    }
+
+    /**
+     * Returns a one-line summary of the counts.
+     *
+     * @return e.g. {@code "42 targets, 1 errors, 3 warnings, 0 infos, 0 render failures"}
+     */
+    public String summary() {
+        return targets + " targets, " + count(A11ySeverity.ERROR) + " errors, "
+            + count(A11ySeverity.WARNING) + " warnings, " + count(A11ySeverity.INFO) + " infos, "
+            + failures.size() + " render failures";
+    }
+
+    /**
+     * Serialize the report as a JSON document.
+     *
+     * @return the JSON report
+     */
+    public String toJson() {
+        StringBuilder sb = new StringBuilder(256 + findings.size() * 256);
+        sb.append("{\"targets\":").append(targets)
+          .append(",\"errors\":").append(count(A11ySeverity.ERROR))
+          .append(",\"warnings\":").append(count(A11ySeverity.WARNING))
+          .append(",\"infos\":").append(count(A11ySeverity.INFO))
+          .append(",\"renderFailures\":").append(failures.size())
+          .append(",\"findings\":").append(A11yFinding.toJson(findings))
+          .append(",\"failures\":[");
+        boolean first = true;
+        for (Map.Entry<String, String> failure : failures.entrySet()) {
+            if (!first) {
+                sb.append(',');
+            }
+            sb.append("{\"target\":");
+            A11yFinding.appendString(sb, failure.getKey());
+            sb.append(",\"error\":");
+            A11yFinding.appendString(sb, failure.getValue());
+            sb.append('}');
+            first = false;
+        }
+        return sb.append("]}").toString();
+    }
+
+    /**
+     * Write the JSON report to a file, creating parent directories as needed.
+     *
+     * @param file the report file
+     * @throws IOException if the file cannot be written
+     */
+    public void writeTo(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(file, toJson(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.server.a11y;
+
+import xss.it.jux.a11y.A11yViolation;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * An accessibility violation found on a route, as delivered to an {@link A11yReporter}.
+ *
+ * <p>Findings are de-duplicated per route by {@link AsyncA11yAuditor}: a
+ * violation is reported the first time it is seen on a route, not on every
+ * request that renders it.</p>
+ *
+ * @param route      the route pattern the page was rendered for (e.g. {@code "/blog/{slug}"})
+ * @param violation  the violation
+ * @param detectedAt when the violation was first seen on the route
+ */
+public record A11yFinding(String route, A11yViolation violation, Instant detectedAt) {
+
+    /**
+     * Serialize this finding as a single-line JSON object.
+     *
+     * <p>The shape matches what Spring MVC produces for the record, so files,
+     * remote endpoints and the local report endpoint all carry the same
+     * documents: {@code {"route":..., "violation":{...}, "detectedAt":"..."}}.</p>
+     *
+     * @return the JSON object
+     */
+    public String toJson() {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append("{\"route\":");
+        appendString(sb, route);
+        sb.append(",\"violation\":{\"severity\":");
+        appendString(sb, violation.severity().name());
+        sb.append(",\"wcagCriterion\":");
+        appendString(sb, violation.wcagCriterion());
+        sb.append(",\"rule\":");
+        appendString(sb, violation.rule());
+        sb.append(",\"message\":");
+        appendString(sb, violation.message());
+        sb.append(",\"elementPath\":");
+        appendString(sb, violation.elementPath());
+        sb.append(",\"suggestion\":");
+        appendString(sb, violation.suggestion());
+        sb.append("},\"detectedAt\":");
+        appendString(sb, detectedAt.toString());
+        return sb.append('}').toString();
+    }
+
+    /**
+     * Serialize a batch of findings as a JSON array.
+     *
+     * @param findings the findings
+     * @return the JSON array
+     */
+    public static String toJson(List<A11yFinding> findings) {
+        StringBuilder sb = new StringBuilder(findings.size() * 256 + 2).append('[');
+        for (int i = 0; i < findings.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(findings.get(i).toJson());
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Append a JSON string literal, escaping quotes, backslashes and control characters.
+     *
+     * @param sb    the builder to append to
+     * @param value the string, or null for JSON {@code null}
+     */
+    static void appendString(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append("null");
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.server.a11y;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Local collector for accessibility findings, mounted at {@code jux.a11y.report-endpoint}.
+ *
+ * <p>Registered only when {@code jux.a11y.report-endpoint} is set. It keeps the
+ * most recent {@value #CAPACITY} findings in memory and serves them as JSON, so
+ * a development setup can inspect the async audit's output without running a
+ * separate collector:</p>
+ * <pre>{@code
+ * jux:
+ *   a11y:
+ *     report-endpoint: /api/a11y/audit
+ *     async:
+ *       enabled: true
+ *       reporter: endpoint
+ *
+ * // GET /api/a11y/audit  -> [{"route":"/about","violation":{...},"detectedAt":"..."}, ...]
+ * }</pre>
+ *
+ * <p>When {@code jux.a11y.async.reporter} is {@code endpoint} and no
+ * {@code report-url} is configured, the auditor hands batches straight to this
+ * controller in-process instead of POSTing them over HTTP.</p>
+ *
+ * <p>The endpoint is read-only: it accepts no findings over HTTP, so clients
+ * cannot fill the buffer with arbitrary data. Batches from other instances
+ * belong in a dedicated collector reached through {@code report-url}. The
+ * findings list route paths of the application, so expose the endpoint in
+ * development only, or restrict it with the application's security rules
+ * like any other internal path.</p>
+ *
+ * @see A11yReporter
+ * @see AsyncA11yAuditor
+ */
+@RestController
+public class A11yReportController implements A11yReporter {
+
+    /** Number of most recent findings kept in memory. */
+    static final int CAPACITY = 1000;
+
+    /** The most recent findings, oldest first. Guarded by itself. */
+    private final Deque<A11yFinding> recent = new ArrayDeque<>();
+
+    /**
+     * Returns the most recent findings, oldest first.
+     *
+     * @return a snapshot of at most {@value #CAPACITY} findings
+     */
+    @GetMapping("${jux.a11y.report-endpoint}")
+    public List<A11yFinding> findings() {
+        synchronized (recent) {
+            return new ArrayList<>(recent);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void report(List<A11yFinding> findings) {
+        synchronized (recent) {
+            for (A11yFinding finding : findings) {
+                if (recent.size() == CAPACITY) {
+                    recent.removeFirst();
+                }
+                recent.addLast(finding);
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.server.a11y;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import xss.it.jux.server.autoconfigure.JuxProperties;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Destination for accessibility findings collected by {@link AsyncA11yAuditor}.
+ *
+ * <p>Findings are delivered in batches from the auditor's worker or flush
+ * thread, never from a request thread. Implementations must be thread-safe
+ * and should not throw: a failed delivery is logged and the batch dropped.</p>
+ *
+ * <p>The implementation is selected by {@code jux.a11y.async.reporter}:</p>
+ * <ul>
+ *   <li>{@code log} (default) -- one log line per finding, via {@link LogA11yReporter}</li>
+ *   <li>{@code file} -- JSON lines appended to {@code jux.a11y.async.report-file},
+ *       via {@link FileA11yReporter}</li>
+ *   <li>{@code endpoint} -- JSON batches POSTed to {@code jux.a11y.async.report-url},
+ *       via {@link EndpointA11yReporter}; without a URL, findings go to the local
+ *       {@link A11yReportController} mounted at {@code jux.a11y.report-endpoint}</li>
+ * </ul>
+ *
+ * @see AsyncA11yAuditor
+ * @see A11yFinding
+ */
+@FunctionalInterface
+public interface A11yReporter {
+
+    /**
+     * Deliver a batch of findings.
+     *
+     * @param findings the findings, in detection order; never empty
+     */
+    void report(List<A11yFinding> findings);
+
+    /**
+     * Create the reporter configured by {@code jux.a11y.async.*}.
+     *
+     * @param config        the accessibility configuration
+     * @param localEndpoint the in-process report endpoint, or null if
+     *                      {@code jux.a11y.report-endpoint} is not set
+     * @return the configured reporter; the log reporter if the configuration
+     *         names an unknown or unusable reporter
+     */
+    static A11yReporter forConfig(JuxProperties.A11y config, A11yReportController localEndpoint) {
+        Logger log = LoggerFactory.getLogger(A11yReporter.class);
+        JuxProperties.A11y.Async async = config.getAsync();
+        String type = async.getReporter() != null ? async.getReporter().strip().toLowerCase() : "log";
+        return switch (type) {
+            case "file" -> new FileA11yReporter(Path.of(async.getReportFile()));
+            case "endpoint" -> {
+                if (async.getReportUrl() != null && !async.getReportUrl().isBlank()) {
+                    yield new EndpointA11yReporter(URI.create(async.getReportUrl().strip()));
+                }
+                if (localEndpoint != null) {
+                    yield localEndpoint;
+                }
+                log.warn("jux.a11y.async.reporter=endpoint but neither jux.a11y.async.report-url "
+                    + "nor jux.a11y.report-endpoint is set; reporting to the log instead");
+                yield new LogA11yReporter();
+            }
+            case "log" -> new LogA11yReporter();
+            default -> {
+                log.warn("Unknown jux.a11y.async.reporter '{}'; reporting to the log instead", type);
+                yield new LogA11yReporter();
+            }
+        };
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.server.a11y;
+
+import xss.it.jux.server.routing.RouteDefinition;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Supplies path variables for rendering parameterized routes in the
+ * build-time accessibility audit.
+ *
+ * <p>A route like {@code /blog/{slug}} can only be rendered with a value for
+ * {@code slug}. Declare a bean of this type to give the audit realistic values
+ * -- one map per rendering, so a route can be audited with several samples:</p>
+ * <pre>{@code
+ * @Bean
+ * A11yRouteSamples a11yRouteSamples() {
+ *     return route -> switch (route.name()) {
+ *         case "BlogPostPage" -> List.of(Map.of("slug", "hello-world"));
+ *         case "AdminPage" -> List.of(); // skip
+ *         default -> A11yRouteSamples.DEFAULT.samples(route);
+ *     };
+ * }
+ * }</pre>
+ *
+ * <p>Without such a bean, {@link #DEFAULT} is used.</p>
+ *
+ * @see A11yBuildAudit
+ */
+@FunctionalInterface
+public interface A11yRouteSamples {
+
+    /**
+     * Renders each route once, with {@code "1"} for every path variable
+     * (a value that coerces to numeric and string parameters alike).
+     */
+    A11yRouteSamples DEFAULT = route -> {
+        Map<String, String> params = new LinkedHashMap<>();
+        for (String name : route.urlTemplate().variableNames()) {
+            params.put(name, "1");
+        }
+        return List.of(params);
+    };
+
+    /**
+     * Returns the path variables to render a route with.
+     *
+     * @param route the route to render
+     * @return one map of path variables per rendering; empty to skip the route
+     */
+    List<Map<String, String>> samples(RouteDefinition route);
+}
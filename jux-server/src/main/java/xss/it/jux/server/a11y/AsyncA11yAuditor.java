@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.server.a11y;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import xss.it.jux.a11y.A11yFingerprint;
+import xss.it.jux.a11y.A11yViolation;
+import xss.it.jux.a11y.JuxAccessibilityEngine;
+import xss.it.jux.core.Element;
+import xss.it.jux.server.autoconfigure.JuxProperties;
+import xss.it.jux.server.cache.A11yAuditCache;
+import xss.it.jux.server.cache.SsrCache;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs accessibility audits off the request thread and reports new violations in batches.
+ *
+ * <p>With {@code jux.a11y.async.enabled}, the route handler renders a page,
+ * writes the response, and hands the rendered element tree to {@link #submit}.
+ * The tree waits in a bounded queue for one of a small pool of daemon worker
+ * threads, which audits it with the shared {@link JuxAccessibilityEngine}.
+ * Request latency no longer includes the audit, and a burst of traffic cannot
+ * build up an unbounded backlog: when the queue is full the audit is simply
+ * dropped and counted in {@link Stats#dropped()}.</p>
+ *
+ * <p><b>De-duplication:</b> the same page usually produces the same violations
+ * on every request. The auditor remembers which violations it has already seen
+ * on each route and forwards only new ones, so a reporter sees each distinct
+ * violation once per route. Violations carry element paths, which can vary with
+ * request data on parameterized routes, so the memory is bounded: at most
+ * {@code dedup-size} route/violation pairs are kept, and one that has been
+ * evicted is reported again the next time it occurs.</p>
+ *
+ * <p><b>Batching:</b> new findings collect in a pending list that is flushed to
+ * the {@link A11yReporter} when it reaches {@code batch-size}, every
+ * {@code flush-interval}, and on {@link #close()}.</p>
+ *
+ * <p><b>Caching:</b> when the route handler supplies a fingerprint and the
+ * {@link A11yAuditCache} already holds a result for it, the page shape has been
+ * audited (and its violations reported) before, so nothing is queued at all.
+ * Fresh audit results are stored in the cache by the worker.</p>
+ *
+ * <p>When async auditing is disabled, no threads are started and
+ * {@link #isEnabled()} returns {@code false}; the handler then audits inline as
+ * before.</p>
+ *
+ * @see A11yReporter
+ * @see JuxProperties.A11y.Async
+ */
+public class AsyncA11yAuditor implements AutoCloseable {
+
+    /** Logger for worker failures and shutdown. */
+    private static final Logger log = LoggerFactory.getLogger(AsyncA11yAuditor.class);
+
+    /** The audit engine; stateless and safe to share across workers. */
+    private final JuxAccessibilityEngine engine;
+
+    /** Audit results by route and fingerprint; shared with the synchronous path. */
+    private final A11yAuditCache cache;
+
+    /** Destination for batches of new findings. */
+    private final A11yReporter reporter;
+
+    /** Number of pending findings that triggers an immediate flush. */
+    private final int batchSize;
+
+    /** Audit workers with a bounded queue; null when disabled. */
+    private final ThreadPoolExecutor workers;
+
+    /** Periodic flush of pending findings; null when disabled. */
+    private final ScheduledExecutorService flusher;
+
+    /** Violations already reported, by route pattern; size-bounded by {@code dedup-size}. */
+    private final Cache<Seen, Boolean> seen;
+
+    /** New findings not yet handed to the reporter. Guarded by itself. */
+    private final List<A11yFinding> pending = new ArrayList<>();
+
+    /** Trees accepted into the queue. */
+    private final LongAdder submitted = new LongAdder();
+
+    /** Trees rejected because the queue was full. */
+    private final LongAdder dropped = new LongAdder();
+
+    /** Trees skipped because their fingerprint was already audited. */
+    private final LongAdder skipped = new LongAdder();
+
+    /** Trees audited by a worker. */
+    private final LongAdder audited = new LongAdder();
+
+    /** Findings handed to the reporter. */
+    private final LongAdder reported = new LongAdder();
+
+    /**
+     * Create an auditor from the {@code jux.a11y.async.*} configuration.
+     *
+     * <p>Worker and flush threads are started only if async auditing is enabled.</p>
+     *
+     * @param engine   the accessibility audit engine
+     * @param cache    the audit result cache (may be disabled)
+     * @param reporter where batches of new findings are delivered
+     * @param config   the async auditing configuration
+     */
+    public AsyncA11yAuditor(JuxAccessibilityEngine engine, A11yAuditCache cache,
+                            A11yReporter reporter, JuxProperties.A11y.Async config) {
+        this.engine = engine;
+        this.cache = cache;
+        this.reporter = reporter;
+        this.batchSize = Math.max(1, config.getBatchSize());
+        this.seen = Caffeine.newBuilder()
+            .maximumSize(Math.max(1, config.getDedupSize()))
+            .build();
+
+        if (!config.isEnabled()) {
+            this.workers = null;
+            this.flusher = null;
+            return;
+        }
+
+        int threads = Math.max(1, config.getWorkers());
+        this.workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, config.getQueueSize())),
+            daemonThreads("jux-a11y-audit-"),
+            new ThreadPoolExecutor.AbortPolicy());
+
+        long interval = SsrCache.parseDuration(config.getFlushInterval()).toMillis();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(daemonThreads("jux-a11y-flush-"));
+        if (interval > 0) {
+            this.flusher.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Whether audits are run in the background.
+     *
+     * @return {@code true} if {@code jux.a11y.async.enabled} is set
+     */
+    public boolean isEnabled() {
+        return workers != null;
+    }
+
+    /**
+     * Queue a rendered element tree for auditing.
+     *
+     * <p>Never blocks. The tree must not be modified after it is submitted.</p>
+     *
+     * @param route       the route pattern the tree was rendered for
+     * @param tree        the rendered element tree
+     * @param fingerprint the tree's accessibility fingerprint, or null if not caching
+     * @return {@code true} if the tree was queued or is already known to the cache,
+     *         {@code false} if the auditor is disabled, shut down, or its queue is full
+     */
+    public boolean submit(String route, Element tree, A11yFingerprint fingerprint) {
+        if (workers == null) {
+            return false;
+        }
+        if (fingerprint != null && cache.get(route, fingerprint.value()) != null) {
+            skipped.increment();
+            return true;
+        }
+        try {
+            workers.execute(() -> audit(route, tree, fingerprint));
+            submitted.increment();
+            return true;
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+            return false;
+        }
+    }
+
+    /**
+     * Hand all pending findings to the reporter.
+     *
+     * <p>Called by the flush thread, by a worker when a batch fills up, and on
+     * close. Reporter failures are logged, never propagated.</p>
+     */
+    public void flush() {
+        List<A11yFinding> batch;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(pending);
+            pending.clear();
+        }
+        try {
+            reporter.report(batch);
+            reported.add(batch.size());
+        } catch (RuntimeException e) {
+            log.warn("A11y reporter failed for {} findings: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Returns counters for submitted, dropped, skipped, audited and reported work.
+     *
+     * @return a snapshot of the counters
+     */
+    public Stats stats() {
+        return new Stats(submitted.sum(), dropped.sum(), skipped.sum(), audited.sum(), reported.sum());
+    }
+
+    /**
+     * Stop accepting work, let queued audits finish (for up to five seconds),
+     * and flush what they found.
+     */
+    @Override
+    public void close() {
+        if (workers == null) {
+            return;
+        }
+        flusher.shutdownNow();
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("A11y audit workers did not finish in time; {} audits abandoned",
+                    workers.shutdownNow().size());
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /**
+     * Worker task: audit one tree, cache the result, and queue its new violations.
+     *
+     * @param route       the route pattern
+     * @param tree        the element tree to audit
+     * @param fingerprint the tree's fingerprint, or null
+     */
+    private void audit(String route, Element tree, A11yFingerprint fingerprint) {
+        try {
+            long start = System.nanoTime();
+            List<A11yViolation> violations = engine.audit(tree);
+            if (fingerprint != null) {
+                cache.put(route, fingerprint.value(), violations, System.nanoTime() - start);
+            }
+            audited.increment();
+            record(route, violations);
+        } catch (RuntimeException e) {
+            log.warn("A11y audit of {} failed: {}", route, e.toString());
+        }
+    }
+
+    /**
+     * Queue the violations not yet seen on a route, flushing if a batch is full.
+     *
+     * @param route      the route pattern
+     * @param violations the audit result
+     */
+    private void record(String route, List<A11yViolation> violations) {
+        if (violations.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        boolean full = false;
+        for (A11yViolation v : violations) {
+            if (seen.asMap().putIfAbsent(new Seen(route, v), Boolean.TRUE) == null) {
+                synchronized (pending) {
+                    pending.add(new A11yFinding(route, v, now));
+                    full = pending.size() >= batchSize;
+                }
+            }
+        }
+        if (full) {
+            flush();
+        }
+    }
+
+    /**
+     * Returns the number of route/violation pairs currently remembered for de-duplication.
+     *
+     * @return at most {@code dedup-size}, once pending evictions have run
+     */
+    long seenCount() {
+        seen.cleanUp();
+        return seen.estimatedSize();
+    }
+
+    /**
+     * Thread factory for named daemon threads, so the auditor never keeps the JVM alive.
+     *
+     * @param prefix the thread name prefix
+     * @return the thread factory
+     */
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * De-duplication key: a violation as reported on one route.
+     *
+     * @param route     the route pattern
+     * @param violation the violation
+     */
+    private record Seen(String route, A11yViolation violation) {}
+
+    /**
+     * Snapshot of the auditor's counters.
+     *
+     * @param submitted trees accepted into the queue
+     * @param dropped   trees rejected because the queue was full
+     * @param skipped   trees not queued because their fingerprint was already audited
+     * @param audited   trees audited by a worker
+     * @param reported  findings handed to the reporter
+     */
+    public record Stats(long submitted, long dropped, long skipped, long audited, long reported) {
+
+        /**
+         * Returns a compact summary for log output.
+         *
+         * @return e.g. {@code "submitted=120, dropped=3, skipped=900, audited=117, reported=14"}
+         */
+        @Override
+        public String toString() {
+            return "submitted=" + submitted + ", dropped=" + dropped + ", skipped=" + skipped
+                + ", audited=" + audited + ", reported=" + reported;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.server.a11y;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@link A11yReporter} that POSTs each batch of findings as a JSON array to an
+ * HTTP endpoint.
+ *
+ * <p>Requests are sent asynchronously, so a slow collector never holds up the
+ * auditor's threads. A non-2xx response or a connection failure is logged and
+ * the batch is dropped; there is no retry.</p>
+ *
+ * @see A11yReportController
+ */
+public class EndpointA11yReporter implements A11yReporter {
+
+    /** Logger for delivery failures. */
+    private static final Logger log = LoggerFactory.getLogger(EndpointA11yReporter.class);
+
+    /** Connect and request timeout for each POST. */
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    /** The collector URL batches are POSTed to. */
+    private final URI endpoint;
+
+    /** HTTP client shared by all batches. */
+    private final HttpClient client;
+
+    /**
+     * Create a reporter POSTing to the given URL.
+     *
+     * @param endpoint the collector URL
+     */
+    public EndpointA11yReporter(URI endpoint) {
+        this.endpoint = endpoint;
+        this.client = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+    }
+
+    /**
+     * Returns the collector URL batches are POSTed to.
+     *
+     * @return the endpoint URL
+     */
+    public URI getEndpoint() {
+        return endpoint;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void report(List<A11yFinding> findings) {
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+            .timeout(TIMEOUT)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(A11yFinding.toJson(findings)))
+            .build();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .whenComplete((response, error) -> {
+                if (error != null) {
+                    log.warn("Failed to report {} a11y findings to {}: {}",
+                        findings.size(), endpoint, error.getMessage());
+                } else if (response.statusCode() / 100 != 2) {
+                    log.warn("A11y report endpoint {} answered {} for {} findings",
+                        endpoint, response.statusCode(), findings.size());
+                }
+            });
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.server.a11y;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * {@link A11yReporter} that appends findings to a file, one JSON object per line.
+ *
+ * <p>The file and its parent directories are created on the first batch. Each
+ * batch is written with a single open-append-close, so the file can be rotated
+ * or tailed while the application runs.</p>
+ *
+ * @see A11yFinding#toJson()
+ */
+public class FileA11yReporter implements A11yReporter {
+
+    /** Logger for write failures. */
+    private static final Logger log = LoggerFactory.getLogger(FileA11yReporter.class);
+
+    /** The JSON-lines file findings are appended to. */
+    private final Path file;
+
+    /**
+     * Create a reporter appending to the given file.
+     *
+     * @param file the JSON-lines report file
+     */
+    public FileA11yReporter(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Returns the file findings are appended to.
+     *
+     * @return the report file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void report(List<A11yFinding> findings) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (A11yFinding finding : findings) {
+                    out.write(finding.toJson());
+                    out.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to write {} a11y findings to {}: {}", findings.size(), file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.server.a11y;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import xss.it.jux.a11y.A11ySeverity;
+import xss.it.jux.a11y.A11yViolation;
+
+import java.util.List;
+
+/**
+ * {@link A11yReporter} that writes each finding to the application log.
+ *
+ * <p>Errors are logged at ERROR level and everything else at WARN, in the same
+ * format the synchronous audit uses, prefixed with the route.</p>
+ */
+public class LogA11yReporter implements A11yReporter {
+
+    /** Logger for reported violations. */
+    private static final Logger log = LoggerFactory.getLogger(LogA11yReporter.class);
+
+    /** {@inheritDoc} */
+    @Override
+    public void report(List<A11yFinding> findings) {
+        for (A11yFinding finding : findings) {
+            A11yViolation v = finding.violation();
+            if (v.severity() == A11ySeverity.ERROR) {
+                log.error("A11y ERROR {} [{}] {}: {} at {} - {}", finding.route(),
+                    v.wcagCriterion(), v.rule(), v.message(), v.elementPath(), v.suggestion());
+            } else {
+                log.warn("A11y {} {} [{}] {}: {} at {} - {}", v.severity(), finding.route(),
+                    v.wcagCriterion(), v.rule(), v.message(), v.elementPath(), v.suggestion());
+            }
+        }
+    }
+}
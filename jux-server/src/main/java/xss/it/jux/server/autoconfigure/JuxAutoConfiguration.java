@@ -17,6 +17,10 @@ import xss.it.jux.a11y.JuxAccessibilityEngine;
 import xss.it.jux.core.Component;
 import xss.it.jux.core.routing.JuxRouter;
 import xss.it.jux.i18n.*;
+import xss.it.jux.server.a11y.A11yReportController;
+import xss.it.jux.server.a11y.A11yReporter;
+import xss.it.jux.server.a11y.AsyncA11yAuditor;
+import xss.it.jux.server.cache.A11yAuditCache;
 import xss.it.jux.server.cache.SsrCache;
 import xss.it.jux.server.render.JuxRenderer;
 import xss.it.jux.server.render.MetadataResolver;
@@ -29,6 +33,7 @@ import xss.it.jux.server.theme.JuxThemeResolver;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -70,11 +75,14 @@ public class JuxAutoConfiguration {
      * {@link xss.it.jux.core.PageMeta} into complete HTML5 document strings,
      * including all head metadata, CSS/JS resources, and body content.</p>
      *
+     * @param juxProperties the JUX configuration ({@code jux.client.resumable-hydration})
      * @return a new {@link JuxRenderer} instance
      */
     @Bean
-    public JuxRenderer juxRenderer() {
-        return new JuxRenderer();
+    public JuxRenderer juxRenderer(JuxProperties juxProperties) {
+        JuxRenderer renderer = new JuxRenderer();
+        renderer.setResumableHydration(juxProperties.getClient().isResumableHydration());
+        return renderer;
     }
 
     /**
@@ -130,6 +138,73 @@ public class JuxAutoConfiguration {
         return new JuxAccessibilityEngine();
     }
 
+    /**
+     * Create the accessibility audit result cache bean.
+     *
+     * <p>Keeps audit results per route and structural fingerprint, so that
+     * with {@code audit-on-render} a page shape is audited once rather than on
+     * every request. Configured by {@code jux.a11y.audit-cache} and
+     * {@code jux.a11y.audit-cache-size}.</p>
+     *
+     * @param juxProperties the root JUX configuration properties
+     * @return a new {@link A11yAuditCache} instance
+     */
+    @Bean
+    public A11yAuditCache a11yAuditCache(JuxProperties juxProperties) {
+        return new A11yAuditCache(juxProperties.getA11y());
+    }
+
+    /**
+     * Create the local accessibility report endpoint bean.
+     *
+     * <p>Registered only when {@code jux.a11y.report-endpoint} is set. Serves
+     * recent findings from the async auditor at that path, read-only.</p>
+     *
+     * @return a new {@link A11yReportController} instance
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "jux.a11y", name = "report-endpoint")
+    public A11yReportController a11yReportController() {
+        return new A11yReportController();
+    }
+
+    /**
+     * Create the reporter that receives batches of findings from the async auditor.
+     *
+     * <p>Selected by {@code jux.a11y.async.reporter}: the application log, a
+     * JSON-lines file, or an HTTP endpoint (the local report endpoint when no
+     * {@code report-url} is configured).</p>
+     *
+     * @param juxProperties the root JUX configuration properties
+     * @param localEndpoint the local report endpoint, if registered
+     * @return the configured {@link A11yReporter}
+     */
+    @Bean
+    public A11yReporter a11yReporter(JuxProperties juxProperties,
+                                     ObjectProvider<A11yReportController> localEndpoint) {
+        return A11yReporter.forConfig(juxProperties.getA11y(), localEndpoint.getIfAvailable());
+    }
+
+    /**
+     * Create the background accessibility auditor bean.
+     *
+     * <p>With {@code jux.a11y.async.enabled}, audits triggered by
+     * {@code audit-on-render} run on a bounded worker pool instead of the request
+     * thread. Otherwise the bean starts no threads and the route handler audits
+     * inline. Pending findings are flushed when the context closes.</p>
+     *
+     * @param juxProperties the root JUX configuration properties
+     * @param engine        the WCAG accessibility audit engine
+     * @param a11yCache     the audit result cache
+     * @param reporter      the destination for batches of findings
+     * @return a new {@link AsyncA11yAuditor} instance
+     */
+    @Bean(destroyMethod = "close")
+    public AsyncA11yAuditor asyncA11yAuditor(JuxProperties juxProperties, JuxAccessibilityEngine engine,
+                                             A11yAuditCache a11yCache, A11yReporter reporter) {
+        return new AsyncA11yAuditor(engine, a11yCache, reporter, juxProperties.getA11y().getAsync());
+    }
+
     /**
      * Extract and expose the i18n configuration properties as a standalone bean.
      *
@@ -164,15 +239,27 @@ public class JuxAutoConfiguration {
      * Create the message bundle registry bean.
      *
      * <p>Discovers all {@code @MessageBundle} interfaces and their
-     * {@code @MessageLocale} implementations on the classpath, and provides
-     * locale-aware lookup of typed translation bundles at runtime.</p>
+     * {@code @MessageLocale} implementations under {@code jux.base-package}
+     * (the whole classpath when unset), and provides locale-aware lookup of
+     * typed translation bundles at runtime. Bundles are compiled into
+     * ordinal-indexed catalogs and validated against the configured locales at
+     * startup; missing translations are logged as warnings.</p>
+     *
+     * <p>Discovery is performed by {@link MessageBundleScanner}. Earlier versions
+     * returned an empty registry and left every bundle to be registered by hand;
+     * manual {@link MessageBundleRegistry#registerBundle(Class)} and
+     * {@link MessageBundleRegistry#registerLocaleBundle(Class)} calls still work
+     * and are needed only for bundles outside the base package.</p>
      *
      * @param i18nProperties the i18n configuration (supported locales, fallback strategy)
+     * @param juxProperties  the JUX configuration providing the base package to scan
      * @return a new {@link MessageBundleRegistry} instance
      */
     @Bean
-    public MessageBundleRegistry messageBundleRegistry(I18nProperties i18nProperties) {
-        return new MessageBundleRegistry(i18nProperties);
+    public MessageBundleRegistry messageBundleRegistry(I18nProperties i18nProperties, JuxProperties juxProperties) {
+        MessageBundleRegistry registry = new MessageBundleRegistry(i18nProperties);
+        MessageBundleScanner.scan(registry, juxProperties.getBasePackage());
+        return registry;
     }
 
     /**
@@ -303,6 +390,8 @@ public class JuxAutoConfiguration {
      * @param messages            the i18n messages service
      * @param cache               the SSR HTML cache
      * @param a11yEngine          the WCAG accessibility audit engine
+     * @param a11yCache           the audit result cache
+     * @param asyncAuditor        the background accessibility auditor
      * @param securityInterceptor the route security checker
      * @param juxProperties       the root JUX configuration
      * @param themeResolver       the theme mode resolver
@@ -313,10 +402,12 @@ public class JuxAutoConfiguration {
                                             MetadataResolver metadataResolver, ParameterInjector parameterInjector,
                                             JuxLocaleResolver localeResolver, Messages messages,
                                             SsrCache cache, JuxAccessibilityEngine a11yEngine,
+                                            A11yAuditCache a11yCache, AsyncA11yAuditor asyncAuditor,
                                             RouteSecurityInterceptor securityInterceptor,
                                             JuxProperties juxProperties, JuxThemeResolver themeResolver) {
         return new JuxRouteHandler(springContext, renderer, metadataResolver, parameterInjector,
-            localeResolver, messages, cache, a11yEngine, securityInterceptor, juxProperties, themeResolver);
+            localeResolver, messages, cache, a11yEngine, a11yCache, asyncAuditor, securityInterceptor,
+            juxProperties, themeResolver);
     }
 
     /**
@@ -338,6 +429,24 @@ public class JuxAutoConfiguration {
         return mapping;
     }
 
+    /**
+     * Create the startup warm-up runner bean.
+     *
+     * <p>When {@code jux.warmup.enabled} is true, renders the configured URLs
+     * through the route handler with synthetic requests after routes are
+     * initialized and before the application reports readiness, so the JIT,
+     * the SSR cache, and lazily created beans are warm for the first real
+     * request. Does nothing when disabled.</p>
+     *
+     * @param mapping       the initialized JUX handler mapping
+     * @param juxProperties the root JUX configuration (provides warm-up settings)
+     * @return a new {@link JuxWarmupRunner} instance
+     */
+    @Bean
+    public JuxWarmupRunner juxWarmupRunner(JuxRouteHandlerMapping mapping, JuxProperties juxProperties) {
+        return new JuxWarmupRunner(mapping, juxProperties.getWarmup());
+    }
+
     /**
      * Create the reverse URL router bean.
      *
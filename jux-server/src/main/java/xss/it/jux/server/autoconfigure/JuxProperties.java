@@ -59,6 +59,9 @@ public class JuxProperties {
     /** Server-side rendering configuration (cache settings). */
     private final Ssr ssr = new Ssr();
 
+    /** Startup warm-up configuration (pre-rendering routes before readiness). */
+    private final Warmup warmup = new Warmup();
+
     /** Client-side TeaVM output configuration. */
     private final Client client = new Client();
 
@@ -98,6 +101,13 @@ public class JuxProperties {
      */
     public Ssr getSsr() { return ssr; }
 
+    /**
+     * Get the startup warm-up configuration group.
+     *
+     * @return the warm-up configuration, never null
+     */
+    public Warmup getWarmup() { return warmup; }
+
     /**
      * Get the client-side (TeaVM) configuration group.
      *
@@ -191,6 +201,32 @@ public class JuxProperties {
              */
             private String ttl = "300s";
 
+            /**
+             * Whether query strings are canonicalized before being used in the cache key.
+             * When enabled, parameters are sorted by name and the
+             * {@link #ignoredQueryParams ignore list} is applied, so
+             * {@code ?page=2&utm_source=x} and {@code ?page=2} share an entry.
+             * Default: {@code true}.
+             */
+            private boolean normalizeQuery = true;
+
+            /**
+             * Query parameter names excluded from the cache key. Entries ending in
+             * {@code *} match by prefix (e.g. {@code utm_*}). Only applied when
+             * {@link #normalizeQuery} is enabled.
+             * Default: {@code ["utm_*", "fbclid", "gclid"]}.
+             */
+            private List<String> ignoredQueryParams = List.of("utm_*", "fbclid", "gclid");
+
+            /**
+             * Whether to keep only the query parameters that the route declares via
+             * {@code @QueryParam} in the cache key. Any other parameter cannot affect
+             * the rendered output through injection, but pages that read
+             * {@code JuxRequestContext.queryParam()} directly must not enable this.
+             * Default: {@code false}.
+             */
+            private boolean declaredQueryParamsOnly = false;
+
             /** @return {@code true} if the SSR cache is enabled */
             public boolean isEnabled() { return enabled; }
 
@@ -208,9 +244,107 @@ public class JuxProperties {
 
             /** @param ttl the default cache TTL duration string */
             public void setTtl(String ttl) { this.ttl = ttl; }
+
+            /** @return {@code true} if query strings are canonicalized for cache keys */
+            public boolean isNormalizeQuery() { return normalizeQuery; }
+
+            /** @param normalizeQuery whether to canonicalize query strings for cache keys */
+            public void setNormalizeQuery(boolean normalizeQuery) { this.normalizeQuery = normalizeQuery; }
+
+            /** @return the query parameter names (or {@code prefix*} patterns) excluded from cache keys */
+            public List<String> getIgnoredQueryParams() { return ignoredQueryParams; }
+
+            /** @param ignoredQueryParams the query parameter names or {@code prefix*} patterns to exclude */
+            public void setIgnoredQueryParams(List<String> ignoredQueryParams) { this.ignoredQueryParams = ignoredQueryParams; }
+
+            /** @return {@code true} if only {@code @QueryParam}-declared parameters are kept in cache keys */
+            public boolean isDeclaredQueryParamsOnly() { return declaredQueryParamsOnly; }
+
+            /** @param declaredQueryParamsOnly whether to keep only declared query parameters in cache keys */
+            public void setDeclaredQueryParamsOnly(boolean declaredQueryParamsOnly) { this.declaredQueryParamsOnly = declaredQueryParamsOnly; }
         }
     }
 
+    /**
+     * Startup warm-up configuration group, bound to {@code jux.warmup.*}.
+     *
+     * <p>A fresh JVM renders pages several times slower than a warm one: the JIT
+     * has not compiled the hot paths yet, the SSR cache is empty, and lazily
+     * created beans do not exist. When enabled, a warm-up phase renders a set of
+     * URLs through the real route handler with synthetic requests after the
+     * routes are initialized and before the application reports readiness
+     * ({@code ReadinessState.ACCEPTING_TRAFFIC}).</p>
+     *
+     * <p>URLs come from {@link #urls} and, if set, the top {@link #top} entries
+     * of a recorded {@link #hitList}.</p>
+     *
+     * @see xss.it.jux.server.routing.JuxWarmupRunner
+     */
+    public static class Warmup {
+
+        /**
+         * Whether the warm-up phase runs at startup. Default: {@code false}.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Explicit URLs to warm up, including query strings if needed
+         * (e.g. {@code "/"}, {@code "/products?page=1"}).
+         * Default: empty.
+         */
+        private List<String> urls = List.of();
+
+        /**
+         * Resource location of a recorded hit list, e.g.
+         * {@code "classpath:warmup-hits.txt"} or {@code "file:/var/lib/app/hits.txt"}.
+         * Each non-blank line is either {@code "<count> <url>"} or just {@code "<url>"}
+         * (count 1); lines starting with {@code #} are comments. Counts for the same
+         * URL are summed. Default: {@code null} (no hit list).
+         */
+        private String hitList = null;
+
+        /**
+         * Number of most-requested URLs to take from the hit list. Default: {@code 20}.
+         */
+        private int top = 20;
+
+        /**
+         * How many times each URL is rendered. Higher values give the JIT more
+         * invocations to compile hot paths. Default: {@code 20}.
+         */
+        private int iterations = 20;
+
+        /** @return {@code true} if the warm-up phase runs at startup */
+        public boolean isEnabled() { return enabled; }
+
+        /** @param enabled whether to run the warm-up phase at startup */
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        /** @return the explicit URLs to warm up */
+        public List<String> getUrls() { return urls; }
+
+        /** @param urls the explicit URLs to warm up */
+        public void setUrls(List<String> urls) { this.urls = urls; }
+
+        /** @return the hit list resource location, or null if none */
+        public String getHitList() { return hitList; }
+
+        /** @param hitList the hit list resource location (e.g. "classpath:warmup-hits.txt") */
+        public void setHitList(String hitList) { this.hitList = hitList; }
+
+        /** @return the number of top hit-list URLs to warm up */
+        public int getTop() { return top; }
+
+        /** @param top the number of top hit-list URLs to warm up */
+        public void setTop(int top) { this.top = top; }
+
+        /** @return how many times each URL is rendered */
+        public int getIterations() { return iterations; }
+
+        /** @param iterations how many times each URL is rendered */
+        public void setIterations(int iterations) { this.iterations = iterations; }
+    }
+
     /**
      * Client-side TeaVM configuration group, bound to {@code jux.client.*}.
      *
@@ -235,6 +369,16 @@ public class JuxProperties {
          */
         private boolean sourceMaps = false;
 
+        /**
+         * Whether SSR emits the resumable handler manifest ({@code data-jux-hid},
+         * {@code data-jux-bind}) for every client-side component, for clients
+         * that call {@code ClientMain.setResumableHydration(true)}. When
+         * {@code false}, only components declared with
+         * {@code @JuxComponent(resumable = true)} carry it.
+         * Default: {@code false}.
+         */
+        private boolean resumableHydration = false;
+
         /** @return the output path for TeaVM-compiled JavaScript bundles */
         public String getOutputPath() { return outputPath; }
 
@@ -246,6 +390,12 @@ public class JuxProperties {
 
         /** @param sourceMaps whether to generate source maps */
         public void setSourceMaps(boolean sourceMaps) { this.sourceMaps = sourceMaps; }
+
+        /** @return {@code true} if every client-side component gets a handler manifest */
+        public boolean isResumableHydration() { return resumableHydration; }
+
+        /** @param resumableHydration whether every client-side component gets a handler manifest */
+        public void setResumableHydration(boolean resumableHydration) { this.resumableHydration = resumableHydration; }
     }
 
     /**
@@ -486,13 +636,35 @@ public class JuxProperties {
         private boolean autoFix = true;
 
         /**
-         * REST endpoint path for on-demand accessibility audit reports.
-         * When non-null, a controller is registered at this path that
-         * returns JSON audit results for any page URL.
+         * REST endpoint path for accessibility audit reports.
+         * When non-null, a controller is registered at this path: {@code GET}
+         * returns the most recent violations found by asynchronous audits as
+         * JSON, and {@code POST} accepts batches of them (so it can act as the
+         * collector for other instances). It is the local target of the
+         * {@code endpoint} reporter when no {@link Async#getReportUrl() report URL}
+         * is configured.
          * Default: {@code null} (disabled).
          */
         private String reportEndpoint = null;
 
+        /** Asynchronous (off-request) auditing, bound to {@code jux.a11y.async.*}. */
+        private final Async async = new Async();
+
+        /**
+         * Whether to cache audit results by route and structural fingerprint,
+         * so a page shape that has already been audited is not audited again.
+         * Only takes effect together with {@code auditOnRender}.
+         * Default: {@code true}.
+         */
+        private boolean auditCache = true;
+
+        /**
+         * Maximum number of route/fingerprint audit results kept by the
+         * audit cache before the least recently used are evicted.
+         * Default: {@code 1000}.
+         */
+        private int auditCacheSize = 1000;
+
         /** @return {@code true} if the accessibility engine is enabled */
         public boolean isEnabled() { return enabled; }
 
@@ -558,5 +730,154 @@ public class JuxProperties {
 
         /** @param reportEndpoint the REST endpoint path (e.g. "/api/a11y/audit"), or null to disable */
         public void setReportEndpoint(String reportEndpoint) { this.reportEndpoint = reportEndpoint; }
+
+        /** @return {@code true} if audit results are cached by route and fingerprint */
+        public boolean isAuditCache() { return auditCache; }
+
+        /** @param auditCache whether to cache audit results by route and fingerprint */
+        public void setAuditCache(boolean auditCache) { this.auditCache = auditCache; }
+
+        /** @return the maximum number of cached audit results */
+        public int getAuditCacheSize() { return auditCacheSize; }
+
+        /** @param auditCacheSize the maximum number of cached audit results */
+        public void setAuditCacheSize(int auditCacheSize) { this.auditCacheSize = auditCacheSize; }
+
+        /**
+         * Get the asynchronous auditing configuration.
+         *
+         * @return the async configuration, never null
+         */
+        public Async getAsync() { return async; }
+
+        /**
+         * Asynchronous accessibility auditing configuration, bound to
+         * {@code jux.a11y.async.*}.
+         *
+         * <p>When enabled, audits triggered by {@code audit-on-render} run on a
+         * small background worker pool instead of the request thread. Rendered
+         * trees wait in a bounded queue; when it is full, new audits are dropped
+         * rather than slowing requests down. Violations are de-duplicated per
+         * route and flushed in batches to the configured reporter.
+         * {@code fail-on-error} needs the result before responding, so it
+         * always audits synchronously.</p>
+         *
+         * @see xss.it.jux.server.a11y.AsyncA11yAuditor
+         */
+        public static class Async {
+
+            /**
+             * Whether audits run off the request thread.
+             * Default: {@code false}.
+             */
+            private boolean enabled = false;
+
+            /**
+             * Maximum number of rendered trees waiting to be audited. Audits
+             * submitted while the queue is full are dropped. Default: {@code 256}.
+             */
+            private int queueSize = 256;
+
+            /**
+             * Number of background audit worker threads. Default: {@code 1}.
+             */
+            private int workers = 1;
+
+            /**
+             * Number of new violations that triggers an immediate flush to the
+             * reporter. Default: {@code 50}.
+             */
+            private int batchSize = 50;
+
+            /**
+             * Maximum number of already-reported violations remembered for
+             * de-duplication, across all routes. When it is exceeded the least
+             * recently seen are forgotten and may be reported again.
+             * Default: {@code 10000}.
+             */
+            private int dedupSize = 10_000;
+
+            /**
+             * Maximum time new violations wait before being flushed, as a duration
+             * string ({@code "s"}, {@code "m"} or {@code "h"} suffix; a plain number
+             * is seconds). Default: {@code "10s"}.
+             */
+            private String flushInterval = "10s";
+
+            /**
+             * Where violation batches are sent: {@code log} (application log),
+             * {@code file} (JSON lines appended to {@link #reportFile}) or
+             * {@code endpoint} ({@link #reportUrl}, or the local
+             * {@code report-endpoint} controller when no URL is set).
+             * Default: {@code "log"}.
+             */
+            private String reporter = "log";
+
+            /**
+             * File that the {@code file} reporter appends JSON lines to.
+             * Default: {@code "a11y-report.jsonl"}.
+             */
+            private String reportFile = "a11y-report.jsonl";
+
+            /**
+             * Absolute URL that the {@code endpoint} reporter POSTs JSON batches to.
+             * Default: {@code null} (use the local {@code report-endpoint}).
+             */
+            private String reportUrl = null;
+
+            /** @return {@code true} if audits run off the request thread */
+            public boolean isEnabled() { return enabled; }
+
+            /** @param enabled whether audits run off the request thread */
+            public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+            /** @return the maximum number of queued audits */
+            public int getQueueSize() { return queueSize; }
+
+            /** @param queueSize the maximum number of queued audits */
+            public void setQueueSize(int queueSize) { this.queueSize = queueSize; }
+
+            /** @return the number of audit worker threads */
+            public int getWorkers() { return workers; }
+
+            /** @param workers the number of audit worker threads */
+            public void setWorkers(int workers) { this.workers = workers; }
+
+            /** @return the number of violations that triggers a flush */
+            public int getBatchSize() { return batchSize; }
+
+            /** @param batchSize the number of violations that triggers a flush */
+            public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+            /** @return the maximum number of reported violations remembered for de-duplication */
+            public int getDedupSize() { return dedupSize; }
+
+            /** @param dedupSize the maximum number of reported violations remembered for de-duplication */
+            public void setDedupSize(int dedupSize) { this.dedupSize = dedupSize; }
+
+            /** @return the maximum flush delay as a duration string (e.g. "10s") */
+            public String getFlushInterval() { return flushInterval; }
+
+            /** @param flushInterval the maximum flush delay duration string */
+            public void setFlushInterval(String flushInterval) { this.flushInterval = flushInterval; }
+
+            /** @return the reporter type: "log", "file" or "endpoint" */
+            public String getReporter() { return reporter; }
+
+            /** @param reporter the reporter type: "log", "file" or "endpoint" */
+            public void setReporter(String reporter) { this.reporter = reporter; }
+
+            /** @return the JSON lines file used by the file reporter */
+            public String getReportFile() { return reportFile; }
+
+            /** @param reportFile the JSON lines file used by the file reporter */
+            public void setReportFile(String reportFile) { this.reportFile = reportFile; }
+
+            /** @return the URL the endpoint reporter posts to, or null for the local endpoint */
+            public String getReportUrl() { return reportUrl; }
+
+            /** @param reportUrl the URL the endpoint reporter posts to, or null for the local endpoint */
+            public void setReportUrl(String reportUrl) { this.reportUrl = reportUrl; }
+        }
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+package xss.it.jux.server.autoconfigure;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import xss.it.jux.annotation.MessageBundle;
+import xss.it.jux.annotation.MessageLocale;
+import xss.it.jux.i18n.MessageBundleRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Discovers {@code @MessageBundle} and {@code @MessageLocale} interfaces on the
+ * classpath, registers them with the {@link MessageBundleRegistry}, and reports
+ * missing translations once at startup.
+ *
+ * <p>Spring's component scanner skips interfaces by default, so candidate
+ * detection is overridden to accept independent interfaces only. Base bundles
+ * are registered before locale bundles so that every locale interface finds its
+ * parent slot.</p>
+ *
+ * <p>After registration, {@link MessageBundleRegistry#validate()} compiles each
+ * bundle's message catalog and the result is logged as one warning per
+ * bundle/locale pair with missing translations.</p>
+ */
+final class MessageBundleScanner {
+
+    /** Logger for bundle discovery and translation coverage warnings. */
+    private static final Logger log = LoggerFactory.getLogger(MessageBundleScanner.class);
+
+    private MessageBundleScanner() {
+    }
+
+    /**
+     * Scan a base package for message bundles and register them.
+     *
+     * @param registry    the registry to populate
+     * @param basePackage the package to scan, or null/blank to scan everything
+     */
+    static void scan(MessageBundleRegistry registry, String basePackage) {
+        ClassPathScanningCandidateComponentProvider scanner =
+            new ClassPathScanningCandidateComponentProvider(false) {
+                @Override
+                protected boolean isCandidateComponent(AnnotatedBeanDefinition definition) {
+                    return definition.getMetadata().isInterface()
+                        && definition.getMetadata().isIndependent();
+                }
+            };
+        scanner.addIncludeFilter(new AnnotationTypeFilter(MessageBundle.class));
+        scanner.addIncludeFilter(new AnnotationTypeFilter(MessageLocale.class));
+
+        String pkg = (basePackage == null || basePackage.isBlank()) ? "" : basePackage;
+
+        List<Class<?>> locales = new ArrayList<>();
+        int bundles = 0;
+        for (BeanDefinition bd : scanner.findCandidateComponents(pkg)) {
+            try {
+                Class<?> clazz = Class.forName(bd.getBeanClassName());
+                if (clazz.isAnnotationPresent(MessageLocale.class)) {
+                    locales.add(clazz);
+                } else {
+                    registry.registerBundle(clazz);
+                    bundles++;
+                }
+            } catch (ClassNotFoundException e) {
+                log.warn("Could not load message bundle: {}", bd.getBeanClassName(), e);
+            }
+        }
+        locales.forEach(registry::registerLocaleBundle);
+        log.info("Registered {} message bundles with {} locale translations", bundles, locales.size());
+
+        for (MessageBundleRegistry.MissingTranslations missing : registry.validate()) {
+            log.warn("Message bundle {} has no '{}' translation for: {}",
+                missing.bundleType().getSimpleName(), missing.locale(), missing.methods());
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.server.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import xss.it.jux.a11y.A11yFingerprint;
+import xss.it.jux.a11y.A11yViolation;
+import xss.it.jux.server.autoconfigure.JuxProperties;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of accessibility audit results, keyed by route and structural
+ * fingerprint.
+ *
+ * <p>With {@code jux.a11y.audit-on-render} enabled, every request to a route
+ * would otherwise audit a tree whose accessibility-relevant structure (tags,
+ * roles, {@code aria-*}, labels, heading levels, ids) is almost always the same
+ * as last time. The renderer accumulates an {@link A11yFingerprint} of the tree
+ * while serializing it; when that fingerprint has already been audited for the
+ * route, the cached violations are reused and the audit is skipped entirely.</p>
+ *
+ * <p><b>Eviction:</b> LRU-style size bound from {@code jux.a11y.audit-cache-size}.
+ * Entries never expire by time: a fingerprint's audit result cannot go stale,
+ * only be evicted.</p>
+ *
+ * <p><b>Statistics:</b> hits, misses and the audit time saved by hits (each hit
+ * saves as long as the original audit of that fingerprint took) are kept with
+ * {@link LongAdder}s and exposed through {@link #stats()}.</p>
+ *
+ * <p><b>Thread safety:</b> safe for use by multiple request-handling threads.</p>
+ *
+ * @see A11yFingerprint
+ * @see xss.it.jux.server.routing.JuxRouteHandler
+ */
+public class A11yAuditCache {
+
+    /** The underlying Caffeine cache; null when the audit cache is disabled. */
+    private final Cache<Key, Entry> cache;
+
+    /** Lookups answered from the cache. */
+    private final LongAdder hits = new LongAdder();
+
+    /** Lookups that required a fresh audit. */
+    private final LongAdder misses = new LongAdder();
+
+    /** Sum of the original audit durations of every hit, in nanoseconds. */
+    private final LongAdder savedNanos = new LongAdder();
+
+    /**
+     * Create an audit cache configured from the accessibility settings.
+     *
+     * <p>If the cache is disabled, no Caffeine cache is created and every
+     * lookup is a miss.</p>
+     *
+     * @param config the accessibility configuration (audit-cache, audit-cache-size)
+     */
+    public A11yAuditCache(JuxProperties.A11y config) {
+        if (config.isAuditCache() && config.getAuditCacheSize() > 0) {
+            this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getAuditCacheSize())
+                .build();
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * Whether results are cached at all.
+     *
+     * @return {@code true} if the cache is enabled
+     */
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Look up the audit result for a route and fingerprint.
+     *
+     * <p>Every call counts as a hit or a miss in {@link #stats()}.</p>
+     *
+     * @param route       the route pattern (e.g. {@code "/blog/{slug}"})
+     * @param fingerprint the tree's {@link A11yFingerprint}
+     * @return the cached violations, or null if this shape has not been audited yet
+     */
+    public List<A11yViolation> get(String route, long fingerprint) {
+        Entry entry = cache != null ? cache.getIfPresent(new Key(route, fingerprint)) : null;
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        savedNanos.add(entry.auditNanos());
+        return entry.violations();
+    }
+
+    /**
+     * Store the result of a fresh audit.
+     *
+     * @param route       the route pattern
+     * @param fingerprint the audited tree's {@link A11yFingerprint}
+     * @param violations  the violations found (copied)
+     * @param auditNanos  how long the audit took, credited to every later hit
+     */
+    public void put(String route, long fingerprint, List<A11yViolation> violations, long auditNanos) {
+        if (cache != null) {
+            cache.put(new Key(route, fingerprint), new Entry(List.copyOf(violations), auditNanos));
+        }
+    }
+
+    /**
+     * Discard all cached results (e.g. after changing the rule set).
+     */
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Snapshot of the cache's effectiveness since startup.
+     *
+     * @return the current statistics
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), Duration.ofNanos(savedNanos.sum()));
+    }
+
+    /**
+     * Cache statistics.
+     *
+     * @param hits      lookups answered from the cache
+     * @param misses    lookups that required an audit
+     * @param timeSaved total audit time skipped thanks to hits
+     */
+    public record Stats(long hits, long misses, Duration timeSaved) {
+
+        /**
+         * Fraction of lookups answered from the cache.
+         *
+         * @return the hit ratio between 0 and 1, or 0 before the first lookup
+         */
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits=%d, misses=%d, hitRatio=%.1f%%, timeSaved=%dms",
+                hits, misses, hitRatio() * 100, timeSaved.toMillis());
+        }
+    }
+
+    /**
+     * Cache key: a route and the fingerprint of a tree rendered for it.
+     *
+     * @param route       the route pattern
+     * @param fingerprint the structural fingerprint
+     */
+    private record Key(String route, long fingerprint) {}
+
+    /**
+     * Cached audit result.
+     *
+     * @param violations the (immutable) violations found
+     * @param auditNanos how long the audit took
+     */
+    private record Entry(List<A11yViolation> violations, long auditNanos) {}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.server.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import xss.it.jux.annotation.CacheVary;
+import xss.it.jux.core.JuxRequestContext;
+
+/**
+ * Precomputed description of the request dimensions a route's cached output
+ * varies on, derived once from the route's {@link CacheVary} annotation.
+ *
+ * <p>At request time {@link #resolve(HttpServletRequest, JuxRequestContext, String)} extracts the
+ * value of every dimension into a flat array laid out as:</p>
+ * <pre>
+ * [ theme, header_1 .. header_n, cookie_1 .. cookie_m, roleBits ]
+ * </pre>
+ * <p>The theme is always present because every rendered page carries the
+ * resolved {@code data-theme} attribute. {@code roleBits} is only present when
+ * roles are declared and holds one {@code '1'}/{@code '0'} character per role.
+ * Absent headers and cookies are stored as {@code null}.</p>
+ *
+ * <p>Instances are immutable and safe for concurrent use.</p>
+ *
+ * @see CacheVary
+ * @see SsrCacheKey
+ */
+public final class CacheVariance {
+
+    /** Variance for routes without {@code @CacheVary}: the theme only. */
+    public static final CacheVariance THEME_ONLY = new CacheVariance(new String[0], new String[0], new String[0]);
+
+    /** Header names whose values are part of the key. */
+    private final String[] headers;
+
+    /** Cookie names whose values are part of the key. */
+    private final String[] cookies;
+
+    /** Role names whose membership is part of the key. */
+    private final String[] roles;
+
+    /** Length of the resolved variant array. */
+    private final int size;
+
+    private CacheVariance(String[] headers, String[] cookies, String[] roles) {
+        this.headers = headers;
+        this.cookies = cookies;
+        this.roles = roles;
+        this.size = 1 + headers.length + cookies.length + (roles.length > 0 ? 1 : 0);
+    }
+
+    /**
+     * Build the variance for a route component class.
+     *
+     * @param clazz the route component class
+     * @return the declared variance, or {@link #THEME_ONLY} if the class has no {@code @CacheVary}
+     */
+    public static CacheVariance of(Class<?> clazz) {
+        CacheVary vary = clazz.getAnnotation(CacheVary.class);
+        if (vary == null) return THEME_ONLY;
+        return new CacheVariance(vary.headers().clone(), vary.cookies().clone(), vary.roles().clone());
+    }
+
+    /**
+     * Resolve the variant values for the current request.
+     *
+     * <p>Cookies are read through {@code ctx}, which shares the cookie map
+     * parsed once per request with the rest of the pipeline.</p>
+     *
+     * @param request the HTTP servlet request
+     * @param ctx     the request context bound to {@code request}
+     * @param theme   the resolved theme mode for the request
+     * @return a new array of variant values in the documented layout
+     */
+    public String[] resolve(HttpServletRequest request, JuxRequestContext ctx, String theme) {
+        String[] values = new String[size];
+        int i = 0;
+        values[i++] = theme;
+        for (String header : headers) {
+            values[i++] = request.getHeader(header);
+        }
+        for (String name : cookies) {
+            values[i++] = ctx.cookie(name).orElse(null);
+        }
+        if (roles.length > 0) {
+            char[] bits = new char[roles.length];
+            boolean authenticated = request.getUserPrincipal() != null;
+            for (int r = 0; r < roles.length; r++) {
+                bits[r] = authenticated && request.isUserInRole(roles[r]) ? '1' : '0';
+            }
+            values[i] = new String(bits);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+package xss.it.jux.server.cache;
+
+import xss.it.jux.server.autoconfigure.JuxProperties;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Canonicalizes raw query strings so that semantically identical requests
+ * share a single {@link SsrCache} entry.
+ *
+ * <p>Without normalization, {@code ?utm_source=x&page=2}, {@code ?page=2&utm_source=y}
+ * and {@code ?page=2} are three distinct cache keys even though they render the
+ * same page. The normalizer applies three steps:</p>
+ * <ol>
+ *   <li><b>Ignore list:</b> parameters whose name matches an entry of
+ *       {@code jux.ssr.cache.ignored-query-params} are dropped. Entries ending in
+ *       {@code *} match by prefix (e.g. {@code utm_*}); all others match exactly.</li>
+ *   <li><b>Declared-only filter:</b> when {@code jux.ssr.cache.declared-query-params-only}
+ *       is enabled, only parameters the route declares via {@code @QueryParam} are kept.</li>
+ *   <li><b>Sorting:</b> remaining parameters are stably sorted by name. Repeated
+ *       parameters keep their relative order because {@code getParameter(name)}
+ *       returns the first value, so {@code a=1&a=2} and {@code a=2&a=1} must stay distinct.</li>
+ * </ol>
+ *
+ * <p>Parameters are compared in their raw (still percent-encoded) form, so no
+ * decoding or regex matching is performed on the request path.</p>
+ *
+ * <p><b>Thread safety:</b> Instances are immutable after construction and safe
+ * for concurrent use.</p>
+ *
+ * @see SsrCache
+ * @see JuxProperties.Ssr.Cache#getIgnoredQueryParams()
+ */
+public final class QueryStringNormalizer {
+
+    /** Whether normalization is enabled. When false, query strings are used verbatim. */
+    private final boolean enabled;
+
+    /** Whether to drop parameters that the route does not declare via {@code @QueryParam}. */
+    private final boolean declaredOnly;
+
+    /** Parameter names that are ignored by exact match (e.g. {@code fbclid}). */
+    private final Set<String> ignoredNames;
+
+    /** Parameter name prefixes that are ignored (from entries such as {@code utm_*}). */
+    private final String[] ignoredPrefixes;
+
+    /**
+     * Create a normalizer configured from the SSR cache settings.
+     *
+     * @param config the cache configuration providing the ignore list and filter flags
+     */
+    public QueryStringNormalizer(JuxProperties.Ssr.Cache config) {
+        this.enabled = config.isNormalizeQuery();
+        this.declaredOnly = config.isDeclaredQueryParamsOnly();
+
+        Set<String> names = new HashSet<>();
+        List<String> prefixes = new ArrayList<>();
+        List<String> ignored = config.getIgnoredQueryParams();
+        if (ignored != null) {
+            for (String entry : ignored) {
+                if (entry == null || entry.isBlank()) continue;
+                String trimmed = entry.strip();
+                if (trimmed.endsWith("*")) {
+                    prefixes.add(trimmed.substring(0, trimmed.length() - 1));
+                } else {
+                    names.add(trimmed);
+                }
+            }
+        }
+        this.ignoredNames = Set.copyOf(names);
+        this.ignoredPrefixes = prefixes.toArray(new String[0]);
+    }
+
+    /**
+     * Normalize a raw query string.
+     *
+     * @param query          the raw query string without the leading {@code ?}, or null
+     * @param declaredParams the query parameter names declared by the route via
+     *                       {@code @QueryParam}; only consulted when the declared-only
+     *                       filter is enabled. May be null.
+     * @return the canonical query string, or an empty string if nothing remains
+     */
+    public String normalize(String query, Set<String> declaredParams) {
+        if (query == null || query.isEmpty()) return "";
+        if (!enabled) return query;
+
+        // First pass: split on '&' by index scanning and keep the surviving parameters
+        String[] kept = new String[countSegments(query)];
+        int count = 0;
+        int length = query.length();
+        int start = 0;
+        boolean sorted = true;
+        while (start <= length) {
+            int end = query.indexOf('&', start);
+            if (end < 0) end = length;
+            if (end > start) {
+                int eq = query.indexOf('=', start);
+                int nameEnd = (eq < 0 || eq > end) ? end : eq;
+                if (nameEnd > start && retain(query, start, nameEnd, declaredParams)) {
+                    String segment = query.substring(start, end);
+                    if (count > 0 && compareNames(kept[count - 1], segment) > 0) {
+                        sorted = false;
+                    }
+                    kept[count++] = segment;
+                }
+            }
+            start = end + 1;
+        }
+
+        if (count == 0) return "";
+        if (!sorted) {
+            // Arrays.sort on objects is stable, preserving the order of repeated names
+            Arrays.sort(kept, 0, count, QueryStringNormalizer::compareNames);
+        }
+
+        int size = count - 1;
+        for (int i = 0; i < count; i++) {
+            size += kept[i].length();
+        }
+        StringBuilder sb = new StringBuilder(size);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sb.append('&');
+            sb.append(kept[i]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Decide whether the parameter whose name spans {@code [start, end)} of the
+     * query string survives the ignore list and the declared-only filter.
+     */
+    private boolean retain(String query, int start, int end, Set<String> declaredParams) {
+        int nameLength = end - start;
+        for (String prefix : ignoredPrefixes) {
+            if (nameLength >= prefix.length() && query.startsWith(prefix, start)) {
+                return false;
+            }
+        }
+        boolean needsName = !ignoredNames.isEmpty() || declaredOnly;
+        if (!needsName) return true;
+
+        String name = query.substring(start, end);
+        if (ignoredNames.contains(name)) return false;
+        return !declaredOnly || (declaredParams != null && declaredParams.contains(name));
+    }
+
+    /**
+     * Count the {@code &}-separated segments of a query string (an upper bound
+     * on the number of parameters).
+     */
+    private static int countSegments(String query) {
+        int segments = 1;
+        for (int i = 0; i < query.length(); i++) {
+            if (query.charAt(i) == '&') segments++;
+        }
+        return segments;
+    }
+
+    /**
+     * Compare two {@code name=value} segments by their name portion only,
+     * without allocating substrings.
+     */
+    private static int compareNames(String a, String b) {
+        int aEnd = nameEnd(a);
+        int bEnd = nameEnd(b);
+        int limit = Math.min(aEnd, bEnd);
+        for (int i = 0; i < limit; i++) {
+            char ca = a.charAt(i);
+            char cb = b.charAt(i);
+            if (ca != cb) return ca - cb;
+        }
+        return aEnd - bEnd;
+    }
+
+    /** Index of the first {@code =} in a segment, or its length if there is none. */
+    private static int nameEnd(String segment) {
+        int eq = segment.indexOf('=');
+        return eq < 0 ? segment.length() : eq;
+    }
+}
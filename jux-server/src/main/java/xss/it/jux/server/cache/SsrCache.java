@@ -20,6 +20,7 @@ import xss.it.jux.server.autoconfigure.JuxProperties;
 import java.time.Duration;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * High-performance SSR HTML cache backed by
@@ -30,15 +31,22 @@ import java.util.Optional;
  * metadata resolution, element tree building, HTML serialization) on
  * repeated requests for the same page.</p>
  *
- * <p><b>Cache key structure:</b> {@code path|query|locale}</p>
+ * <p><b>Cache key structure:</b> {@code path|query|locale|variant}, held in a
+ * pre-hashed {@link SsrCacheKey}</p>
  * <ul>
  *   <li>{@code path} - the request URI (e.g. {@code "/blog/hello"})</li>
- *   <li>{@code query} - the query string (e.g. {@code "ref=twitter"}), or empty</li>
+ *   <li>{@code query} - the normalized query string (e.g. {@code "page=2"}), or empty.
+ *       See {@link QueryStringNormalizer} for sorting and ignore-list rules.</li>
  *   <li>{@code locale} - the BCP 47 language tag (e.g. {@code "en"}, {@code "es"})</li>
+ *   <li>{@code variant} - the resolved theme plus any headers, cookies, and role
+ *       membership declared via {@link xss.it.jux.annotation.CacheVary @CacheVary}
+ *       (see {@link CacheVariance})</li>
  * </ul>
  *
- * <p>This ensures that the same page in different languages or with different
- * query parameters gets separate cache entries.</p>
+ * <p>This ensures that the same page in different languages, themes, or with
+ * different query parameters gets separate cache entries. Entries are always
+ * read and written through a key from {@link #key}, built once per request by
+ * the route handler, so a lookup sees exactly the variant the handler stored.</p>
  *
  * <p><b>Eviction:</b> Uses LRU eviction when {@code maxSize} is exceeded,
  * and time-based expiration after the configured TTL. Per-route TTL from
@@ -55,11 +63,14 @@ import java.util.Optional;
 public class SsrCache {
 
     /** The underlying Caffeine cache instance; null when caching is disabled. */
-    private final Cache<String, String> cache;
+    private final Cache<SsrCacheKey, String> cache;
 
     /** Whether the cache is enabled. When false, all operations are no-ops. */
     private final boolean enabled;
 
+    /** Canonicalizes query strings so equivalent requests share a cache entry. */
+    private final QueryStringNormalizer queryNormalizer;
+
     /**
      * Create a new SSR cache configured from the provided settings.
      *
@@ -70,6 +81,7 @@ public class SsrCache {
      */
     public SsrCache(JuxProperties.Ssr.Cache config) {
         this.enabled = config.isEnabled();
+        this.queryNormalizer = new QueryStringNormalizer(config);
         if (enabled) {
             this.cache = Caffeine.newBuilder()
                 .maximumSize(config.getMaxSize())
@@ -81,30 +93,45 @@ public class SsrCache {
     }
 
     /**
-     * Get a cached HTML response.
+     * Get a cached HTML response by a prebuilt key.
      *
-     * @param path   the request path
-     * @param query  the query string (may be null)
-     * @param locale the request locale
+     * @param key the cache key from {@link #key(String, String, Locale, Set, String[])}
      * @return cached HTML, or empty if not cached
      */
-    public Optional<String> get(String path, String query, Locale locale) {
+    public Optional<String> get(SsrCacheKey key) {
         if (!enabled) return Optional.empty();
-        return Optional.ofNullable(cache.getIfPresent(cacheKey(path, query, locale)));
+        return Optional.ofNullable(cache.getIfPresent(key));
     }
 
     /**
-     * Store rendered HTML in the cache.
+     * Store rendered HTML in the cache under a prebuilt key.
      *
-     * @param path   the request path
-     * @param query  the query string
-     * @param locale the request locale
-     * @param html   the rendered HTML
-     * @param ttl    the cache TTL in seconds (from @Route cacheTtl)
+     * @param key  the cache key from {@link #key(String, String, Locale, Set, String[])}
+     * @param html the rendered HTML
+     * @param ttl  the cache TTL in seconds (from @Route cacheTtl)
      */
-    public void put(String path, String query, Locale locale, String html, int ttl) {
+    public void put(SsrCacheKey key, String html, int ttl) {
         if (!enabled || ttl <= 0) return;
-        cache.put(cacheKey(path, query, locale), html);
+        cache.put(key, html);
+    }
+
+    /**
+     * Build a composite cache key from path, query string, locale, and variant values.
+     *
+     * <p>The query string is normalized first (see {@link QueryStringNormalizer});
+     * a null or fully ignored query string is represented as an empty string.
+     * The key is built once per request and reused for both lookup and store.</p>
+     *
+     * @param path           the request URI path
+     * @param query          the query string, or null if absent
+     * @param locale         the resolved request locale
+     * @param declaredParams the route's {@code @QueryParam} names, or null
+     * @param variant        the variant values from {@link CacheVariance#resolve}; owned by the key
+     * @return the composite cache key
+     */
+    public SsrCacheKey key(String path, String query, Locale locale, Set<String> declaredParams, String[] variant) {
+        return new SsrCacheKey(path, queryNormalizer.normalize(query, declaredParams),
+            locale.toLanguageTag(), variant);
     }
 
     /**
@@ -124,34 +151,18 @@ public class SsrCache {
      * Invalidate all cached entries for a specific request path, regardless
      * of query string or locale.
      *
-     * <p>Removes all cache keys that start with {@code "path|"}, effectively
-     * invalidating all locale and query-string variants of that path.
+     * <p>Removes all cache keys whose path equals {@code path}, effectively
+     * invalidating all locale, query-string, and variant entries of that path.
      * Useful after a single page's content is updated (e.g. CMS page save).</p>
      *
      * @param path the request path to invalidate (e.g. {@code "/blog/hello"})
      */
     public void invalidate(String path) {
         if (cache != null) {
-            cache.asMap().keySet().removeIf(key -> key.startsWith(path + "|"));
+            cache.asMap().keySet().removeIf(key -> key.path().equals(path));
         }
     }
 
-    /**
-     * Build a composite cache key from path, query string, and locale.
-     *
-     * <p>The key format is {@code "path|query|locale"}, using pipe ({@code |})
-     * as the delimiter since it is not valid in URL paths or query strings.
-     * A null query string is represented as an empty string.</p>
-     *
-     * @param path   the request URI path
-     * @param query  the query string, or null if absent
-     * @param locale the resolved request locale
-     * @return the composite cache key
-     */
-    private String cacheKey(String path, String query, Locale locale) {
-        return path + "|" + (query != null ? query : "") + "|" + locale.toLanguageTag();
-    }
-
     /**
      * Parse a human-readable duration string into a {@link Duration}.
      *
@@ -167,7 +178,7 @@ public class SsrCache {
      * @return the parsed Duration
      * @throws NumberFormatException if the numeric portion is not a valid long
      */
-    private Duration parseDuration(String ttl) {
+    public static Duration parseDuration(String ttl) {
         if (ttl.endsWith("s")) {
             return Duration.ofSeconds(Long.parseLong(ttl.replace("s", "")));
         }
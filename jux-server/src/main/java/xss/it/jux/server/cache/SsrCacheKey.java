@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.server.cache;
+
+import java.util.Arrays;
+
+/**
+ * Compact, pre-hashed composite key for {@link SsrCache} entries.
+ *
+ * <p>A key is made of the request path, the normalized query string, the
+ * locale language tag, and the variant values declared by the route
+ * (resolved theme, plus any {@code @CacheVary} headers, cookies and role
+ * membership). Instead of concatenating all of these into one long String,
+ * the parts are held as-is and the hash code is computed once at construction,
+ * so Caffeine lookups cost a single hash read plus a field-by-field
+ * {@code equals} on a hit.</p>
+ *
+ * <p>Variant values are compared with {@link Arrays#equals(Object[], Object[])},
+ * never by hash alone, so two variants can never share an entry through a
+ * hash collision.</p>
+ *
+ * <p>Instances are immutable and safe for concurrent use.</p>
+ *
+ * @see SsrCache#key(String, String, java.util.Locale, java.util.Set, String[])
+ * @see CacheVariance
+ */
+public final class SsrCacheKey {
+
+    /** The request URI path (e.g. {@code "/blog/hello"}). */
+    private final String path;
+
+    /** The normalized query string, or empty. */
+    private final String query;
+
+    /** The BCP 47 language tag of the resolved locale. */
+    private final String locale;
+
+    /** The resolved variant dimension values; elements may be null for absent values. */
+    private final String[] variant;
+
+    /** Hash code computed once at construction. */
+    private final int hash;
+
+    /**
+     * Create a cache key. The variant array is owned by the key and must not
+     * be modified by the caller afterwards.
+     *
+     * @param path    the request path, never null
+     * @param query   the normalized query string, never null
+     * @param locale  the locale language tag, never null
+     * @param variant the variant dimension values, never null
+     */
+    SsrCacheKey(String path, String query, String locale, String[] variant) {
+        this.path = path;
+        this.query = query;
+        this.locale = locale;
+        this.variant = variant;
+        int h = path.hashCode();
+        h = 31 * h + query.hashCode();
+        h = 31 * h + locale.hashCode();
+        h = 31 * h + Arrays.hashCode(variant);
+        this.hash = h;
+    }
+
+    /**
+     * Get the request path this key was built for.
+     *
+     * @return the request path
+     */
+    public String path() {
+        return path;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SsrCacheKey other)) return false;
+        return hash == other.hash
+            && path.equals(other.path)
+            && query.equals(other.query)
+            && locale.equals(other.locale)
+            && Arrays.equals(variant, other.variant);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return path + "|" + query + "|" + locale + "|" + Arrays.toString(variant);
+    }
+}
@@ -13,6 +13,7 @@
 
 package xss.it.jux.server.render;
 
+import xss.it.jux.a11y.A11yFingerprint;
 import xss.it.jux.annotation.CssPosition;
 import xss.it.jux.annotation.JsPosition;
 import xss.it.jux.core.CssResource;
@@ -57,6 +58,27 @@ public class JuxRenderer {
             "link", "meta", "source", "track", "wbr"
     );
 
+    /**
+     * Whether every client-side component gets a handler manifest, not only
+     * those marked {@code data-jux-resumable}.
+     */
+    private boolean resumableHydration;
+
+    /**
+     * Emit the resumable handler manifest ({@code data-jux-hid} and
+     * {@code data-jux-bind}) for every client-side component instead of only
+     * those declared with {@code @JuxComponent(resumable = true)}.
+     *
+     * <p>Enable this together with {@code ClientMain.setResumableHydration(true)}
+     * on the client; without a manifest the client hydrates a component eagerly.
+     * Bound to {@code jux.client.resumable-hydration}.</p>
+     *
+     * @param resumableHydration true to emit the manifest for every component
+     */
+    public void setResumableHydration(boolean resumableHydration) {
+        this.resumableHydration = resumableHydration;
+    }
+
     /**
      * Render a complete HTML5 document from a component and page metadata.
      *
@@ -73,6 +95,25 @@ public class JuxRenderer {
      * @return a complete HTML5 document string
      */
     public String render(xss.it.jux.core.Component component, PageMeta meta) {
+        return render(component, meta, null);
+    }
+
+    /**
+     * Render a complete HTML5 document, accumulating the accessibility
+     * fingerprint of the component's element tree along the way.
+     *
+     * <p>The fingerprint is fed by the same walk that serializes the tree, so
+     * it costs no extra traversal. Children hidden by an element's text
+     * content (which are not serialized) are still fingerprinted, because
+     * the audit engine sees them.</p>
+     *
+     * @param component   the page component to render
+     * @param meta        external page metadata (e.g. from annotations); may be null
+     * @param fingerprint the fingerprint to feed with the component tree; may be null
+     * @return a complete HTML5 document string
+     * @see A11yFingerprint
+     */
+    public String render(xss.it.jux.core.Component component, PageMeta meta, A11yFingerprint fingerprint) {
         // 1. Resolve page metadata: Page's own pageMeta() + externally provided
         PageMeta componentMeta = (component instanceof Page page) ? page.pageMeta() : null;
         PageMeta resolved = resolvePageMeta(componentMeta, meta);
@@ -81,6 +122,38 @@ public class JuxRenderer {
         Element body = component.render();
 
         // 3. Build the full HTML5 document
+        return renderDocument(resolved, body, fingerprint);
+    }
+
+    /**
+     * Render a complete HTML5 document from an element tree the component has
+     * already rendered.
+     *
+     * <p>Used when the caller needs the tree itself as well as the HTML (for
+     * example to hand it to the accessibility auditor), so the component's
+     * {@code render()} runs once per request instead of twice.</p>
+     *
+     * @param component   the page component the tree was rendered by
+     * @param body        the element tree returned by {@code component.render()}
+     * @param meta        external page metadata (e.g. from annotations); may be null
+     * @param fingerprint the fingerprint to feed with the component tree; may be null
+     * @return a complete HTML5 document string
+     */
+    public String render(xss.it.jux.core.Component component, Element body, PageMeta meta,
+                         A11yFingerprint fingerprint) {
+        PageMeta componentMeta = (component instanceof Page page) ? page.pageMeta() : null;
+        return renderDocument(resolvePageMeta(componentMeta, meta), body, fingerprint);
+    }
+
+    /**
+     * Serialize the document shell, head and body for a resolved page.
+     *
+     * @param resolved    the resolved page metadata
+     * @param body        the component's element tree
+     * @param fingerprint the fingerprint to feed with the component tree; may be null
+     * @return a complete HTML5 document string
+     */
+    private String renderDocument(PageMeta resolved, Element body, A11yFingerprint fingerprint) {
         StringBuilder sb = new StringBuilder(4096);
         sb.append("<!DOCTYPE html>\n");
 
@@ -102,7 +175,7 @@ public class JuxRenderer {
         renderHead(sb, resolved);
 
         // <body>
-        renderBody(sb, resolved, body);
+        renderBody(sb, resolved, body, fingerprint);
 
         sb.append("</html>\n");
         return sb.toString();
@@ -119,7 +192,7 @@ public class JuxRenderer {
      */
     public String renderElement(Element element) {
         StringBuilder sb = new StringBuilder(1024);
-        renderElementTo(sb, element);
+        renderElementTo(sb, element, null, null);
         return sb.toString();
     }
 
@@ -287,8 +360,9 @@ public class JuxRenderer {
      * @param sb          the StringBuilder to append the body HTML to
      * @param meta        the resolved page metadata (body classes, attributes, resources)
      * @param bodyContent the root element of the page's rendered component tree; may be null
+     * @param fingerprint the accessibility fingerprint to feed with the tree; may be null
      */
-    private void renderBody(StringBuilder sb, PageMeta meta, Element bodyContent) {
+    private void renderBody(StringBuilder sb, PageMeta meta, Element bodyContent, A11yFingerprint fingerprint) {
         sb.append("<body");
 
         // Body classes
@@ -306,7 +380,7 @@ public class JuxRenderer {
 
         // Rendered element tree (the page content)
         if (bodyContent != null) {
-            renderElementTo(sb, bodyContent);
+            renderElementTo(sb, bodyContent, fingerprint, null);
             sb.append('\n');
         }
 
@@ -349,17 +423,41 @@ public class JuxRenderer {
      * <p>Handles void (self-closing) elements, text content, attributes,
      * event handler markers, and recursive child rendering.</p>
      *
-     * @param sb      the StringBuilder to append HTML to
-     * @param element the element to render
+     * <p>Inside a resumable client-side component (an element carrying
+     * {@code data-jux-id} and {@code data-jux-resumable}, or any
+     * {@code data-jux-id} element when
+     * {@linkplain #setResumableHydration resumable hydration} is on, and its
+     * descendants), the markers double as the component's handler manifest:
+     * every element with handlers also gets a {@code data-jux-hid}, its
+     * ordinal among the serialized elements with handlers of that component
+     * (in document order, not counting those of nested components), and every
+     * element with live bindings gets {@code data-jux-bind}. The client resumes
+     * a component from these markers without hydrating its whole tree. Other
+     * components are hydrated eagerly and get neither marker.</p>
+     *
+     * @param sb          the StringBuilder to append HTML to
+     * @param element     the element to render
+     * @param fingerprint the accessibility fingerprint to feed; may be null
+     * @param handlerIds  next handler ID of the enclosing resumable client-side
+     *                    component, in a one-element array; null outside one
      */
-    private void renderElementTo(StringBuilder sb, Element element) {
+    private void renderElementTo(StringBuilder sb, Element element, A11yFingerprint fingerprint,
+                                 int[] handlerIds) {
         String tag = element.getTag();
+        Map<String, String> attributes = element.getAttributes();
+        if (fingerprint != null) {
+            fingerprint.enter(element, attributes);
+        }
+        int[] scope = handlerIds;
+        if (attributes.containsKey("data-jux-id")) {
+            scope = (resumableHydration || attributes.containsKey("data-jux-resumable")) ? new int[1] : null;
+        }
 
         // Opening tag
         sb.append('<').append(tag);
 
         // Attributes
-        String attrs = renderAttributes(element.getAttributes());
+        String attrs = renderAttributes(attributes);
         if (!attrs.isEmpty()) {
             sb.append(attrs);
         }
@@ -370,11 +468,21 @@ public class JuxRenderer {
             sb.append(" data-jux-events=\"")
               .append(escapeHtml(String.join(",", handlers.keySet())))
               .append('"');
+            if (scope != null) {
+                sb.append(" data-jux-hid=\"").append(scope[0]++).append('"');
+            }
+        }
+        if (scope != null && !element.getBindings().isEmpty()) {
+            sb.append(" data-jux-bind");
         }
 
         // Void (self-closing) elements
         if (VOID_ELEMENTS.contains(tag)) {
             sb.append('>');
+            if (fingerprint != null) {
+                fingerprintChildren(element, fingerprint);
+                fingerprint.exit();
+            }
             return;
         }
 
@@ -384,18 +492,37 @@ public class JuxRenderer {
         String text = element.getTextContent();
         if (text != null) {
             sb.append(escapeHtml(text));
+            if (fingerprint != null) {
+                fingerprintChildren(element, fingerprint);
+            }
         } else {
             // Render children recursively
             List<Element> children = element.getChildren();
             if (children != null && !children.isEmpty()) {
                 for (Element child : children) {
-                    renderElementTo(sb, child);
+                    renderElementTo(sb, child, fingerprint, scope);
                 }
             }
         }
 
         // Closing tag
         sb.append("</").append(tag).append('>');
+        if (fingerprint != null) {
+            fingerprint.exit();
+        }
+    }
+
+    /**
+     * Fingerprint the children of an element whose children are not serialized
+     * (void elements and elements with text content).
+     *
+     * @param element     the element
+     * @param fingerprint the fingerprint to feed
+     */
+    private void fingerprintChildren(Element element, A11yFingerprint fingerprint) {
+        for (Element child : element.getChildren()) {
+            fingerprint.subtree(child);
+        }
     }
 
     // ── Resource Rendering Helpers ──────────────────────────────────
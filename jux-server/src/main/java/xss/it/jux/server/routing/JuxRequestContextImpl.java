@@ -29,6 +29,13 @@ import java.util.*;
  * It is instantiated per-request by {@link JuxRouteHandler} and injected
  * into components annotated with {@code @RequestContext}.</p>
  *
+ * <p><b>Parse once:</b> cookies, query parameters, the {@code Accept-Language}
+ * header and the client address are parsed lazily on first access into compact
+ * maps and fields that are reused for the rest of the request. The locale
+ * resolver, {@link ParameterInjector}, SSR cache variance and {@code Page.cookie()}
+ * all read through the same instance, which is bound to the request as the
+ * {@value #ATTRIBUTE} attribute (see {@link #of}).</p>
+ *
  * <p><b>Thread safety:</b> This class is not thread-safe, but that is acceptable
  * because each instance is scoped to a single HTTP request and is never shared
  * between threads.</p>
@@ -38,12 +45,53 @@ import java.util.*;
  */
 public class JuxRequestContextImpl implements JuxRequestContext {
 
+    /** Request attribute under which the context for the current request is stored. */
+    public static final String ATTRIBUTE = "jux.requestContext";
+
+    /** Header carrying the client address chain when behind a reverse proxy. */
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
     /** The underlying Jakarta Servlet request providing access to all HTTP request data. */
     private final HttpServletRequest request;
 
     /** The underlying Jakarta Servlet response for setting headers, status, and writing output. */
     private final HttpServletResponse response;
 
+    /** Cookie values by name (first cookie wins), parsed on first access. */
+    private Map<String, String> cookies;
+
+    /** First value of each request parameter by name, parsed on first access. */
+    private Map<String, String> queryParams;
+
+    /** The {@code Accept-Language} header as locales in header order, parsed on first access. */
+    private List<Locale> acceptLanguages;
+
+    /** The client address, resolved on first access. */
+    private String remoteAddress;
+
+    /**
+     * Return the context bound to the given request, creating and binding one if absent.
+     *
+     * <p>Code that only holds the servlet request (such as the build-time audit)
+     * uses this to share the parsed cookies and parameters of the context created
+     * by {@link JuxRouteHandler}. A context created without a response
+     * is not bound, so it never shadows the handler's full context.</p>
+     *
+     * @param request  the HTTP servlet request, never null
+     * @param response the HTTP servlet response, or null when only request data is needed
+     * @return the request's context, never null
+     */
+    public static JuxRequestContextImpl of(HttpServletRequest request, HttpServletResponse response) {
+        if (request.getAttribute(ATTRIBUTE) instanceof JuxRequestContextImpl bound) {
+            return bound;
+        }
+        JuxRequestContextImpl ctx = new JuxRequestContextImpl(request, response);
+        if (response != null) {
+            request.setAttribute(ATTRIBUTE, ctx);
+        }
+        return ctx;
+    }
+
     /**
      * Create a new request context wrapping the given servlet request and response.
      *
@@ -89,18 +137,33 @@ public class JuxRequestContextImpl implements JuxRequestContext {
     /**
      * {@inheritDoc}
      *
-     * <p>Iterates through the servlet request's cookie array to find a
-     * cookie with the given name. Cookie name matching is case-sensitive
-     * per the HTTP specification.</p>
+     * <p>The servlet request's cookie array is indexed by name on first access;
+     * when several cookies share a name, the first one wins. Cookie name
+     * matching is case-sensitive per the HTTP specification.</p>
      */
     @Override
     public Optional<String> cookie(String name) {
-        Cookie[] cookies = request.getCookies();
-        if (cookies == null) return Optional.empty();
-        return Arrays.stream(cookies)
-            .filter(c -> c.getName().equals(name))
-            .map(Cookie::getValue)
-            .findFirst();
+        Map<String, String> map = cookies;
+        if (map == null) {
+            map = parseCookies(request.getCookies());
+            cookies = map;
+        }
+        return Optional.ofNullable(map.get(name));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Parsed once per request; subsequent calls return the cached list.</p>
+     */
+    @Override
+    public List<Locale> acceptLanguages() {
+        List<Locale> list = acceptLanguages;
+        if (list == null) {
+            list = JuxRequestContext.super.acceptLanguages();
+            acceptLanguages = list;
+        }
+        return list;
     }
 
     /**
@@ -139,10 +202,20 @@ public class JuxRequestContextImpl implements JuxRequestContext {
         return request.getParameterMap();
     }
 
-    /** {@inheritDoc} */
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The servlet parameter map is reduced to the first value of each
+     * parameter on first access, matching {@code getParameter(name)}.</p>
+     */
     @Override
     public Optional<String> queryParam(String name) {
-        return Optional.ofNullable(request.getParameter(name));
+        Map<String, String> map = queryParams;
+        if (map == null) {
+            map = firstValues(request.getParameterMap());
+            queryParams = map;
+        }
+        return Optional.ofNullable(map.get(name));
     }
 
     /**
@@ -152,15 +225,31 @@ public class JuxRequestContextImpl implements JuxRequestContext {
      * the client IP when the application is behind a reverse proxy or load balancer.
      * If the header contains multiple comma-separated addresses (proxy chain),
      * the first address (the original client) is returned. Falls back to
-     * {@code getRemoteAddr()} when no forwarding header is present.</p>
+     * {@code getRemoteAddr()} when no forwarding header is present. The result
+     * is resolved once per request.</p>
      */
     @Override
     public String remoteAddress() {
+        String address = remoteAddress;
+        if (address == null) {
+            address = resolveRemoteAddress();
+            remoteAddress = address;
+        }
+        return address;
+    }
+
+    /**
+     * Resolve the client address from {@code X-Forwarded-For} or the socket.
+     *
+     * @return the client address
+     */
+    private String resolveRemoteAddress() {
         // Check X-Forwarded-For header for proxy/load-balancer scenarios
-        String forwarded = request.getHeader("X-Forwarded-For");
+        String forwarded = request.getHeader(FORWARDED_FOR);
         if (forwarded != null && !forwarded.isBlank()) {
-            // First IP in the chain is the original client
-            return forwarded.split(",")[0].trim();
+            // First IP in the chain is the original client; scan to the first comma only
+            int comma = forwarded.indexOf(',');
+            return (comma >= 0 ? forwarded.substring(0, comma) : forwarded).trim();
         }
         return request.getRemoteAddr();
     }
@@ -196,6 +285,41 @@ public class JuxRequestContextImpl implements JuxRequestContext {
         response.setHeader("Location", url);
     }
 
+    /**
+     * Index a cookie array by name, keeping the first cookie of each name.
+     *
+     * @param cookies the request cookies, may be null
+     * @return an unmodifiable map of cookie name to value
+     */
+    private static Map<String, String> parseCookies(Cookie[] cookies) {
+        if (cookies == null || cookies.length == 0) return Map.of();
+        Map<String, String> map = new HashMap<>(cookies.length * 2);
+        for (Cookie cookie : cookies) {
+            if (cookie.getValue() != null) {
+                map.putIfAbsent(cookie.getName(), cookie.getValue());
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Reduce a servlet parameter map to the first value of each parameter.
+     *
+     * @param params the servlet parameter map, may be null
+     * @return a map of parameter name to first value
+     */
+    private static Map<String, String> firstValues(Map<String, String[]> params) {
+        if (params == null || params.isEmpty()) return Map.of();
+        Map<String, String> map = new HashMap<>(params.size() * 2);
+        for (Map.Entry<String, String[]> entry : params.entrySet()) {
+            String[] values = entry.getValue();
+            if (values != null && values.length > 0 && values[0] != null) {
+                map.put(entry.getKey(), values[0]);
+            }
+        }
+        return map;
+    }
+
     /** Access the underlying HttpServletRequest. */
     public HttpServletRequest getRequest() {
         return request;
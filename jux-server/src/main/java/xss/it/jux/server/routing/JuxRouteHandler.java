@@ -21,6 +21,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.mvc.Controller;
+import xss.it.jux.a11y.A11yFingerprint;
 import xss.it.jux.a11y.A11ySeverity;
 import xss.it.jux.a11y.A11yViolation;
 import xss.it.jux.a11y.JuxAccessibilityEngine;
@@ -30,8 +31,11 @@ import xss.it.jux.core.JuxRequestContext;
 import xss.it.jux.core.Page;
 import xss.it.jux.core.PageMeta;
 import xss.it.jux.i18n.Messages;
+import xss.it.jux.server.a11y.AsyncA11yAuditor;
 import xss.it.jux.server.autoconfigure.JuxProperties;
+import xss.it.jux.server.cache.A11yAuditCache;
 import xss.it.jux.server.cache.SsrCache;
+import xss.it.jux.server.cache.SsrCacheKey;
 import xss.it.jux.server.render.JuxRenderer;
 import xss.it.jux.server.render.MetadataResolver;
 import xss.it.jux.server.security.RouteSecurityInterceptor;
@@ -56,7 +60,8 @@ import java.util.Optional;
  *   <li><b>Locale resolution:</b> Determine the request locale via
  *       {@link JuxLocaleResolver} (URL prefix, cookie, header chain).</li>
  *   <li><b>Cache check:</b> If the route has {@code cacheTtl > 0}, look up
- *       the pre-rendered HTML in {@link SsrCache}. On cache hit, write the
+ *       the pre-rendered HTML in {@link SsrCache}, keyed by path, normalized query,
+ *       locale, theme, and any {@code @CacheVary} dimensions. On cache hit, write the
  *       cached HTML directly and return.</li>
  *   <li><b>Component instantiation:</b> Obtain a Spring-managed instance of
  *       the route's component class via the {@link ApplicationContext}.</li>
@@ -70,7 +75,10 @@ import java.util.Optional;
  *   <li><b>SSR rendering:</b> Render the component and its metadata into a
  *       complete HTML5 document via {@link JuxRenderer}.</li>
  *   <li><b>Accessibility audit:</b> If enabled, audit the rendered element tree
- *       for WCAG 2.2 AA violations. Log violations and optionally fail on errors.</li>
+ *       for WCAG 2.2 AA violations. Log violations and optionally fail on errors.
+ *       Results are cached in {@link A11yAuditCache} by route and the structural
+ *       fingerprint accumulated while rendering, so a page shape already audited
+ *       for the route is not audited again.</li>
  *   <li><b>Cache store:</b> If the route has {@code cacheTtl > 0}, store the
  *       rendered HTML in the cache for future requests.</li>
  *   <li><b>Response:</b> Write the HTML to the response with the appropriate
@@ -115,6 +123,12 @@ public class JuxRouteHandler implements Controller {
     /** WCAG 2.2 AA audit engine for checking rendered element trees. */
     private final JuxAccessibilityEngine a11yEngine;
 
+    /** Audit results by route and structural fingerprint, so unchanged page shapes are audited once. */
+    private final A11yAuditCache a11yCache;
+
+    /** Background auditor used instead of inline audits when {@code jux.a11y.async.enabled}. */
+    private final AsyncA11yAuditor asyncAuditor;
+
     /** Security interceptor for checking route role requirements. */
     private final RouteSecurityInterceptor securityInterceptor;
 
@@ -135,6 +149,8 @@ public class JuxRouteHandler implements Controller {
      * @param messages            the i18n messages service
      * @param cache               the SSR HTML cache
      * @param a11yEngine          the WCAG accessibility audit engine
+     * @param a11yCache           the audit result cache keyed by route and fingerprint
+     * @param asyncAuditor        the background auditor (disabled unless configured)
      * @param securityInterceptor the route security checker
      * @param properties          the JUX configuration properties
      * @param themeResolver       the theme mode resolver
@@ -143,6 +159,7 @@ public class JuxRouteHandler implements Controller {
                            MetadataResolver metadataResolver, ParameterInjector parameterInjector,
                            JuxLocaleResolver localeResolver, Messages messages,
                            SsrCache cache, JuxAccessibilityEngine a11yEngine,
+                           A11yAuditCache a11yCache, AsyncA11yAuditor asyncAuditor,
                            RouteSecurityInterceptor securityInterceptor,
                            JuxProperties properties, JuxThemeResolver themeResolver) {
         this.springContext = springContext;
@@ -153,6 +170,8 @@ public class JuxRouteHandler implements Controller {
         this.messages = messages;
         this.cache = cache;
         this.a11yEngine = a11yEngine;
+        this.a11yCache = a11yCache;
+        this.asyncAuditor = asyncAuditor;
         this.securityInterceptor = securityInterceptor;
         this.properties = properties;
         this.themeResolver = themeResolver;
@@ -195,8 +214,9 @@ public class JuxRouteHandler implements Controller {
             return null;
         }
 
-        // Create request context
-        JuxRequestContext ctx = new JuxRequestContextImpl(request, response);
+        // Create the request context and bind it to the request, so everything that
+        // reads cookies, parameters or Accept-Language shares one parse of them
+        JuxRequestContext ctx = JuxRequestContextImpl.of(request, response);
 
         // Resolve locale using the priority chain: URL prefix > cookie > session > header > default.
         // The resolved locale is set as a thread-local on the Messages service so that
@@ -207,7 +227,7 @@ public class JuxRouteHandler implements Controller {
         // If ?lang= query param is present, set a locale cookie and redirect to the
         // clean URL (without ?lang=). This makes the ?lang= a one-time trigger that
         // persists the choice in a cookie. All subsequent navigation uses the cookie.
-        String langParam = request.getParameter("lang");
+        String langParam = ctx.queryParam("lang").orElse(null);
         if (langParam != null && !langParam.isBlank()) {
             var i18nProps = properties.getI18n();
             Cookie langCookie = new Cookie(i18nProps.getCookieName(), langParam.strip());
@@ -237,13 +257,21 @@ public class JuxRouteHandler implements Controller {
         }
 
         try {
-            // Check cache
+            // Resolve active theme from cookie. It is part of the cache key because
+            // the rendered <html> element carries it as the data-theme attribute.
+            String resolvedTheme = themeResolver.resolve(request);
+
+            // Check cache. The key is built once and reused for the store below.
+            SsrCacheKey cacheKey = null;
             if (routeDef.cacheTtl() > 0) {
-                Optional<String> cached = cache.get(
+                cacheKey = cache.key(
                     request.getRequestURI(),
                     request.getQueryString(),
-                    locale
+                    locale,
+                    routeDef.queryParams(),
+                    routeDef.cacheVariance().resolve(request, ctx, resolvedTheme)
                 );
+                Optional<String> cached = cache.get(cacheKey);
                 if (cached.isPresent()) {
                     writeHtml(response, cached.get(), 200);
                     return null;
@@ -281,10 +309,9 @@ public class JuxRouteHandler implements Controller {
                 finalMeta.htmlLang(locale.getLanguage());
             }
 
-            // Resolve active theme from cookie and set data-theme attribute on <html>.
+            // Set the resolved theme as the data-theme attribute on <html>.
             // This allows CSS to target [data-theme="dark"] for theme-specific styling
             // without a page reload -- the client swaps the attribute directly.
-            String resolvedTheme = themeResolver.resolve(request);
             finalMeta.htmlAttr("data-theme", resolvedTheme);
 
             // Check for redirect
@@ -294,16 +321,23 @@ public class JuxRouteHandler implements Controller {
                 return null;
             }
 
-            // Render the component
-            String html = renderer.render(component, finalMeta);
-
-            // Run WCAG 2.2 AA accessibility audit on the rendered element tree.
-            // This is intentionally a separate render() call from the one used for HTML
-            // generation, because the audit needs the raw Element tree (not the HTML string).
+            // Render the component. When auditing, the renderer also fingerprints the
+            // accessibility-relevant structure of the tree as it serializes it.
             // In production, both auditOnRender and enabled should be false for zero overhead.
-            if (properties.getA11y().isEnabled() && properties.getA11y().isAuditOnRender()) {
-                Element tree = component.render();
-                List<A11yViolation> violations = a11yEngine.audit(tree);
+            boolean audit = properties.getA11y().isEnabled() && properties.getA11y().isAuditOnRender();
+            A11yFingerprint fingerprint = audit && a11yCache.isEnabled() ? new A11yFingerprint() : null;
+            Element tree = audit ? component.render() : null;
+            String html = audit
+                ? renderer.render(component, tree, finalMeta, fingerprint)
+                : renderer.render(component, finalMeta);
+
+            // Run WCAG 2.2 AA accessibility audit on the rendered element tree, unless this
+            // route has already been audited with the same fingerprint. Off the request
+            // thread when async auditing is on, since only fail-on-error needs the result now.
+            if (audit && asyncAuditor.isEnabled() && !properties.getA11y().isFailOnError()) {
+                asyncAuditor.submit(routeDef.pattern(), tree, fingerprint);
+            } else if (audit) {
+                List<A11yViolation> violations = auditTree(routeDef, tree, fingerprint);
                 if (!violations.isEmpty() && properties.getA11y().isLogViolations()) {
                     for (A11yViolation v : violations) {
                         if (v.severity() == A11ySeverity.ERROR) {
@@ -330,8 +364,8 @@ public class JuxRouteHandler implements Controller {
             finalMeta.getHeaders().forEach(response::setHeader);
 
             // Cache if configured
-            if (routeDef.cacheTtl() > 0) {
-                cache.put(request.getRequestURI(), request.getQueryString(), locale, html, routeDef.cacheTtl());
+            if (cacheKey != null) {
+                cache.put(cacheKey, html, routeDef.cacheTtl());
             }
 
             writeHtml(response, html, status);
@@ -345,6 +379,38 @@ public class JuxRouteHandler implements Controller {
         return null;
     }
 
+    /**
+     * Audit a component's element tree, reusing the cached result when the
+     * route has already been audited with the same fingerprint.
+     *
+     * <p>The tree is the one the HTML was rendered from, so the component is
+     * rendered once per request. On a cache hit the audit does not run.</p>
+     *
+     * @param routeDef    the matched route
+     * @param tree        the rendered element tree
+     * @param fingerprint the fingerprint accumulated while rendering, or null if not caching
+     * @return the violations, sorted by severity
+     */
+    private List<A11yViolation> auditTree(RouteDefinition routeDef, Element tree,
+                                          A11yFingerprint fingerprint) {
+        if (fingerprint != null) {
+            List<A11yViolation> cached = a11yCache.get(routeDef.pattern(), fingerprint.value());
+            if (cached != null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("A11y audit skipped for {} (cached): {}", routeDef.pattern(), a11yCache.stats());
+                }
+                return cached;
+            }
+        }
+
+        long start = System.nanoTime();
+        List<A11yViolation> violations = a11yEngine.audit(tree);
+        if (fingerprint != null) {
+            a11yCache.put(routeDef.pattern(), fingerprint.value(), violations, System.nanoTime() - start);
+        }
+        return violations;
+    }
+
     /**
      * Write an HTML response with the given status code and content type.
      *
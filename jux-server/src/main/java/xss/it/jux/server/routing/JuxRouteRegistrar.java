@@ -36,7 +36,11 @@ import java.util.*;
  * route variants are also registered.</p>
  *
  * <p>After scanning, all routes are sorted by their declared priority (ascending),
- * ensuring that lower-priority routes match before higher-priority catch-all routes.</p>
+ * ensuring that lower-priority routes match before higher-priority catch-all routes.
+ * The sorted list is then indexed by route name and by component class so that
+ * reverse routing ({@link #findByName}, {@link #findByClass}) is a hash lookup
+ * rather than a linear scan. When several routes share a name or class, the
+ * first in priority order wins, as it did with the linear scan.</p>
  *
  * <p><b>Lifecycle:</b> The {@link #scan()} method is called once during bean
  * creation in {@link xss.it.jux.server.autoconfigure.JuxAutoConfiguration}.
@@ -61,6 +65,12 @@ public class JuxRouteRegistrar {
     /** All registered route definitions, sorted by priority after scanning. */
     private final List<RouteDefinition> routes = new ArrayList<>();
 
+    /** Reverse-routing index by route name, rebuilt at the end of {@link #scan()}. */
+    private Map<String, RouteDefinition> byName = Map.of();
+
+    /** Reverse-routing index by component class, rebuilt at the end of {@link #scan()}. */
+    private Map<Class<?>, RouteDefinition> byClass = Map.of();
+
     /**
      * Create a new route registrar.
      *
@@ -109,9 +119,27 @@ public class JuxRouteRegistrar {
 
         // Sort by priority
         routes.sort(Comparator.comparingInt(RouteDefinition::priority));
+        buildIndexes();
         log.info("Registered {} JUX routes", routes.size());
     }
 
+    /**
+     * Build the name and class indexes from the priority-sorted route list.
+     *
+     * <p>Uses {@code putIfAbsent} so that the highest-priority route keeps a
+     * shared name or class, matching first-match semantics.</p>
+     */
+    private void buildIndexes() {
+        Map<String, RouteDefinition> names = new HashMap<>(routes.size() * 2);
+        Map<Class<?>, RouteDefinition> classes = new HashMap<>(routes.size() * 2);
+        for (RouteDefinition def : routes) {
+            names.putIfAbsent(def.name(), def);
+            classes.putIfAbsent(def.componentClass(), def);
+        }
+        this.byName = names;
+        this.byClass = classes;
+    }
+
     /**
      * Register a single {@code @Route}-annotated class as a route definition.
      *
@@ -206,7 +234,7 @@ public class JuxRouteRegistrar {
      * @return the matching route definition, or empty if no route has that name
      */
     public Optional<RouteDefinition> findByName(String name) {
-        return routes.stream().filter(r -> r.name().equals(name)).findFirst();
+        return Optional.ofNullable(byName.get(name));
     }
 
     /**
@@ -220,6 +248,6 @@ public class JuxRouteRegistrar {
      * @return the matching route definition, or empty if no route uses that class
      */
     public Optional<RouteDefinition> findByClass(Class<?> componentClass) {
-        return routes.stream().filter(r -> r.componentClass().equals(componentClass)).findFirst();
+        return Optional.ofNullable(byClass.get(componentClass));
     }
 }
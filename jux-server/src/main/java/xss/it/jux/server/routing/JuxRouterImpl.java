@@ -19,45 +19,35 @@ import xss.it.jux.core.routing.JuxRouter;
 
 import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Default implementation of {@link JuxRouter} that generates URLs from
  * route names, component classes, and parameter maps.
  *
- * <p>This implementation resolves route definitions from the {@link JuxRouteRegistrar}
- * and substitutes path variables in the route pattern with the provided parameter
- * values. It also supports locale-prefixed URL generation for internationalized
+ * <p>This implementation resolves route definitions from the {@link JuxRouteRegistrar}'s
+ * name and class indexes and expands each route's precompiled {@link UrlTemplate}
+ * with the provided parameter values. It also supports locale-prefixed URL generation for internationalized
  * routes.</p>
  *
  * <p><b>URL generation process:</b></p>
  * <ol>
- *   <li>Look up the {@link RouteDefinition} by name or component class</li>
- *   <li>Replace {@code {variable}} and {@code {variable:type}} placeholders
- *       in the pattern with corresponding parameter values</li>
+ *   <li>Look up the {@link RouteDefinition} by name or component class (a hash lookup)</li>
+ *   <li>Expand the route's {@link UrlTemplate}, interleaving its literal segments
+ *       with the corresponding parameter values</li>
  *   <li>Optionally append query parameters</li>
  *   <li>Optionally prepend a locale prefix for localized routes</li>
  * </ol>
  *
- * <p><b>Path variable substitution</b> uses a regex that matches both plain
- * variables ({@code {slug}}) and typed variables ({@code {id:long}}),
- * extracting only the variable name for lookup in the parameter map.</p>
+ * <p><b>Path variable substitution</b> performs no regex matching per call: the
+ * template is parsed once at registration, and expansion appends into a builder
+ * sized exactly to the result. Type-safe builders generated at compile time
+ * ({@code <PageClass>Url}) avoid even the parameter map.</p>
  *
  * @see JuxRouter
  * @see JuxRouteRegistrar
  */
 public class JuxRouterImpl implements JuxRouter {
 
-    /**
-     * Regex pattern matching JUX path variable placeholders.
-     * Captures the variable name (group 1) from both plain ({@code {slug}})
-     * and typed ({@code {id:long}}) variable syntax. The type hint after
-     * the colon is matched but not captured.
-     */
-    private static final Pattern PATH_VAR_PATTERN = Pattern.compile("\\{([^}:]+)(?::[^}]+)?}");
-
     /** The route registrar for looking up route definitions by name or class. */
     private final JuxRouteRegistrar registrar;
 
@@ -85,7 +75,7 @@ public class JuxRouterImpl implements JuxRouter {
     public String url(String routeName, Map<String, Object> params) {
         RouteDefinition def = registrar.findByName(routeName)
             .orElseThrow(() -> new IllegalArgumentException("Unknown route: " + routeName));
-        return buildUrl(def.pattern(), params);
+        return def.urlTemplate().expand(params);
     }
 
     /**
@@ -97,7 +87,7 @@ public class JuxRouterImpl implements JuxRouter {
     public String url(Class<? extends Component> page, Map<String, Object> params) {
         RouteDefinition def = registrar.findByClass(page)
             .orElseThrow(() -> new IllegalArgumentException("No route for class: " + page.getName()));
-        return buildUrl(def.pattern(), params);
+        return def.urlTemplate().expand(params);
     }
 
     /**
@@ -184,43 +174,4 @@ public class JuxRouterImpl implements JuxRouter {
         // Non-default locales get a language prefix
         return "/" + locale.getLanguage() + baseUrl;
     }
-
-    /**
-     * Build a URL by substituting path variable placeholders in a route pattern
-     * with values from the parameter map.
-     *
-     * <p>Uses {@link #PATH_VAR_PATTERN} to find and replace all {@code {variable}}
-     * and {@code {variable:type}} placeholders. Also handles the wildcard
-     * placeholder ({@code **}) as a special case.</p>
-     *
-     * <p>If the parameter map is null or empty, all placeholders are removed,
-     * which may produce an invalid URL if the route requires path variables.</p>
-     *
-     * @param pattern the route pattern with placeholders (e.g. {@code "/blog/{slug}"})
-     * @param params  the parameter map with variable names as keys and values to substitute;
-     *                may be null or empty
-     * @return the constructed URL with placeholders replaced by parameter values
-     */
-    private String buildUrl(String pattern, Map<String, Object> params) {
-        if (params == null || params.isEmpty()) {
-            // Remove all path variable patterns
-            return PATH_VAR_PATTERN.matcher(pattern).replaceAll("");
-        }
-
-        Matcher matcher = PATH_VAR_PATTERN.matcher(pattern);
-        StringBuilder result = new StringBuilder();
-        while (matcher.find()) {
-            String varName = matcher.group(1);
-            Object value = params.get(varName);
-            matcher.appendReplacement(result, value != null ? value.toString() : "");
-        }
-        matcher.appendTail(result);
-
-        // Handle wildcard
-        if (pattern.contains("**") && params.containsKey("**")) {
-            return result.toString().replace("**", params.get("**").toString());
-        }
-
-        return result.toString();
-    }
 }
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.server.routing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import xss.it.jux.server.autoconfigure.JuxProperties;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Startup warm-up phase that renders a configured set of URLs through the real
+ * JUX request pipeline before the application reports readiness.
+ *
+ * <p>A fresh JVM renders heavy pages several times slower than a warm one: hot
+ * paths are still interpreted, the {@link xss.it.jux.server.cache.SsrCache} is
+ * empty, and lazily created beans do not exist yet. This runner sends synthetic
+ * {@code GET} requests through {@link JuxRouteHandlerMapping} and
+ * {@link JuxRouteHandler} -- the exact code path of a real request -- so the JIT
+ * compiles the hot paths and the caches are filled along the way.</p>
+ *
+ * <p><b>Timing:</b> As an {@link ApplicationRunner}, it runs after all beans are
+ * created (and therefore after {@link JuxRouteHandlerMapping#initializeRoutes()})
+ * and before Spring Boot publishes {@code ReadinessState.ACCEPTING_TRAFFIC}, so a
+ * readiness probe stays red until the warm-up completes.</p>
+ *
+ * <p><b>URL sources:</b> explicit {@code jux.warmup.urls}, followed by the top
+ * {@code jux.warmup.top} URLs of the recorded hit list at {@code jux.warmup.hit-list}.
+ * Duplicates are rendered once per iteration.</p>
+ *
+ * <p><b>Synthetic requests:</b> requests come from {@link SyntheticRequests}: they
+ * are anonymous, carry no cookies or session, and use the default locale and theme, so secured routes answer 403 (visible in the
+ * timing report). Each one is bound through {@code RequestContextHolder} while it
+ * is handled, as the {@code DispatcherServlet} would bind a real request. A failing or unmatched URL is logged, dropped from later
+ * iterations, and does not abort the warm-up or startup.</p>
+ *
+ * @see JuxProperties.Warmup
+ */
+public class JuxWarmupRunner implements ApplicationRunner {
+
+    /** Logger for warm-up progress and timing reports. */
+    private static final Logger log = LoggerFactory.getLogger(JuxWarmupRunner.class);
+
+    /** The handler mapping used to match synthetic requests to routes. */
+    private final JuxRouteHandlerMapping mapping;
+
+    /** Warm-up configuration (URLs, hit list, iteration count). */
+    private final JuxProperties.Warmup config;
+
+    /**
+     * Create a new warm-up runner.
+     *
+     * @param mapping the JUX handler mapping (routes must already be initialized)
+     * @param config  the warm-up configuration
+     */
+    public JuxWarmupRunner(JuxRouteHandlerMapping mapping, JuxProperties.Warmup config) {
+        this.mapping = mapping;
+        this.config = config;
+    }
+
+    /**
+     * Run the warm-up phase if enabled.
+     *
+     * @param args the application arguments (unused)
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!config.isEnabled()) return;
+
+        List<String> urls = collectUrls();
+        if (urls.isEmpty()) {
+            log.info("JUX warm-up enabled but no URLs configured");
+            return;
+        }
+
+        int iterations = Math.max(1, config.getIterations());
+        log.info("JUX warm-up: rendering {} URL(s) x {} iteration(s)", urls.size(), iterations);
+
+        long start = System.nanoTime();
+        long[] firstNanos = new long[urls.size()];
+        long[] lastNanos = new long[urls.size()];
+        int[] statuses = new int[urls.size()];
+
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            for (int i = 0; i < urls.size(); i++) {
+                if (statuses[i] < 0) continue; // failed or unmatched on an earlier iteration
+                long t0 = System.nanoTime();
+                statuses[i] = render(urls.get(i));
+                long elapsed = System.nanoTime() - t0;
+                if (iteration == 0) firstNanos[i] = elapsed;
+                lastNanos[i] = elapsed;
+            }
+        }
+
+        for (int i = 0; i < urls.size(); i++) {
+            if (statuses[i] < 0) continue;
+            log.info("JUX warm-up {} -> {}: first {} ms, last {} ms",
+                urls.get(i), statuses[i], millis(firstNanos[i]), millis(lastNanos[i]));
+        }
+        log.info("JUX warm-up completed in {} ms", millis(System.nanoTime() - start));
+    }
+
+    /**
+     * Render a single URL through the route handler with a synthetic request.
+     *
+     * @param url the URL to render, optionally with a query string
+     * @return the response status, or {@code -1} if no route matched or rendering failed
+     */
+    private int render(String url) {
+        int q = url.indexOf('?');
+        String path = q >= 0 ? url.substring(0, q) : url;
+        String query = q >= 0 ? url.substring(q + 1) : null;
+
+        HttpServletRequest request = SyntheticRequests.get(path, query, "jux-warmup");
+        int[] status = {200};
+        HttpServletResponse response = SyntheticRequests.response(status);
+        try (SyntheticRequests.Binding ignored = SyntheticRequests.bind(request, response)) {
+            Object handler = mapping.getHandlerInternal(request);
+            if (!(handler instanceof JuxRouteHandler routeHandler)) {
+                log.warn("JUX warm-up: no route matches {}", url);
+                return -1;
+            }
+            routeHandler.handleRequest(request, response);
+            return status[0];
+        } catch (Exception e) {
+            log.warn("JUX warm-up: rendering {} failed", url, e);
+            return -1;
+        }
+    }
+
+    /**
+     * Collect the configured URLs followed by the top hit-list URLs, without duplicates.
+     *
+     * @return the URLs to warm up, in order
+     */
+    private List<String> collectUrls() {
+        Set<String> urls = new LinkedHashSet<>();
+        if (config.getUrls() != null) {
+            urls.addAll(config.getUrls());
+        }
+        String hitList = config.getHitList();
+        if (hitList != null && !hitList.isBlank()) {
+            Resource resource = new DefaultResourceLoader().getResource(hitList);
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+                urls.addAll(topUrls(reader.lines().toList(), config.getTop()));
+            } catch (IOException e) {
+                log.warn("JUX warm-up: could not read hit list {}", hitList, e);
+            }
+        }
+        return new ArrayList<>(urls);
+    }
+
+    /**
+     * Select the most-requested URLs from recorded hit-list lines.
+     *
+     * <p>Each non-blank line is {@code "<count> <url>"} or {@code "<url>"} (count 1);
+     * lines starting with {@code #} are ignored. Counts for the same URL are summed.
+     * Ties keep the order of first appearance.</p>
+     *
+     * @param lines the hit-list lines
+     * @param n     the maximum number of URLs to return
+     * @return up to {@code n} URLs, most requested first
+     */
+    static List<String> topUrls(List<String> lines, int n) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (String line : lines) {
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) continue;
+            long count = 1;
+            String url = trimmed;
+            int space = trimmed.indexOf(' ');
+            if (space > 0) {
+                try {
+                    count = Long.parseLong(trimmed.substring(0, space));
+                    url = trimmed.substring(space + 1).strip();
+                } catch (NumberFormatException ignored) {
+                    // Not a count prefix; treat the whole line as the URL
+                }
+            }
+            counts.merge(url, count, Long::sum);
+        }
+        return counts.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+            .limit(Math.max(0, n))
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    /** Convert nanoseconds to milliseconds with one decimal place. */
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+}
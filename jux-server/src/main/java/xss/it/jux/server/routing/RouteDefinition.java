@@ -14,8 +14,14 @@
 package xss.it.jux.server.routing;
 
 import xss.it.jux.annotation.HttpMethod;
+import xss.it.jux.annotation.QueryParam;
 import xss.it.jux.annotation.Route;
 import xss.it.jux.core.Component;
+import xss.it.jux.server.cache.CacheVariance;
+
+import java.lang.reflect.Field;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Immutable record holding the parsed data from a discovered {@code @Route} annotation.
@@ -38,6 +44,10 @@ import xss.it.jux.core.Component;
  * @param componentClass the {@link Component} class that renders this route's page
  * @param layoutClass    the layout component class that wraps this page; {@code Void.class} means no layout
  * @param annotation     the original {@code @Route} annotation instance for access to any additional attributes
+ * @param queryParams    the query parameter names declared via {@code @QueryParam} on the component's fields;
+ *                       used by {@link xss.it.jux.server.cache.SsrCache} to filter cache keys
+ * @param cacheVariance  the request dimensions the cached output varies on, from {@code @CacheVary}
+ * @param urlTemplate    the pattern precompiled for reverse URL generation by {@link JuxRouterImpl}
  *
  * @see xss.it.jux.annotation.Route
  * @see JuxRouteRegistrar
@@ -52,7 +62,10 @@ public record RouteDefinition(
     String[] profiles,
     Class<? extends Component> componentClass,
     Class<?> layoutClass,
-    Route annotation
+    Route annotation,
+    Set<String> queryParams,
+    CacheVariance cacheVariance,
+    UrlTemplate urlTemplate
 ) {
     /**
      * Create a {@code RouteDefinition} from a {@code @Route}-annotated component class.
@@ -82,7 +95,29 @@ public record RouteDefinition(
             route.profiles(),
             (Class<? extends Component>) clazz,
             route.layout(),
-            route
+            route,
+            declaredQueryParams(clazz),
+            CacheVariance.of(clazz),
+            UrlTemplate.compile(route.value())
         );
     }
+
+    /**
+     * Collect the query parameter names declared via {@code @QueryParam} on the
+     * class's declared fields, mirroring the name resolution of
+     * {@link ParameterInjector} (annotation value, falling back to the field name).
+     *
+     * @param clazz the route component class
+     * @return an immutable set of declared query parameter names, possibly empty
+     */
+    private static Set<String> declaredQueryParams(Class<?> clazz) {
+        Set<String> names = new HashSet<>();
+        for (Field field : clazz.getDeclaredFields()) {
+            QueryParam ann = field.getAnnotation(QueryParam.class);
+            if (ann != null) {
+                names.add(ann.value().isEmpty() ? field.getName() : ann.value());
+            }
+        }
+        return Set.copyOf(names);
+    }
 }
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.server.routing;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.reflect.Proxy;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Synthetic servlet requests and responses for rendering pages outside of an
+ * HTTP exchange.
+ *
+ * <p>Used by {@link JuxWarmupRunner} to push URLs through the real request
+ * pipeline at startup, and by the build-time accessibility audit to give pages
+ * a request context without a servlet container. Requests are anonymous
+ * {@code GET}s from {@code localhost} with no cookies or session, in the JVM's
+ * default locale.</p>
+ *
+ * <p>Callers bind each request with {@link #bind} while rendering, so code that
+ * reaches the request through {@link RequestContextHolder} (request-scoped beans,
+ * {@code ServletUriComponentsBuilder}, security helpers) sees it as it would
+ * inside the {@code DispatcherServlet}.</p>
+ */
+public final class SyntheticRequests {
+
+    private SyntheticRequests() {
+        /* Utility class -- not instantiable. */
+    }
+
+    /**
+     * Create an anonymous, cookie-less synthetic {@code GET} request.
+     *
+     * <p>Implemented as a dynamic proxy so only the methods the JUX pipeline uses
+     * need explicit answers; every other method returns the zero value of its
+     * return type.</p>
+     *
+     * @param path      the request path
+     * @param query     the raw query string, or null
+     * @param userAgent the {@code User-Agent} header identifying the caller
+     * @return the synthetic request
+     */
+    public static HttpServletRequest get(String path, String query, String userAgent) {
+        Map<String, Object> attributes = new HashMap<>();
+        Map<String, String[]> parameters = parseQuery(query);
+        Map<String, String> headers = Map.of("User-Agent", userAgent, "Host", "localhost");
+
+        return (HttpServletRequest) Proxy.newProxyInstance(
+            HttpServletRequest.class.getClassLoader(),
+            new Class<?>[]{HttpServletRequest.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "getMethod" -> "GET";
+                case "getRequestURI", "getServletPath" -> path;
+                case "getQueryString" -> query;
+                case "getRequestURL" -> new StringBuffer("http://localhost").append(path);
+                case "getContextPath" -> "";
+                case "getScheme" -> "http";
+                case "getServerName", "getRemoteHost" -> "localhost";
+                case "getServerPort" -> 80;
+                case "getRemoteAddr", "getLocalAddr" -> "127.0.0.1";
+                case "getProtocol" -> "HTTP/1.1";
+                case "getCharacterEncoding" -> "UTF-8";
+                case "getDispatcherType" -> DispatcherType.REQUEST;
+                case "getLocale" -> Locale.getDefault();
+                case "getLocales" -> Collections.enumeration(List.of(Locale.getDefault()));
+                case "getAttribute" -> attributes.get((String) args[0]);
+                case "setAttribute" -> attributes.put((String) args[0], args[1]);
+                case "removeAttribute" -> attributes.remove((String) args[0]);
+                case "getAttributeNames" -> Collections.enumeration(attributes.keySet());
+                case "getParameter" -> {
+                    String[] values = parameters.get((String) args[0]);
+                    yield values != null ? values[0] : null;
+                }
+                case "getParameterValues" -> parameters.get((String) args[0]);
+                case "getParameterMap" -> parameters;
+                case "getParameterNames" -> Collections.enumeration(parameters.keySet());
+                case "getHeader" -> headerValue(headers, (String) args[0]);
+                case "getHeaders" -> {
+                    String value = headerValue(headers, (String) args[0]);
+                    yield Collections.enumeration(value != null ? List.of(value) : List.of());
+                }
+                case "getHeaderNames" -> Collections.enumeration(headers.keySet());
+                case "toString" -> "SyntheticRequest[" + path + "]";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> zeroValue(method.getReturnType());
+            });
+    }
+
+    /**
+     * Create a synthetic response that discards the body and records the status.
+     *
+     * @param status a one-element array receiving the last status code set
+     * @return the synthetic response
+     */
+    public static HttpServletResponse response(int[] status) {
+        PrintWriter writer = new PrintWriter(Writer.nullWriter());
+        return (HttpServletResponse) Proxy.newProxyInstance(
+            HttpServletResponse.class.getClassLoader(),
+            new Class<?>[]{HttpServletResponse.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "getWriter" -> writer;
+                case "setStatus", "sendError" -> {
+                    status[0] = (Integer) args[0];
+                    yield null;
+                }
+                case "sendRedirect" -> {
+                    status[0] = 302;
+                    yield null;
+                }
+                case "getStatus" -> status[0];
+                case "getCharacterEncoding" -> "UTF-8";
+                case "toString" -> "SyntheticResponse";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> zeroValue(method.getReturnType());
+            });
+    }
+
+    /**
+     * Bind a synthetic exchange to the current thread through {@link RequestContextHolder}.
+     *
+     * <p>Use with try-with-resources; closing the binding marks the request as
+     * completed (running any registered destruction callbacks) and restores the
+     * attributes that were bound before, if any.</p>
+     *
+     * @param request  the synthetic request
+     * @param response the synthetic response
+     * @return the binding to close once the request has been handled
+     */
+    public static Binding bind(HttpServletRequest request, HttpServletResponse response) {
+        RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+        ServletRequestAttributes attributes = new ServletRequestAttributes(request, response);
+        RequestContextHolder.setRequestAttributes(attributes);
+        return new Binding(attributes, previous);
+    }
+
+    /**
+     * A synthetic request bound to the current thread by {@link #bind}.
+     */
+    public static final class Binding implements AutoCloseable {
+
+        /** The attributes bound for the synthetic request. */
+        private final ServletRequestAttributes attributes;
+
+        /** The attributes bound before, restored on close; may be null. */
+        private final RequestAttributes previous;
+
+        private Binding(ServletRequestAttributes attributes, RequestAttributes previous) {
+            this.attributes = attributes;
+            this.previous = previous;
+        }
+
+        /**
+         * Complete the synthetic request and restore the previous binding.
+         */
+        @Override
+        public void close() {
+            attributes.requestCompleted();
+            RequestContextHolder.setRequestAttributes(previous);
+        }
+    }
+
+    /** Case-insensitive header lookup, as required by the Servlet specification. */
+    private static String headerValue(Map<String, String> headers, String name) {
+        for (Map.Entry<String, String> entry : headers.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(name)) return entry.getValue();
+        }
+        return null;
+    }
+
+    /**
+     * Parse a raw query string into a servlet-style parameter map.
+     *
+     * @param query the raw query string, or null
+     * @return the decoded parameters, preserving first-appearance order
+     */
+    private static Map<String, String[]> parseQuery(String query) {
+        Map<String, List<String>> values = new LinkedHashMap<>();
+        if (query != null && !query.isEmpty()) {
+            for (String pair : query.split("&")) {
+                if (pair.isEmpty()) continue;
+                int eq = pair.indexOf('=');
+                String name = URLDecoder.decode(eq >= 0 ? pair.substring(0, eq) : pair, StandardCharsets.UTF_8);
+                String value = eq >= 0 ? URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8) : "";
+                values.computeIfAbsent(name, k -> new ArrayList<>()).add(value);
+            }
+        }
+        Map<String, String[]> parameters = new LinkedHashMap<>();
+        values.forEach((name, list) -> parameters.put(name, list.toArray(new String[0])));
+        return parameters;
+    }
+
+    /** Default value returned by proxy methods without an explicit answer. */
+    private static Object zeroValue(Class<?> type) {
+        if (!type.isPrimitive()) return null;
+        if (type == boolean.class) return false;
+        if (type == void.class) return null;
+        if (type == long.class) return 0L;
+        if (type == double.class) return 0.0d;
+        if (type == float.class) return 0.0f;
+        if (type == char.class) return '\0';
+        if (type == byte.class) return (byte) 0;
+        if (type == short.class) return (short) 0;
+        return 0;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.server.routing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A route pattern precompiled into alternating literal and variable segments
+ * for fast reverse URL generation.
+ *
+ * <p>The pattern {@code "/blog/{slug}/comments/{id:long}"} compiles to the
+ * literals {@code ["/blog/", "/comments/", ""]} and the variable names
+ * {@code ["slug", "id"]}. Expanding the template is a single pass that appends
+ * {@code literal[0], value[0], literal[1], value[1], ..., literal[n]} into a
+ * {@link StringBuilder} sized exactly to the result -- no regex matching and no
+ * intermediate buffer growth.</p>
+ *
+ * <p>Type hints ({@code {id:long}}) and regex constraints ({@code {path:regex(.+)}},
+ * including nested braces) are stripped at compile time; only the variable name is
+ * kept. The wildcard segment {@code **} is a variable named {@code "**"}.</p>
+ *
+ * <p><b>Missing values:</b> a missing named variable expands to an empty string,
+ * while a missing wildcard is kept as the literal {@code **}, matching the
+ * historical behaviour of {@link JuxRouterImpl}.</p>
+ *
+ * <p>Instances are immutable and safe for concurrent use.</p>
+ *
+ * @see JuxRouterImpl
+ * @see RouteDefinition#urlTemplate()
+ */
+public final class UrlTemplate {
+
+    /** Name under which the wildcard segment's value is passed. */
+    static final String WILDCARD = "**";
+
+    /** Literal text around the variables; always {@code names.length + 1} entries. */
+    private final String[] literals;
+
+    /** Variable names in pattern order. */
+    private final String[] names;
+
+    /** Sum of all literal lengths, precomputed for exact builder sizing. */
+    private final int literalLength;
+
+    private UrlTemplate(String[] literals, String[] names) {
+        this.literals = literals;
+        this.names = names;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compile a JUX route pattern into a URL template.
+     *
+     * @param pattern the route pattern (e.g. {@code "/users/{id:long}/posts"})
+     * @return the compiled template
+     */
+    public static UrlTemplate compile(String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        int i = 0;
+        int length = pattern.length();
+        while (i < length) {
+            char c = pattern.charAt(i);
+            if (c == '{') {
+                // Find the matching closing brace, allowing nested braces in regex constraints
+                int depth = 1;
+                int j = i + 1;
+                while (j < length && depth > 0) {
+                    char d = pattern.charAt(j);
+                    if (d == '{') depth++;
+                    else if (d == '}') depth--;
+                    j++;
+                }
+                String varDef = pattern.substring(i + 1, depth == 0 ? j - 1 : j);
+                int colon = varDef.indexOf(':');
+                literals.add(literal.toString());
+                literal.setLength(0);
+                names.add(colon >= 0 ? varDef.substring(0, colon) : varDef);
+                i = j;
+            } else if (c == '*' && i + 1 < length && pattern.charAt(i + 1) == '*') {
+                literals.add(literal.toString());
+                literal.setLength(0);
+                names.add(WILDCARD);
+                i += 2;
+            } else {
+                literal.append(c);
+                i++;
+            }
+        }
+        literals.add(literal.toString());
+        return new UrlTemplate(literals.toArray(new String[0]), names.toArray(new String[0]));
+    }
+
+    /**
+     * Expand the template with named parameter values.
+     *
+     * @param params the parameter values keyed by variable name; may be null or empty
+     * @return the expanded URL
+     */
+    public String expand(Map<String, ?> params) {
+        if (names.length == 0) return literals[0];
+
+        String[] values = new String[names.length];
+        int size = literalLength;
+        for (int i = 0; i < names.length; i++) {
+            Object value = params != null ? params.get(names[i]) : null;
+            String text;
+            if (value != null) {
+                text = value.toString();
+            } else {
+                text = WILDCARD.equals(names[i]) ? WILDCARD : "";
+            }
+            values[i] = text;
+            size += text.length();
+        }
+        return join(values, size);
+    }
+
+    /**
+     * Expand the template with positional values in variable order.
+     *
+     * <p>Used by code that knows the variable order ahead of time, so no map
+     * lookup by name is needed. A null value is treated like a missing one.</p>
+     *
+     * @param values the values, one per variable in pattern order
+     * @return the expanded URL
+     * @throws IllegalArgumentException if the number of values does not match the variables
+     */
+    public String expandValues(Object... values) {
+        if (values.length != names.length) {
+            throw new IllegalArgumentException("Expected " + names.length
+                + " path values but got " + values.length);
+        }
+        if (names.length == 0) return literals[0];
+
+        String[] texts = new String[names.length];
+        int size = literalLength;
+        for (int i = 0; i < names.length; i++) {
+            Object value = values[i];
+            String text = value != null ? value.toString() : (WILDCARD.equals(names[i]) ? WILDCARD : "");
+            texts[i] = text;
+            size += text.length();
+        }
+        return join(texts, size);
+    }
+
+    /**
+     * Get the variable names in pattern order.
+     *
+     * @return a copy of the variable names
+     */
+    public String[] variableNames() {
+        return names.clone();
+    }
+
+    /** Interleave literals and values into a builder of exactly {@code size} characters. */
+    private String join(String[] values, int size) {
+        StringBuilder sb = new StringBuilder(size);
+        sb.append(literals[0]);
+        for (int i = 0; i < values.length; i++) {
+            sb.append(values[i]).append(literals[i + 1]);
+        }
+        return sb.toString();
+    }
+}
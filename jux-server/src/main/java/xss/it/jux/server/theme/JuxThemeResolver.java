@@ -44,6 +44,11 @@ public class JuxThemeResolver {
     /**
      * Resolve the active theme mode for the given request.
      *
+     * <p>Every cookie carrying the theme cookie name is tried in order, so a
+     * stale or invalid value (e.g. one set on a broader path) does not hide a
+     * valid one. The servlet container parses the cookie header once per request;
+     * this only scans the resulting array.</p>
+     *
      * @param request the HTTP servlet request
      * @return the resolved theme mode (e.g. "light", "dark"), never null
      */
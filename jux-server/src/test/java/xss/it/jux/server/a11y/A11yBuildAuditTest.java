@@ -0,0 +1,209 @@
+package xss.it.jux.server.a11y;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.support.GenericApplicationContext;
+import xss.it.jux.a11y.A11ySeverity;
+import xss.it.jux.annotation.Route;
+import xss.it.jux.core.Element;
+import xss.it.jux.core.Page;
+import xss.it.jux.i18n.JuxLocaleResolver;
+import xss.it.jux.i18n.Messages;
+import xss.it.jux.server.routing.JuxRouteRegistrar;
+import xss.it.jux.server.routing.ParameterInjector;
+import xss.it.jux.server.routing.RouteDefinition;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link A11yBuildAudit} and {@link A11yBuildReport}.
+ *
+ * <p>Runs the audit against a minimal application context holding a mocked
+ * route registrar, so route rendering, path samples, contributed targets and
+ * render failures can be checked without starting a web server.</p>
+ */
+@DisplayName("A11yBuildAudit")
+class A11yBuildAuditTest {
+
+    @Route("/about")
+    static class AccessiblePage extends Page {
+        @Override
+        public Element render() {
+            return Element.of("main").children(Element.of("h1").text("About"));
+        }
+    }
+
+    @Route("/gallery/{id}")
+    static class GalleryPage extends Page {
+        @Override
+        public Element render() {
+            return Element.of("main").children(
+                Element.of("img").attr("src", "/img/" + pathParam("id") + ".png"));
+        }
+    }
+
+    @Route("/broken")
+    static class BrokenPage extends Page {
+        @Override
+        public Element render() {
+            throw new IllegalStateException("no data");
+        }
+    }
+
+    private GenericApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        context = new GenericApplicationContext();
+        JuxLocaleResolver localeResolver = mock(JuxLocaleResolver.class);
+        when(localeResolver.resolve(any())).thenReturn(Locale.ENGLISH);
+        context.registerBean(JuxLocaleResolver.class, () -> localeResolver);
+        context.registerBean(Messages.class, () -> mock(Messages.class));
+        context.registerBean(ParameterInjector.class, ParameterInjector::new);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    private void routes(Class<?>... pages) {
+        JuxRouteRegistrar registrar = mock(JuxRouteRegistrar.class);
+        when(registrar.getRoutes()).thenReturn(
+            Arrays.stream(pages).map(RouteDefinition::from).toList());
+        context.registerBean(JuxRouteRegistrar.class, () -> registrar);
+    }
+
+    private A11yBuildReport run() {
+        context.refresh();
+        return new A11yBuildAudit(context).run();
+    }
+
+    @Nested
+    @DisplayName("routes")
+    class Routes {
+
+        @Test
+        @DisplayName("passes when every route renders without violations")
+        void passes() {
+            routes(AccessiblePage.class);
+
+            A11yBuildReport report = run();
+
+            assertThat(report.targets()).isEqualTo(1);
+            assertThat(report.findings()).isEmpty();
+            assertThat(report.hasErrors()).isFalse();
+        }
+
+        @Test
+        @DisplayName("renders parameterized routes with the default sample")
+        void defaultSample() {
+            routes(GalleryPage.class);
+
+            A11yBuildReport report = run();
+
+            assertThat(report.findings()).singleElement().satisfies(finding -> {
+                assertThat(finding.route()).isEqualTo("/gallery/1");
+                assertThat(finding.violation().severity()).isEqualTo(A11ySeverity.ERROR);
+                assertThat(finding.violation().rule()).isEqualTo("img-alt");
+            });
+            assertThat(report.hasErrors()).isTrue();
+        }
+
+        @Test
+        @DisplayName("renders each sample from the A11yRouteSamples bean")
+        void customSamples() {
+            routes(GalleryPage.class, AccessiblePage.class);
+            context.registerBean(A11yRouteSamples.class, () -> route -> route.pattern().startsWith("/gallery")
+                ? List.of(Map.of("id", "sunset"), Map.of("id", "harbour"))
+                : List.of());
+
+            A11yBuildReport report = run();
+
+            assertThat(report.targets()).isEqualTo(2);
+            assertThat(report.findings()).extracting(A11yFinding::route)
+                .containsExactly("/gallery/sunset", "/gallery/harbour");
+        }
+
+        @Test
+        @DisplayName("records routes that fail to render as failures")
+        void renderFailure() {
+            routes(AccessiblePage.class, BrokenPage.class);
+
+            A11yBuildReport report = run();
+
+            assertThat(report.targets()).isEqualTo(1);
+            assertThat(report.failures()).containsOnlyKeys("/broken");
+            assertThat(report.failures().get("/broken")).contains("no data");
+            assertThat(report.hasErrors()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("contributed targets")
+    class Contributed {
+
+        @Test
+        @DisplayName("audits targets from every A11yAuditTargetProvider bean")
+        void providers() {
+            routes();
+            context.registerBean("widgets", A11yAuditTargetProvider.class, () -> () -> List.of(
+                new A11yAuditTarget("widget:logo", () -> Element.of("img").attr("src", "/logo.png")),
+                new A11yAuditTarget("widget:text", () -> Element.of("p").text("Hello"))));
+
+            A11yBuildReport report = run();
+
+            assertThat(report.targets()).isEqualTo(2);
+            assertThat(report.findings()).extracting(A11yFinding::route).containsExactly("widget:logo");
+        }
+    }
+
+    @Nested
+    @DisplayName("report")
+    class Report {
+
+        @Test
+        @DisplayName("assertNoErrors lists every error")
+        void assertNoErrors() {
+            routes(GalleryPage.class, BrokenPage.class);
+
+            A11yBuildReport report = run();
+
+            assertThatThrownBy(report::assertNoErrors)
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("1 errors")
+                .hasMessageContaining("/gallery/1 [1.1.1] img-alt")
+                .hasMessageContaining("/broken failed to render");
+        }
+
+        @Test
+        @DisplayName("writes a machine-readable JSON report")
+        void writesJson(@TempDir Path dir) throws IOException {
+            routes(GalleryPage.class, BrokenPage.class);
+            Path file = dir.resolve("reports/a11y.json");
+
+            run().writeTo(file);
+
+            assertThat(Files.readString(file))
+                .startsWith("{\"targets\":1,\"errors\":1,\"warnings\":0,\"infos\":0,\"renderFailures\":1,")
+                .contains("\"route\":\"/gallery/1\"")
+                .contains("\"failures\":[{\"target\":\"/broken\",\"error\":");
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package xss.it.jux.server.a11y;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.bind.annotation.PostMapping;
+import xss.it.jux.a11y.A11ySeverity;
+import xss.it.jux.a11y.A11yViolation;
+import xss.it.jux.server.autoconfigure.JuxProperties;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link A11yReporter}, its implementations, and the JSON form of {@link A11yFinding}.
+ */
+@DisplayName("A11yReporter")
+class A11yReporterTest {
+
+    private static final A11yFinding FINDING = new A11yFinding("/about",
+        new A11yViolation(A11ySeverity.ERROR, "1.1.1", "img-alt", "Image is missing \"alt\".",
+            "main > img:0", "Add an alt attribute."),
+        Instant.parse("2026-01-02T03:04:05Z"));
+
+    private JuxProperties.A11y config;
+
+    @BeforeEach
+    void setUp() {
+        config = new JuxProperties.A11y();
+    }
+
+    @Nested
+    @DisplayName("forConfig")
+    class ForConfig {
+
+        @Test
+        @DisplayName("defaults to the log reporter")
+        void defaultsToLog() {
+            assertThat(A11yReporter.forConfig(config, null)).isInstanceOf(LogA11yReporter.class);
+        }
+
+        @Test
+        @DisplayName("creates a file reporter for the configured file")
+        void file() {
+            config.getAsync().setReporter("file");
+            config.getAsync().setReportFile("build/a11y.jsonl");
+
+            assertThat(A11yReporter.forConfig(config, null))
+                .isInstanceOfSatisfying(FileA11yReporter.class,
+                    r -> assertThat(r.getFile()).isEqualTo(Path.of("build/a11y.jsonl")));
+        }
+
+        @Test
+        @DisplayName("posts to the report URL when one is configured")
+        void endpointUrl() {
+            config.getAsync().setReporter("endpoint");
+            config.getAsync().setReportUrl("http://collector.internal/a11y");
+
+            assertThat(A11yReporter.forConfig(config, new A11yReportController()))
+                .isInstanceOfSatisfying(EndpointA11yReporter.class,
+                    r -> assertThat(r.getEndpoint()).isEqualTo(URI.create("http://collector.internal/a11y")));
+        }
+
+        @Test
+        @DisplayName("uses the local report endpoint when no URL is configured")
+        void localEndpoint() {
+            config.getAsync().setReporter("endpoint");
+            var local = new A11yReportController();
+
+            assertThat(A11yReporter.forConfig(config, local)).isSameAs(local);
+        }
+
+        @Test
+        @DisplayName("falls back to the log for an endpoint with nowhere to send")
+        void endpointWithoutTarget() {
+            config.getAsync().setReporter("endpoint");
+
+            assertThat(A11yReporter.forConfig(config, null)).isInstanceOf(LogA11yReporter.class);
+        }
+
+        @Test
+        @DisplayName("falls back to the log for an unknown reporter")
+        void unknown() {
+            config.getAsync().setReporter("carrier-pigeon");
+
+            assertThat(A11yReporter.forConfig(config, null)).isInstanceOf(LogA11yReporter.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("A11yFinding JSON")
+    class Json {
+
+        @Test
+        @DisplayName("serializes route, violation and timestamp, escaping strings")
+        void finding() {
+            assertThat(FINDING.toJson()).isEqualTo(
+                "{\"route\":\"/about\",\"violation\":{\"severity\":\"ERROR\",\"wcagCriterion\":\"1.1.1\","
+                + "\"rule\":\"img-alt\",\"message\":\"Image is missing \\\"alt\\\".\","
+                + "\"elementPath\":\"main > img:0\",\"suggestion\":\"Add an alt attribute.\"},"
+                + "\"detectedAt\":\"2026-01-02T03:04:05Z\"}");
+        }
+
+        @Test
+        @DisplayName("serializes a batch as an array")
+        void batch() {
+            assertThat(A11yFinding.toJson(List.of(FINDING, FINDING)))
+                .startsWith("[{").endsWith("}]").contains("},{");
+            assertThat(A11yFinding.toJson(List.of())).isEqualTo("[]");
+        }
+    }
+
+    @Nested
+    @DisplayName("FileA11yReporter")
+    class FileReporter {
+
+        @Test
+        @DisplayName("appends one JSON line per finding, creating parent directories")
+        void appendsLines(@TempDir Path dir) throws IOException {
+            Path file = dir.resolve("reports/a11y.jsonl");
+            var reporter = new FileA11yReporter(file);
+
+            reporter.report(List.of(FINDING));
+            reporter.report(List.of(FINDING, FINDING));
+
+            assertThat(Files.readAllLines(file)).hasSize(3).allMatch(line -> line.equals(FINDING.toJson()));
+        }
+    }
+
+    @Nested
+    @DisplayName("A11yReportController")
+    class LocalEndpoint {
+
+        @Test
+        @DisplayName("serves reported findings in order")
+        void collects() {
+            var controller = new A11yReportController();
+            controller.report(List.of(FINDING));
+            controller.report(List.of(FINDING));
+
+            assertThat(controller.findings()).containsExactly(FINDING, FINDING);
+        }
+
+        @Test
+        @DisplayName("maps no handler that accepts findings over HTTP")
+        void readOnly() {
+            assertThat(Arrays.stream(A11yReportController.class.getDeclaredMethods())
+                    .filter(m -> m.isAnnotationPresent(PostMapping.class))
+                    .toList())
+                    .isEmpty();
+        }
+
+        @Test
+        @DisplayName("keeps only the most recent findings")
+        void bounded() {
+            var controller = new A11yReportController();
+            for (int i = 0; i < A11yReportController.CAPACITY + 10; i++) {
+                controller.report(List.of(new A11yFinding("/" + i, FINDING.violation(), FINDING.detectedAt())));
+            }
+
+            assertThat(controller.findings()).hasSize(A11yReportController.CAPACITY);
+            assertThat(controller.findings().getFirst().route()).isEqualTo("/10");
+        }
+    }
+}
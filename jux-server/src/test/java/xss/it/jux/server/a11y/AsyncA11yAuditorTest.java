@@ -0,0 +1,269 @@
+package xss.it.jux.server.a11y;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import xss.it.jux.a11y.A11yFingerprint;
+import xss.it.jux.a11y.A11yRule;
+import xss.it.jux.a11y.A11yViolation;
+import xss.it.jux.a11y.JuxAccessibilityEngine;
+import xss.it.jux.core.Element;
+import xss.it.jux.server.autoconfigure.JuxProperties;
+import xss.it.jux.server.cache.A11yAuditCache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AsyncA11yAuditor}.
+ *
+ * <p>Verifies that audits run on worker threads, that a full queue drops
+ * audits instead of blocking, that violations are reported once per route,
+ * that findings are delivered in batches, and that fingerprints already in
+ * the audit cache are not queued.</p>
+ */
+@DisplayName("AsyncA11yAuditor")
+class AsyncA11yAuditorTest {
+
+    private JuxProperties.A11y config;
+    private List<List<A11yFinding>> batches;
+    private A11yReporter reporter;
+
+    @BeforeEach
+    void setUp() {
+        config = new JuxProperties.A11y();
+        config.getAsync().setEnabled(true);
+        config.getAsync().setFlushInterval("1h");
+        batches = new CopyOnWriteArrayList<>();
+        reporter = batches::add;
+    }
+
+    /** An image without alt text: one ERROR violation from the default rules. */
+    private static Element page() {
+        return Element.of("main").children(Element.of("img").attr("src", "/logo.png"));
+    }
+
+    private AsyncA11yAuditor auditor(JuxAccessibilityEngine engine) {
+        return new AsyncA11yAuditor(engine, new A11yAuditCache(config), reporter, config.getAsync());
+    }
+
+    private List<A11yFinding> reported() {
+        return batches.stream().flatMap(List::stream).toList();
+    }
+
+    @Nested
+    @DisplayName("disabled")
+    class Disabled {
+
+        @Test
+        @DisplayName("is not enabled and refuses submissions")
+        void refusesWork() {
+            config.getAsync().setEnabled(false);
+            try (var auditor = auditor(new JuxAccessibilityEngine())) {
+                assertThat(auditor.isEnabled()).isFalse();
+                assertThat(auditor.submit("/", page(), null)).isFalse();
+            }
+            assertThat(batches).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("auditing")
+    class Auditing {
+
+        @Test
+        @DisplayName("audits on a worker thread and reports on close")
+        void auditsOffThread() {
+            List<String> threads = new CopyOnWriteArrayList<>();
+            A11yRule recordThread = (element, path) -> {
+                threads.add(Thread.currentThread().getName());
+                return List.of();
+            };
+            var engine = new JuxAccessibilityEngine(List.of(recordThread));
+
+            try (var auditor = auditor(engine)) {
+                assertThat(auditor.submit("/", Element.of("main"), null)).isTrue();
+            }
+
+            assertThat(threads).singleElement().asString().startsWith("jux-a11y-audit-");
+        }
+
+        @Test
+        @DisplayName("delivers the route, violation and detection time")
+        void reportsFindings() {
+            try (var auditor = auditor(new JuxAccessibilityEngine())) {
+                auditor.submit("/about", page(), null);
+            }
+
+            assertThat(reported()).singleElement().satisfies(finding -> {
+                assertThat(finding.route()).isEqualTo("/about");
+                assertThat(finding.violation().rule()).isEqualTo("img-alt");
+                assertThat(finding.detectedAt()).isNotNull();
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("backpressure")
+    class Backpressure {
+
+        @Test
+        @DisplayName("drops audits when the queue is full instead of blocking")
+        void dropsOnOverflow() throws InterruptedException {
+            config.getAsync().setQueueSize(1);
+            config.getAsync().setWorkers(1);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            A11yRule blocking = (element, path) -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return List.of();
+            };
+
+            try (var auditor = auditor(new JuxAccessibilityEngine(List.of(blocking)))) {
+                assertThat(auditor.submit("/a", Element.of("main"), null)).isTrue();
+                assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+                assertThat(auditor.submit("/b", Element.of("main"), null)).isTrue();
+                assertThat(auditor.submit("/c", Element.of("main"), null)).isFalse();
+
+                assertThat(auditor.stats().submitted()).isEqualTo(2);
+                assertThat(auditor.stats().dropped()).isEqualTo(1);
+                release.countDown();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("de-duplication")
+    class Deduplication {
+
+        @Test
+        @DisplayName("reports a violation once per route however often it is seen")
+        void oncePerRoute() {
+            try (var auditor = auditor(new JuxAccessibilityEngine())) {
+                auditor.submit("/about", page(), null);
+                auditor.submit("/about", page(), null);
+                auditor.submit("/about", page(), null);
+            }
+
+            assertThat(reported()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("reports the same violation separately for each route")
+        void perRoute() {
+            try (var auditor = auditor(new JuxAccessibilityEngine())) {
+                auditor.submit("/about", page(), null);
+                auditor.submit("/contact", page(), null);
+            }
+
+            assertThat(reported()).extracting(A11yFinding::route)
+                .containsExactlyInAnyOrder("/about", "/contact");
+        }
+
+        @Test
+        @DisplayName("remembers at most dedup-size violations")
+        void boundedMemory() {
+            config.getAsync().setDedupSize(10);
+            Element gallery = Element.of("main");
+            for (int i = 0; i < 100; i++) {
+                gallery.children(Element.of("img").attr("src", "/photo-" + i + ".png"));
+            }
+
+            try (var auditor = auditor(new JuxAccessibilityEngine())) {
+                auditor.submit("/gallery", gallery, null);
+                auditor.close();
+
+                assertThat(reported()).hasSize(100);
+                assertThat(auditor.seenCount()).isLessThanOrEqualTo(10);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("batching")
+    class Batching {
+
+        @Test
+        @DisplayName("flushes as soon as a batch is full")
+        void flushesFullBatches() {
+            config.getAsync().setBatchSize(1);
+            try (var auditor = auditor(new JuxAccessibilityEngine())) {
+                auditor.submit("/a", page(), null);
+                auditor.submit("/b", page(), null);
+            }
+
+            assertThat(batches).hasSize(2).allSatisfy(batch -> assertThat(batch).hasSize(1));
+        }
+
+        @Test
+        @DisplayName("holds findings until the batch fills or the auditor closes")
+        void holdsPartialBatches() {
+            config.getAsync().setBatchSize(50);
+            try (var auditor = auditor(new JuxAccessibilityEngine())) {
+                auditor.submit("/a", page(), null);
+                auditor.submit("/b", page(), null);
+            }
+
+            assertThat(batches).singleElement().satisfies(batch -> assertThat(batch).hasSize(2));
+        }
+
+        @Test
+        @DisplayName("counts reported findings")
+        void countsReported() {
+            AsyncA11yAuditor auditor = auditor(new JuxAccessibilityEngine());
+            auditor.submit("/a", page(), null);
+            auditor.close();
+
+            assertThat(auditor.stats().audited()).isEqualTo(1);
+            assertThat(auditor.stats().reported()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("audit cache")
+    class Cache {
+
+        @Test
+        @DisplayName("does not queue a fingerprint that has already been audited")
+        void skipsCachedFingerprint() {
+            var cache = new A11yAuditCache(config);
+            long fingerprint = A11yFingerprint.of(page());
+            cache.put("/about", fingerprint, List.<A11yViolation>of(), 0);
+
+            A11yFingerprint fp = new A11yFingerprint();
+            fp.subtree(page());
+            try (var auditor = new AsyncA11yAuditor(new JuxAccessibilityEngine(), cache, reporter,
+                    config.getAsync())) {
+                assertThat(auditor.submit("/about", page(), fp)).isTrue();
+                assertThat(auditor.stats().skipped()).isEqualTo(1);
+                assertThat(auditor.stats().submitted()).isZero();
+            }
+            assertThat(batches).isEmpty();
+        }
+
+        @Test
+        @DisplayName("stores fresh audit results in the cache")
+        void storesResults() {
+            var cache = new A11yAuditCache(config);
+            A11yFingerprint fp = new A11yFingerprint();
+            fp.subtree(page());
+
+            try (var auditor = new AsyncA11yAuditor(new JuxAccessibilityEngine(), cache, reporter,
+                    config.getAsync())) {
+                auditor.submit("/about", page(), fp);
+            }
+
+            assertThat(cache.get("/about", fp.value())).hasSize(1);
+        }
+    }
+}
@@ -83,6 +83,64 @@ class JuxPropertiesTest {
             properties.getSsr().getCache().setTtl("600s");
             assertThat(properties.getSsr().getCache().getTtl()).isEqualTo("600s");
         }
+
+        @Test
+        @DisplayName("ssr.cache.normalizeQuery defaults to true")
+        void cacheNormalizeQueryDefault() {
+            assertThat(properties.getSsr().getCache().isNormalizeQuery()).isTrue();
+        }
+
+        @Test
+        @DisplayName("ssr.cache.ignoredQueryParams defaults to tracking parameters")
+        void cacheIgnoredQueryParamsDefault() {
+            assertThat(properties.getSsr().getCache().getIgnoredQueryParams())
+                .containsExactly("utm_*", "fbclid", "gclid");
+        }
+
+        @Test
+        @DisplayName("ssr.cache.declaredQueryParamsOnly defaults to false")
+        void cacheDeclaredQueryParamsOnlyDefault() {
+            assertThat(properties.getSsr().getCache().isDeclaredQueryParamsOnly()).isFalse();
+        }
+    }
+
+    // ══════════════════════════════════════════════════════════════════
+    //  Warm-up defaults
+    // ══════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("Warm-up configuration defaults")
+    class WarmupDefaults {
+
+        @Test
+        @DisplayName("warmup.enabled defaults to false")
+        void enabledDefault() {
+            assertThat(properties.getWarmup().isEnabled()).isFalse();
+        }
+
+        @Test
+        @DisplayName("warmup.urls defaults to empty")
+        void urlsDefault() {
+            assertThat(properties.getWarmup().getUrls()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("warmup.hitList defaults to null")
+        void hitListDefault() {
+            assertThat(properties.getWarmup().getHitList()).isNull();
+        }
+
+        @Test
+        @DisplayName("warmup.top defaults to 20")
+        void topDefault() {
+            assertThat(properties.getWarmup().getTop()).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("warmup.iterations defaults to 20")
+        void iterationsDefault() {
+            assertThat(properties.getWarmup().getIterations()).isEqualTo(20);
+        }
     }
 
     // ══════════════════════════════════════════════════════════════════
@@ -339,6 +397,38 @@ class JuxPropertiesTest {
             assertThat(properties.getA11y().getReportEndpoint()).isNull();
         }
 
+        @Test
+        @DisplayName("a11y.auditCache defaults to true")
+        void auditCacheDefault() {
+            assertThat(properties.getA11y().isAuditCache()).isTrue();
+        }
+
+        @Test
+        @DisplayName("a11y.auditCacheSize defaults to 1000")
+        void auditCacheSizeDefault() {
+            assertThat(properties.getA11y().getAuditCacheSize()).isEqualTo(1000);
+        }
+
+        @Test
+        @DisplayName("a11y.async is disabled by default with a bounded single-worker queue")
+        void asyncDefaults() {
+            var async = properties.getA11y().getAsync();
+            assertThat(async.isEnabled()).isFalse();
+            assertThat(async.getQueueSize()).isEqualTo(256);
+            assertThat(async.getWorkers()).isEqualTo(1);
+            assertThat(async.getBatchSize()).isEqualTo(50);
+            assertThat(async.getFlushInterval()).isEqualTo("10s");
+        }
+
+        @Test
+        @DisplayName("a11y.async reports to the log by default")
+        void asyncReporterDefaults() {
+            var async = properties.getA11y().getAsync();
+            assertThat(async.getReporter()).isEqualTo("log");
+            assertThat(async.getReportFile()).isEqualTo("a11y-report.jsonl");
+            assertThat(async.getReportUrl()).isNull();
+        }
+
         @Test
         @DisplayName("a11y.enabled setter/getter round-trip")
         void enabledSetterGetter() {
@@ -518,6 +608,12 @@ class JuxPropertiesTest {
             assertThat(properties.getResources()).isNotNull();
         }
 
+        @Test
+        @DisplayName("getA11y().getAsync() is never null")
+        void a11yAsyncNotNull() {
+            assertThat(properties.getA11y().getAsync()).isNotNull();
+        }
+
         @Test
         @DisplayName("getTheme() is never null")
         void themeNotNull() {
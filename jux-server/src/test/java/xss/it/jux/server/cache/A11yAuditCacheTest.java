@@ -0,0 +1,120 @@
+package xss.it.jux.server.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import xss.it.jux.a11y.A11ySeverity;
+import xss.it.jux.a11y.A11yViolation;
+import xss.it.jux.server.autoconfigure.JuxProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link A11yAuditCache}.
+ *
+ * <p>Verifies lookups by route and fingerprint, the hit/miss and time-saved
+ * statistics, and that a disabled cache never stores anything.</p>
+ */
+@DisplayName("A11yAuditCache")
+class A11yAuditCacheTest {
+
+    private static final A11yViolation VIOLATION = new A11yViolation(
+        A11ySeverity.ERROR, "1.1.1", "img-alt", "Image element is missing alt attribute.",
+        "main > img:0", "Add an alt attribute.");
+
+    private JuxProperties.A11y config;
+
+    @BeforeEach
+    void setUp() {
+        config = new JuxProperties.A11y();
+    }
+
+    @Nested
+    @DisplayName("enabled")
+    class Enabled {
+
+        @Test
+        @DisplayName("returns null for an unseen route and fingerprint")
+        void missOnUnseen() {
+            var cache = new A11yAuditCache(config);
+
+            assertThat(cache.get("/blog/{slug}", 42L)).isNull();
+        }
+
+        @Test
+        @DisplayName("returns the stored violations for the same route and fingerprint")
+        void hitOnSameKey() {
+            var cache = new A11yAuditCache(config);
+            cache.put("/blog/{slug}", 42L, List.of(VIOLATION), 1_000_000);
+
+            assertThat(cache.get("/blog/{slug}", 42L)).containsExactly(VIOLATION);
+        }
+
+        @Test
+        @DisplayName("keys by route as well as fingerprint")
+        void keysByRouteAndFingerprint() {
+            var cache = new A11yAuditCache(config);
+            cache.put("/blog/{slug}", 42L, List.of(VIOLATION), 1_000_000);
+
+            assertThat(cache.get("/about", 42L)).isNull();
+            assertThat(cache.get("/blog/{slug}", 43L)).isNull();
+        }
+
+        @Test
+        @DisplayName("reports hit ratio and the audit time saved by hits")
+        void stats() {
+            var cache = new A11yAuditCache(config);
+            cache.get("/", 1L);
+            cache.put("/", 1L, List.of(), 2_000_000);
+            cache.get("/", 1L);
+            cache.get("/", 1L);
+            cache.get("/", 1L);
+
+            var stats = cache.stats();
+            assertThat(stats.hits()).isEqualTo(3);
+            assertThat(stats.misses()).isEqualTo(1);
+            assertThat(stats.hitRatio()).isEqualTo(0.75);
+            assertThat(stats.timeSaved()).isEqualTo(Duration.ofMillis(6));
+        }
+
+        @Test
+        @DisplayName("invalidateAll discards stored results")
+        void invalidateAll() {
+            var cache = new A11yAuditCache(config);
+            cache.put("/", 1L, List.of(VIOLATION), 1);
+
+            cache.invalidateAll();
+
+            assertThat(cache.get("/", 1L)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("disabled")
+    class Disabled {
+
+        @Test
+        @DisplayName("never stores results when audit-cache is off")
+        void neverStores() {
+            config.setAuditCache(false);
+            var cache = new A11yAuditCache(config);
+            cache.put("/", 1L, List.of(VIOLATION), 1);
+
+            assertThat(cache.isEnabled()).isFalse();
+            assertThat(cache.get("/", 1L)).isNull();
+        }
+
+        @Test
+        @DisplayName("hit ratio is zero before the first lookup")
+        void emptyStats() {
+            config.setAuditCache(false);
+            var cache = new A11yAuditCache(config);
+
+            assertThat(cache.stats().hitRatio()).isZero();
+        }
+    }
+}
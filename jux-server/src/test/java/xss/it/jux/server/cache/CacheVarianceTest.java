@@ -0,0 +1,96 @@
+package xss.it.jux.server.cache;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import xss.it.jux.annotation.CacheVary;
+import xss.it.jux.server.autoconfigure.JuxProperties;
+import xss.it.jux.server.routing.JuxRequestContextImpl;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CacheVariance} and the variant-aware {@link SsrCache} keys.
+ *
+ * <p>Verifies that the theme is always part of the variant, that declared
+ * headers, cookies, and roles are resolved in order, and that different
+ * variants of the same URL are stored as separate cache entries.</p>
+ */
+@DisplayName("CacheVariance")
+class CacheVarianceTest {
+
+    static class PlainPage {}
+
+    @CacheVary(headers = "X-Device-Class", cookies = "ab-bucket", roles = {"ROLE_ADMIN", "ROLE_EDITOR"})
+    static class VaryingPage {}
+
+    @Test
+    @DisplayName("routes without @CacheVary vary on the theme only")
+    void themeOnlyWithoutAnnotation() {
+        var variance = CacheVariance.of(PlainPage.class);
+
+        assertThat(variance).isSameAs(CacheVariance.THEME_ONLY);
+        var request = new MockHttpServletRequest();
+        assertThat(variance.resolve(request, JuxRequestContextImpl.of(request, null), "dark"))
+            .containsExactly("dark");
+    }
+
+    @Test
+    @DisplayName("resolves declared headers, cookies, and role bits in order")
+    void resolvesDeclaredDimensions() {
+        var request = new MockHttpServletRequest();
+        request.addHeader("x-device-class", "mobile");
+        request.setCookies(new Cookie("ab-bucket", "B"));
+        request.setUserPrincipal(() -> "alice");
+        request.addUserRole("ROLE_EDITOR");
+
+        String[] values = CacheVariance.of(VaryingPage.class)
+            .resolve(request, JuxRequestContextImpl.of(request, null), "light");
+
+        assertThat(values).containsExactly("light", "mobile", "B", "01");
+    }
+
+    @Test
+    @DisplayName("absent headers and cookies resolve to null, anonymous users to zero role bits")
+    void absentDimensions() {
+        var request = new MockHttpServletRequest();
+        String[] values = CacheVariance.of(VaryingPage.class)
+            .resolve(request, JuxRequestContextImpl.of(request, null), "light");
+
+        assertThat(values).containsExactly("light", null, null, "00");
+    }
+
+    @Test
+    @DisplayName("different variants of the same URL are cached separately")
+    void variantsAreSeparateEntries() {
+        var cache = new SsrCache(new JuxProperties.Ssr.Cache());
+
+        SsrCacheKey light = cache.key("/pricing", "utm_source=x", Locale.ENGLISH, null, new String[]{"light"});
+        SsrCacheKey dark = cache.key("/pricing", null, Locale.ENGLISH, null, new String[]{"dark"});
+        cache.put(light, "<html data-theme=\"light\">", 60);
+        cache.put(dark, "<html data-theme=\"dark\">", 60);
+
+        assertThat(cache.get(cache.key("/pricing", null, Locale.ENGLISH, null, new String[]{"light"})))
+            .contains("<html data-theme=\"light\">");
+        assertThat(cache.get(cache.key("/pricing", "", Locale.ENGLISH, null, new String[]{"dark"})))
+            .contains("<html data-theme=\"dark\">");
+    }
+
+    @Test
+    @DisplayName("invalidate(path) removes every variant of the path")
+    void invalidateRemovesAllVariants() {
+        var cache = new SsrCache(new JuxProperties.Ssr.Cache());
+        SsrCacheKey light = cache.key("/pricing", null, Locale.ENGLISH, null, new String[]{"light"});
+        SsrCacheKey dark = cache.key("/pricing", null, Locale.ENGLISH, null, new String[]{"dark"});
+        cache.put(light, "a", 60);
+        cache.put(dark, "b", 60);
+
+        cache.invalidate("/pricing");
+
+        assertThat(cache.get(light)).isEmpty();
+        assertThat(cache.get(dark)).isEmpty();
+    }
+}
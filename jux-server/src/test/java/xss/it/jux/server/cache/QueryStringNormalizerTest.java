@@ -0,0 +1,144 @@
+package xss.it.jux.server.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import xss.it.jux.server.autoconfigure.JuxProperties;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link QueryStringNormalizer}.
+ *
+ * <p>Verifies parameter sorting, ignore-list handling (exact names and
+ * {@code prefix*} patterns), the declared-only filter, and that disabling
+ * normalization leaves query strings untouched.</p>
+ */
+@DisplayName("QueryStringNormalizer")
+class QueryStringNormalizerTest {
+
+    private JuxProperties.Ssr.Cache config;
+
+    @BeforeEach
+    void setUp() {
+        config = new JuxProperties.Ssr.Cache();
+    }
+
+    @Nested
+    @DisplayName("default configuration")
+    class Defaults {
+
+        @Test
+        @DisplayName("null and empty query strings normalize to empty")
+        void nullAndEmpty() {
+            var normalizer = new QueryStringNormalizer(config);
+
+            assertThat(normalizer.normalize(null, null)).isEmpty();
+            assertThat(normalizer.normalize("", null)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("sorts parameters by name")
+        void sortsByName() {
+            var normalizer = new QueryStringNormalizer(config);
+
+            assertThat(normalizer.normalize("size=20&page=2&q=shoes", null))
+                .isEqualTo("page=2&q=shoes&size=20");
+        }
+
+        @Test
+        @DisplayName("keeps the relative order of repeated parameters")
+        void keepsRepeatedOrder() {
+            var normalizer = new QueryStringNormalizer(config);
+
+            assertThat(normalizer.normalize("tag=b&page=1&tag=a", null))
+                .isEqualTo("page=1&tag=b&tag=a");
+        }
+
+        @Test
+        @DisplayName("drops utm_* prefixed and exact ignored parameters")
+        void dropsIgnoredParameters() {
+            var normalizer = new QueryStringNormalizer(config);
+
+            assertThat(normalizer.normalize("utm_source=x&page=2&fbclid=abc&gclid=def&utm_medium=y", null))
+                .isEqualTo("page=2");
+        }
+
+        @Test
+        @DisplayName("equivalent tracking variants produce the same key")
+        void equivalentVariantsMatch() {
+            var normalizer = new QueryStringNormalizer(config);
+
+            String a = normalizer.normalize("utm_source=x&page=2", null);
+            String b = normalizer.normalize("page=2&utm_source=y", null);
+            String c = normalizer.normalize("page=2", null);
+
+            assertThat(a).isEqualTo(b).isEqualTo(c);
+        }
+
+        @Test
+        @DisplayName("skips empty segments and parameters without names")
+        void skipsEmptySegments() {
+            var normalizer = new QueryStringNormalizer(config);
+
+            assertThat(normalizer.normalize("&&b=2&=x&a", null)).isEqualTo("a&b=2");
+        }
+
+        @Test
+        @DisplayName("returns empty when every parameter is ignored")
+        void allIgnored() {
+            var normalizer = new QueryStringNormalizer(config);
+
+            assertThat(normalizer.normalize("utm_campaign=spring&fbclid=1", null)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("custom configuration")
+    class Custom {
+
+        @Test
+        @DisplayName("leaves the query verbatim when normalization is disabled")
+        void disabled() {
+            config.setNormalizeQuery(false);
+            var normalizer = new QueryStringNormalizer(config);
+
+            assertThat(normalizer.normalize("utm_source=x&b=1&a=2", null))
+                .isEqualTo("utm_source=x&b=1&a=2");
+        }
+
+        @Test
+        @DisplayName("keeps only declared parameters when declared-only is enabled")
+        void declaredOnly() {
+            config.setDeclaredQueryParamsOnly(true);
+            var normalizer = new QueryStringNormalizer(config);
+
+            assertThat(normalizer.normalize("ref=mail&page=2&q=shoes", Set.of("q", "page")))
+                .isEqualTo("page=2&q=shoes");
+        }
+
+        @Test
+        @DisplayName("declared-only with no declared parameters drops everything")
+        void declaredOnlyWithoutDeclarations() {
+            config.setDeclaredQueryParamsOnly(true);
+            var normalizer = new QueryStringNormalizer(config);
+
+            assertThat(normalizer.normalize("page=2", Set.of())).isEmpty();
+            assertThat(normalizer.normalize("page=2", null)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("honours a custom ignore list")
+        void customIgnoreList() {
+            config.setIgnoredQueryParams(List.of("ref", "mc_*"));
+            var normalizer = new QueryStringNormalizer(config);
+
+            assertThat(normalizer.normalize("mc_cid=1&ref=a&utm_source=x&page=2", null))
+                .isEqualTo("page=2&utm_source=x");
+        }
+    }
+}
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import xss.it.jux.a11y.A11yFingerprint;
+import xss.it.jux.core.Bindable;
 import xss.it.jux.core.Component;
 import xss.it.jux.core.Element;
 import xss.it.jux.core.PageMeta;
@@ -206,6 +208,75 @@ class JuxRendererTest {
             assertThat(html).contains("data-jux-events=\"click\"");
         }
 
+        @Test
+        @DisplayName("handlers inside a resumable component are numbered in data-jux-hid")
+        void handlersInsideComponentAreNumbered() {
+            String html = renderer.renderElement(
+                div().children(
+                    button().on("click", e -> {}),
+                    section().attr("data-jux-id", "outer-1").attr("data-jux-resumable", "true")
+                            .on("keydown", e -> {}).children(
+                        button().text("a").on("click", e -> {}),
+                        p().text("hidden").children(button().on("click", e -> {})),
+                        div().attr("data-jux-id", "inner-2").attr("data-jux-resumable", "true").children(
+                            button().on("click", e -> {})
+                        ),
+                        input().on("input", e -> {})
+                    )
+                )
+            );
+            assertThat(html).startsWith("<div><button data-jux-events=\"click\">");
+            assertThat(html).contains("data-jux-events=\"keydown\" data-jux-hid=\"0\"");
+            assertThat(html).contains("<button data-jux-events=\"click\" data-jux-hid=\"1\">a</button>");
+            assertThat(html).contains("<div data-jux-id=\"inner-2\" data-jux-resumable=\"true\">"
+                    + "<button data-jux-events=\"click\" data-jux-hid=\"0\">");
+            assertThat(html).contains("<input data-jux-events=\"input\" data-jux-hid=\"2\">");
+        }
+
+        @Test
+        @DisplayName("eagerly hydrated components get no handler manifest")
+        void nonResumableComponentsAreNotNumbered() {
+            Element tree = section().attr("data-jux-id", "outer-1").attr("data-jux-resumable", "true").children(
+                div().attr("data-jux-id", "inner-2").children(
+                    button().on("click", e -> {})
+                ),
+                input().on("input", e -> {})
+            );
+
+            String html = renderer.renderElement(tree);
+            assertThat(html).contains("<div data-jux-id=\"inner-2\"><button data-jux-events=\"click\"></button>");
+            assertThat(html).contains("<input data-jux-events=\"input\" data-jux-hid=\"0\">");
+
+            renderer.setResumableHydration(true);
+            assertThat(renderer.renderElement(tree))
+                .contains("<button data-jux-events=\"click\" data-jux-hid=\"0\">");
+        }
+
+        @Test
+        @DisplayName("elements with live bindings inside a client-side component get data-jux-bind")
+        void boundElementsAreMarked() {
+            Bindable<String> status = new Bindable<>() {
+                @Override
+                public String getValue() {
+                    return "ready";
+                }
+
+                @Override
+                public Runnable observe(Runnable listener) {
+                    return () -> {};
+                }
+            };
+
+            String html = renderer.renderElement(
+                div().attr("data-jux-id", "w-1").attr("data-jux-resumable", "true").children(span().bindText(status))
+            );
+            assertThat(html).contains("<span data-jux-bind>ready</span>");
+            assertThat(renderer.renderElement(div().attr("data-jux-id", "w-2").children(span().bindText(status))))
+                .doesNotContain("data-jux-bind");
+            assertThat(renderer.renderElement(span().bindText(status)))
+                .isEqualTo("<span>ready</span>");
+        }
+
         @Test
         @DisplayName("link (void element) is self-closing")
         void linkIsSelfClosing() {
@@ -529,4 +600,44 @@ class JuxRendererTest {
             assertThat(html).doesNotContain("data-info=\"a\"b<c>\"");
         }
     }
+
+    // ══════════════════════════════════════════════════════════════════
+    //  render(Component, PageMeta, A11yFingerprint) tests
+    // ══════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("render(Component, PageMeta, A11yFingerprint)")
+    class RenderWithFingerprintTests {
+
+        @Test
+        @DisplayName("fingerprint fed while rendering equals the fingerprint of the tree")
+        void fingerprintMatchesTree() {
+            Element tree = main_().children(
+                h1().text("Title"),
+                Element.of("img").attr("src", "/a.png"),
+                label().attr("for", "q").text("Search"),
+                input().id("q").attr("type", "search"),
+                // Text wins over children in the HTML, but the children are still fingerprinted.
+                p().children(span().id("hidden")).text("Shown")
+            );
+            A11yFingerprint fingerprint = new A11yFingerprint();
+
+            String html = renderer.render(new TestComponent(tree), PageMeta.create(), fingerprint);
+
+            assertThat(html).contains("<p>Shown</p>");
+            assertThat(fingerprint.value()).isEqualTo(A11yFingerprint.of(tree));
+        }
+
+        @Test
+        @DisplayName("rendering with a fingerprint produces the same HTML")
+        void sameHtml() {
+            Element tree = div().children(span().text("A"), Element.of("br"));
+
+            String plain = renderer.render(new TestComponent(tree), PageMeta.create());
+            String fingerprinted = renderer.render(new TestComponent(tree), PageMeta.create(),
+                new A11yFingerprint());
+
+            assertThat(fingerprinted).isEqualTo(plain);
+        }
+    }
 }
@@ -0,0 +1,84 @@
+package xss.it.jux.server.routing;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link JuxRequestContextImpl}.
+ *
+ * <p>Verifies the lazily parsed cookie, parameter and {@code Accept-Language}
+ * views, client address resolution, and that the context is shared through
+ * the request attribute.</p>
+ */
+@DisplayName("JuxRequestContextImpl")
+class JuxRequestContextImplTest {
+
+    @Test
+    @DisplayName("looks up cookies by name, first cookie wins")
+    void cookies() {
+        var request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("jux-theme", "dark"), new Cookie("jux-theme", "light"),
+            new Cookie("jux-lang", "es"));
+        var ctx = new JuxRequestContextImpl(request, new MockHttpServletResponse());
+
+        assertThat(ctx.cookie("jux-theme")).contains("dark");
+        assertThat(ctx.cookie("jux-lang")).contains("es");
+        assertThat(ctx.cookie("missing")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("query parameters return the first value")
+    void queryParams() {
+        var request = new MockHttpServletRequest();
+        request.addParameter("tag", "a", "b");
+        request.addParameter("page", "2");
+        var ctx = new JuxRequestContextImpl(request, new MockHttpServletResponse());
+
+        assertThat(ctx.queryParam("tag")).contains("a");
+        assertThat(ctx.queryParam("page")).contains("2");
+        assertThat(ctx.queryParam("q")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("parses Accept-Language once, in header order, without wildcards")
+    void acceptLanguages() {
+        var request = new MockHttpServletRequest();
+        request.addHeader("Accept-Language", "fr-CH, fr;q=0.9, en;q=0.8, *;q=0.5");
+        var ctx = new JuxRequestContextImpl(request, new MockHttpServletResponse());
+
+        assertThat(ctx.acceptLanguages()).containsExactly(
+            Locale.forLanguageTag("fr-CH"), Locale.forLanguageTag("fr"), Locale.forLanguageTag("en"));
+        assertThat(ctx.acceptLanguages()).isSameAs(ctx.acceptLanguages());
+    }
+
+    @Test
+    @DisplayName("remote address prefers the first X-Forwarded-For entry")
+    void remoteAddress() {
+        var request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        assertThat(new JuxRequestContextImpl(request, null).remoteAddress()).isEqualTo("10.0.0.1");
+
+        request.addHeader("X-Forwarded-For", " 203.0.113.7 , 10.0.0.2");
+        assertThat(new JuxRequestContextImpl(request, null).remoteAddress()).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("of() binds the context to the request only when a response is given")
+    void bindsToRequest() {
+        var request = new MockHttpServletRequest();
+
+        var unbound = JuxRequestContextImpl.of(request, null);
+        assertThat(request.getAttribute(JuxRequestContextImpl.ATTRIBUTE)).isNull();
+
+        var bound = JuxRequestContextImpl.of(request, new MockHttpServletResponse());
+        assertThat(bound).isNotSameAs(unbound);
+        assertThat(JuxRequestContextImpl.of(request, null)).isSameAs(bound);
+    }
+}
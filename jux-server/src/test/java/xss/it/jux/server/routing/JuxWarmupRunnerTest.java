@@ -0,0 +1,123 @@
+package xss.it.jux.server.routing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import xss.it.jux.a11y.JuxAccessibilityEngine;
+import xss.it.jux.annotation.Route;
+import xss.it.jux.core.Element;
+import xss.it.jux.core.Page;
+import xss.it.jux.i18n.JuxLocaleResolver;
+import xss.it.jux.i18n.Messages;
+import xss.it.jux.server.a11y.AsyncA11yAuditor;
+import xss.it.jux.server.autoconfigure.JuxProperties;
+import xss.it.jux.server.cache.A11yAuditCache;
+import xss.it.jux.server.cache.SsrCache;
+import xss.it.jux.server.render.JuxRenderer;
+import xss.it.jux.server.render.MetadataResolver;
+import xss.it.jux.server.security.RouteSecurityInterceptor;
+import xss.it.jux.server.theme.JuxThemeResolver;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link JuxWarmupRunner}.
+ *
+ * <p>Verifies that recorded hit-list lines are aggregated per URL, ranked by
+ * request count, and limited to the configured top N, and that a warm-up run
+ * renders through a real handler mapping with the synthetic request bound to
+ * the thread, filling the SSR cache.</p>
+ */
+@DisplayName("JuxWarmupRunner")
+class JuxWarmupRunnerTest {
+
+    @Test
+    @DisplayName("ranks URLs by summed hit count")
+    void ranksByCount() {
+        List<String> lines = List.of(
+            "120 /products",
+            "500 /",
+            "80 /products",
+            "300 /about"
+        );
+
+        assertThat(JuxWarmupRunner.topUrls(lines, 10))
+            .containsExactly("/", "/about", "/products");
+    }
+
+    @Test
+    @DisplayName("limits the result to the top N URLs")
+    void limitsToTopN() {
+        List<String> lines = List.of("3 /a", "2 /b", "1 /c");
+
+        assertThat(JuxWarmupRunner.topUrls(lines, 2)).containsExactly("/a", "/b");
+    }
+
+    @Test
+    @DisplayName("treats lines without a count as a single hit and skips comments")
+    void plainUrlsAndComments() {
+        List<String> lines = List.of(
+            "# exported from access log",
+            "",
+            "/pricing",
+            "/pricing",
+            "/blog?page=2"
+        );
+
+        assertThat(JuxWarmupRunner.topUrls(lines, 5)).containsExactly("/pricing", "/blog?page=2");
+    }
+
+    @Route(value = "/warm", cacheTtl = 60)
+    static class WarmPage extends Page {
+        @Override
+        public Element render() {
+            // Fails unless the synthetic request is bound like a real one
+            var attributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+            return Element.of("main").text("Warm " + attributes.getRequest().getRequestURI());
+        }
+    }
+
+    @Test
+    @DisplayName("renders through the handler mapping with the request bound and fills the SSR cache")
+    void warmsHandlerMappingAndCache() {
+        JuxProperties properties = new JuxProperties();
+        properties.getA11y().setEnabled(false);
+        properties.getWarmup().setEnabled(true);
+        properties.getWarmup().setUrls(List.of("/warm"));
+        properties.getWarmup().setIterations(1);
+
+        RouteDefinition route = RouteDefinition.from(WarmPage.class);
+        JuxRouteRegistrar registrar = mock(JuxRouteRegistrar.class);
+        when(registrar.getRoutes()).thenReturn(List.of(route));
+        JuxLocaleResolver localeResolver = mock(JuxLocaleResolver.class);
+        when(localeResolver.resolve(any())).thenReturn(Locale.ENGLISH);
+        SsrCache cache = new SsrCache(properties.getSsr().getCache());
+
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            context.refresh();
+            JuxRouteHandler handler = new JuxRouteHandler(context, new JuxRenderer(), new MetadataResolver(),
+                new ParameterInjector(), localeResolver, mock(Messages.class), cache,
+                new JuxAccessibilityEngine(), new A11yAuditCache(properties.getA11y()),
+                mock(AsyncA11yAuditor.class), new RouteSecurityInterceptor(), properties,
+                new JuxThemeResolver(properties.getTheme()));
+            JuxRouteHandlerMapping mapping = new JuxRouteHandlerMapping(registrar, handler);
+            mapping.initializeRoutes();
+
+            new JuxWarmupRunner(mapping, properties.getWarmup()).run(null);
+        }
+
+        String theme = properties.getTheme().getDefaultTheme();
+        assertThat(cache.get(cache.key("/warm", null, Locale.ENGLISH, route.queryParams(), new String[]{theme})))
+            .isPresent()
+            .hasValueSatisfying(html -> assertThat(html).contains("Warm /warm"));
+        assertThat(RequestContextHolder.getRequestAttributes()).isNull();
+    }
+}
@@ -0,0 +1,77 @@
+package xss.it.jux.server.routing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link UrlTemplate}.
+ *
+ * <p>Verifies that precompiled templates expand exactly like the former
+ * regex-based substitution in {@link JuxRouterImpl}: type hints are stripped,
+ * missing variables expand to an empty string, and the {@code **} wildcard is
+ * kept literally unless a value is supplied.</p>
+ */
+@DisplayName("UrlTemplate")
+class UrlTemplateTest {
+
+    @Test
+    @DisplayName("static patterns expand to themselves")
+    void staticPattern() {
+        UrlTemplate template = UrlTemplate.compile("/about");
+
+        assertThat(template.expand(Map.of())).isEqualTo("/about");
+        assertThat(template.expand(null)).isEqualTo("/about");
+        assertThat(template.variableNames()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("substitutes plain and typed variables")
+    void substitutesVariables() {
+        UrlTemplate template = UrlTemplate.compile("/blog/{slug}/comments/{id:long}");
+
+        assertThat(template.variableNames()).containsExactly("slug", "id");
+        assertThat(template.expand(Map.of("slug", "hello", "id", 42L)))
+            .isEqualTo("/blog/hello/comments/42");
+    }
+
+    @Test
+    @DisplayName("strips regex constraints containing nested braces")
+    void regexConstraint() {
+        UrlTemplate template = UrlTemplate.compile("/code/{code:regex([a-z]{3})}/info");
+
+        assertThat(template.expand(Map.of("code", "abc"))).isEqualTo("/code/abc/info");
+    }
+
+    @Test
+    @DisplayName("missing variables expand to an empty string")
+    void missingVariables() {
+        UrlTemplate template = UrlTemplate.compile("/users/{id}/posts");
+
+        assertThat(template.expand(Map.of("other", 1))).isEqualTo("/users//posts");
+        assertThat(template.expand(null)).isEqualTo("/users//posts");
+    }
+
+    @Test
+    @DisplayName("wildcard is kept literally unless a value is supplied")
+    void wildcard() {
+        UrlTemplate template = UrlTemplate.compile("/docs/**");
+
+        assertThat(template.expand(Map.of())).isEqualTo("/docs/**");
+        assertThat(template.expand(Map.of("**", "guide/intro"))).isEqualTo("/docs/guide/intro");
+    }
+
+    @Test
+    @DisplayName("positional expansion uses pattern order")
+    void positional() {
+        UrlTemplate template = UrlTemplate.compile("/shop/{category}/{id:long}");
+
+        assertThat(template.expandValues("books", 7)).isEqualTo("/shop/books/7");
+        assertThatThrownBy(() -> template.expandValues("books"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
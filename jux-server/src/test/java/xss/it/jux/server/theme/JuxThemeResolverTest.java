@@ -96,6 +96,20 @@ class JuxThemeResolverTest {
 
             assertThat(result).isEqualTo("light");
         }
+
+        @Test
+        @DisplayName("tries every cookie with the theme name until one is valid")
+        void triesEverySameNamedCookie() {
+            var request = new MockHttpServletRequest();
+            request.setCookies(
+                new Cookie("jux-theme", "ocean"),
+                new Cookie("jux-theme", "dark")
+            );
+
+            String result = resolver.resolve(request);
+
+            assertThat(result).isEqualTo("dark");
+        }
     }
 
     @Nested
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Xtreme Software Solutions (XDSSWAR). All rights reserved.
+ *
+ * Licensed under the Xtreme Software Solutions Source License v1.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ *
+ * - Open-source use: Free (see License for conditions)
+ * - Commercial use: Requires explicit written permission from Xtreme Software Solutions
+ *
+ * This software is provided "AS IS", without warranty of any kind.
+ * See the LICENSE file in the project root for full terms.
+ */
+
+
+package xss.it.jux.server.test;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import xss.it.jux.server.a11y.A11yBuildAudit;
+import xss.it.jux.server.a11y.A11yBuildReport;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * JUnit 5 extension that runs the build-time accessibility audit against the
+ * test's Spring application context and injects the {@link A11yBuildReport}.
+ *
+ * <p>The audit renders every route and every contributed target (such as CMS
+ * widgets) and checks them in parallel; see {@link A11yBuildAudit}. It runs once
+ * per application context -- all test methods that ask for the report share it --
+ * and writes the JSON report to {@value #DEFAULT_REPORT}, or to the path in the
+ * {@value #REPORT_PROPERTY} system property.</p>
+ *
+ * <pre>{@code
+ * @SpringBootTest
+ * @ExtendWith(A11yBuildAuditExtension.class)
+ * class AccessibilityBuildTest {
+ *     @Test
+ *     void noWcagErrors(A11yBuildReport report) {
+ *         report.assertNoErrors();
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p>With that test in place, production can run with
+ * {@code jux.a11y.audit-on-render=false}: the build fails instead of the request.</p>
+ */
+public class A11yBuildAuditExtension implements ParameterResolver {
+
+    /** System property overriding where the JSON report is written. */
+    public static final String REPORT_PROPERTY = "jux.a11y.report";
+
+    /** Report location when {@value #REPORT_PROPERTY} is not set. */
+    public static final String DEFAULT_REPORT = "build/reports/jux-a11y/report.json";
+
+    /** Store namespace for reports, keyed by application context. */
+    private static final ExtensionContext.Namespace NAMESPACE =
+        ExtensionContext.Namespace.create(A11yBuildAuditExtension.class);
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == A11yBuildReport.class;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext)
+            throws ParameterResolutionException {
+        ApplicationContext context = SpringExtension.getApplicationContext(extensionContext);
+        return extensionContext.getRoot().getStore(NAMESPACE)
+            .getOrComputeIfAbsent(context, A11yBuildAuditExtension::audit, A11yBuildReport.class);
+    }
+
+    /**
+     * Run the audit and write its JSON report.
+     *
+     * @param context the application context to audit
+     * @return the report
+     */
+    private static A11yBuildReport audit(ApplicationContext context) {
+        A11yBuildReport report = new A11yBuildAudit(context).run();
+        try {
+            report.writeTo(Path.of(System.getProperty(REPORT_PROPERTY, DEFAULT_REPORT)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the accessibility report", e);
+        }
+        return report;
+    }
+}